@@ -51,7 +51,7 @@ extract_first_value() {
   fi
 }
 
-echo "ts,process_cpu_usage,system_cpu_usage,jvm_threads_live,hikari_active,hikari_pending,tomcat_threads_busy,gc_pause_count,gc_pause_total_time,cb_success,cb_failure,cb_slow,cb_not_permitted,cb_open_state,retry_success_without_retry,retry_success_with_retry,retry_failed_with_retry,bulkhead_permitted,bulkhead_rejected" > "${OUTPUT_CSV}"
+echo "ts,process_cpu_usage,system_cpu_usage,jvm_threads_live,hikari_active,hikari_pending,tomcat_threads_busy,gc_pause_count,gc_pause_total_time,cb_success,cb_failure,cb_slow,cb_not_permitted,cb_open_state,retry_success_without_retry,retry_success_with_retry,retry_failed_with_retry,ai_concurrency_limit,ai_concurrency_in_flight,ai_concurrency_rejected" > "${OUTPUT_CSV}"
 
 while true; do
   ts="$(date +%s)"
@@ -71,8 +71,9 @@ while true; do
   retry_success_without_retry_json="$(metric_json "resilience4j.retry.calls" "?tag=name:aiServer&tag=kind:successful_without_retry")"
   retry_success_with_retry_json="$(metric_json "resilience4j.retry.calls" "?tag=name:aiServer&tag=kind:successful_with_retry")"
   retry_failed_with_retry_json="$(metric_json "resilience4j.retry.calls" "?tag=name:aiServer&tag=kind:failed_with_retry")"
-  bulkhead_permitted_json="$(metric_json "resilience4j.bulkhead.calls" "?tag=name:aiServer&tag=kind:permitted")"
-  bulkhead_rejected_json="$(metric_json "resilience4j.bulkhead.calls" "?tag=name:aiServer&tag=kind:rejected")"
+  ai_concurrency_limit_json="$(metric_json "ai.client.concurrency.limit" "")"
+  ai_concurrency_in_flight_json="$(metric_json "ai.client.concurrency.in_flight" "")"
+  ai_concurrency_rejected_json="$(metric_json "ai.client.concurrency.rejected" "")"
 
   process_cpu="$(extract_first_value "${process_cpu_json}")"
   system_cpu="$(extract_first_value "${system_cpu_json}")"
@@ -90,9 +91,10 @@ while true; do
   retry_success_without_retry="$(extract_first_value "${retry_success_without_retry_json}")"
   retry_success_with_retry="$(extract_first_value "${retry_success_with_retry_json}")"
   retry_failed_with_retry="$(extract_first_value "${retry_failed_with_retry_json}")"
-  bulkhead_permitted="$(extract_first_value "${bulkhead_permitted_json}")"
-  bulkhead_rejected="$(extract_first_value "${bulkhead_rejected_json}")"
+  ai_concurrency_limit="$(extract_first_value "${ai_concurrency_limit_json}")"
+  ai_concurrency_in_flight="$(extract_first_value "${ai_concurrency_in_flight_json}")"
+  ai_concurrency_rejected="$(extract_first_value "${ai_concurrency_rejected_json}")"
 
-  echo "${ts},${process_cpu},${system_cpu},${threads_live},${hikari_active},${hikari_pending},${tomcat_busy},${gc_pause_count},${gc_pause_total_time},${cb_success},${cb_failure},${cb_slow},${cb_not_permitted},${cb_open_state},${retry_success_without_retry},${retry_success_with_retry},${retry_failed_with_retry},${bulkhead_permitted},${bulkhead_rejected}" >> "${OUTPUT_CSV}"
+  echo "${ts},${process_cpu},${system_cpu},${threads_live},${hikari_active},${hikari_pending},${tomcat_busy},${gc_pause_count},${gc_pause_total_time},${cb_success},${cb_failure},${cb_slow},${cb_not_permitted},${cb_open_state},${retry_success_without_retry},${retry_success_with_retry},${retry_failed_with_retry},${ai_concurrency_limit},${ai_concurrency_in_flight},${ai_concurrency_rejected}" >> "${OUTPUT_CSV}"
   sleep "${INTERVAL_SEC}"
 done
@@ -0,0 +1,29 @@
+package com.aivle.project.auth.config;
+
+import com.aivle.project.auth.service.AccessTokenRevocationSubscriber;
+import com.aivle.project.auth.token.AccessTokenRevocationMessage;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+/**
+ * Access Token 폐기 메시지 구독 설정.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.auth.revocation-cache", name = "enabled", havingValue = "true")
+public class AccessTokenRevocationConfig {
+
+	@Bean
+	public RedisMessageListenerContainer accessTokenRevocationListenerContainer(
+		RedisConnectionFactory connectionFactory,
+		AccessTokenRevocationSubscriber subscriber
+	) {
+		RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+		container.setConnectionFactory(connectionFactory);
+		container.addMessageListener(subscriber, new ChannelTopic(AccessTokenRevocationMessage.CHANNEL));
+		return container;
+	}
+}
@@ -0,0 +1,78 @@
+package com.aivle.project.auth.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Access Token 폐기 여부 로컬 캐시(near-cache) 설정.
+ */
+@Component
+@ConfigurationProperties(prefix = "app.auth.revocation-cache")
+public class AccessTokenRevocationProperties {
+
+	/**
+	 * 로컬 캐시와 블룸 필터 사용 여부. 비활성화하면 매 요청 Redis를 조회한다.
+	 */
+	private boolean enabled = false;
+
+	/**
+	 * 로컬 캐시에 보관하는 최대 항목 수.
+	 */
+	private int maxEntries = 10_000;
+
+	/**
+	 * "폐기되지 않음" 조회 결과를 로컬에 보관하는 시간.
+	 */
+	private Duration negativeTtl = Duration.ofSeconds(5);
+
+	/**
+	 * 블룸 필터가 수용할 것으로 예상하는 폐기 항목 수.
+	 */
+	private int bloomExpectedInsertions = 100_000;
+
+	/**
+	 * 블룸 필터 목표 오탐률.
+	 */
+	private double bloomFalsePositiveRate = 0.01;
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	public void setEnabled(boolean enabled) {
+		this.enabled = enabled;
+	}
+
+	public int getMaxEntries() {
+		return maxEntries;
+	}
+
+	public void setMaxEntries(int maxEntries) {
+		this.maxEntries = maxEntries;
+	}
+
+	public Duration getNegativeTtl() {
+		return negativeTtl;
+	}
+
+	public void setNegativeTtl(Duration negativeTtl) {
+		this.negativeTtl = negativeTtl;
+	}
+
+	public int getBloomExpectedInsertions() {
+		return bloomExpectedInsertions;
+	}
+
+	public void setBloomExpectedInsertions(int bloomExpectedInsertions) {
+		this.bloomExpectedInsertions = bloomExpectedInsertions;
+	}
+
+	public double getBloomFalsePositiveRate() {
+		return bloomFalsePositiveRate;
+	}
+
+	public void setBloomFalsePositiveRate(double bloomFalsePositiveRate) {
+		this.bloomFalsePositiveRate = bloomFalsePositiveRate;
+	}
+}
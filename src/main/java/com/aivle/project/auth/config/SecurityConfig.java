@@ -87,7 +87,8 @@ public class SecurityConfig {
 	private static final String[] PUBLIC_GET_ENDPOINTS = {
 		"/api/posts/**",
 		"/api/categories",
-		"/api/companies/search"
+		"/api/companies/search",
+		"/api/companies/autocomplete"
 	};
 
 	private static final String[] AUTHENTICATED_POST_ENDPOINTS = {
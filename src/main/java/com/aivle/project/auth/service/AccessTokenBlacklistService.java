@@ -1,15 +1,21 @@
 package com.aivle.project.auth.service;
 
+import com.aivle.project.auth.token.AccessTokenRevocationMessage;
+import com.aivle.project.auth.token.AccessTokenRevocationNearCache;
 import com.aivle.project.auth.token.JwtProperties;
+import com.aivle.project.auth.token.RevocationBloomFilter;
 import java.time.Clock;
 import java.time.Duration;
 import java.time.Instant;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Service;
 
 /**
  * Access Token 블랙리스트 및 전체 로그아웃 기준 시각 관리.
+ * 조회는 로컬 캐시를 먼저 확인하고, 등록은 Redis 저장 후 pub/sub으로 다른 노드에 알린다.
  */
 @Service
 @RequiredArgsConstructor
@@ -17,9 +23,13 @@ public class AccessTokenBlacklistService {
 
 	private static final String BLACKLIST_KEY = "blacklist:access:%s";
 	private static final String LOGOUT_ALL_KEY = "logout-all:%s";
+	private static final String BLACKLIST_KEY_PREFIX = "blacklist:access:";
+	private static final String LOGOUT_ALL_KEY_PREFIX = "logout-all:";
+	private static final long SCAN_COUNT = 1000L;
 
 	private final StringRedisTemplate redisTemplate;
 	private final JwtProperties jwtProperties;
+	private final AccessTokenRevocationNearCache revocationNearCache;
 	private final Clock clock = Clock.systemUTC();
 
 	public void blacklist(String jti, Instant expiresAt) {
@@ -32,6 +42,12 @@ public class AccessTokenBlacklistService {
 			return;
 		}
 		redisTemplate.opsForValue().set(blacklistKey(jti), "1", ttl);
+		publish(new AccessTokenRevocationMessage(
+			AccessTokenRevocationMessage.Type.BLACKLIST,
+			jti,
+			expiresAt.toEpochMilli(),
+			now.toEpochMilli()
+		));
 	}
 
 	public void markLogoutAll(String userId, Instant logoutAt) {
@@ -47,20 +63,77 @@ public class AccessTokenBlacklistService {
 			String.valueOf(logoutAt.toEpochMilli()),
 			Duration.ofSeconds(ttlSeconds)
 		);
+		publish(new AccessTokenRevocationMessage(
+			AccessTokenRevocationMessage.Type.LOGOUT_ALL,
+			userId,
+			logoutAt.toEpochMilli(),
+			Instant.now(clock).toEpochMilli()
+		));
 	}
 
 	public boolean isBlacklisted(String jti) {
 		if (jti == null || jti.isBlank()) {
 			return false;
 		}
-		return Boolean.TRUE.equals(redisTemplate.hasKey(blacklistKey(jti)));
+		Boolean cached = revocationNearCache.findBlacklisted(jti);
+		if (cached != null) {
+			return cached;
+		}
+		boolean blacklisted = Boolean.TRUE.equals(redisTemplate.hasKey(blacklistKey(jti)));
+		revocationNearCache.cacheBlacklisted(jti, blacklisted);
+		return blacklisted;
 	}
 
 	public Instant getLogoutAllAt(String userId) {
 		if (userId == null || userId.isBlank()) {
 			return null;
 		}
-		String value = redisTemplate.opsForValue().get(logoutAllKey(userId));
+		AccessTokenRevocationNearCache.Lookup cached = revocationNearCache.findLogoutAllAt(userId);
+		if (cached.hit()) {
+			return cached.logoutAllAt();
+		}
+		Instant logoutAllAt = parseEpochMillis(redisTemplate.opsForValue().get(logoutAllKey(userId)));
+		revocationNearCache.cacheLogoutAllAt(userId, logoutAllAt);
+		return logoutAllAt;
+	}
+
+	/**
+	 * Redis에 남아 있는 폐기 키로 로컬 블룸 필터를 다시 만든다.
+	 * 만료된 항목을 걸러내고, pub/sub 연결이 끊긴 동안 놓친 메시지를 보정한다.
+	 */
+	public void rebuildRevocationIndex() {
+		if (!revocationNearCache.isEnabled()) {
+			return;
+		}
+		RevocationBloomFilter filter = revocationNearCache.beginRebuild();
+		try {
+			scanKeys(BLACKLIST_KEY_PREFIX, filter, true);
+			scanKeys(LOGOUT_ALL_KEY_PREFIX, filter, false);
+			revocationNearCache.completeRebuild(filter);
+		} catch (RuntimeException ex) {
+			revocationNearCache.abortRebuild();
+			throw ex;
+		}
+	}
+
+	private void scanKeys(String prefix, RevocationBloomFilter filter, boolean jti) {
+		ScanOptions options = ScanOptions.scanOptions().match(prefix + "*").count(SCAN_COUNT).build();
+		try (Cursor<String> cursor = redisTemplate.scan(options)) {
+			while (cursor.hasNext()) {
+				String subject = cursor.next().substring(prefix.length());
+				revocationNearCache.addToRebuild(filter, jti ? subject : null, jti ? null : subject);
+			}
+		}
+	}
+
+	private void publish(AccessTokenRevocationMessage message) {
+		// 이 노드는 즉시 반영하고, 다른 노드는 구독 메시지로 반영한다.
+		// 발행이 유실되어도 주기적 재구성(rebuildRevocationIndex)으로 보정된다.
+		revocationNearCache.apply(message);
+		redisTemplate.convertAndSend(AccessTokenRevocationMessage.CHANNEL, message.encode());
+	}
+
+	private Instant parseEpochMillis(String value) {
 		if (value == null || value.isBlank()) {
 			return null;
 		}
@@ -0,0 +1,57 @@
+package com.aivle.project.auth.service;
+
+import com.aivle.project.auth.token.AccessTokenRevocationMessage;
+import com.aivle.project.auth.token.AccessTokenRevocationNearCache;
+import java.nio.charset.StandardCharsets;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 다른 노드의 Access Token 폐기 메시지를 구독해 로컬 캐시에 반영하고, 블룸 필터를 주기적으로 재구성한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "app.auth.revocation-cache", name = "enabled", havingValue = "true")
+public class AccessTokenRevocationSubscriber implements MessageListener {
+
+	private final AccessTokenRevocationNearCache revocationNearCache;
+	private final AccessTokenBlacklistService accessTokenBlacklistService;
+
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		AccessTokenRevocationMessage revocation =
+			AccessTokenRevocationMessage.decode(new String(message.getBody(), StandardCharsets.UTF_8));
+		if (revocation == null) {
+			log.warn("잘못된 토큰 폐기 메시지를 무시합니다.");
+			return;
+		}
+		revocationNearCache.apply(revocation);
+		revocationNearCache.recordInvalidationLatency(revocation);
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void initialize() {
+		rebuild();
+	}
+
+	@Scheduled(
+		fixedDelayString = "${app.auth.revocation-cache.rebuild-interval-ms:300000}",
+		initialDelayString = "${app.auth.revocation-cache.rebuild-interval-ms:300000}"
+	)
+	public void rebuild() {
+		try {
+			accessTokenBlacklistService.rebuildRevocationIndex();
+		} catch (Exception ex) {
+			// 재구성에 실패하면 기존 필터를 유지하거나(최초 실패 시) Redis 조회로 동작한다.
+			log.warn("토큰 폐기 블룸 필터 재구성 실패", ex);
+		}
+	}
+}
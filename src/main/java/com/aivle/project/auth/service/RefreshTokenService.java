@@ -10,15 +10,19 @@ import com.aivle.project.common.security.TokenHashService;
 import com.aivle.project.auth.user.security.CustomUserDetails;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import java.time.Clock;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -34,11 +38,34 @@ public class RefreshTokenService {
 	private static final String SESSION_KEY = "sessions:%s";
 	private static final String DEFAULT_DEVICE_ID = "default";
 
+	/*
+	 * 기존 토큰 키 삭제/세션 제거와 신규 토큰 저장/세션 등록을 한 번의 왕복으로 처리한다.
+	 * KEYS: [세션 키, 삭제할 토큰 키 N개, (신규 토큰 키)]
+	 * ARGV: [N, 신규 캐시 JSON, 신규 TTL(ms), 신규 식별자('' 이면 저장 생략), 세션에서 제거할 식별자 N개]
+	 */
+	private static final String REPLACE_TOKENS_LUA =
+		"local removeCount = tonumber(ARGV[1]) " +
+		"if removeCount > 0 then " +
+		"    redis.call('del', unpack(KEYS, 2, removeCount + 1)) " +
+		"    redis.call('srem', KEYS[1], unpack(ARGV, 5, removeCount + 4)) " +
+		"end " +
+		"if ARGV[4] ~= '' then " +
+		"    if tonumber(ARGV[3]) > 0 then " +
+		"        redis.call('set', KEYS[removeCount + 2], ARGV[2], 'PX', ARGV[3]) " +
+		"    end " +
+		"    redis.call('sadd', KEYS[1], ARGV[4]) " +
+		"end " +
+		"return removeCount";
+
+	private static final DefaultRedisScript<Long> REPLACE_TOKENS_SCRIPT =
+		new DefaultRedisScript<>(REPLACE_TOKENS_LUA, Long.class);
+
 	private final StringRedisTemplate redisTemplate;
 	private final ObjectMapper objectMapper;
 	private final RefreshTokenRepository refreshTokenRepository;
 	private final JwtTokenService jwtTokenService;
 	private final TokenHashService tokenHashService;
+	private final MeterRegistry meterRegistry;
 	private final Clock clock = Clock.systemUTC();
 
 	@Transactional
@@ -73,24 +100,26 @@ public class RefreshTokenService {
 
 	@Transactional
 	public RefreshTokenCache rotateToken(String oldToken, String newToken) {
-		RefreshTokenCache current = loadValidToken(oldToken);
-		
-		int updated = refreshTokenRepository.revokeTokenIfValid(current.token());
-		if (updated == 0) {
-			throw new AuthException(AuthErrorCode.INVALID_REFRESH_TOKEN);
-		}
-		
-		revokeRedis(oldToken, current.userId());
-		
-		long now = Instant.now(clock).toEpochMilli();
-		long expiresAt = now + (jwtTokenService.getRefreshTokenExpirationSeconds() * 1000);
-		String newTokenHash = tokenHashService.hash(newToken);
-		RefreshTokenCache rotated = current.rotate(newTokenHash, now, expiresAt);
+		Timer.Sample sample = Timer.start(meterRegistry);
+		try {
+			RefreshTokenCache current = loadValidToken(oldToken);
 
-		storeRedis(rotated);
-		storeSession(rotated.userId(), newTokenHash);
-		storeEntity(rotated);
-		return rotated;
+			int updated = refreshTokenRepository.revokeTokenIfValid(current.token());
+			if (updated == 0) {
+				throw new AuthException(AuthErrorCode.INVALID_REFRESH_TOKEN);
+			}
+
+			long now = Instant.now(clock).toEpochMilli();
+			long expiresAt = now + (jwtTokenService.getRefreshTokenExpirationSeconds() * 1000);
+			String newTokenHash = tokenHashService.hash(newToken);
+			RefreshTokenCache rotated = current.rotate(newTokenHash, now, expiresAt);
+
+			replaceRedis(current.userId(), tokenIdentifiers(oldToken), rotated);
+			storeEntity(rotated);
+			return rotated;
+		} finally {
+			sample.stop(meterRegistry.timer("auth.refresh_token.rotation"));
+		}
 	}
 
 	public RefreshTokenCache loadValidToken(String refreshToken) {
@@ -122,14 +151,15 @@ public class RefreshTokenService {
 			return;
 		}
 
+		// 세션 수와 관계없이 조회 1회, 삭제 1회로 처리한다.
 		String key = sessionKey(userId);
 		Set<String> tokens = redisTemplate.opsForSet().members(key);
+		List<String> keys = new ArrayList<>();
 		if (tokens != null) {
-			for (String token : tokens) {
-				redisTemplate.delete(redisKey(token));
-			}
+			tokens.forEach(token -> keys.add(redisKey(token)));
 		}
-		redisTemplate.delete(key);
+		keys.add(key);
+		redisTemplate.delete(keys);
 
 		List<RefreshTokenEntity> activeTokens = refreshTokenRepository.findAllByUserIdAndRevokedFalse(userId);
 		for (RefreshTokenEntity entity : activeTokens) {
@@ -141,14 +171,18 @@ public class RefreshTokenService {
 	}
 
 	private void storeRedis(RefreshTokenCache cache) {
+		String json = serialize(cache);
+		long expiresAtMillis = normalizeEpochMillis(cache.expiresAt());
+		long ttlMillis = expiresAtMillis - Instant.now(clock).toEpochMilli();
+		if (ttlMillis <= 0) {
+			return;
+		}
+		redisTemplate.opsForValue().set(redisKey(cache.token()), json, java.time.Duration.ofMillis(ttlMillis));
+	}
+
+	private String serialize(RefreshTokenCache cache) {
 		try {
-			String json = objectMapper.writeValueAsString(cache);
-			long expiresAtMillis = normalizeEpochMillis(cache.expiresAt());
-			long ttlMillis = expiresAtMillis - Instant.now(clock).toEpochMilli();
-			if (ttlMillis <= 0) {
-				return;
-			}
-			redisTemplate.opsForValue().set(redisKey(cache.token()), json, java.time.Duration.ofMillis(ttlMillis));
+			return objectMapper.writeValueAsString(cache);
 		} catch (JsonProcessingException ex) {
 			throw new IllegalStateException("Refresh Token 캐시 직렬화에 실패했습니다", ex);
 		}
@@ -181,10 +215,7 @@ public class RefreshTokenService {
 			legacyCache.expiresAt(),
 			legacyCache.lastUsedAt()
 		);
-		storeRedis(migratedCache);
-		storeSession(migratedCache.userId(), tokenHash);
-		redisTemplate.delete(redisKey(legacyIdentifier));
-		redisTemplate.opsForSet().remove(sessionKey(migratedCache.userId()), legacyIdentifier);
+		replaceRedis(migratedCache.userId(), List.of(legacyIdentifier), migratedCache);
 		return migratedCache;
 	}
 
@@ -224,14 +255,43 @@ public class RefreshTokenService {
 	}
 
 	private void revokeRedis(String refreshToken, Long userId) {
-		String tokenHash = tokenHashService.hash(refreshToken);
-		String legacyTokenHash = tokenHashService.legacyHash(refreshToken);
-		redisTemplate.delete(redisKey(tokenHash));
-		redisTemplate.delete(redisKey(legacyTokenHash));
-		redisTemplate.delete(redisKey(refreshToken));
-		redisTemplate.opsForSet().remove(sessionKey(userId), tokenHash);
-		redisTemplate.opsForSet().remove(sessionKey(userId), legacyTokenHash);
-		redisTemplate.opsForSet().remove(sessionKey(userId), refreshToken);
+		replaceRedis(userId, tokenIdentifiers(refreshToken), null);
+	}
+
+	/**
+	 * 해시/레거시 해시/원문 순서의 토큰 식별자 목록.
+	 */
+	private List<String> tokenIdentifiers(String refreshToken) {
+		return List.of(
+			tokenHashService.hash(refreshToken),
+			tokenHashService.legacyHash(refreshToken),
+			refreshToken
+		);
+	}
+
+	/**
+	 * removedIdentifiers의 토큰 키와 세션 항목을 지우고, added가 있으면 저장/세션 등록까지 한 스크립트로 수행한다.
+	 */
+	private void replaceRedis(Long userId, List<String> removedIdentifiers, RefreshTokenCache added) {
+		List<String> keys = new ArrayList<>();
+		keys.add(sessionKey(userId));
+		removedIdentifiers.forEach(identifier -> keys.add(redisKey(identifier)));
+
+		List<String> args = new ArrayList<>();
+		args.add(String.valueOf(removedIdentifiers.size()));
+		if (added == null) {
+			args.add("");
+			args.add("0");
+			args.add("");
+		} else {
+			keys.add(redisKey(added.token()));
+			args.add(serialize(added));
+			args.add(String.valueOf(normalizeEpochMillis(added.expiresAt()) - Instant.now(clock).toEpochMilli()));
+			args.add(added.token());
+		}
+		args.addAll(removedIdentifiers);
+
+		redisTemplate.execute(REPLACE_TOKENS_SCRIPT, keys, args.toArray());
 	}
 
 	private void revokeEntity(String refreshToken) {
@@ -0,0 +1,49 @@
+package com.aivle.project.auth.token;
+
+/**
+ * 노드 간 로컬 폐기 캐시를 맞추기 위해 Redis pub/sub으로 전달하는 메시지.
+ * 형식: {@code <type>|<publishedAtMillis>|<valueMillis>|<subject>}
+ */
+public record AccessTokenRevocationMessage(
+	Type type,
+	String subject,
+	long valueMillis,
+	long publishedAtMillis
+) {
+
+	public static final String CHANNEL = "auth:revocation";
+
+	public enum Type {
+		/** subject=jti, valueMillis=토큰 만료 시각 */
+		BLACKLIST,
+		/** subject=userId, valueMillis=전체 로그아웃 기준 시각 */
+		LOGOUT_ALL
+	}
+
+	public String encode() {
+		return type.name() + "|" + publishedAtMillis + "|" + valueMillis + "|" + subject;
+	}
+
+	/**
+	 * 잘못된 형식이면 null을 반환한다.
+	 */
+	public static AccessTokenRevocationMessage decode(String raw) {
+		if (raw == null) {
+			return null;
+		}
+		String[] parts = raw.split("\\|", 4);
+		if (parts.length != 4 || parts[3].isBlank()) {
+			return null;
+		}
+		try {
+			return new AccessTokenRevocationMessage(
+				Type.valueOf(parts[0]),
+				parts[3],
+				Long.parseLong(parts[2]),
+				Long.parseLong(parts[1])
+			);
+		} catch (IllegalArgumentException ex) {
+			return null;
+		}
+	}
+}
@@ -0,0 +1,283 @@
+package com.aivle.project.auth.token;
+
+import com.aivle.project.auth.config.AccessTokenRevocationProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.stereotype.Component;
+
+/**
+ * Access Token 폐기 여부를 노드 로컬에 보관하는 캐시.
+ * 블룸 필터로 폐기 이력이 없는 토큰/사용자는 Redis 조회 없이 통과시키고,
+ * 폐기 이력이 있을 수 있는 경우만 크기/TTL이 제한된 로컬 캐시와 Redis를 차례로 확인한다.
+ * 다른 노드의 폐기는 Redis pub/sub 메시지({@link AccessTokenRevocationMessage})로 반영된다.
+ */
+@Component
+public class AccessTokenRevocationNearCache {
+
+	private static final String JTI_PREFIX = "j:";
+	private static final String USER_PREFIX = "u:";
+
+	private final AccessTokenRevocationProperties properties;
+	private final JwtProperties jwtProperties;
+	private final Clock clock = Clock.systemUTC();
+	private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+	private final AtomicBoolean evicting = new AtomicBoolean(false);
+	private final Object filterLock = new Object();
+	private final AtomicLong localHits = new AtomicLong();
+	private final AtomicLong lookups = new AtomicLong();
+	private final Counter bloomHitCounter;
+	private final Counter cacheHitCounter;
+	private final Counter redisCounter;
+	private final Timer invalidationLatencyTimer;
+
+	private volatile RevocationBloomFilter bloomFilter;
+	private volatile RevocationBloomFilter rebuildingFilter;
+	// 최초 재구성이 끝나기 전에는 블룸 필터가 불완전하므로 부정 판정에 사용하지 않는다.
+	private volatile boolean bloomReady;
+
+	public AccessTokenRevocationNearCache(
+		AccessTokenRevocationProperties properties,
+		JwtProperties jwtProperties,
+		MeterRegistry meterRegistry
+	) {
+		this.properties = properties;
+		this.jwtProperties = jwtProperties;
+		this.bloomFilter = newBloomFilter();
+		this.bloomHitCounter = meterRegistry.counter("auth.revocation.lookup", "source", "bloom");
+		this.cacheHitCounter = meterRegistry.counter("auth.revocation.lookup", "source", "near_cache");
+		this.redisCounter = meterRegistry.counter("auth.revocation.lookup", "source", "redis");
+		this.invalidationLatencyTimer = meterRegistry.timer("auth.revocation.invalidation.latency");
+		meterRegistry.gauge("auth.revocation.near_cache.hit_ratio", this, AccessTokenRevocationNearCache::hitRatio);
+		meterRegistry.gaugeMapSize("auth.revocation.near_cache.size", Tags.empty(), entries);
+	}
+
+	public boolean isEnabled() {
+		return properties.isEnabled();
+	}
+
+	/**
+	 * 로컬에서 블랙리스트 여부를 판정한다.
+	 *
+	 * @return 판정할 수 없으면 null
+	 */
+	public Boolean findBlacklisted(String jti) {
+		return find(JTI_PREFIX + jti).blacklisted();
+	}
+
+	/**
+	 * 로컬에서 전체 로그아웃 기준 시각을 찾는다. {@link Lookup#hit()}가 false면 Redis를 조회해야 한다.
+	 */
+	public Lookup findLogoutAllAt(String userId) {
+		return find(USER_PREFIX + userId);
+	}
+
+	public void cacheBlacklisted(String jti, boolean blacklisted) {
+		if (!isEnabled()) {
+			return;
+		}
+		long now = clock.millis();
+		if (blacklisted) {
+			putRevoked(JTI_PREFIX + jti, 0L, now + accessTokenTtlMillis());
+		} else {
+			putNegative(JTI_PREFIX + jti, now);
+		}
+	}
+
+	public void cacheLogoutAllAt(String userId, Instant logoutAt) {
+		if (!isEnabled()) {
+			return;
+		}
+		long now = clock.millis();
+		if (logoutAt != null) {
+			putRevoked(USER_PREFIX + userId, logoutAt.toEpochMilli(), now + accessTokenTtlMillis());
+		} else {
+			putNegative(USER_PREFIX + userId, now);
+		}
+	}
+
+	/**
+	 * 이 노드 또는 다른 노드에서 발생한 폐기를 로컬 캐시와 블룸 필터에 반영한다.
+	 */
+	public void apply(AccessTokenRevocationMessage message) {
+		if (!isEnabled() || message == null) {
+			return;
+		}
+		long ttlMillis = accessTokenTtlMillis();
+		switch (message.type()) {
+			case BLACKLIST -> {
+				String key = JTI_PREFIX + message.subject();
+				putBloom(key);
+				putRevoked(key, 0L, message.valueMillis());
+			}
+			case LOGOUT_ALL -> {
+				String key = USER_PREFIX + message.subject();
+				putBloom(key);
+				putRevoked(key, message.valueMillis(), message.valueMillis() + ttlMillis);
+			}
+			default -> {
+			}
+		}
+	}
+
+	/**
+	 * pub/sub 메시지가 발행된 뒤 이 노드에 반영되기까지 걸린 시간을 기록한다.
+	 */
+	public void recordInvalidationLatency(AccessTokenRevocationMessage message) {
+		long latency = clock.millis() - message.publishedAtMillis();
+		invalidationLatencyTimer.record(Math.max(0L, latency), TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * 블룸 필터 재구성을 시작한다. 재구성 중 도착한 폐기 메시지도 새 필터에 함께 기록된다.
+	 */
+	public RevocationBloomFilter beginRebuild() {
+		RevocationBloomFilter next = newBloomFilter();
+		synchronized (filterLock) {
+			rebuildingFilter = next;
+		}
+		return next;
+	}
+
+	public void addToRebuild(RevocationBloomFilter filter, String jti, String userId) {
+		if (jti != null) {
+			filter.put(JTI_PREFIX + jti);
+		}
+		if (userId != null) {
+			filter.put(USER_PREFIX + userId);
+		}
+	}
+
+	public void completeRebuild(RevocationBloomFilter filter) {
+		synchronized (filterLock) {
+			bloomFilter = filter;
+			rebuildingFilter = null;
+			bloomReady = true;
+		}
+	}
+
+	public void abortRebuild() {
+		synchronized (filterLock) {
+			rebuildingFilter = null;
+		}
+	}
+
+	double hitRatio() {
+		long total = lookups.get();
+		return total == 0 ? 0.0 : (double) localHits.get() / total;
+	}
+
+	private Lookup find(String key) {
+		if (!isEnabled()) {
+			return Lookup.MISS;
+		}
+		lookups.incrementAndGet();
+		if (bloomReady && !bloomFilter.mightContain(key)) {
+			localHits.incrementAndGet();
+			bloomHitCounter.increment();
+			return Lookup.NOT_REVOKED;
+		}
+		Entry entry = entries.get(key);
+		if (entry != null && entry.expiresAtMillis() > clock.millis()) {
+			localHits.incrementAndGet();
+			cacheHitCounter.increment();
+			return entry.revoked() ? new Lookup(true, true, entry.valueMillis()) : Lookup.NOT_REVOKED;
+		}
+		if (entry != null) {
+			entries.remove(key, entry);
+		}
+		redisCounter.increment();
+		return Lookup.MISS;
+	}
+
+	/**
+	 * 현재 필터와 재구성 중인 필터에 함께 기록한다. 필터 교체와 같은 잠금 안에서 기록해야
+	 * 교체 직전 필터에만 기록되고 새 필터에서 빠지는 폐기가 생기지 않는다.
+	 * 로컬 캐시보다 먼저 기록해 블룸 필터의 부정 판정이 폐기를 가리지 않게 한다.
+	 */
+	private void putBloom(String key) {
+		synchronized (filterLock) {
+			bloomFilter.put(key);
+			if (rebuildingFilter != null) {
+				rebuildingFilter.put(key);
+			}
+		}
+	}
+
+	private void putRevoked(String key, long valueMillis, long expiresAtMillis) {
+		entries.merge(key, new Entry(true, valueMillis, expiresAtMillis), (old, next) ->
+			old.revoked() && old.valueMillis() > next.valueMillis() ? old : next);
+		evictIfNecessary();
+	}
+
+	private void putNegative(String key, long now) {
+		Duration negativeTtl = properties.getNegativeTtl();
+		if (negativeTtl == null || negativeTtl.isZero() || negativeTtl.isNegative()) {
+			return;
+		}
+		Entry negative = new Entry(false, 0L, now + negativeTtl.toMillis());
+		// Redis 조회 도중 pub/sub으로 들어온 폐기 정보를 "폐기 안 됨"으로 덮어쓰지 않는다.
+		entries.compute(key, (k, old) ->
+			old != null && old.revoked() && old.expiresAtMillis() > now ? old : negative);
+		evictIfNecessary();
+	}
+
+	private void evictIfNecessary() {
+		int maxEntries = Math.max(1, properties.getMaxEntries());
+		if (entries.size() <= maxEntries || !evicting.compareAndSet(false, true)) {
+			return;
+		}
+		try {
+			long now = clock.millis();
+			entries.values().removeIf(entry -> entry.expiresAtMillis() <= now);
+			Iterator<String> iterator = entries.keySet().iterator();
+			while (entries.size() > maxEntries && iterator.hasNext()) {
+				iterator.next();
+				iterator.remove();
+			}
+		} finally {
+			evicting.set(false);
+		}
+	}
+
+	private long accessTokenTtlMillis() {
+		return Duration.ofSeconds(Math.max(0L, jwtProperties.getAccessToken().getExpiration())).toMillis();
+	}
+
+	private RevocationBloomFilter newBloomFilter() {
+		return new RevocationBloomFilter(
+			properties.getBloomExpectedInsertions(),
+			properties.getBloomFalsePositiveRate()
+		);
+	}
+
+	private record Entry(boolean revoked, long valueMillis, long expiresAtMillis) {
+	}
+
+	/**
+	 * 로컬 조회 결과. hit가 false면 Redis 조회가 필요하다.
+	 */
+	public record Lookup(boolean hit, boolean revoked, long valueMillis) {
+
+		static final Lookup MISS = new Lookup(false, false, 0L);
+		static final Lookup NOT_REVOKED = new Lookup(true, false, 0L);
+
+		Boolean blacklisted() {
+			return hit ? revoked : null;
+		}
+
+		public Instant logoutAllAt() {
+			return revoked ? Instant.ofEpochMilli(valueMillis) : null;
+		}
+	}
+}
@@ -0,0 +1,74 @@
+package com.aivle.project.auth.token;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 폐기된 토큰/사용자 키의 존재 가능성을 판별하는 블룸 필터.
+ * false는 "확실히 없음", true는 "있을 수 있음"을 뜻한다. 삭제를 지원하지 않으므로 주기적으로 재구성한다.
+ */
+public class RevocationBloomFilter {
+
+	private final AtomicLongArray bits;
+	private final int bitSize;
+	private final int hashCount;
+
+	public RevocationBloomFilter(int expectedInsertions, double falsePositiveRate) {
+		int n = Math.max(1, expectedInsertions);
+		double p = falsePositiveRate > 0 && falsePositiveRate < 1 ? falsePositiveRate : 0.01;
+		long m = (long) Math.ceil(-n * Math.log(p) / (Math.log(2) * Math.log(2)));
+		this.bitSize = (int) Math.max(64, Math.min(m, Integer.MAX_VALUE - 63));
+		this.hashCount = Math.max(1, (int) Math.round((double) bitSize / n * Math.log(2)));
+		this.bits = new AtomicLongArray((bitSize + 63) / 64);
+	}
+
+	public void put(String value) {
+		long hash1 = fnv1a64(value);
+		long hash2 = mix64(hash1);
+		for (int i = 0; i < hashCount; i++) {
+			int index = index(hash1 + i * hash2);
+			long mask = 1L << (index & 63);
+			int word = index >>> 6;
+			long current;
+			do {
+				current = bits.get(word);
+				if ((current & mask) != 0) {
+					break;
+				}
+			} while (!bits.compareAndSet(word, current, current | mask));
+		}
+	}
+
+	public boolean mightContain(String value) {
+		long hash1 = fnv1a64(value);
+		long hash2 = mix64(hash1);
+		for (int i = 0; i < hashCount; i++) {
+			int index = index(hash1 + i * hash2);
+			if ((bits.get(index >>> 6) & (1L << (index & 63))) == 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private int index(long combined) {
+		return (int) Math.floorMod(combined, (long) bitSize);
+	}
+
+	private static long fnv1a64(String value) {
+		long hash = 0xcbf29ce484222325L;
+		for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+			hash ^= b & 0xff;
+			hash *= 0x100000001b3L;
+		}
+		return hash;
+	}
+
+	private static long mix64(long value) {
+		// splitmix64 최종화 단계로 두 번째 해시를 만든다. 0이면 모든 해시가 같아지므로 홀수로 보정한다.
+		long z = value + 0x9e3779b97f4a7c15L;
+		z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+		z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+		return (z ^ (z >>> 31)) | 1L;
+	}
+}
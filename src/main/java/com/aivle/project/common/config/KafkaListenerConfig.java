@@ -0,0 +1,31 @@
+package com.aivle.project.common.config;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.core.ConsumerFactory;
+
+/**
+ * AI 작업 배치 리스너 컨테이너 설정.
+ */
+@Configuration
+public class KafkaListenerConfig {
+
+	public static final String AI_JOB_BATCH_CONTAINER_FACTORY = "aiJobBatchListenerContainerFactory";
+
+	/**
+	 * poll 한 번에 받은 레코드 목록을 리스너에 그대로 전달하는 컨테이너 팩토리.
+	 * 동시성은 리스너에서 토픽 파티션 수에 맞춰 지정한다.
+	 */
+	@Bean(name = AI_JOB_BATCH_CONTAINER_FACTORY)
+	public ConcurrentKafkaListenerContainerFactory<Object, Object> aiJobBatchListenerContainerFactory(
+		ObjectProvider<ConsumerFactory<Object, Object>> consumerFactoryProvider
+	) {
+		ConcurrentKafkaListenerContainerFactory<Object, Object> factory = new ConcurrentKafkaListenerContainerFactory<>();
+		// Kafka 자동 구성이 꺼진 환경(테스트 등)에서도 컨텍스트가 뜨도록 선택적으로 주입한다.
+		consumerFactoryProvider.ifAvailable(factory::setConsumerFactory);
+		factory.setBatchListener(true);
+		return factory;
+	}
+}
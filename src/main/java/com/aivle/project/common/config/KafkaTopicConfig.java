@@ -12,10 +12,15 @@ import org.springframework.kafka.config.TopicBuilder;
 @Configuration
 public class KafkaTopicConfig {
 
+	/**
+	 * AI 작업 토픽 파티션 수. 컨슈머 동시성 기본값도 이 값에 맞춘다.
+	 */
+	public static final int AI_JOB_TOPIC_PARTITIONS = 3;
+
 	@Bean
 	public NewTopic aiJobRequestTopic(@Value("${app.ai.job.request-topic:ai-job-request}") String requestTopic) {
 		return TopicBuilder.name(requestTopic)
-			.partitions(3)
+			.partitions(AI_JOB_TOPIC_PARTITIONS)
 			.replicas(1)
 			.build();
 	}
@@ -23,7 +28,7 @@ public class KafkaTopicConfig {
 	@Bean
 	public NewTopic aiJobResponseTopic(@Value("${app.ai.job.response-topic:ai-job-response}") String responseTopic) {
 		return TopicBuilder.name(responseTopic)
-			.partitions(3)
+			.partitions(AI_JOB_TOPIC_PARTITIONS)
 			.replicas(1)
 			.build();
 	}
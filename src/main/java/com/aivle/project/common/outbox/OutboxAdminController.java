@@ -0,0 +1,33 @@
+package com.aivle.project.common.outbox;
+
+import com.aivle.project.common.dto.ApiResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Outbox 이벤트 관리자 API.
+ */
+@Tag(name = "Outbox Admin", description = "Outbox 이벤트 재적재 API")
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/admin/outbox")
+@SecurityRequirement(name = "bearerAuth")
+public class OutboxAdminController {
+
+    private final OutboxAdminService outboxAdminService;
+
+    @PostMapping("/requeue")
+    @Operation(summary = "실패 이벤트 일괄 재적재", description = "DEAD(기본) 또는 FAILED 이벤트를 PENDING으로 되돌려 다시 발행합니다.")
+    public ResponseEntity<ApiResponse<OutboxRequeueResponse>> requeue(
+            @RequestBody(required = false) OutboxRequeueRequest request
+    ) {
+        return ResponseEntity.ok(ApiResponse.ok(outboxAdminService.requeue(request)));
+    }
+}
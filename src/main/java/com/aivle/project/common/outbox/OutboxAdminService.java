@@ -0,0 +1,46 @@
+package com.aivle.project.common.outbox;
+
+import com.aivle.project.common.error.CommonErrorCode;
+import com.aivle.project.common.error.CommonException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * DEAD/FAILED 이벤트를 PENDING으로 되돌리는 관리자 작업.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OutboxAdminService {
+
+    private static final Set<OutboxStatus> REQUEUEABLE = EnumSet.of(OutboxStatus.DEAD, OutboxStatus.FAILED);
+
+    private final OutboxRepository outboxRepository;
+
+    @Transactional
+    public OutboxRequeueResponse requeue(OutboxRequeueRequest request) {
+        OutboxStatus status = request == null || request.status() == null ? OutboxStatus.DEAD : request.status();
+        if (!REQUEUEABLE.contains(status)) {
+            throw new CommonException(CommonErrorCode.COMMON_400);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        int requeued;
+        if (request != null && request.ids() != null && !request.ids().isEmpty()) {
+            requeued = outboxRepository.requeueByIds(request.ids(), REQUEUEABLE, now);
+        } else {
+            String eventType = request == null || request.eventType() == null || request.eventType().isBlank()
+                    ? null
+                    : request.eventType();
+            requeued = outboxRepository.requeueByStatus(status, eventType, now);
+        }
+        log.info("Requeued outbox events: status={}, count={}", status, requeued);
+        return new OutboxRequeueResponse(requeued);
+    }
+}
@@ -0,0 +1,81 @@
+package com.aivle.project.common.outbox;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Moves processed outbox rows out of the hot table in bounded chunks.
+ */
+@Repository
+@RequiredArgsConstructor
+public class OutboxArchiveJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    /**
+     * Archives (optionally) and deletes one chunk of PROCESSED rows last updated before {@code cutoff}.
+     * Each chunk commits on its own so locks are held only for the chunk.
+     * The chunk is claimed with SKIP LOCKED, so retention jobs running on several nodes take disjoint chunks
+     * instead of archiving the same ids twice.
+     *
+     * @return number of rows removed from outbox_event
+     */
+    @Transactional
+    public int purgeProcessedChunk(LocalDateTime cutoff, int chunkSize, boolean archive) {
+        // Walks idx_outbox_event_status_id in id order; updated_at is checked on the matching rows only.
+        List<Long> ids = jdbcTemplate.queryForList(
+                "SELECT id FROM outbox_event WHERE status = 'PROCESSED' AND updated_at < ? "
+                        + "ORDER BY id ASC LIMIT ? FOR UPDATE SKIP LOCKED",
+                Long.class,
+                Timestamp.valueOf(cutoff),
+                chunkSize
+        );
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        MapSqlParameterSource params = new MapSqlParameterSource("ids", ids)
+                .addValue("archivedAt", Timestamp.valueOf(LocalDateTime.now()));
+        if (archive) {
+            namedParameterJdbcTemplate.update("""
+                    INSERT INTO outbox_event_archive
+                        (id, event_type, aggregate_type, aggregate_id, topic, payload, status, retry_count,
+                         created_at, updated_at, archived_at)
+                    SELECT id, event_type, aggregate_type, aggregate_id, topic, payload, status, retry_count,
+                           created_at, updated_at, :archivedAt
+                    FROM outbox_event
+                    WHERE id IN (:ids)
+                    """, params);
+        }
+        return namedParameterJdbcTemplate.update("DELETE FROM outbox_event WHERE id IN (:ids)", params);
+    }
+
+    /**
+     * Deletes one chunk of archived rows older than {@code cutoff}, claimed with SKIP LOCKED like the purge chunk.
+     */
+    @Transactional
+    public int deleteArchivedChunk(LocalDateTime cutoff, int chunkSize) {
+        List<Long> ids = jdbcTemplate.queryForList(
+                "SELECT id FROM outbox_event_archive WHERE archived_at < ? "
+                        + "ORDER BY archived_at ASC LIMIT ? FOR UPDATE SKIP LOCKED",
+                Long.class,
+                Timestamp.valueOf(cutoff),
+                chunkSize
+        );
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        return namedParameterJdbcTemplate.update(
+                "DELETE FROM outbox_event_archive WHERE id IN (:ids)",
+                new MapSqlParameterSource("ids", ids)
+        );
+    }
+}
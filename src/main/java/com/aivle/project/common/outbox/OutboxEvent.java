@@ -46,6 +46,9 @@ public class OutboxEvent {
     @Builder.Default
     private Integer retryCount = 0;
 
+    @Column(name = "next_attempt_at")
+    private LocalDateTime nextAttemptAt;
+
     @CreatedDate
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -57,4 +60,19 @@ public class OutboxEvent {
     public void incrementRetryCount() {
         this.retryCount += 1;
     }
+
+    /**
+     * Records a failed publish attempt and schedules the next one, or moves the event to DEAD
+     * when the retry policy is exhausted.
+     */
+    public void markFailed(OutboxRetryPolicy retryPolicy, LocalDateTime now) {
+        incrementRetryCount();
+        if (retryPolicy.isExhausted(retryCount)) {
+            this.status = OutboxStatus.DEAD;
+            this.nextAttemptAt = null;
+            return;
+        }
+        this.status = OutboxStatus.FAILED;
+        this.nextAttemptAt = retryPolicy.nextAttemptAt(retryCount, now);
+    }
 }
@@ -0,0 +1,220 @@
+package com.aivle.project.common.outbox;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Outbox 발행 정책 설정.
+ */
+@Component
+@ConfigurationProperties(prefix = "app.outbox")
+public class OutboxProperties {
+
+    private OutboxPublishMode mode = OutboxPublishMode.BATCH;
+
+    /**
+     * Maximum number of events fetched per poll.
+     */
+    private int batchSize = 100;
+
+    /**
+     * Time to wait for broker acknowledgements. In BATCH mode this bounds the whole batch.
+     */
+    private Duration sendTimeout = Duration.ofSeconds(5);
+
+    /**
+     * Longest idle wait between polls when the outbox is empty.
+     * The shortest wait is the scheduler delay (app.outbox.poll.min-interval-ms).
+     */
+    private Duration maxPollInterval = Duration.ofSeconds(2);
+
+    /**
+     * Maximum number of full batches drained back-to-back in one poll while a backlog remains.
+     */
+    private int maxDrainBatches = 10;
+
+    /**
+     * How often the backlog/lag gauges are refreshed from the database.
+     */
+    private Duration backlogSampleInterval = Duration.ofSeconds(10);
+
+    private final Retry retry = new Retry();
+
+    private final Retention retention = new Retention();
+
+    public OutboxPublishMode getMode() {
+        return mode;
+    }
+
+    public void setMode(OutboxPublishMode mode) {
+        this.mode = mode;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public Duration getSendTimeout() {
+        return sendTimeout;
+    }
+
+    public void setSendTimeout(Duration sendTimeout) {
+        this.sendTimeout = sendTimeout;
+    }
+
+    public Duration getMaxPollInterval() {
+        return maxPollInterval;
+    }
+
+    public void setMaxPollInterval(Duration maxPollInterval) {
+        this.maxPollInterval = maxPollInterval;
+    }
+
+    public int getMaxDrainBatches() {
+        return maxDrainBatches;
+    }
+
+    public void setMaxDrainBatches(int maxDrainBatches) {
+        this.maxDrainBatches = maxDrainBatches;
+    }
+
+    public Duration getBacklogSampleInterval() {
+        return backlogSampleInterval;
+    }
+
+    public void setBacklogSampleInterval(Duration backlogSampleInterval) {
+        this.backlogSampleInterval = backlogSampleInterval;
+    }
+
+    public Retry getRetry() {
+        return retry;
+    }
+
+    public Retention getRetention() {
+        return retention;
+    }
+
+    public static class Retry {
+
+        /**
+         * Failed attempts after which an event becomes DEAD.
+         */
+        private int maxAttempts = 8;
+
+        private Duration initialBackoff = Duration.ofSeconds(2);
+
+        private Duration maxBackoff = Duration.ofMinutes(10);
+
+        private double multiplier = 2.0;
+
+        public int getMaxAttempts() {
+            return maxAttempts;
+        }
+
+        public void setMaxAttempts(int maxAttempts) {
+            this.maxAttempts = maxAttempts;
+        }
+
+        public Duration getInitialBackoff() {
+            return initialBackoff;
+        }
+
+        public void setInitialBackoff(Duration initialBackoff) {
+            this.initialBackoff = initialBackoff;
+        }
+
+        public Duration getMaxBackoff() {
+            return maxBackoff;
+        }
+
+        public void setMaxBackoff(Duration maxBackoff) {
+            this.maxBackoff = maxBackoff;
+        }
+
+        public double getMultiplier() {
+            return multiplier;
+        }
+
+        public void setMultiplier(double multiplier) {
+            this.multiplier = multiplier;
+        }
+    }
+
+    public static class Retention {
+
+        /**
+         * PROCESSED events last updated before now minus this window are purged.
+         */
+        private Duration retainFor = Duration.ofDays(7);
+
+        /**
+         * Copy purged rows to outbox_event_archive before deleting them.
+         */
+        private boolean archive = true;
+
+        private Duration archiveRetainFor = Duration.ofDays(90);
+
+        private int chunkSize = 1000;
+
+        private int maxChunksPerRun = 500;
+
+        /**
+         * Pause between chunks to leave room for regular traffic.
+         */
+        private Duration chunkPause = Duration.ofMillis(50);
+
+        public Duration getRetainFor() {
+            return retainFor;
+        }
+
+        public void setRetainFor(Duration retainFor) {
+            this.retainFor = retainFor;
+        }
+
+        public boolean isArchive() {
+            return archive;
+        }
+
+        public void setArchive(boolean archive) {
+            this.archive = archive;
+        }
+
+        public Duration getArchiveRetainFor() {
+            return archiveRetainFor;
+        }
+
+        public void setArchiveRetainFor(Duration archiveRetainFor) {
+            this.archiveRetainFor = archiveRetainFor;
+        }
+
+        public int getChunkSize() {
+            return chunkSize;
+        }
+
+        public void setChunkSize(int chunkSize) {
+            this.chunkSize = chunkSize;
+        }
+
+        public int getMaxChunksPerRun() {
+            return maxChunksPerRun;
+        }
+
+        public void setMaxChunksPerRun(int maxChunksPerRun) {
+            this.maxChunksPerRun = maxChunksPerRun;
+        }
+
+        public Duration getChunkPause() {
+            return chunkPause;
+        }
+
+        public void setChunkPause(Duration chunkPause) {
+            this.chunkPause = chunkPause;
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.aivle.project.common.outbox;
+
+public enum OutboxPublishMode {
+    /**
+     * Send one event at a time and wait for each broker acknowledgement.
+     */
+    SEQUENTIAL,
+    /**
+     * Send the whole batch asynchronously, await all acknowledgements together and update status in bulk.
+     */
+    BATCH
+}
@@ -0,0 +1,100 @@
+package com.aivle.project.common.outbox;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Polls the outbox with an adaptive interval: drains back-to-back batches while a backlog remains
+ * and backs off exponentially (up to {@code app.outbox.max-poll-interval}) while the outbox is empty.
+ */
+@Slf4j
+@Component
+public class OutboxPublishScheduler {
+
+    private static final long INITIAL_IDLE_BACKOFF_MILLIS = 100;
+
+    private final OutboxPublisher outboxPublisher;
+    private final OutboxRepository outboxRepository;
+    private final OutboxProperties outboxProperties;
+    private final AtomicLong backlog = new AtomicLong();
+    private final AtomicLong lagSeconds = new AtomicLong();
+    private final AtomicLong deadEvents = new AtomicLong();
+
+    private long idleBackoffMillis;
+    private long nextPollAtMillis;
+    private long nextBacklogSampleAtMillis;
+
+    public OutboxPublishScheduler(
+            OutboxPublisher outboxPublisher,
+            OutboxRepository outboxRepository,
+            OutboxProperties outboxProperties,
+            MeterRegistry meterRegistry
+    ) {
+        this.outboxPublisher = outboxPublisher;
+        this.outboxRepository = outboxRepository;
+        this.outboxProperties = outboxProperties;
+        meterRegistry.gauge("outbox.backlog", backlog);
+        meterRegistry.gauge("outbox.lag.seconds", lagSeconds);
+        meterRegistry.gauge("outbox.dead.events", deadEvents);
+    }
+
+    @Scheduled(fixedDelayString = "${app.outbox.poll.min-interval-ms:100}")
+    public void publishPendingEvents() {
+        long now = System.currentTimeMillis();
+        if (now < nextPollAtMillis) {
+            return;
+        }
+
+        int batchSize = Math.max(1, outboxProperties.getBatchSize());
+        int maxBatches = Math.max(1, outboxProperties.getMaxDrainBatches());
+        int fetched = 0;
+        int lastFetched;
+        int batches = 0;
+        try {
+            do {
+                lastFetched = outboxPublisher.publish(batchSize);
+                fetched += lastFetched;
+                batches++;
+            } while (lastFetched >= batchSize && batches < maxBatches);
+        } catch (Exception e) {
+            log.error("Outbox publishing cycle failed", e);
+        }
+
+        scheduleNextPoll(fetched);
+        sampleBacklog(now);
+    }
+
+    private void scheduleNextPoll(int fetched) {
+        if (fetched > 0) {
+            idleBackoffMillis = 0;
+            nextPollAtMillis = 0;
+            return;
+        }
+        long maxInterval = outboxProperties.getMaxPollInterval().toMillis();
+        idleBackoffMillis = idleBackoffMillis == 0
+                ? Math.min(INITIAL_IDLE_BACKOFF_MILLIS, maxInterval)
+                : Math.min(idleBackoffMillis * 2, maxInterval);
+        nextPollAtMillis = System.currentTimeMillis() + idleBackoffMillis;
+    }
+
+    private void sampleBacklog(long now) {
+        if (now < nextBacklogSampleAtMillis) {
+            return;
+        }
+        nextBacklogSampleAtMillis = now + outboxProperties.getBacklogSampleInterval().toMillis();
+        try {
+            backlog.set(outboxRepository.countByStatus(OutboxStatus.PENDING));
+            LocalDateTime oldest = outboxRepository.findOldestCreatedAtByStatus(OutboxStatus.PENDING);
+            lagSeconds.set(oldest == null ? 0 : Math.max(0, Duration.between(oldest, LocalDateTime.now()).toSeconds()));
+            deadEvents.set(outboxRepository.countByStatus(OutboxStatus.DEAD));
+        } catch (Exception e) {
+            log.warn("Failed to sample outbox backlog: {}", e.getMessage());
+        }
+    }
+}
@@ -1,15 +1,22 @@
 package com.aivle.project.common.outbox;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.kafka.core.KafkaTemplate;
-import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 @Slf4j
 @Service
@@ -18,39 +25,169 @@ public class OutboxPublisher {
 
     private final OutboxRepository outboxRepository;
     private final ObjectProvider<KafkaTemplate<String, String>> kafkaTemplateProvider;
+    private final OutboxProperties outboxProperties;
+    private final OutboxRetryPolicy outboxRetryPolicy;
+    private final MeterRegistry meterRegistry;
 
-    @Scheduled(fixedDelay = 500)
-    public void publishPendingEvents() {
-        publishEventsBatch(50);
+    /**
+     * Publishes up to {@code limit} pending events using the configured mode.
+     *
+     * @return number of events fetched, so the caller can tell whether a backlog remains
+     */
+    @Transactional
+    public int publish(int limit) {
+        if (outboxProperties.getMode() == OutboxPublishMode.SEQUENTIAL) {
+            return publishEventsBatch(limit);
+        }
+        return publishEventsAsyncBatch(limit);
     }
 
     @Transactional
-    public void publishEventsBatch(int limit) {
+    public int publishEventsBatch(int limit) {
         List<OutboxEvent> pendingEvents = outboxRepository.findPendingEventsForPublishing(limit);
         if (pendingEvents.isEmpty()) {
-            return;
+            return 0;
         }
+        return publishSequentially(pendingEvents);
+    }
 
+    @Transactional
+    public int publishEventsAsyncBatch(int limit) {
+        List<OutboxEvent> pendingEvents = outboxRepository.findPendingEventsForPublishing(limit);
+        if (pendingEvents.isEmpty()) {
+            return 0;
+        }
+        return publishAsync(pendingEvents);
+    }
+
+    /**
+     * Re-publishes FAILED events whose backoff has elapsed.
+     *
+     * @return number of events fetched
+     */
+    @Transactional
+    public int retryFailedEvents(int limit) {
+        List<OutboxEvent> dueEvents = outboxRepository.findDueFailedEventsForRetry(LocalDateTime.now(), limit);
+        if (dueEvents.isEmpty()) {
+            return 0;
+        }
+        log.info("Retrying failed outbox events: count={}", dueEvents.size());
+        if (outboxProperties.getMode() == OutboxPublishMode.SEQUENTIAL) {
+            return publishSequentially(dueEvents);
+        }
+        return publishAsync(dueEvents);
+    }
+
+    private int publishSequentially(List<OutboxEvent> events) {
         KafkaTemplate<String, String> kafkaTemplate = kafkaTemplateProvider.getIfAvailable();
         if (kafkaTemplate == null) {
             log.warn("KafkaTemplate bean is not available. Skipping outbox events processing.");
-            return;
+            return 0;
         }
 
-        for (OutboxEvent event : pendingEvents) {
+        for (OutboxEvent event : events) {
             try {
                 // Wait for the message delivery confirmation synchronously to ensure transaction consistency
                 kafkaTemplate.send(event.getTopic(), event.getAggregateId(), event.getPayload())
-                        .get(3, TimeUnit.SECONDS);
+                        .get(outboxProperties.getSendTimeout().toMillis(), TimeUnit.MILLISECONDS);
 
                 event.setStatus(OutboxStatus.PROCESSED);
+                event.setNextAttemptAt(null);
                 log.info("Successfully published outbox event to topic: {}, id={}", event.getTopic(), event.getId());
             } catch (Exception e) {
                 log.error("Failed to publish outbox event to topic: {}, id={}", event.getTopic(), event.getId(), e);
-                event.setStatus(OutboxStatus.FAILED);
-                event.incrementRetryCount();
+                markFailed(event, LocalDateTime.now());
             }
             outboxRepository.save(event);
         }
+        return events.size();
+    }
+
+    /**
+     * Sends the whole batch without blocking per event, waits for all acknowledgements once,
+     * and marks successes with one bulk UPDATE. Failures are rescheduled individually because each
+     * event gets its own backoff.
+     * Sends still in flight when the timeout expires are treated as failures; they may still reach the broker,
+     * so consumers must tolerate duplicates (at-least-once delivery).
+     */
+    private int publishAsync(List<OutboxEvent> events) {
+        KafkaTemplate<String, String> kafkaTemplate = kafkaTemplateProvider.getIfAvailable();
+        if (kafkaTemplate == null) {
+            log.warn("KafkaTemplate bean is not available. Skipping outbox events processing.");
+            return 0;
+        }
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        List<CompletableFuture<?>> futures = new ArrayList<>(events.size());
+        for (OutboxEvent event : events) {
+            CompletableFuture<?> future;
+            try {
+                future = kafkaTemplate.send(event.getTopic(), event.getAggregateId(), event.getPayload());
+            } catch (Exception e) {
+                future = CompletableFuture.failedFuture(e);
+            }
+            futures.add(future);
+        }
+
+        try {
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
+                    .get(outboxProperties.getSendTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            log.warn("Timed out waiting for outbox batch acknowledgements: size={}", events.size());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            // Individual failures are inspected below.
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> processedIds = new ArrayList<>();
+        List<OutboxEvent> failedEvents = new ArrayList<>();
+        for (int i = 0; i < events.size(); i++) {
+            OutboxEvent event = events.get(i);
+            CompletableFuture<?> future = futures.get(i);
+            if (future.isDone() && !future.isCompletedExceptionally()) {
+                processedIds.add(event.getId());
+            } else {
+                log.error("Failed to publish outbox event to topic: {}, id={}", event.getTopic(), event.getId(),
+                        failureCause(future));
+                markFailed(event, now);
+                failedEvents.add(event);
+            }
+        }
+
+        if (!processedIds.isEmpty()) {
+            outboxRepository.updateStatusByIds(processedIds, OutboxStatus.PROCESSED, now);
+        }
+        if (!failedEvents.isEmpty()) {
+            outboxRepository.saveAll(failedEvents);
+        }
+
+        sample.stop(meterRegistry.timer("outbox.publish.batch"));
+        meterRegistry.counter("outbox.published", "result", "success").increment(processedIds.size());
+        meterRegistry.counter("outbox.published", "result", "failure").increment(failedEvents.size());
+        log.debug("Published outbox batch: processed={}, failed={}", processedIds.size(), failedEvents.size());
+        return events.size();
+    }
+
+    private void markFailed(OutboxEvent event, LocalDateTime now) {
+        event.markFailed(outboxRetryPolicy, now);
+        if (event.getStatus() == OutboxStatus.DEAD) {
+            meterRegistry.counter("outbox.dead").increment();
+            log.error("Outbox event exhausted retries and moved to DEAD: topic={}, id={}, retryCount={}",
+                    event.getTopic(), event.getId(), event.getRetryCount());
+        }
+    }
+
+    private Throwable failureCause(CompletableFuture<?> future) {
+        if (!future.isDone()) {
+            return null;
+        }
+        try {
+            future.getNow(null);
+            return null;
+        } catch (CompletionException | CancellationException e) {
+            return e.getCause() != null ? e.getCause() : e;
+        }
     }
 }
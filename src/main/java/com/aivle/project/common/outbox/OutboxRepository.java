@@ -1,10 +1,13 @@
 package com.aivle.project.common.outbox;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -12,4 +15,35 @@ public interface OutboxRepository extends JpaRepository<OutboxEvent, Long> {
 
     @Query(value = "SELECT * FROM outbox_event WHERE status = 'PENDING' ORDER BY id ASC LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
     List<OutboxEvent> findPendingEventsForPublishing(@Param("limit") int limit);
+
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET e.status = :status, e.updatedAt = :updatedAt WHERE e.id IN :ids")
+    int updateStatusByIds(@Param("ids") Collection<Long> ids,
+                          @Param("status") OutboxStatus status,
+                          @Param("updatedAt") LocalDateTime updatedAt);
+
+    // Served by idx_outbox_event_status_next_attempt (status, next_attempt_at, id).
+    @Query(value = "SELECT * FROM outbox_event WHERE status = 'FAILED' AND next_attempt_at <= :now ORDER BY next_attempt_at ASC, id ASC LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<OutboxEvent> findDueFailedEventsForRetry(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET e.status = com.aivle.project.common.outbox.OutboxStatus.PENDING, e.retryCount = 0, "
+            + "e.nextAttemptAt = NULL, e.updatedAt = :updatedAt "
+            + "WHERE e.status = :status AND (:eventType IS NULL OR e.eventType = :eventType)")
+    int requeueByStatus(@Param("status") OutboxStatus status,
+                        @Param("eventType") String eventType,
+                        @Param("updatedAt") LocalDateTime updatedAt);
+
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET e.status = com.aivle.project.common.outbox.OutboxStatus.PENDING, e.retryCount = 0, "
+            + "e.nextAttemptAt = NULL, e.updatedAt = :updatedAt "
+            + "WHERE e.id IN :ids AND e.status IN :statuses")
+    int requeueByIds(@Param("ids") Collection<Long> ids,
+                     @Param("statuses") Collection<OutboxStatus> statuses,
+                     @Param("updatedAt") LocalDateTime updatedAt);
+
+    long countByStatus(OutboxStatus status);
+
+    @Query("SELECT MIN(e.createdAt) FROM OutboxEvent e WHERE e.status = :status")
+    LocalDateTime findOldestCreatedAtByStatus(@Param("status") OutboxStatus status);
 }
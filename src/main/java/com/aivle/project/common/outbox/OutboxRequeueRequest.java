@@ -0,0 +1,19 @@
+package com.aivle.project.common.outbox;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+/**
+ * Outbox 이벤트 재발행 요청. ids가 있으면 해당 이벤트만, 없으면 status(및 eventType)에 해당하는 이벤트 전체를 재적재한다.
+ */
+@Schema(description = "Outbox 이벤트 재적재 요청")
+public record OutboxRequeueRequest(
+        @Schema(description = "재적재 대상 상태(DEAD 또는 FAILED, 기본 DEAD)", example = "DEAD")
+        OutboxStatus status,
+        @Schema(description = "이벤트 유형 필터", example = "AI_REPORT_FINANCIAL_REQUEST")
+        String eventType,
+        @Schema(description = "재적재할 이벤트 ID 목록")
+        List<Long> ids
+) {
+}
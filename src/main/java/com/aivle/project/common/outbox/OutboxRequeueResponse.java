@@ -0,0 +1,10 @@
+package com.aivle.project.common.outbox;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Outbox 이벤트 재적재 결과")
+public record OutboxRequeueResponse(
+        @Schema(description = "PENDING으로 되돌린 이벤트 수", example = "12")
+        int requeued
+) {
+}
@@ -0,0 +1,28 @@
+package com.aivle.project.common.outbox;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Runs the outbox retention job off-peak.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "app.outbox.retention", name = "enabled", havingValue = "true")
+public class OutboxRetentionScheduler {
+
+    private final OutboxRetentionService outboxRetentionService;
+
+    @Scheduled(cron = "${app.outbox.retention.cron:0 0 5 * * *}")
+    public void purgeProcessedEvents() {
+        try {
+            outboxRetentionService.purgeProcessedEvents();
+        } catch (Exception e) {
+            log.error("Outbox retention job failed", e);
+        }
+    }
+}
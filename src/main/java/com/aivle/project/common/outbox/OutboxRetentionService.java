@@ -0,0 +1,78 @@
+package com.aivle.project.common.outbox;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+
+/**
+ * Keeps outbox_event small by moving PROCESSED rows past the retention window to outbox_event_archive
+ * (or deleting them outright) in bounded chunks.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OutboxRetentionService {
+
+    private final OutboxArchiveJdbcRepository outboxArchiveJdbcRepository;
+    private final OutboxProperties outboxProperties;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * @return number of rows removed from outbox_event
+     */
+    public int purgeProcessedEvents() {
+        OutboxProperties.Retention retention = outboxProperties.getRetention();
+        LocalDateTime cutoff = LocalDateTime.now().minus(retention.getRetainFor());
+        int chunkSize = Math.max(1, retention.getChunkSize());
+        int maxChunks = Math.max(1, retention.getMaxChunksPerRun());
+        String mode = retention.isArchive() ? "archive" : "delete";
+
+        int purged = 0;
+        for (int chunk = 0; chunk < maxChunks; chunk++) {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            int removed = outboxArchiveJdbcRepository.purgeProcessedChunk(cutoff, chunkSize, retention.isArchive());
+            sample.stop(meterRegistry.timer("outbox.retention.chunk", "mode", mode));
+            purged += removed;
+            if (removed < chunkSize) {
+                break;
+            }
+            pause(retention.getChunkPause().toMillis());
+        }
+        meterRegistry.counter("outbox.retention.purged", "mode", mode).increment(purged);
+
+        if (retention.isArchive()) {
+            purgeArchive(retention, chunkSize, maxChunks);
+        }
+        log.info("Outbox retention finished: mode={}, purged={}, cutoff={}", mode, purged, cutoff);
+        return purged;
+    }
+
+    private void purgeArchive(OutboxProperties.Retention retention, int chunkSize, int maxChunks) {
+        LocalDateTime cutoff = LocalDateTime.now().minus(retention.getArchiveRetainFor());
+        int deleted = 0;
+        for (int chunk = 0; chunk < maxChunks; chunk++) {
+            int removed = outboxArchiveJdbcRepository.deleteArchivedChunk(cutoff, chunkSize);
+            deleted += removed;
+            if (removed < chunkSize) {
+                break;
+            }
+            pause(retention.getChunkPause().toMillis());
+        }
+        meterRegistry.counter("outbox.retention.archive.deleted").increment(deleted);
+    }
+
+    private void pause(long millis) {
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
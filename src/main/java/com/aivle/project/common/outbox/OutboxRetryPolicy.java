@@ -0,0 +1,40 @@
+package com.aivle.project.common.outbox;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Exponential backoff with jitter for failed outbox events.
+ */
+@Component
+@RequiredArgsConstructor
+public class OutboxRetryPolicy {
+
+    private final OutboxProperties outboxProperties;
+
+    public boolean isExhausted(int retryCount) {
+        return retryCount >= outboxProperties.getRetry().getMaxAttempts();
+    }
+
+    /**
+     * Delay grows as {@code initialBackoff * multiplier^(retryCount - 1)} up to {@code maxBackoff}.
+     * Half of the delay is fixed and half is randomized so that events failed by the same broker outage
+     * do not all retry at the same instant.
+     */
+    public LocalDateTime nextAttemptAt(int retryCount, LocalDateTime now) {
+        return now.plus(backoff(retryCount));
+    }
+
+    Duration backoff(int retryCount) {
+        OutboxProperties.Retry retry = outboxProperties.getRetry();
+        double exponential = retry.getInitialBackoff().toMillis()
+                * Math.pow(retry.getMultiplier(), Math.max(0, retryCount - 1));
+        long capped = (long) Math.min(exponential, retry.getMaxBackoff().toMillis());
+        long half = Math.max(1, capped / 2);
+        return Duration.ofMillis(half + ThreadLocalRandom.current().nextLong(half + 1));
+    }
+}
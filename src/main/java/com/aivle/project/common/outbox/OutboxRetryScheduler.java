@@ -0,0 +1,27 @@
+package com.aivle.project.common.outbox;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Re-publishes FAILED outbox events once their backoff has elapsed.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OutboxRetryScheduler {
+
+    private final OutboxPublisher outboxPublisher;
+    private final OutboxProperties outboxProperties;
+
+    @Scheduled(fixedDelayString = "${app.outbox.retry.poll-interval-ms:1000}")
+    public void retryFailedEvents() {
+        try {
+            outboxPublisher.retryFailedEvents(Math.max(1, outboxProperties.getBatchSize()));
+        } catch (Exception e) {
+            log.error("Outbox retry cycle failed", e);
+        }
+    }
+}
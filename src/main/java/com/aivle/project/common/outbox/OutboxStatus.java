@@ -3,5 +3,9 @@ package com.aivle.project.common.outbox;
 public enum OutboxStatus {
     PENDING,
     PROCESSED,
-    FAILED
+    FAILED,
+    /**
+     * Retries exhausted; only an admin requeue brings the event back to PENDING.
+     */
+    DEAD
 }
@@ -0,0 +1,64 @@
+package com.aivle.project.common.transaction;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 외부 호출을 마친 뒤 결과만 반영하는 짧은 트랜잭션 실행기.
+ * 새로 시작한 트랜잭션의 시작부터 커밋까지(커넥션 점유 구간)를 작업별 db.connection.hold 히스토그램에 기록한다.
+ * 이미 진행 중인 트랜잭션에 합류하면 점유 시간은 바깥 트랜잭션에 속하므로 기록하지 않는다.
+ */
+@Component
+public class ShortTransactionRunner {
+
+	private final TransactionTemplate writeTemplate;
+	private final TransactionTemplate readTemplate;
+	private final MeterRegistry meterRegistry;
+
+	public ShortTransactionRunner(
+		PlatformTransactionManager transactionManager,
+		ObjectProvider<MeterRegistry> meterRegistryProvider
+	) {
+		this.writeTemplate = new TransactionTemplate(transactionManager);
+		this.readTemplate = new TransactionTemplate(transactionManager);
+		this.readTemplate.setReadOnly(true);
+		this.meterRegistry = meterRegistryProvider.getIfAvailable(SimpleMeterRegistry::new);
+	}
+
+	public <T> T write(String operation, Supplier<T> work) {
+		return execute(writeTemplate, operation, work);
+	}
+
+	public void run(String operation, Runnable work) {
+		execute(writeTemplate, operation, () -> {
+			work.run();
+			return null;
+		});
+	}
+
+	public <T> T read(String operation, Supplier<T> work) {
+		return execute(readTemplate, operation, work);
+	}
+
+	private <T> T execute(TransactionTemplate template, String operation, Supplier<T> work) {
+		if (TransactionSynchronizationManager.isActualTransactionActive()) {
+			return template.execute(status -> work.get());
+		}
+		Timer.Sample sample = Timer.start(meterRegistry);
+		try {
+			return template.execute(status -> work.get());
+		} finally {
+			sample.stop(Timer.builder("db.connection.hold")
+				.tag("operation", operation)
+				.publishPercentileHistogram()
+				.register(meterRegistry));
+		}
+	}
+}
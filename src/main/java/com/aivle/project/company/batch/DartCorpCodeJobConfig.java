@@ -27,8 +27,13 @@ public class DartCorpCodeJobConfig {
 	private final DartProperties dartProperties;
 
 	@Bean
-	public Job dartCorpCodeSyncJob(JobRepository jobRepository, Step dartCorpCodeSyncStep) {
+	public Job dartCorpCodeSyncJob(
+		JobRepository jobRepository,
+		Step dartCorpCodeSyncStep,
+		DartCorpCodeSearchIndexJobListener searchIndexJobListener
+	) {
 		return new JobBuilder(JOB_NAME, jobRepository)
+			.listener(searchIndexJobListener)
 			.start(dartCorpCodeSyncStep)
 			.build();
 	}
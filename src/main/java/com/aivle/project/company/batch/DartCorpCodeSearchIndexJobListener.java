@@ -0,0 +1,29 @@
+package com.aivle.project.company.batch;
+
+import com.aivle.project.company.search.CompanySearchIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobExecutionListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * DART 기업 목록 동기화가 끝나면 변경된 기업만 검색 색인에 반영한다.
+ * 청크마다 색인을 다시 만들지 않도록 잡 종료 시 한 번만 교체한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DartCorpCodeSearchIndexJobListener implements JobExecutionListener {
+
+	private final CompanySearchIndex companySearchIndex;
+
+	@Override
+	public void afterJob(JobExecution jobExecution) {
+		try {
+			companySearchIndex.applyPendingChanges();
+		} catch (Exception e) {
+			log.warn("Failed to refresh company search index after corp code sync: {}", e.getMessage());
+		}
+	}
+}
@@ -0,0 +1,151 @@
+package com.aivle.project.company.client;
+
+import com.aivle.project.common.error.ExternalAiUnavailableException;
+import com.aivle.project.company.dto.AiAnalysisResponse;
+import com.aivle.project.company.dto.AiHealthScoreResponse;
+import com.aivle.project.company.dto.AiSignalResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * 여러 기업의 AI 캐시 적재가 몰릴 때 단건 조회를 모아 배치로 보내는 병합기.
+ * 관심 기업 워밍업처럼 짧은 시간에 여러 기업을 조회하면 AI 서버 호출 수와 동시성 한도 점유를 줄인다.
+ * 배치 엔드포인트가 꺼져 있으면 모은 요청을 제한된 병렬도의 단건 비동기 호출로 보낸다.
+ */
+@Component
+public class AiBatchCoalescer {
+
+	private final AiMicroBatcher<String, AiHealthScoreResponse> healthScoreBatcher;
+	private final AiMicroBatcher<SignalKey, AiSignalResponse> signalBatcher;
+	private final AiMicroBatcher<String, AiAnalysisResponse> predictionBatcher;
+	private final AiServerClient aiServerClient;
+	private final MeterRegistry meterRegistry;
+	private final long waitTimeoutMs;
+
+	public AiBatchCoalescer(
+		AiServerClient aiServerClient,
+		ObjectProvider<MeterRegistry> meterRegistryProvider,
+		@Value("${ai.server.batch.enabled:false}") boolean batchEnabled,
+		@Value("${app.company.ai-batch.window-ms:10}") long windowMs,
+		@Value("${app.company.ai-batch.max-batch-size:20}") int maxBatchSize,
+		@Value("${app.company.ai-batch.fallback-parallelism:8}") int fallbackParallelism,
+		@Value("${app.company.ai-batch.wait-timeout-ms:90000}") long waitTimeoutMs
+	) {
+		this.aiServerClient = aiServerClient;
+		this.meterRegistry = meterRegistryProvider.getIfAvailable(SimpleMeterRegistry::new);
+		this.waitTimeoutMs = waitTimeoutMs;
+		this.healthScoreBatcher = new AiMicroBatcher<>(
+			"health_score",
+			aiServerClient::getHealthScoresBatchAsync,
+			aiServerClient::getHealthScoreAsync,
+			AiBatchCoalescer::isBatchUnsupported,
+			batchEnabled, windowMs, maxBatchSize, fallbackParallelism, Schedulers.parallel(), meterRegistry
+		);
+		this.signalBatcher = new AiMicroBatcher<>(
+			"signal",
+			this::loadSignalsBatch,
+			key -> aiServerClient.getSignalsAsync(key.companyCode(), key.period()),
+			AiBatchCoalescer::isBatchUnsupported,
+			batchEnabled, windowMs, maxBatchSize, fallbackParallelism, Schedulers.parallel(), meterRegistry
+		);
+		this.predictionBatcher = new AiMicroBatcher<>(
+			"prediction",
+			aiServerClient::getPredictionsBatchAsync,
+			aiServerClient::getPredictionAsync,
+			AiBatchCoalescer::isBatchUnsupported,
+			batchEnabled, windowMs, maxBatchSize, fallbackParallelism, Schedulers.parallel(), meterRegistry
+		);
+	}
+
+	/**
+	 * AiServerClient.getHealthScore와 같은 결과를 돌려주되, 같은 창의 다른 기업 요청과 함께 보낸다.
+	 */
+	public AiHealthScoreResponse getHealthScore(String companyCode) {
+		return await("health_score", healthScoreBatcher.submit(companyCode));
+	}
+
+	/**
+	 * AiServerClient.getSignals와 같은 결과를 돌려주되, 같은 창·같은 기간의 다른 기업 요청과 함께 보낸다.
+	 */
+	public AiSignalResponse getSignals(String companyCode, String period) {
+		return await("signal", signalBatcher.submit(new SignalKey(companyCode, period)));
+	}
+
+	/**
+	 * AiServerClient.getPrediction과 같은 결과를 돌려주되, 같은 창의 다른 기업 요청과 함께 보낸다.
+	 */
+	public AiAnalysisResponse getPrediction(String companyCode) {
+		return await("prediction", predictionBatcher.submit(companyCode));
+	}
+
+	// 신호등 배치 엔드포인트는 기간 단위이므로 창 안의 요청을 기간별로 나눠 보낸다.
+	private Mono<Map<SignalKey, AiSignalResponse>> loadSignalsBatch(List<SignalKey> keys) {
+		Map<String, List<String>> codesByPeriod = keys.stream()
+			.collect(Collectors.groupingBy(
+				SignalKey::period,
+				Collectors.mapping(SignalKey::companyCode, Collectors.toList())
+			));
+		return Flux.fromIterable(codesByPeriod.entrySet())
+			.flatMap(entry -> aiServerClient.getSignalsBatchAsync(entry.getValue(), entry.getKey())
+				.map(responses -> toSignalResults(entry.getKey(), responses)))
+			.<Map<SignalKey, AiSignalResponse>>reduce(new HashMap<>(), (merged, results) -> {
+				merged.putAll(results);
+				return merged;
+			});
+	}
+
+	private Map<SignalKey, AiSignalResponse> toSignalResults(String period, Map<String, AiSignalResponse> responses) {
+		Map<SignalKey, AiSignalResponse> results = new HashMap<>();
+		responses.forEach((companyCode, response) -> results.put(new SignalKey(companyCode, period), response));
+		return results;
+	}
+
+	private <T> T await(String operation, CompletableFuture<T> future) {
+		try {
+			return future.get(waitTimeoutMs, TimeUnit.MILLISECONDS);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+			throw new ExternalAiUnavailableException("AI 배치 조회 실패: " + operation, "AI_UNAVAILABLE", e.getCause());
+		} catch (TimeoutException e) {
+			meterRegistry.counter("company.ai_batch.wait_timeout", "operation", operation).increment();
+			throw new ExternalAiUnavailableException("AI 배치 조회 대기 시간 초과: " + operation, "AI_TIMEOUT", e);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new ExternalAiUnavailableException("AI 배치 조회 대기 중단: " + operation, "AI_TIMEOUT", e);
+		}
+	}
+
+	// 배치를 켰더라도 서버에 배치 엔드포인트가 없으면(404/405) 그 묶음은 단건 호출로 대체한다.
+	private static boolean isBatchUnsupported(Throwable throwable) {
+		Throwable current = throwable;
+		while (current != null) {
+			if (current instanceof WebClientResponseException responseException) {
+				return responseException.getStatusCode().isSameCodeAs(HttpStatus.NOT_FOUND)
+					|| responseException.getStatusCode().isSameCodeAs(HttpStatus.METHOD_NOT_ALLOWED);
+			}
+			current = current.getCause();
+		}
+		return false;
+	}
+
+	private record SignalKey(String companyCode, String period) {
+	}
+}
@@ -0,0 +1,53 @@
+package com.aivle.project.company.client;
+
+/**
+ * AI 서버 호출 우선순위.
+ * 사용자 요청 스레드는 기본값인 INTERACTIVE로 호출하고, 워밍업·카프카 작업·백그라운드 갱신은 BACKGROUND 범위 안에서 호출한다.
+ * 동기 호출은 스레드 범위로, 비동기 호출은 구독 시점의 Reactor Context나 호출 메서드를 부른 스레드의 범위로 우선순위를 전달한다.
+ */
+public enum AiCallPriority {
+
+	INTERACTIVE,
+	BACKGROUND;
+
+	static final String CONTEXT_KEY = AiCallPriority.class.getName();
+
+	private static final ThreadLocal<AiCallPriority> CURRENT = new ThreadLocal<>();
+
+	/**
+	 * 현재 스레드의 호출 우선순위. 범위가 없으면 INTERACTIVE다.
+	 */
+	public static AiCallPriority current() {
+		AiCallPriority priority = CURRENT.get();
+		return priority == null ? INTERACTIVE : priority;
+	}
+
+	/**
+	 * 현재 스레드의 AI 호출을 이 우선순위로 표시한다. 닫으면 이전 우선순위로 되돌린다.
+	 */
+	public Scope enter() {
+		AiCallPriority previous = CURRENT.get();
+		CURRENT.set(this);
+		return () -> {
+			if (previous == null) {
+				CURRENT.remove();
+			} else {
+				CURRENT.set(previous);
+			}
+		};
+	}
+
+	String tagValue() {
+		return name().toLowerCase();
+	}
+
+	/**
+	 * try-with-resources로 닫는 우선순위 범위.
+	 */
+	@FunctionalInterface
+	public interface Scope extends AutoCloseable {
+
+		@Override
+		void close();
+	}
+}
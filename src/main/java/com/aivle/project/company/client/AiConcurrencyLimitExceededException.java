@@ -0,0 +1,12 @@
+package com.aivle.project.company.client;
+
+/**
+ * AI 호출 동시성 한도가 가득 차 호출을 보내지 않았음을 나타내는 예외.
+ * 클라이언트는 이 예외를 AI_OVERLOADED 사유의 AI 장애로 바꿔 전달한다.
+ */
+public class AiConcurrencyLimitExceededException extends RuntimeException {
+
+	public AiConcurrencyLimitExceededException(AiCallPriority priority, int limit) {
+		super("AI call concurrency limit exceeded: priority=" + priority + ", limit=" + limit);
+	}
+}
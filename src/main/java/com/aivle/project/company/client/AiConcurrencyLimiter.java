@@ -0,0 +1,207 @@
+package com.aivle.project.company.client;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+/**
+ * AI 서버 호출 전체가 공유하는 적응형 동시성 한도.
+ * 정적 세마포어 벌크헤드 대신, 응답 지연이 장기 기준선보다 길어지면 한도를 줄이고(gradient)
+ * 타임아웃·연결 실패·5xx·429가 나면 한도를 배수로 줄이며(AIMD의 MD), 한도를 충분히 쓰는 동안 지연이 안정적이면 조금씩 늘린다.
+ * BACKGROUND 호출은 한도의 일부만 쓸 수 있어 사용자 요청(INTERACTIVE)이 남은 자리를 먼저 얻는다.
+ * 자리가 없으면 기다리지 않고 바로 거절한다.
+ */
+@Slf4j
+@Component
+public class AiConcurrencyLimiter {
+
+	private final Settings settings;
+	private final MeterRegistry meterRegistry;
+
+	// 아래 상태는 모두 this로 보호한다.
+	private double limit;
+	private int inFlight;
+	private double shortRttNanos;
+	private double longRttNanos;
+
+	@Autowired
+	public AiConcurrencyLimiter(
+		ObjectProvider<MeterRegistry> meterRegistryProvider,
+		@Value("${ai.server.limiter.initial-limit:20}") int initialLimit,
+		@Value("${ai.server.limiter.min-limit:2}") int minLimit,
+		@Value("${ai.server.limiter.max-limit:${ai.server.http.max-connections:100}}") int maxLimit,
+		@Value("${ai.server.limiter.background-ratio:0.5}") double backgroundRatio,
+		@Value("${ai.server.limiter.smoothing:0.2}") double smoothing,
+		@Value("${ai.server.limiter.latency-tolerance:1.5}") double latencyTolerance,
+		@Value("${ai.server.limiter.backoff-ratio:0.9}") double backoffRatio
+	) {
+		this(
+			new Settings(initialLimit, minLimit, maxLimit, backgroundRatio, smoothing, latencyTolerance, backoffRatio),
+			meterRegistryProvider.getIfAvailable(SimpleMeterRegistry::new)
+		);
+	}
+
+	public AiConcurrencyLimiter(Settings settings, MeterRegistry meterRegistry) {
+		this.settings = settings;
+		this.meterRegistry = meterRegistry;
+		this.limit = Math.min(settings.maxLimit(), Math.max(settings.minLimit(), settings.initialLimit()));
+		meterRegistry.gauge("ai.client.concurrency.limit", this, AiConcurrencyLimiter::currentLimit);
+		meterRegistry.gauge("ai.client.concurrency.in_flight", this, AiConcurrencyLimiter::currentInFlight);
+	}
+
+	/**
+	 * 호출 Mono를 한도 안에서만 구독하도록 감싼다.
+	 * 우선순위는 구독 시점의 Reactor Context, 없으면 이 메서드를 부른(클라이언트 메서드를 호출한) 스레드의 AiCallPriority 범위에서 정한다.
+	 * 재시도는 Netty나 타이머 스레드에서 다시 구독하므로, 구독 스레드의 범위를 읽으면 BACKGROUND 호출이 INTERACTIVE로 바뀐다.
+	 */
+	public <T> Mono<T> limit(Mono<T> call) {
+		AiCallPriority callerPriority = AiCallPriority.current();
+		return Mono.deferContextual(context -> {
+			AiCallPriority priority = context.getOrDefault(AiCallPriority.CONTEXT_KEY, callerPriority);
+			Permit permit = tryAcquire(priority);
+			if (permit == null) {
+				return Mono.error(new AiConcurrencyLimitExceededException(priority, currentLimit()));
+			}
+			return call
+				.doOnSuccess(value -> permit.release(Outcome.SUCCESS))
+				.doOnError(error -> permit.release(isDropSignal(error) ? Outcome.DROPPED : Outcome.IGNORED))
+				.doOnCancel(() -> permit.release(Outcome.IGNORED));
+		});
+	}
+
+	public synchronized int currentLimit() {
+		return (int) limit;
+	}
+
+	public synchronized int currentInFlight() {
+		return inFlight;
+	}
+
+	synchronized Permit tryAcquire(AiCallPriority priority) {
+		if (inFlight >= ceiling(priority)) {
+			meterRegistry.counter("ai.client.concurrency.rejected", "priority", priority.tagValue()).increment();
+			return null;
+		}
+		inFlight++;
+		return new Permit(System.nanoTime());
+	}
+
+	// BACKGROUND는 한도의 일부만 쓰고, 나머지는 INTERACTIVE 몫으로 남긴다.
+	private int ceiling(AiCallPriority priority) {
+		int current = (int) limit;
+		if (priority == AiCallPriority.INTERACTIVE) {
+			return current;
+		}
+		return Math.max(1, (int) (current * settings.backgroundRatio()));
+	}
+
+	synchronized void release(long rttNanos, Outcome outcome) {
+		int inFlightAtRelease = inFlight;
+		inFlight = Math.max(0, inFlight - 1);
+		switch (outcome) {
+			case DROPPED -> limit = Math.max(settings.minLimit(), limit * settings.backoffRatio());
+			case SUCCESS -> adjust(rttNanos, inFlightAtRelease);
+			case IGNORED -> {
+			}
+		}
+	}
+
+	private void adjust(long rttNanos, int inFlightAtRelease) {
+		double rtt = Math.max(1L, rttNanos);
+		if (longRttNanos == 0.0) {
+			shortRttNanos = rtt;
+			longRttNanos = rtt;
+			return;
+		}
+		shortRttNanos = shortRttNanos * 0.7 + rtt * 0.3;
+		longRttNanos = longRttNanos * 0.98 + rtt * 0.02;
+		if (longRttNanos > shortRttNanos * 2) {
+			// 지연이 회복되면 장기 기준선이 예전 고지연에 묶이지 않도록 빠르게 따라 내려간다.
+			longRttNanos = longRttNanos * 0.9;
+		}
+
+		double gradient = Math.max(0.5, Math.min(1.0, settings.latencyTolerance() * longRttNanos / shortRttNanos));
+		double newLimit = limit * gradient + Math.sqrt(limit);
+		if (newLimit > limit && inFlightAtRelease < limit / 2) {
+			// 한도를 절반도 쓰지 않는 동안에는 늘려 봐야 근거가 없으므로 유지한다.
+			newLimit = limit;
+		}
+		double smoothed = limit * (1 - settings.smoothing()) + newLimit * settings.smoothing();
+		limit = Math.max(settings.minLimit(), Math.min(settings.maxLimit(), smoothed));
+	}
+
+	// AI 서버 과부하를 뜻하는 실패만 한도를 줄인다. 4xx 같은 요청 오류는 지연 표본에서 뺀다.
+	private boolean isDropSignal(Throwable throwable) {
+		Throwable current = throwable;
+		while (current != null) {
+			if (current instanceof java.util.concurrent.TimeoutException
+				|| current instanceof io.netty.handler.timeout.ReadTimeoutException
+				|| current instanceof WebClientRequestException) {
+				return true;
+			}
+			if (current instanceof WebClientResponseException responseException) {
+				return responseException.getStatusCode().is5xxServerError()
+					|| responseException.getStatusCode().value() == 429;
+			}
+			current = current.getCause();
+		}
+		return false;
+	}
+
+	enum Outcome {
+		SUCCESS,
+		DROPPED,
+		IGNORED
+	}
+
+	/**
+	 * 한 번만 반납되는 호출 자리.
+	 */
+	final class Permit {
+
+		private final long startedAtNanos;
+		private final AtomicBoolean released = new AtomicBoolean();
+
+		private Permit(long startedAtNanos) {
+			this.startedAtNanos = startedAtNanos;
+		}
+
+		void release(Outcome outcome) {
+			if (released.compareAndSet(false, true)) {
+				AiConcurrencyLimiter.this.release(System.nanoTime() - startedAtNanos, outcome);
+			}
+		}
+	}
+
+	/**
+	 * 한도 계산 설정.
+	 *
+	 * @param initialLimit 시작 한도
+	 * @param minLimit 한도 하한
+	 * @param maxLimit 한도 상한, 기본값은 ai-client-pool 커넥션 수
+	 * @param backgroundRatio BACKGROUND 호출이 쓸 수 있는 한도 비율
+	 * @param smoothing 새 한도를 반영하는 비율
+	 * @param latencyTolerance 장기 기준선 대비 허용하는 단기 지연 배수
+	 * @param backoffRatio 과부하 신호 한 번에 곱하는 감소 비율
+	 */
+	public record Settings(
+		int initialLimit,
+		int minLimit,
+		int maxLimit,
+		double backgroundRatio,
+		double smoothing,
+		double latencyTolerance,
+		double backoffRatio
+	) {
+
+		public static final Settings DEFAULTS = new Settings(20, 2, 100, 0.5, 0.2, 1.5, 0.9);
+	}
+}
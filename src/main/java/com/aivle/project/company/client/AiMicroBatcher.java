@@ -0,0 +1,185 @@
+package com.aivle.project.company.client;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.util.context.Context;
+
+/**
+ * 단건 요청을 짧은 시간 창 동안 모아 한 번에 보내는 마이크로 배처.
+ * 창이 끝나거나 모인 키가 최대 크기에 이르면 배치를 보내고, 결과를 키별로 나눠 대기 중인 호출자에게 돌려준다.
+ * 배치 엔드포인트를 쓰지 않거나 서버가 지원하지 않으면 같은 묶음을 제한된 병렬도의 단건 호출로 보내고,
+ * 배치 응답에 빠진 키도 단건 호출로 다시 조회한다.
+ * 묶음은 다른 스레드에서 보내지므로, 묶음에 참여한 호출자 중 가장 급한 AI 호출 우선순위를 Reactor Context로 넘긴다.
+ */
+@Slf4j
+final class AiMicroBatcher<K, V> {
+
+	private final String operation;
+	private final Function<List<K>, Mono<Map<K, V>>> batchLoader;
+	private final Function<K, Mono<V>> singleLoader;
+	private final Predicate<Throwable> batchUnsupported;
+	private final boolean batchEnabled;
+	private final long windowMs;
+	private final int maxBatchSize;
+	private final int fallbackParallelism;
+	private final Scheduler scheduler;
+	private final MeterRegistry meterRegistry;
+
+	private Map<K, CompletableFuture<V>> pending = new LinkedHashMap<>();
+	private AiCallPriority pendingPriority = AiCallPriority.BACKGROUND;
+	private Disposable scheduledFlush;
+
+	AiMicroBatcher(
+		String operation,
+		Function<List<K>, Mono<Map<K, V>>> batchLoader,
+		Function<K, Mono<V>> singleLoader,
+		Predicate<Throwable> batchUnsupported,
+		boolean batchEnabled,
+		long windowMs,
+		int maxBatchSize,
+		int fallbackParallelism,
+		Scheduler scheduler,
+		MeterRegistry meterRegistry
+	) {
+		this.operation = operation;
+		this.batchLoader = batchLoader;
+		this.singleLoader = singleLoader;
+		this.batchUnsupported = batchUnsupported;
+		this.batchEnabled = batchEnabled;
+		this.windowMs = Math.max(0L, windowMs);
+		this.maxBatchSize = Math.max(1, maxBatchSize);
+		this.fallbackParallelism = Math.max(1, fallbackParallelism);
+		this.scheduler = scheduler;
+		this.meterRegistry = meterRegistry;
+	}
+
+	/**
+	 * 키를 현재 창에 넣고 결과 future를 돌려준다.
+	 * 같은 창에 이미 있는 키는 새로 넣지 않고 기존 future를 공유한다.
+	 */
+	CompletableFuture<V> submit(K key) {
+		Batch<K, V> ready = null;
+		CompletableFuture<V> future;
+		synchronized (this) {
+			if (AiCallPriority.current() == AiCallPriority.INTERACTIVE) {
+				pendingPriority = AiCallPriority.INTERACTIVE;
+			}
+			future = pending.get(key);
+			if (future != null) {
+				meterRegistry.counter("company.ai_batch.coalesced", "operation", operation).increment();
+				return future;
+			}
+			future = new CompletableFuture<>();
+			pending.put(key, future);
+			if (pending.size() >= maxBatchSize || windowMs == 0L) {
+				ready = drain();
+			} else if (pending.size() == 1) {
+				scheduledFlush = scheduler.schedule(this::flush, windowMs, TimeUnit.MILLISECONDS);
+			}
+		}
+		if (ready != null) {
+			dispatch(ready);
+		}
+		return future;
+	}
+
+	private void flush() {
+		Batch<K, V> ready;
+		synchronized (this) {
+			ready = drain();
+		}
+		if (!ready.futures().isEmpty()) {
+			dispatch(ready);
+		}
+	}
+
+	private Batch<K, V> drain() {
+		if (scheduledFlush != null) {
+			scheduledFlush.dispose();
+			scheduledFlush = null;
+		}
+		Batch<K, V> ready = new Batch<>(pending, pendingPriority);
+		pending = new LinkedHashMap<>();
+		pendingPriority = AiCallPriority.BACKGROUND;
+		return ready;
+	}
+
+	private void dispatch(Batch<K, V> ready) {
+		Map<K, CompletableFuture<V>> batch = ready.futures();
+		Context priority = Context.of(AiCallPriority.CONTEXT_KEY, ready.priority());
+		if (!batchEnabled || batch.size() == 1) {
+			dispatchSingles(batch, priority);
+			return;
+		}
+		recordBatchSize("batch", batch.size());
+		Mono.defer(() -> batchLoader.apply(List.copyOf(batch.keySet())))
+			.defaultIfEmpty(Map.of())
+			.contextWrite(priority)
+			.subscribe(
+				results -> completeBatch(batch, results, priority),
+				error -> {
+					if (batchUnsupported.test(error)) {
+						log.warn("AI 배치 엔드포인트 미지원, 단건 호출로 대체: operation={}, size={}", operation, batch.size());
+						dispatchSingles(batch, priority);
+						return;
+					}
+					batch.values().forEach(future -> future.completeExceptionally(error));
+				}
+			);
+	}
+
+	/**
+	 * 배치 응답을 키별로 나눠 돌려준다. 응답에 빠진 키는 결과가 없다고 단정하지 않고 단건 호출로 다시 조회한다.
+	 */
+	private void completeBatch(Map<K, CompletableFuture<V>> batch, Map<K, V> results, Context priority) {
+		Map<K, CompletableFuture<V>> missing = new LinkedHashMap<>();
+		batch.forEach((key, future) -> {
+			V value = results.get(key);
+			if (value == null) {
+				missing.put(key, future);
+			} else {
+				future.complete(value);
+			}
+		});
+		if (missing.isEmpty()) {
+			return;
+		}
+		log.warn("AI 배치 응답에 빠진 키를 단건 호출로 대체: operation={}, missing={}/{}", operation, missing.size(), batch.size());
+		meterRegistry.counter("company.ai_batch.missing", "operation", operation).increment(missing.size());
+		dispatchSingles(missing, priority);
+	}
+
+	private void dispatchSingles(Map<K, CompletableFuture<V>> batch, Context priority) {
+		recordBatchSize("single", batch.size());
+		Flux.fromIterable(batch.entrySet())
+			.flatMap(entry -> Mono.defer(() -> singleLoader.apply(entry.getKey()))
+				.doOnSuccess(entry.getValue()::complete)
+				.doOnError(entry.getValue()::completeExceptionally)
+				.onErrorResume(error -> Mono.empty()), fallbackParallelism)
+			.contextWrite(priority)
+			.subscribe();
+	}
+
+	private void recordBatchSize(String mode, int size) {
+		DistributionSummary.builder("company.ai_batch.size")
+			.tag("operation", operation)
+			.tag("mode", mode)
+			.register(meterRegistry)
+			.record(size);
+	}
+
+	private record Batch<K, V>(Map<K, CompletableFuture<V>> futures, AiCallPriority priority) {
+	}
+}
@@ -5,22 +5,27 @@ import com.aivle.project.company.dto.AiCommentResponse;
 import com.aivle.project.company.dto.AiHealthScoreResponse;
 import com.aivle.project.company.dto.AiSignalResponse;
 import com.aivle.project.common.error.ExternalAiUnavailableException;
-import io.github.resilience4j.bulkhead.annotation.Bulkhead;
 import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
 import io.github.resilience4j.retry.annotation.Retry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientRequestException;
 import org.springframework.web.util.UriBuilder;
+import reactor.core.publisher.Mono;
 
 @Slf4j
 @Component
@@ -30,29 +35,41 @@ public class AiServerClient {
     private final boolean mockEnabled;
     private final long mockLatencyMs;
     private final Duration callTimeout;
+    private final AiConcurrencyLimiter concurrencyLimiter;
 
     @Autowired
     public AiServerClient(
         @Qualifier("aiWebClient") WebClient aiWebClient,
+        AiConcurrencyLimiter aiConcurrencyLimiter,
         @Value("${ai.server.mock.enabled:false}") boolean mockEnabled,
         @Value("${ai.server.mock.latency-ms:0}") long mockLatencyMs,
         @Value("${ai.server.http.call-timeout-ms:10000}") long callTimeoutMs
     ) {
-        this(aiWebClient, mockEnabled, mockLatencyMs, Duration.ofMillis(callTimeoutMs));
+        this(aiWebClient, aiConcurrencyLimiter, mockEnabled, mockLatencyMs, Duration.ofMillis(callTimeoutMs));
     }
 
     // 테스트 코드 호환을 위해 URL 기반 생성자를 유지한다.
     AiServerClient(String aiServerUrl, boolean mockEnabled, long mockLatencyMs) {
-        this(WebClient.builder().baseUrl(aiServerUrl).build(), mockEnabled, mockLatencyMs, Duration.ofMillis(10000L));
+        this(aiServerUrl, mockEnabled, mockLatencyMs, 10000L);
     }
 
     // 타임아웃 테스트를 위한 생성자.
     AiServerClient(String aiServerUrl, boolean mockEnabled, long mockLatencyMs, long callTimeoutMs) {
-        this(WebClient.builder().baseUrl(aiServerUrl).build(), mockEnabled, mockLatencyMs, Duration.ofMillis(callTimeoutMs));
+        this(aiServerUrl, new AiConcurrencyLimiter(AiConcurrencyLimiter.Settings.DEFAULTS, new SimpleMeterRegistry()),
+            mockEnabled, mockLatencyMs, callTimeoutMs);
     }
 
-    private AiServerClient(WebClient webClient, boolean mockEnabled, long mockLatencyMs, Duration callTimeout) {
+    // 동시성 한도 테스트를 위한 생성자.
+    AiServerClient(String aiServerUrl, AiConcurrencyLimiter concurrencyLimiter, boolean mockEnabled, long mockLatencyMs,
+        long callTimeoutMs) {
+        this(WebClient.builder().baseUrl(aiServerUrl).build(), concurrencyLimiter, mockEnabled, mockLatencyMs,
+            Duration.ofMillis(callTimeoutMs));
+    }
+
+    private AiServerClient(WebClient webClient, AiConcurrencyLimiter concurrencyLimiter, boolean mockEnabled,
+        long mockLatencyMs, Duration callTimeout) {
         this.webClient = webClient;
+        this.concurrencyLimiter = concurrencyLimiter;
         this.mockEnabled = mockEnabled;
         this.mockLatencyMs = mockLatencyMs;
         this.callTimeout = callTimeout;
@@ -60,13 +77,11 @@ public class AiServerClient {
 
     @CircuitBreaker(name = "aiServer")
     @Retry(name = "aiServer")
-    @Bulkhead(name = "aiServer", type = Bulkhead.Type.SEMAPHORE)
     public AiAnalysisResponse getPrediction(String companyCode) {
         log.info("Requesting AI prediction for company: {}", companyCode);
 
         if (mockEnabled) {
-            applyMockLatency();
-            return mockPrediction(companyCode);
+            return mockAsync(() -> mockPrediction(companyCode)).block();
         }
 
         try {
@@ -82,35 +97,15 @@ public class AiServerClient {
 
     @CircuitBreaker(name = "aiServer")
     @Retry(name = "aiServer")
-    @Bulkhead(name = "aiServer", type = Bulkhead.Type.SEMAPHORE)
     public byte[] getAnalysisReportPdf(String companyCode) {
         log.info("Downloading AI analysis report PDF for company: {}", companyCode);
 
         if (mockEnabled) {
-            applyMockLatency();
-            return mockPdfBytes(companyCode);
+            return mockAsync(() -> mockPdfBytes(companyCode)).block();
         }
 
         try {
-            org.springframework.http.ResponseEntity<byte[]> response = webClient.get()
-                .uri(builder -> builder.path("/api/v1/analysis/{companyCode}/report").build(companyCode))
-                .retrieve()
-                .toEntity(byte[].class)
-                .timeout(callTimeout)
-                .block();
-
-            if (response == null || response.getBody() == null) {
-                throw new RuntimeException("AI Server returned empty response");
-            }
-
-            org.springframework.http.MediaType contentType = response.getHeaders().getContentType();
-            if (contentType == null || !contentType.equals(org.springframework.http.MediaType.APPLICATION_PDF)) {
-                String bodyPreview = new String(response.getBody(), StandardCharsets.UTF_8);
-                log.error("AI Server returned non-PDF response. Content-Type: {}, Body: {}", contentType, bodyPreview);
-                throw new RuntimeException("AI Server returned invalid content type: " + contentType);
-            }
-
-            return response.getBody();
+            return requirePdfBody(getPdfMono(companyCode).block());
         } catch (Exception e) {
             log.error("Failed to download report for company {}: {}", companyCode, e.getMessage());
             throw new RuntimeException("AI Server report download failed", e);
@@ -119,13 +114,11 @@ public class AiServerClient {
 
     @CircuitBreaker(name = "aiServer")
     @Retry(name = "aiServer")
-    @Bulkhead(name = "aiServer", type = Bulkhead.Type.SEMAPHORE)
     public AiHealthScoreResponse getHealthScore(String companyCode) {
         log.info("Requesting AI health score for company: {}", companyCode);
 
         if (mockEnabled) {
-            applyMockLatency();
-            return mockHealthScore(companyCode);
+            return mockAsync(() -> mockHealthScore(companyCode)).block();
         }
 
         try {
@@ -141,13 +134,11 @@ public class AiServerClient {
 
     @CircuitBreaker(name = "aiServer")
     @Retry(name = "aiServer")
-    @Bulkhead(name = "aiServer", type = Bulkhead.Type.SEMAPHORE)
     public AiSignalResponse getSignals(String companyCode, String period) {
         log.info("Requesting AI signals for company: {} (period: {})", companyCode, period);
 
         if (mockEnabled) {
-            applyMockLatency();
-            return mockSignals(companyCode, period);
+            return mockAsync(() -> mockSignals(companyCode, period)).block();
         }
 
         try {
@@ -164,13 +155,11 @@ public class AiServerClient {
 
     @CircuitBreaker(name = "aiServer")
     @Retry(name = "aiServer")
-    @Bulkhead(name = "aiServer", type = Bulkhead.Type.SEMAPHORE)
     public AiCommentResponse getAiComment(String companyCode, String period) {
         log.info("Requesting AI comment for company: {} (period: {})", companyCode, period);
 
         if (mockEnabled) {
-            applyMockLatency();
-            return mockComment(companyCode, period);
+            return mockAsync(() -> mockComment(companyCode, period)).block();
         }
 
         try {
@@ -181,6 +170,180 @@ public class AiServerClient {
         }
     }
 
+    /**
+     * getPrediction의 논블로킹 버전. 응답을 기다리는 동안 호출 스레드를 점유하지 않는다.
+     * 서킷 브레이커와 재시도는 동기 버전과 같은 aiServer 인스턴스가, 동시성 한도는 AiConcurrencyLimiter가 구독 시점에 적용한다.
+     */
+    @CircuitBreaker(name = "aiServer")
+    @Retry(name = "aiServer")
+    public Mono<AiAnalysisResponse> getPredictionAsync(String companyCode) {
+        log.info("Requesting AI prediction asynchronously for company: {}", companyCode);
+
+        if (mockEnabled) {
+            return mockAsync(() -> mockPrediction(companyCode));
+        }
+
+        return getMono(
+            builder -> builder.path("/api/v1/analysis/{companyCode}/predict").build(companyCode),
+            AiAnalysisResponse.class
+        ).onErrorMap(e -> {
+            log.error("Failed to get prediction for company {}: {}", companyCode, e.getMessage());
+            return toExternalAiUnavailable(e);
+        });
+    }
+
+    /**
+     * getAnalysisReportPdf의 논블로킹 버전.
+     */
+    @CircuitBreaker(name = "aiServer")
+    @Retry(name = "aiServer")
+    public Mono<byte[]> getAnalysisReportPdfAsync(String companyCode) {
+        log.info("Downloading AI analysis report PDF asynchronously for company: {}", companyCode);
+
+        if (mockEnabled) {
+            return mockAsync(() -> mockPdfBytes(companyCode));
+        }
+
+        return getPdfMono(companyCode)
+            .map(this::requirePdfBody)
+            .onErrorMap(e -> {
+                log.error("Failed to download report for company {}: {}", companyCode, e.getMessage());
+                return new RuntimeException("AI Server report download failed", e);
+            });
+    }
+
+    /**
+     * getHealthScore의 논블로킹 버전.
+     */
+    @CircuitBreaker(name = "aiServer")
+    @Retry(name = "aiServer")
+    public Mono<AiHealthScoreResponse> getHealthScoreAsync(String companyCode) {
+        log.info("Requesting AI health score asynchronously for company: {}", companyCode);
+
+        if (mockEnabled) {
+            return mockAsync(() -> mockHealthScore(companyCode));
+        }
+
+        return getMono(
+            builder -> builder.path("/api/v1/analysis/{companyCode}/health-score").build(companyCode),
+            AiHealthScoreResponse.class
+        ).onErrorMap(e -> {
+            log.error("Failed to get health score for company {}: {}", companyCode, e.getMessage());
+            return toExternalAiUnavailable(e);
+        });
+    }
+
+    /**
+     * getSignals의 논블로킹 버전.
+     */
+    @CircuitBreaker(name = "aiServer")
+    @Retry(name = "aiServer")
+    public Mono<AiSignalResponse> getSignalsAsync(String companyCode, String period) {
+        log.info("Requesting AI signals asynchronously for company: {} (period: {})", companyCode, period);
+
+        if (mockEnabled) {
+            return mockAsync(() -> mockSignals(companyCode, period));
+        }
+
+        return getMono(
+            builder -> builder.path("/api/v1/analysis/{companyCode}/signals/{period}")
+                .build(companyCode, period),
+            AiSignalResponse.class
+        ).onErrorMap(e -> {
+            log.error("Failed to get signals for company {}: {}", companyCode, e.getMessage());
+            return toExternalAiUnavailable(e);
+        });
+    }
+
+    /**
+     * getAiComment의 논블로킹 버전.
+     */
+    @CircuitBreaker(name = "aiServer")
+    @Retry(name = "aiServer")
+    public Mono<AiCommentResponse> getAiCommentAsync(String companyCode, String period) {
+        log.info("Requesting AI comment asynchronously for company: {} (period: {})", companyCode, period);
+
+        if (mockEnabled) {
+            return mockAsync(() -> mockComment(companyCode, period));
+        }
+
+        return getMono(uriBuilder -> buildAiCommentUri(uriBuilder, companyCode, period), AiCommentResponse.class)
+            .onErrorMap(e -> {
+                log.error("Failed to get AI comment for company {}: {}", companyCode, e.getMessage());
+                return toExternalAiUnavailable(e);
+            });
+    }
+
+    /**
+     * 여러 기업의 건전성 점수를 한 번의 배치 요청으로 조회한다.
+     * 응답은 기업 코드를 키로 하는 객체이며, 결과가 없는 기업은 맵에서 빠진다.
+     */
+    @CircuitBreaker(name = "aiServer")
+    @Retry(name = "aiServer")
+    public Mono<Map<String, AiHealthScoreResponse>> getHealthScoresBatchAsync(List<String> companyCodes) {
+        log.info("Requesting AI health scores in batch for {} companies", companyCodes.size());
+
+        if (mockEnabled) {
+            return mockAsync(() -> mockBatch(companyCodes, this::mockHealthScore));
+        }
+
+        return postBatchMono(
+            builder -> builder.path("/api/v1/analysis/batch/health-score").build(),
+            companyCodes,
+            new ParameterizedTypeReference<Map<String, AiHealthScoreResponse>>() {
+            }
+        ).onErrorMap(e -> {
+            log.error("Failed to get batch health scores for {} companies: {}", companyCodes.size(), e.getMessage());
+            return toExternalAiUnavailable(e);
+        });
+    }
+
+    /**
+     * 같은 기간의 여러 기업 신호등을 한 번의 배치 요청으로 조회한다.
+     */
+    @CircuitBreaker(name = "aiServer")
+    @Retry(name = "aiServer")
+    public Mono<Map<String, AiSignalResponse>> getSignalsBatchAsync(List<String> companyCodes, String period) {
+        log.info("Requesting AI signals in batch for {} companies (period: {})", companyCodes.size(), period);
+
+        if (mockEnabled) {
+            return mockAsync(() -> mockBatch(companyCodes, companyCode -> mockSignals(companyCode, period)));
+        }
+
+        return postBatchMono(
+            builder -> builder.path("/api/v1/analysis/batch/signals/{period}").build(period),
+            companyCodes,
+            new ParameterizedTypeReference<Map<String, AiSignalResponse>>() {
+            }
+        ).onErrorMap(e -> {
+            log.error("Failed to get batch signals for {} companies: {}", companyCodes.size(), e.getMessage());
+            return toExternalAiUnavailable(e);
+        });
+    }
+
+    /**
+     * 여러 기업의 다음 분기 예측을 한 번의 배치 요청으로 조회한다.
+     */
+    @CircuitBreaker(name = "aiServer")
+    @Retry(name = "aiServer")
+    public Mono<Map<String, AiAnalysisResponse>> getPredictionsBatchAsync(List<String> companyCodes) {
+        log.info("Requesting AI predictions in batch for {} companies", companyCodes.size());
+
+        if (mockEnabled) {
+            return mockAsync(() -> mockBatch(companyCodes, this::mockPrediction));
+        }
+
+        return postBatchMono(
+            builder -> builder.path("/api/v1/analysis/batch/predict").build(),
+            companyCodes,
+            new ParameterizedTypeReference<Map<String, AiAnalysisResponse>>() {
+            }
+        ).onErrorMap(e -> {
+            log.error("Failed to get batch predictions for {} companies: {}", companyCodes.size(), e.getMessage());
+            return toExternalAiUnavailable(e);
+        });
+    }
+
     private java.net.URI buildAiCommentUri(UriBuilder uriBuilder, String companyCode, String period) {
         UriBuilder builder = uriBuilder.path("/api/v1/analysis/{companyCode}/ai-comment");
         if (period != null && !period.isBlank()) {
@@ -190,12 +353,54 @@ public class AiServerClient {
     }
 
     private <T> T getWithTimeout(java.util.function.Function<UriBuilder, java.net.URI> uriFunction, Class<T> responseType) {
+        return getMono(uriFunction, responseType).block();
+    }
+
+    private <T> Mono<T> getMono(java.util.function.Function<UriBuilder, java.net.URI> uriFunction, Class<T> responseType) {
         return webClient.get()
             .uri(uriFunction)
             .retrieve()
             .bodyToMono(responseType)
             .timeout(callTimeout)
-            .block();
+            .transform(concurrencyLimiter::limit);
+    }
+
+    private <T> Mono<Map<String, T>> postBatchMono(
+        java.util.function.Function<UriBuilder, java.net.URI> uriFunction,
+        List<String> companyCodes,
+        ParameterizedTypeReference<Map<String, T>> responseType
+    ) {
+        return webClient.post()
+            .uri(uriFunction)
+            .bodyValue(Map.of("company_codes", companyCodes))
+            .retrieve()
+            .bodyToMono(responseType)
+            .timeout(callTimeout)
+            .transform(concurrencyLimiter::limit);
+    }
+
+    private Mono<org.springframework.http.ResponseEntity<byte[]>> getPdfMono(String companyCode) {
+        return webClient.get()
+            .uri(builder -> builder.path("/api/v1/analysis/{companyCode}/report").build(companyCode))
+            .retrieve()
+            .toEntity(byte[].class)
+            .timeout(callTimeout)
+            .transform(concurrencyLimiter::limit);
+    }
+
+    private byte[] requirePdfBody(org.springframework.http.ResponseEntity<byte[]> response) {
+        if (response == null || response.getBody() == null) {
+            throw new RuntimeException("AI Server returned empty response");
+        }
+
+        org.springframework.http.MediaType contentType = response.getHeaders().getContentType();
+        if (contentType == null || !contentType.equals(org.springframework.http.MediaType.APPLICATION_PDF)) {
+            String bodyPreview = new String(response.getBody(), StandardCharsets.UTF_8);
+            log.error("AI Server returned non-PDF response. Content-Type: {}, Body: {}", contentType, bodyPreview);
+            throw new RuntimeException("AI Server returned invalid content type: " + contentType);
+        }
+
+        return response.getBody();
     }
 
     private ExternalAiUnavailableException toExternalAiUnavailable(Throwable throwable) {
@@ -204,6 +409,9 @@ public class AiServerClient {
     }
 
     private String resolveReasonCode(Throwable throwable) {
+        if (containsCause(throwable, AiConcurrencyLimitExceededException.class)) {
+            return "AI_OVERLOADED";
+        }
         if (containsCause(throwable, CallNotPermittedException.class)) {
             return "AI_CIRCUIT_OPEN";
         }
@@ -228,15 +436,25 @@ public class AiServerClient {
         return false;
     }
 
-    private void applyMockLatency() {
-        if (mockLatencyMs <= 0) {
-            return;
+
+    // 모의 지연도 타이머로 처리해 비동기 호출이 스레드를 잡지 않게 한다.
+    // 모의 호출도 같은 동시성 한도를 거쳐 성능 프로필에서 한도 동작을 확인할 수 있게 한다.
+    private <T> Mono<T> mockAsync(Supplier<T> mockResponse) {
+        Mono<T> response = Mono.fromSupplier(mockResponse);
+        if (mockLatencyMs > 0) {
+            response = Mono.delay(Duration.ofMillis(mockLatencyMs)).then(response);
         }
-        try {
-            Thread.sleep(mockLatencyMs);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
+        return concurrencyLimiter.limit(response)
+            .onErrorMap(AiConcurrencyLimitExceededException.class, this::toExternalAiUnavailable);
+    }
+
+    // 배치 모의 응답은 기업 수와 관계없이 한 번의 지연만 적용해 배치 엔드포인트를 흉내 낸다.
+    private <T> Map<String, T> mockBatch(List<String> companyCodes, java.util.function.Function<String, T> mockResponse) {
+        Map<String, T> responses = new LinkedHashMap<>();
+        for (String companyCode : companyCodes) {
+            responses.put(companyCode, mockResponse.apply(companyCode));
         }
+        return responses;
     }
 
     private AiAnalysisResponse mockPrediction(String companyCode) {
@@ -263,7 +481,7 @@ public class AiServerClient {
         return new AiHealthScoreResponse(
             companyCode,
             "PERF_MOCK_COMPANY",
-            java.util.List.of(
+            List.of(
                 new AiHealthScoreResponse.HealthScoreQuarter(currentPeriod, 73.0, "주의", "ACTUAL")
             ),
             73,
@@ -19,12 +19,15 @@ import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 /**
  * 관리자 기업 조회 API.
@@ -41,6 +44,7 @@ public class AdminCompanyQueryController {
 	private static final int DEFAULT_NEWS_SIZE = 10;
 	private static final int DEFAULT_REPORT_PAGE = 0;
 	private static final int DEFAULT_REPORT_SIZE = 1;
+	private static final CacheControl OVERVIEW_CACHE_CONTROL = CacheControl.noCache().cachePrivate();
 
 	private final AdminUserQueryService adminUserQueryService;
 	private final CompanyWatchlistService companyWatchlistService;
@@ -67,12 +71,24 @@ public class AdminCompanyQueryController {
 		@Parameter(description = "조회 대상 사용자 ID", example = "1")
 		@RequestParam("userId") Long userId,
 		@Parameter(description = "분기 키 (비어있으면 최신 분기 자동 조회, 예: 202401)", example = "202401")
-		@RequestParam(value = "quarterKey", required = false) String quarterKey
+		@RequestParam(value = "quarterKey", required = false) String quarterKey,
+		WebRequest webRequest
 	) {
 		adminUserQueryService.validateActiveUser(userId);
 		Long resolvedCompanyId = resolveCompanyId(companyId);
-		CompanyOverviewResponseDto response = companyOverviewService.getOverview(resolvedCompanyId, quarterKey);
-		return ResponseEntity.ok(ApiResponse.ok(response));
+		CompanyOverviewService.OverviewVersion version = companyOverviewService.resolveVersion(resolvedCompanyId, quarterKey);
+		String eTag = version.toETag();
+		if (webRequest.checkNotModified(eTag)) {
+			return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+				.eTag(eTag)
+				.cacheControl(OVERVIEW_CACHE_CONTROL)
+				.build();
+		}
+		CompanyOverviewResponseDto response = companyOverviewService.getOverview(version);
+		return ResponseEntity.ok()
+			.eTag(eTag)
+			.cacheControl(OVERVIEW_CACHE_CONTROL)
+			.body(ApiResponse.ok(response));
 	}
 
 	@GetMapping("/{companyId}/insights")
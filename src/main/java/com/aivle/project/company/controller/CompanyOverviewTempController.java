@@ -2,20 +2,23 @@ package com.aivle.project.company.controller;
 
 import com.aivle.project.common.dto.ApiResponse;
 import com.aivle.project.company.dto.CompanyOverviewResponseDto;
-import com.aivle.project.company.entity.CompaniesEntity;
-import com.aivle.project.company.repository.CompaniesRepository;
+import com.aivle.project.company.identity.CompanyIdentity;
+import com.aivle.project.company.identity.CompanyIdentityCache;
 import com.aivle.project.company.service.CompanyOverviewService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 /**
  * 기업 개요 API.
@@ -27,9 +30,11 @@ import org.springframework.web.bind.annotation.RestController;
 public class CompanyOverviewTempController {
 
 	private static final String STOCK_CODE_PATTERN = "\\d{6}";
+	// 사용자별 브라우저 캐시에만 보관하고 매번 ETag로 재검증한다.
+	private static final CacheControl OVERVIEW_CACHE_CONTROL = CacheControl.noCache().cachePrivate();
 
 	private final CompanyOverviewService companyOverviewService;
-	private final CompaniesRepository companiesRepository;
+	private final CompanyIdentityCache companyIdentityCache;
 
 	@GetMapping("/{companyId}")
 	@Operation(
@@ -41,9 +46,10 @@ public class CompanyOverviewTempController {
 		@Parameter(description = "기업 ID 또는 종목 코드", example = "000020")
 		@PathVariable("companyId") String companyId,
 		@Parameter(description = "분기 키 (비어있으면 최신 분기 자동 조회, 예: 202401)", example = "202401")
-		@RequestParam(value = "quarterKey", required = false) String quarterKey
+		@RequestParam(value = "quarterKey", required = false) String quarterKey,
+		WebRequest webRequest
 	) {
-		return ResponseEntity.ok(ApiResponse.ok(fetchOverview(companyId, quarterKey)));
+		return fetchOverview(companyId, quarterKey, webRequest);
 	}
 
 	@GetMapping("/{companyId}/overview")
@@ -56,14 +62,33 @@ public class CompanyOverviewTempController {
 		@Parameter(description = "기업 ID 또는 종목 코드", example = "000020")
 		@PathVariable("companyId") String companyId,
 		@Parameter(description = "분기 키 (비어있으면 최신 분기 자동 조회, 예: 202401)", example = "202401")
-		@RequestParam(value = "quarterKey", required = false) String quarterKey
+		@RequestParam(value = "quarterKey", required = false) String quarterKey,
+		WebRequest webRequest
 	) {
-		return ResponseEntity.ok(ApiResponse.ok(fetchOverview(companyId, quarterKey)));
+		return fetchOverview(companyId, quarterKey, webRequest);
 	}
 
-	private CompanyOverviewResponseDto fetchOverview(String companyId, String quarterKey) {
+	/**
+	 * 개요 버전으로 ETag를 만들고, If-None-Match가 같으면 개요를 조립하지 않고 304로 응답한다.
+	 */
+	private ResponseEntity<ApiResponse<CompanyOverviewResponseDto>> fetchOverview(
+		String companyId,
+		String quarterKey,
+		WebRequest webRequest
+	) {
 		Long resolvedCompanyId = resolveCompanyId(companyId);
-		return companyOverviewService.getOverview(resolvedCompanyId, quarterKey);
+		CompanyOverviewService.OverviewVersion version = companyOverviewService.resolveVersion(resolvedCompanyId, quarterKey);
+		String eTag = version.toETag();
+		if (webRequest.checkNotModified(eTag)) {
+			return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+				.eTag(eTag)
+				.cacheControl(OVERVIEW_CACHE_CONTROL)
+				.build();
+		}
+		return ResponseEntity.ok()
+			.eTag(eTag)
+			.cacheControl(OVERVIEW_CACHE_CONTROL)
+			.body(ApiResponse.ok(companyOverviewService.getOverview(version)));
 	}
 
 	private Long resolveCompanyId(String companyIdOrCode) {
@@ -73,18 +98,18 @@ public class CompanyOverviewTempController {
 		String trimmed = companyIdOrCode.trim();
 		if (trimmed.chars().allMatch(Character::isDigit)) {
 			Long id = Long.parseLong(trimmed);
-			if (companiesRepository.existsById(id)) {
+			if (companyIdentityCache.find(id).isPresent()) {
 				return id;
 			}
 			if (trimmed.matches(STOCK_CODE_PATTERN)) {
-				return companiesRepository.findByStockCode(trimmed)
-					.map(CompaniesEntity::getId)
+				return companyIdentityCache.findByStockCode(trimmed)
+					.map(CompanyIdentity::id)
 					.orElseThrow(() -> new IllegalArgumentException("Company not found for stockCode: " + trimmed));
 			}
 			throw new IllegalArgumentException("Company not found for id: " + trimmed);
 		}
-		return companiesRepository.findByStockCode(trimmed)
-			.map(CompaniesEntity::getId)
+		return companyIdentityCache.findByStockCode(trimmed)
+			.map(CompanyIdentity::id)
 			.orElseThrow(() -> new IllegalArgumentException("Company not found for stockCode: " + trimmed));
 	}
 }
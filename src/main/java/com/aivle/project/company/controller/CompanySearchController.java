@@ -67,4 +67,16 @@ public class CompanySearchController {
 		List<CompanySearchResponse> response = companySearchService.search(searchKeyword);
 		return ResponseEntity.ok(ApiResponse.ok(response));
 	}
+
+	@GetMapping("/autocomplete")
+	@Operation(summary = "기업명 자동완성", description = "기업명/영문명/종목코드 앞부분·부분 일치와 한글 초성으로 기업을 추천합니다.")
+	public ResponseEntity<ApiResponse<List<CompanySearchResponse>>> autocompleteCompanies(
+		@Parameter(description = "입력 중인 키워드(초성 가능)", example = "ㅅㅅ")
+		@RequestParam(value = "query", required = false) String query,
+		@Parameter(description = "최대 결과 수(1~20, 기본 10)", example = "10")
+		@RequestParam(value = "limit", required = false) Integer limit
+	) {
+		List<CompanySearchResponse> response = companySearchService.autocomplete(query, limit);
+		return ResponseEntity.ok(ApiResponse.ok(response));
+	}
 }
@@ -0,0 +1,14 @@
+package com.aivle.project.company.dataversion;
+
+import java.util.Set;
+
+/**
+ * 기업 개요에 보이는 데이터(지표 값, 핵심 지표, 뉴스 분석, 식별 정보) 변경 이벤트.
+ * 변경한 쓰기 트랜잭션 안에서 발행한다.
+ */
+public record CompanyDataChangedEvent(Set<Long> companyIds) {
+
+	public static CompanyDataChangedEvent of(Long companyId) {
+		return new CompanyDataChangedEvent(Set.of(companyId));
+	}
+}
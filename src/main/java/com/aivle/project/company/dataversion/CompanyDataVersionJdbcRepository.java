@@ -0,0 +1,44 @@
+package com.aivle.project.company.dataversion;
+
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 기업별 데이터 버전 JDBC 저장소.
+ */
+@Repository
+@RequiredArgsConstructor
+public class CompanyDataVersionJdbcRepository {
+
+	private final JdbcTemplate jdbcTemplate;
+
+	/**
+	 * 기업별 데이터 버전을 1 올린다. 행이 없으면 버전 1로 만든다.
+	 * 잠금 순서를 맞추기 위해 기업 ID 오름차순으로 전달해야 한다.
+	 */
+	public void increment(List<Long> sortedCompanyIds) {
+		if (sortedCompanyIds == null || sortedCompanyIds.isEmpty()) {
+			return;
+		}
+		String sql = """
+			INSERT INTO company_data_versions (company_id, data_version, updated_at)
+			VALUES (?, 1, CURRENT_TIMESTAMP)
+			ON DUPLICATE KEY UPDATE
+				data_version = data_version + 1,
+				updated_at = CURRENT_TIMESTAMP
+			""";
+		jdbcTemplate.batchUpdate(sql, sortedCompanyIds, sortedCompanyIds.size(),
+			(ps, companyId) -> ps.setLong(1, companyId));
+	}
+
+	public long findVersion(Long companyId) {
+		List<Long> versions = jdbcTemplate.queryForList(
+			"SELECT data_version FROM company_data_versions WHERE company_id = ?",
+			Long.class,
+			companyId
+		);
+		return versions.isEmpty() ? 0L : versions.get(0);
+	}
+}
@@ -0,0 +1,102 @@
+package com.aivle.project.company.dataversion;
+
+import com.aivle.project.company.identity.CompanyIdentityChangedEvent;
+import com.aivle.project.company.repository.CompaniesRepository;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 기업별 데이터 버전 관리 서비스.
+ * 변경 이벤트를 받으면 같은 트랜잭션에서 버전을 올리고, 조회한 버전은 노드 로컬에 짧게 보관한다.
+ * 이 노드에서 올린 버전은 커밋 직후 캐시에서 제거되고, 다른 노드의 변경은 TTL 안에 반영된다.
+ */
+@Service
+@RequiredArgsConstructor
+public class CompanyDataVersionService {
+
+	private final CompanyDataVersionJdbcRepository companyDataVersionJdbcRepository;
+	private final CompaniesRepository companiesRepository;
+	private final ApplicationEventPublisher eventPublisher;
+
+	@Value("${app.company.data-version.cache-ttl-ms:5000}")
+	private long cacheTtlMs = 5_000L;
+
+	private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+	private final AtomicLong generation = new AtomicLong();
+
+	/**
+	 * 기업의 현재 데이터 버전을 반환한다. 한 번도 변경되지 않은 기업은 0이다.
+	 */
+	public long currentVersion(Long companyId) {
+		// 쓰기 트랜잭션에서는 커밋 전 버전일 수 있으므로 캐시를 거치지 않는다.
+		if (inWriteTransaction()) {
+			return companyDataVersionJdbcRepository.findVersion(companyId);
+		}
+		long now = System.currentTimeMillis();
+		Entry entry = entries.get(companyId);
+		if (entry != null && entry.expiresAt() > now) {
+			return entry.version();
+		}
+
+		long observedGeneration = generation.get();
+		long version = companyDataVersionJdbcRepository.findVersion(companyId);
+		Entry loaded = new Entry(version, now + cacheTtlMs);
+		if (generation.get() == observedGeneration) {
+			entries.put(companyId, loaded);
+			// 조회 도중 무효화가 끼어들었다면 이전 버전일 수 있으므로 되돌린다.
+			if (generation.get() != observedGeneration) {
+				entries.remove(companyId, loaded);
+			}
+		}
+		return version;
+	}
+
+	@EventListener
+	public void increment(CompanyDataChangedEvent event) {
+		List<Long> companyIds = event.companyIds().stream()
+			.filter(Objects::nonNull)
+			.sorted()
+			.toList();
+		companyDataVersionJdbcRepository.increment(companyIds);
+	}
+
+	/**
+	 * 기업명, 종목 코드, 업종이 바뀐 기업도 개요 응답이 달라지므로 버전을 올린다.
+	 */
+	@EventListener
+	public void onIdentityChanged(CompanyIdentityChangedEvent event) {
+		if (event.corpCodes() == null || event.corpCodes().isEmpty()) {
+			return;
+		}
+		List<Long> companyIds = companiesRepository.findIdsByCorpCodes(event.corpCodes());
+		if (!companyIds.isEmpty()) {
+			eventPublisher.publishEvent(new CompanyDataChangedEvent(Set.copyOf(companyIds)));
+		}
+	}
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void evict(CompanyDataChangedEvent event) {
+		generation.incrementAndGet();
+		event.companyIds().forEach(entries::remove);
+	}
+
+	private boolean inWriteTransaction() {
+		return TransactionSynchronizationManager.isActualTransactionActive()
+			&& !TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+	}
+
+	private record Entry(long version, long expiresAt) {
+	}
+}
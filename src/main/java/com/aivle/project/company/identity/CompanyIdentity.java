@@ -0,0 +1,15 @@
+package com.aivle.project.company.identity;
+
+/**
+ * 여러 서비스가 반복해서 조회하는 기업 식별 정보.
+ * 업종은 지연 로딩 연관이므로 조회 시점에 코드/이름까지 함께 풀어 둔다.
+ */
+public record CompanyIdentity(
+	Long id,
+	String stockCode,
+	String corpCode,
+	String corpName,
+	String industryCode,
+	String industryName
+) {
+}
@@ -0,0 +1,387 @@
+package com.aivle.project.company.identity;
+
+import com.aivle.project.company.repository.CompaniesRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 기업 식별 정보 2단계 캐시.
+ * 노드 로컬 LRU를 먼저 보고, 없으면 노드 간 공유 캐시(Redis), 마지막으로 DB를 조회한다.
+ * 트랜잭션 안에서 DB로 읽은 값은 같은 트랜잭션에서만 재사용하다가 커밋된 뒤에 공유 캐시에 올려
+ * 롤백된 기업이 캐시에 남지 않게 한다.
+ * 무효화 세대는 노드 로컬과 공유 캐시 양쪽에 두고, 공유 캐시에는 DB 조회 전에 본 세대가 그대로일 때만 쓴다.
+ * 그래서 다른 노드가 조회 도중 무효화했다면 이전 값이 공유 캐시에 다시 올라가지 않는다.
+ */
+@Slf4j
+@Component
+public class CompanyIdentityCache {
+
+	private static final String ID_KEY_PREFIX = "company:identity:id:";
+	private static final String STOCK_KEY_PREFIX = "company:identity:stock:";
+	private static final String CORP_KEY_PREFIX = "company:identity:corp:";
+	private static final String GENERATION_KEY = "company:identity:generation";
+	private static final DefaultRedisScript<Long> WRITE_IF_GENERATION_SCRIPT = new DefaultRedisScript<>(
+		"if (redis.call('get', KEYS[1]) or '') ~= ARGV[1] then " +
+		"    return 0 " +
+		"end " +
+		"redis.call('set', KEYS[2], ARGV[3], 'PX', ARGV[2]) " +
+		"for i = 3, #KEYS do " +
+		"    redis.call('set', KEYS[i], ARGV[4], 'PX', ARGV[2]) " +
+		"end " +
+		"return 1",
+		Long.class
+	);
+
+	private final CompaniesRepository companiesRepository;
+	private final CompanyIdentityCacheProperties properties;
+	private final StringRedisTemplate redisTemplate;
+	private final ObjectReader reader;
+	private final ObjectWriter writer;
+	private final LocalTier localTier;
+	private final AtomicLong generation = new AtomicLong();
+	private final Object pendingResourceKey = new Object();
+
+	public CompanyIdentityCache(
+		CompaniesRepository companiesRepository,
+		CompanyIdentityCacheProperties properties,
+		ObjectProvider<StringRedisTemplate> redisTemplateProvider,
+		ObjectProvider<ObjectMapper> objectMapperProvider
+	) {
+		this.companiesRepository = companiesRepository;
+		this.properties = properties;
+		this.redisTemplate = properties.isRedisEnabled() ? redisTemplateProvider.getIfAvailable() : null;
+		ObjectMapper objectMapper = objectMapperProvider.getIfAvailable(ObjectMapper::new);
+		this.reader = objectMapper.readerFor(CompanyIdentity.class);
+		this.writer = objectMapper.writerFor(CompanyIdentity.class);
+		this.localTier = new LocalTier(Math.max(1, properties.getLocalMaxEntries()));
+	}
+
+	/**
+	 * 기업 ID로 식별 정보를 찾는다.
+	 */
+	public Optional<CompanyIdentity> find(Long companyId) {
+		if (companyId == null) {
+			return Optional.empty();
+		}
+		PendingIdentities pending = currentPending();
+		if (pending != null && pending.byId.containsKey(companyId)) {
+			return Optional.of(pending.byId.get(companyId));
+		}
+		CompanyIdentity cached = localTier.get(companyId);
+		if (cached == null) {
+			cached = readShared(companyId);
+			if (cached != null) {
+				putLocal(cached);
+			}
+		}
+		if (cached != null) {
+			return Optional.of(cached);
+		}
+
+		PendingIdentities target = pending != null ? pending : createPending();
+		ObservedGeneration observed = target != null ? target.observed : observeGeneration();
+		Optional<CompanyIdentity> loaded = companiesRepository.findIdentityById(companyId);
+		loaded.ifPresent(identity -> remember(identity, target, observed));
+		return loaded;
+	}
+
+	/**
+	 * 종목 코드로 식별 정보를 찾는다.
+	 */
+	public Optional<CompanyIdentity> findByStockCode(String stockCode) {
+		if (stockCode == null || stockCode.isBlank()) {
+			return Optional.empty();
+		}
+		PendingIdentities pending = currentPending();
+		if (pending != null && pending.byStockCode.containsKey(stockCode)) {
+			return Optional.of(pending.byStockCode.get(stockCode));
+		}
+		CompanyIdentity cached = matchStockCode(localTier.get(localTier.idOf(stockCode)), stockCode);
+		if (cached == null) {
+			cached = matchStockCode(readShared(readSharedId(stockCode)), stockCode);
+			if (cached != null) {
+				putLocal(cached);
+			}
+		}
+		if (cached != null) {
+			return Optional.of(cached);
+		}
+
+		PendingIdentities target = pending != null ? pending : createPending();
+		ObservedGeneration observed = target != null ? target.observed : observeGeneration();
+		Optional<CompanyIdentity> loaded = companiesRepository.findIdentityByStockCode(stockCode);
+		loaded.ifPresent(identity -> remember(identity, target, observed));
+		return loaded;
+	}
+
+	/**
+	 * 법인 코드 기준으로 캐시된 식별 정보를 제거한다.
+	 * 종목 코드 색인은 남겨 두되, 조회 시 식별 정보의 종목 코드와 다르면 미스로 처리한다.
+	 */
+	public void evictByCorpCodes(Collection<String> corpCodes) {
+		if (corpCodes == null || corpCodes.isEmpty()) {
+			return;
+		}
+		generation.incrementAndGet();
+		localTier.removeIf(identity -> corpCodes.contains(identity.corpCode()));
+		if (redisTemplate == null) {
+			return;
+		}
+		try {
+			// 다른 노드에서 이미 DB를 읽은 조회가 이전 값을 공유 캐시에 쓰지 못하도록 세대를 먼저 올린다.
+			redisTemplate.opsForValue().increment(GENERATION_KEY);
+			List<String> corpKeys = corpCodes.stream().map(corpCode -> CORP_KEY_PREFIX + corpCode).toList();
+			List<String> ids = redisTemplate.opsForValue().multiGet(corpKeys);
+			List<String> keys = new ArrayList<>(corpKeys);
+			if (ids != null) {
+				ids.stream().filter(Objects::nonNull).forEach(id -> keys.add(ID_KEY_PREFIX + id));
+			}
+			redisTemplate.delete(keys);
+		} catch (Exception e) {
+			log.warn("Failed to evict company identities: corpCodes={}", corpCodes.size(), e);
+		}
+	}
+
+	private void remember(CompanyIdentity identity, PendingIdentities pending, ObservedGeneration observed) {
+		if (pending != null) {
+			pending.put(identity);
+			return;
+		}
+		publish(identity, observed);
+	}
+
+	private void publish(CompanyIdentity identity, ObservedGeneration observed) {
+		// 조회 도중 무효화가 일어났다면 이전 값일 수 있으므로 캐시에 올리지 않는다.
+		if (generation.get() != observed.local()) {
+			return;
+		}
+		putLocal(identity);
+		writeShared(identity, observed.shared());
+	}
+
+	/**
+	 * DB 조회 전에 로컬·공유 무효화 세대를 읽어 둔다.
+	 * 공유 세대를 읽지 못하면 null로 두어 공유 캐시에 쓰지 않는다.
+	 */
+	private ObservedGeneration observeGeneration() {
+		long local = generation.get();
+		if (redisTemplate == null) {
+			return new ObservedGeneration(local, null);
+		}
+		try {
+			String shared = redisTemplate.opsForValue().get(GENERATION_KEY);
+			return new ObservedGeneration(local, shared == null ? "" : shared);
+		} catch (Exception e) {
+			log.warn("Failed to read company identity generation", e);
+			return new ObservedGeneration(local, null);
+		}
+	}
+
+	private void putLocal(CompanyIdentity identity) {
+		Duration localTtl = properties.getLocalTtl();
+		if (localTtl == null || localTtl.isZero() || localTtl.isNegative()) {
+			return;
+		}
+		localTier.put(identity, System.currentTimeMillis() + localTtl.toMillis());
+	}
+
+	private CompanyIdentity matchStockCode(CompanyIdentity identity, String stockCode) {
+		return identity != null && stockCode.equals(identity.stockCode()) ? identity : null;
+	}
+
+	private PendingIdentities currentPending() {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			return null;
+		}
+		return (PendingIdentities) TransactionSynchronizationManager.getResource(pendingResourceKey);
+	}
+
+	private PendingIdentities createPending() {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			return null;
+		}
+		PendingIdentities pending = new PendingIdentities(observeGeneration());
+		TransactionSynchronizationManager.bindResource(pendingResourceKey, pending);
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				pending.byId.values().forEach(identity -> publish(identity, pending.observed));
+			}
+
+			@Override
+			public void afterCompletion(int status) {
+				TransactionSynchronizationManager.unbindResourceIfPossible(pendingResourceKey);
+			}
+		});
+		return pending;
+	}
+
+	private CompanyIdentity readShared(Long companyId) {
+		if (redisTemplate == null || companyId == null) {
+			return null;
+		}
+		try {
+			String json = redisTemplate.opsForValue().get(ID_KEY_PREFIX + companyId);
+			return json == null ? null : reader.readValue(json);
+		} catch (Exception e) {
+			log.warn("Failed to read company identity: companyId={}", companyId, e);
+			return null;
+		}
+	}
+
+	private Long readSharedId(String stockCode) {
+		if (redisTemplate == null) {
+			return null;
+		}
+		try {
+			String id = redisTemplate.opsForValue().get(STOCK_KEY_PREFIX + stockCode);
+			return id == null ? null : Long.valueOf(id);
+		} catch (Exception e) {
+			log.warn("Failed to read company identity index: stockCode={}", stockCode, e);
+			return null;
+		}
+	}
+
+	private void writeShared(CompanyIdentity identity, String observedSharedGeneration) {
+		if (redisTemplate == null || observedSharedGeneration == null) {
+			return;
+		}
+		try {
+			String id = String.valueOf(identity.id());
+			List<String> keys = new ArrayList<>(List.of(GENERATION_KEY, ID_KEY_PREFIX + id));
+			if (identity.stockCode() != null) {
+				keys.add(STOCK_KEY_PREFIX + identity.stockCode());
+			}
+			if (identity.corpCode() != null) {
+				keys.add(CORP_KEY_PREFIX + identity.corpCode());
+			}
+			redisTemplate.execute(
+				WRITE_IF_GENERATION_SCRIPT,
+				keys,
+				observedSharedGeneration,
+				String.valueOf(properties.getRedisTtl().toMillis()),
+				writer.writeValueAsString(identity),
+				id
+			);
+		} catch (Exception e) {
+			log.warn("Failed to write company identity: companyId={}", identity.id(), e);
+		}
+	}
+
+	/**
+	 * 트랜잭션 안에서 DB로 읽은 식별 정보. 커밋 전까지 같은 트랜잭션에서만 보인다.
+	 */
+	private static final class PendingIdentities {
+
+		private final ObservedGeneration observed;
+		private final Map<Long, CompanyIdentity> byId = new HashMap<>();
+		private final Map<String, CompanyIdentity> byStockCode = new HashMap<>();
+
+		private PendingIdentities(ObservedGeneration observed) {
+			this.observed = observed;
+		}
+
+		private void put(CompanyIdentity identity) {
+			byId.put(identity.id(), identity);
+			if (identity.stockCode() != null) {
+				byStockCode.put(identity.stockCode(), identity);
+			}
+		}
+	}
+
+	/**
+	 * 접근 순서 기준 LRU. 종목 코드 색인은 ID 항목과 함께 제거된다.
+	 */
+	private static final class LocalTier {
+
+		private final Map<Long, LocalEntry> entries;
+		private final Map<String, Long> stockCodeIndex = new HashMap<>();
+
+		private LocalTier(int maxEntries) {
+			this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+				@Override
+				protected boolean removeEldestEntry(Map.Entry<Long, LocalEntry> eldest) {
+					if (size() <= maxEntries) {
+						return false;
+					}
+					unindex(eldest.getValue().identity());
+					return true;
+				}
+			};
+		}
+
+		private synchronized CompanyIdentity get(Long companyId) {
+			if (companyId == null) {
+				return null;
+			}
+			LocalEntry entry = entries.get(companyId);
+			if (entry == null) {
+				return null;
+			}
+			if (entry.expiresAt() <= System.currentTimeMillis()) {
+				entries.remove(companyId);
+				unindex(entry.identity());
+				return null;
+			}
+			return entry.identity();
+		}
+
+		private synchronized Long idOf(String stockCode) {
+			return stockCodeIndex.get(stockCode);
+		}
+
+		private synchronized void put(CompanyIdentity identity, long expiresAt) {
+			LocalEntry previous = entries.put(identity.id(), new LocalEntry(identity, expiresAt));
+			if (previous != null) {
+				unindex(previous.identity());
+			}
+			if (identity.stockCode() != null) {
+				stockCodeIndex.put(identity.stockCode(), identity.id());
+			}
+		}
+
+		private synchronized void removeIf(Predicate<CompanyIdentity> filter) {
+			entries.values().removeIf(entry -> {
+				if (!filter.test(entry.identity())) {
+					return false;
+				}
+				unindex(entry.identity());
+				return true;
+			});
+		}
+
+		private void unindex(CompanyIdentity identity) {
+			if (identity.stockCode() != null) {
+				stockCodeIndex.remove(identity.stockCode(), identity.id());
+			}
+		}
+	}
+
+	private record LocalEntry(CompanyIdentity identity, long expiresAt) {
+	}
+
+	/**
+	 * DB 조회 전에 본 무효화 세대. shared가 빈 문자열이면 공유 세대가 아직 없다는 뜻이다.
+	 */
+	private record ObservedGeneration(long local, String shared) {
+	}
+}
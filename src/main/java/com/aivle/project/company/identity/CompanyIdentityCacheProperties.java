@@ -0,0 +1,65 @@
+package com.aivle.project.company.identity;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 기업 식별 정보 캐시 설정.
+ */
+@Component
+@ConfigurationProperties(prefix = "app.company.identity-cache")
+public class CompanyIdentityCacheProperties {
+
+	/**
+	 * 노드 로컬 캐시 최대 항목 수. 넘치면 가장 오래 조회되지 않은 기업부터 제거한다.
+	 */
+	private int localMaxEntries = 5_000;
+
+	/**
+	 * 노드 로컬 캐시 보관 기간. 다른 노드에서 일어난 변경은 이 기간 안에 반영된다.
+	 */
+	private Duration localTtl = Duration.ofMinutes(5);
+
+	/**
+	 * 노드 간 공유 캐시(Redis) 사용 여부.
+	 */
+	private boolean redisEnabled = true;
+
+	/**
+	 * 공유 캐시 보관 기간.
+	 */
+	private Duration redisTtl = Duration.ofHours(6);
+
+	public int getLocalMaxEntries() {
+		return localMaxEntries;
+	}
+
+	public void setLocalMaxEntries(int localMaxEntries) {
+		this.localMaxEntries = localMaxEntries;
+	}
+
+	public Duration getLocalTtl() {
+		return localTtl;
+	}
+
+	public void setLocalTtl(Duration localTtl) {
+		this.localTtl = localTtl;
+	}
+
+	public boolean isRedisEnabled() {
+		return redisEnabled;
+	}
+
+	public void setRedisEnabled(boolean redisEnabled) {
+		this.redisEnabled = redisEnabled;
+	}
+
+	public Duration getRedisTtl() {
+		return redisTtl;
+	}
+
+	public void setRedisTtl(Duration redisTtl) {
+		this.redisTtl = redisTtl;
+	}
+}
@@ -0,0 +1,9 @@
+package com.aivle.project.company.identity;
+
+import java.util.Set;
+
+/**
+ * 기업 식별 정보(기업명, 종목 코드, 업종) 변경 이벤트.
+ */
+public record CompanyIdentityChangedEvent(Set<String> corpCodes) {
+}
@@ -0,0 +1,21 @@
+package com.aivle.project.company.identity;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 커밋된 기업 식별 정보 변경을 식별 정보 캐시에서 제거한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class CompanyIdentityInvalidationListener {
+
+	private final CompanyIdentityCache companyIdentityCache;
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void onIdentityChanged(CompanyIdentityChangedEvent event) {
+		companyIdentityCache.evictByCorpCodes(event.corpCodes());
+	}
+}
@@ -12,6 +12,8 @@ import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -35,12 +37,20 @@ public class CompanyInsightController {
 
 	private final CompanyInsightService companyInsightService;
 
+	// refresh=true 요청은 이 모드와 관계없이 동기로 재수집한다.
+	@Value("${app.company.insight.stale-while-revalidate.enabled:true}")
+	private boolean staleWhileRevalidate = true;
+
+	@Value("${app.company.insight.processing-retry-after-seconds:3}")
+	private long processingRetryAfterSeconds = 3L;
+
 	@GetMapping("/{companyId}/insights")
 	@Operation(summary = "기업 인사이트 조회", description = "기업의 최신 뉴스와 사업보고서 인사이트를 조회합니다.")
 	@SecurityRequirement(name = "bearerAuth")
 	@ApiResponses({
 		@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "인사이트 조회 성공",
 			content = @Content(schema = @Schema(implementation = com.aivle.project.common.dto.ApiResponse.class))),
+		@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "202", description = "인사이트 생성 중 (Retry-After 이후 재조회)"),
 		@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "인증 실패"),
 		@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "기업을 찾을 수 없음")
 	})
@@ -63,18 +73,31 @@ public class CompanyInsightController {
 		int resolvedReportPage = normalizePage(reportPage, DEFAULT_REPORT_PAGE);
 		int resolvedReportSize = normalizeSize(reportSize, DEFAULT_REPORT_SIZE);
 
-		com.aivle.project.common.error.ExternalAiUnavailableException externalFailure =
-			companyInsightService.ensureInsightData(companyId, refresh);
-		CompanyInsightService.InsightResult result = companyInsightService.loadInsights(
-			companyId,
-			resolvedNewsPage,
-			resolvedNewsSize,
-			resolvedReportPage,
-			resolvedReportSize,
-			externalFailure
-		);
+		CompanyInsightService.InsightResult result;
+		if (staleWhileRevalidate && !refresh) {
+			result = companyInsightService.getInsightsStaleWhileRevalidate(
+				companyId,
+				resolvedNewsPage,
+				resolvedNewsSize,
+				resolvedReportPage,
+				resolvedReportSize
+			);
+		} else {
+			com.aivle.project.common.error.ExternalAiUnavailableException externalFailure =
+				companyInsightService.ensureInsightData(companyId, refresh);
+			result = companyInsightService.loadInsights(
+				companyId,
+				resolvedNewsPage,
+				resolvedNewsSize,
+				resolvedReportPage,
+				resolvedReportSize,
+				externalFailure
+			);
+		}
 		if (result.processing()) {
-			return ResponseEntity.accepted().body(ApiResponse.fail(
+			return ResponseEntity.accepted()
+				.header(HttpHeaders.RETRY_AFTER, String.valueOf(processingRetryAfterSeconds))
+				.body(ApiResponse.fail(
 				com.aivle.project.common.error.ErrorResponse.of(
 					"INSIGHT_PROCESSING",
 					"인사이트 데이터 생성 중입니다. 잠시 후 다시 시도해 주세요.",
@@ -1,9 +1,11 @@
 package com.aivle.project.company.insight.service;
 
-import com.aivle.project.company.entity.CompaniesEntity;
 import com.aivle.project.company.insight.dto.CompanyInsightDto;
 import com.aivle.project.company.insight.dto.CompanyInsightType;
+import com.aivle.project.company.identity.CompanyIdentity;
+import com.aivle.project.company.identity.CompanyIdentityCache;
 import com.aivle.project.common.error.ExternalAiUnavailableException;
+import com.aivle.project.common.transaction.ShortTransactionRunner;
 import com.aivle.project.company.news.entity.NewsAnalysisEntity;
 import com.aivle.project.company.news.entity.NewsArticleEntity;
 import com.aivle.project.company.news.repository.NewsAnalysisRepository;
@@ -14,13 +16,23 @@ import com.aivle.project.company.reportanalysis.entity.ReportContentEntity;
 import com.aivle.project.company.reportanalysis.repository.ReportAnalysisRepository;
 import com.aivle.project.company.reportanalysis.repository.ReportContentRepository;
 import com.aivle.project.company.reportanalysis.service.ReportAnalysisService;
-import com.aivle.project.company.repository.CompaniesRepository;
 import com.aivle.project.company.service.CompanyReputationScoreService;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.util.List;
 import java.util.Optional;
-import lombok.RequiredArgsConstructor;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
@@ -31,10 +43,13 @@ import org.springframework.transaction.annotation.Transactional;
  */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class CompanyInsightService {
 
-	private final CompaniesRepository companiesRepository;
+	private static final String BRANCH_NEWS = "news";
+	private static final String BRANCH_REPORT = "report";
+	private static final String BRANCH_REPUTATION = "reputation";
+
+	private final CompanyIdentityCache companyIdentityCache;
 	private final NewsAnalysisRepository newsAnalysisRepository;
 	private final NewsArticleRepository newsArticleRepository;
 	private final ReportAnalysisRepository reportAnalysisRepository;
@@ -42,11 +57,45 @@ public class CompanyInsightService {
 	private final NewsService newsService;
 	private final ReportAnalysisService reportAnalysisService;
 	private final CompanyReputationScoreService companyReputationScoreService;
+	private final ShortTransactionRunner shortTransactionRunner;
+	private final Executor insightExecutor;
+	private final InsightBackgroundRefresher insightBackgroundRefresher;
+
+	@Value("${app.company.insight.fanout-deadline-ms:30000}")
+	private long fanoutDeadlineMs = 30_000L;
+
+	@Value("${app.company.insight.freshness-ms:600000}")
+	private long freshnessMs = 600_000L;
+
+	public CompanyInsightService(
+		CompanyIdentityCache companyIdentityCache,
+		NewsAnalysisRepository newsAnalysisRepository,
+		NewsArticleRepository newsArticleRepository,
+		ReportAnalysisRepository reportAnalysisRepository,
+		ReportContentRepository reportContentRepository,
+		NewsService newsService,
+		ReportAnalysisService reportAnalysisService,
+		CompanyReputationScoreService companyReputationScoreService,
+		ShortTransactionRunner shortTransactionRunner,
+		@Qualifier("insightExecutor") Executor insightExecutor,
+		InsightBackgroundRefresher insightBackgroundRefresher
+	) {
+		this.companyIdentityCache = companyIdentityCache;
+		this.newsAnalysisRepository = newsAnalysisRepository;
+		this.newsArticleRepository = newsArticleRepository;
+		this.reportAnalysisRepository = reportAnalysisRepository;
+		this.reportContentRepository = reportContentRepository;
+		this.newsService = newsService;
+		this.reportAnalysisService = reportAnalysisService;
+		this.companyReputationScoreService = companyReputationScoreService;
+		this.shortTransactionRunner = shortTransactionRunner;
+		this.insightExecutor = insightExecutor;
+		this.insightBackgroundRefresher = insightBackgroundRefresher;
+	}
 
 	/**
 	 * 쓰기/조회 통합 경로 (하위 호환용).
 	 */
-	@Transactional
 	public InsightResult getInsights(
 		Long companyId,
 		int newsPage,
@@ -56,17 +105,70 @@ public class CompanyInsightService {
 		boolean refresh
 	) {
 		CompanyIdentity companyIdentity = resolveCompanyIdentity(companyId);
-		ExternalAiUnavailableException externalFailure = ensureInsightData(companyIdentity, refresh);
-		return loadInsights(companyId, newsPage, newsSize, reportPage, reportSize, externalFailure);
+		ExternalAiUnavailableException externalFailure = fetchInsightData(companyIdentity, refresh).externalFailure();
+		return shortTransactionRunner.read(
+			"CompanyInsightService.loadInsights",
+			() -> loadInsights(companyId, newsPage, newsSize, reportPage, reportSize, externalFailure)
+		);
+	}
+
+	/**
+	 * stale-while-revalidate 조회 경로. AI 응답을 기다리지 않는다.
+	 * 저장된 인사이트가 있으면 바로 반환하고, 신선도 기간이 지난 뉴스·보고서만 백그라운드에서 다시 수집한다.
+	 * 뉴스·보고서 분석이 한 건도 없으면 수집을 요청하고, 수집이 진행 중인 동안만 processing 결과를 반환하되,
+	 * 직전 백그라운드 수집이 AI 장애로 끝났으면 그 장애를 던진다.
+	 * 분석은 있지만 기사가 없거나 요청한 페이지가 범위를 벗어나 목록이 비어 있으면 빈 결과를 그대로 반환한다.
+	 */
+	public InsightResult getInsightsStaleWhileRevalidate(
+		Long companyId,
+		int newsPage,
+		int newsSize,
+		int reportPage,
+		int reportSize
+	) {
+		CompanyIdentity companyIdentity = resolveCompanyIdentity(companyId);
+		StoredInsights stored = shortTransactionRunner.read(
+			"CompanyInsightService.loadStoredInsights",
+			() -> loadStoredInsights(companyId, newsPage, newsSize, reportPage, reportSize)
+		);
+		if (!stored.hasAnalysis()) {
+			boolean started = insightBackgroundRefresher.trigger(
+				companyId,
+				() -> throwIfFailed(fetchInsightData(companyIdentity, false))
+			);
+			insightBackgroundRefresher.lastFailure(companyId).ifPresent(failure -> {
+				throw failure;
+			});
+			boolean processing = started || insightBackgroundRefresher.isInFlight(companyId);
+			return new InsightResult(List.of(), null, processing);
+		}
+		LocalDateTime freshAfter = LocalDateTime.now(ZoneOffset.UTC).minus(Duration.ofMillis(freshnessMs));
+		boolean newsStale = stored.isNewsStale(freshAfter);
+		boolean reportStale = stored.isReportStale(freshAfter);
+		if (newsStale || reportStale) {
+			insightBackgroundRefresher.trigger(
+				companyId,
+				() -> throwIfFailed(fetchInsightData(companyIdentity, newsStale, reportStale, true))
+			);
+		}
+		return stored.result();
 	}
 
 	/**
-	 * 인사이트 생성/갱신 단계 (쓰기 트랜잭션).
+	 * 인사이트 생성/갱신 단계.
+	 * 트랜잭션을 열지 않으며, 외부 수집 결과는 각 서비스가 짧은 쓰기 트랜잭션으로 저장한다.
 	 */
-	@Transactional
 	public ExternalAiUnavailableException ensureInsightData(Long companyId, boolean refresh) {
+		return fetchInsightData(companyId, refresh).externalFailure();
+	}
+
+	/**
+	 * 뉴스, 보고서, 평판 점수 수집을 동시에 실행하고 하나의 마감 시간 안에서 기다린다.
+	 * 반환값에는 먼저 발생한 AI 장애와 수집별 소요 시간(ms)이 담긴다.
+	 */
+	public InsightFetchResult fetchInsightData(Long companyId, boolean refresh) {
 		CompanyIdentity companyIdentity = resolveCompanyIdentity(companyId);
-		return ensureInsightData(companyIdentity, refresh);
+		return fetchInsightData(companyIdentity, refresh);
 	}
 
 	/**
@@ -80,6 +182,20 @@ public class CompanyInsightService {
 		int reportPage,
 		int reportSize,
 		ExternalAiUnavailableException externalFailure
+	) {
+		InsightResult result = loadStoredInsights(companyId, newsPage, newsSize, reportPage, reportSize).result();
+		if (result.items().isEmpty() && externalFailure != null) {
+			throw externalFailure;
+		}
+		return result;
+	}
+
+	private StoredInsights loadStoredInsights(
+		Long companyId,
+		int newsPage,
+		int newsSize,
+		int reportPage,
+		int reportSize
 	) {
 		Optional<ReportAnalysisEntity> latestReportOpt = reportAnalysisRepository
 			.findTopByCompanyIdOrderByAnalyzedAtDesc(companyId);
@@ -137,104 +253,208 @@ public class CompanyInsightService {
 			}
 		}
 
-		if (items.isEmpty() && externalFailure != null) {
-			throw externalFailure;
-		}
-		return new InsightResult(items, latestNews != null ? latestNews.getAverageScore() : null, false);
+		InsightResult result = new InsightResult(items, latestNews != null ? latestNews.getAverageScore() : null, false);
+		return new StoredInsights(
+			result,
+			latestNews != null || latestReport != null,
+			latestNews != null ? latestNews.getAnalyzedAt() : null,
+			latestReport != null ? latestReport.getAnalyzedAt() : null
+		);
 	}
 
 	private CompanyIdentity resolveCompanyIdentity(Long companyId) {
-		CompaniesEntity company = companiesRepository.findById(companyId)
+		CompanyIdentity company = companyIdentityCache.find(companyId)
 			.orElseThrow(() -> new IllegalArgumentException("Company not found for id: " + companyId));
-		String stockCode = company.getStockCode();
+		String stockCode = company.stockCode();
 		if (stockCode == null || stockCode.isBlank()) {
 			throw new IllegalArgumentException("Company has no stockCode: " + companyId);
 		}
-		return new CompanyIdentity(companyId, stockCode);
+		return company;
+	}
+
+	private InsightFetchResult fetchInsightData(CompanyIdentity companyIdentity, boolean refresh) {
+		Long companyId = companyIdentity.id();
+		boolean fetchNews = refresh || !hasStoredNews(companyId);
+		boolean fetchReport = refresh || !hasStoredReport(companyId);
+		return fetchInsightData(companyIdentity, fetchNews, fetchReport, refresh);
 	}
 
-	private ExternalAiUnavailableException ensureInsightData(CompanyIdentity companyIdentity, boolean refresh) {
-		Long companyId = companyIdentity.companyId();
+	private InsightFetchResult fetchInsightData(
+		CompanyIdentity companyIdentity,
+		boolean fetchNews,
+		boolean fetchReport,
+		boolean refresh
+	) {
+		Long companyId = companyIdentity.id();
 		String stockCode = companyIdentity.stockCode();
-		ExternalAiUnavailableException externalFailure = null;
+		long startedAt = System.nanoTime();
+		long deadline = startedAt + TimeUnit.MILLISECONDS.toNanos(fanoutDeadlineMs);
+		Map<String, Long> branchElapsedMs = new ConcurrentHashMap<>();
 
+		// 뉴스와 보고서는 논블로킹 클라이언트로 함께 보내고, 각 결과는 도착하는 대로 짧은 트랜잭션으로 저장된다.
+		CompletableFuture<?> newsFetch = fetchNews
+			? timed(BRANCH_NEWS, newsService.refreshLatestNewsAsync(stockCode).toFuture(), startedAt, branchElapsedMs)
+			: CompletableFuture.completedFuture(null);
+		CompletableFuture<?> reportFetch = fetchReport
+			? timed(BRANCH_REPORT, reportAnalysisService.fetchAndStoreReportAsync(stockCode).toFuture(), startedAt, branchElapsedMs)
+			: CompletableFuture.completedFuture(null);
+		// 마감 시간을 넘긴 수집은 기다리지 않지만 취소하지 않으므로, 늦게 도착한 결과도 저장된다.
+		String phase = refresh ? "강제 갱신" : "조회";
+		ExternalAiUnavailableException externalFailure = null;
 		if (refresh) {
-			try {
-				newsService.refreshLatestNews(stockCode);
-			} catch (ExternalAiUnavailableException ex) {
-				externalFailure = ex;
-				log.warn("인사이트 강제 갱신 중 뉴스 수집 실패: companyId={}, stockCode={}, reasonCode={}",
-					companyId, stockCode, ex.getReasonCode());
-			}
-			try {
-				reportAnalysisService.fetchAndStoreReport(stockCode);
-			} catch (ExternalAiUnavailableException ex) {
-				if (externalFailure == null) {
-					externalFailure = ex;
-				}
-				log.warn("인사이트 강제 갱신 중 보고서 수집 실패: companyId={}, stockCode={}, reasonCode={}",
-					companyId, stockCode, ex.getReasonCode());
-			}
+			externalFailure = awaitBranch(newsFetch, BRANCH_NEWS, deadline, externalFailure, phase, companyId, stockCode);
+			externalFailure = syncReputationAfterNews(newsFetch, companyIdentity, startedAt, branchElapsedMs, deadline, externalFailure, phase);
+			externalFailure = awaitBranch(reportFetch, BRANCH_REPORT, deadline, externalFailure, phase, companyId, stockCode);
+		} else {
+			externalFailure = awaitBranch(reportFetch, BRANCH_REPORT, deadline, externalFailure, phase, companyId, stockCode);
+			externalFailure = awaitBranch(newsFetch, BRANCH_NEWS, deadline, externalFailure, phase, companyId, stockCode);
+			externalFailure = syncReputationAfterNews(newsFetch, companyIdentity, startedAt, branchElapsedMs, deadline, externalFailure, phase);
 		}
+		return new InsightFetchResult(externalFailure, Map.copyOf(branchElapsedMs));
+	}
 
+	private boolean hasStoredReport(Long companyId) {
 		Optional<ReportAnalysisEntity> latestReportOpt = reportAnalysisRepository
 			.findTopByCompanyIdOrderByAnalyzedAtDesc(companyId);
+		if (latestReportOpt.isPresent() && reportContentRepository.existsByReportAnalysisId(latestReportOpt.get().getId())) {
+			return true;
+		}
+		return reportContentRepository.findTopByReportAnalysisCompanyIdOrderByPublishedAtDesc(companyId).isPresent();
+	}
+
+	private boolean hasStoredNews(Long companyId) {
 		Optional<NewsAnalysisEntity> latestNewsOpt = newsAnalysisRepository
 			.findTopByCompanyIdOrderByAnalyzedAtDesc(companyId);
+		if (latestNewsOpt.isPresent() && newsArticleRepository.existsByNewsAnalysisId(latestNewsOpt.get().getId())) {
+			return true;
+		}
+		return newsArticleRepository.findTopByNewsAnalysisCompanyIdOrderByPublishedAtDesc(companyId).isPresent();
+	}
 
-		boolean hasReport = latestReportOpt.isPresent()
-			&& reportContentRepository.existsByReportAnalysisId(latestReportOpt.get().getId());
-		boolean hasNews = latestNewsOpt.isPresent()
-			&& newsArticleRepository.existsByNewsAnalysisId(latestNewsOpt.get().getId());
+	private CompletableFuture<?> timed(
+		String branch,
+		CompletableFuture<?> fetch,
+		long startedAt,
+		Map<String, Long> branchElapsedMs
+	) {
+		return fetch.whenComplete((result, failure) ->
+			branchElapsedMs.put(branch, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt)));
+	}
 
-		if (!hasReport) {
-			hasReport = reportContentRepository.findTopByReportAnalysisCompanyIdOrderByPublishedAtDesc(companyId).isPresent();
-		}
-		if (!hasNews) {
-			hasNews = newsArticleRepository.findTopByNewsAnalysisCompanyIdOrderByPublishedAtDesc(companyId).isPresent();
+	/**
+	 * 평판 점수는 최신 뉴스 점수를 반영하므로 뉴스 수집이 끝난 뒤(실패 포함) 동기화한다.
+	 * 백그라운드 갱신은 insightExecutor 작업 안에서 이 메서드를 부르므로, 같은 실행기에 넣고 기다리면
+	 * 풀이 가득 찼을 때 서로를 기다리게 된다. 그래서 뉴스를 기다리던 스레드에서 바로 실행한다.
+	 */
+	private ExternalAiUnavailableException syncReputationAfterNews(
+		CompletableFuture<?> newsFetch,
+		CompanyIdentity companyIdentity,
+		long startedAt,
+		Map<String, Long> branchElapsedMs,
+		long deadline,
+		ExternalAiUnavailableException externalFailure,
+		String phase
+	) {
+		Long companyId = companyIdentity.id();
+		String stockCode = companyIdentity.stockCode();
+		Runnable sync = () -> companyReputationScoreService.syncExternalHealthScoreIfPresent(companyId, stockCode);
+		if (!newsFetch.isDone()) {
+			// 마감 안에 뉴스가 오지 않았으면 기다리지 않고, 늦게 도착한 뒤 실행기에서 동기화만 한다.
+			newsFetch.whenComplete((result, failure) -> executeOnInsightExecutor(sync));
+			return externalFailure;
 		}
+		CompletableFuture<?> reputationSync = timed(
+			BRANCH_REPUTATION,
+			CompletableFuture.runAsync(sync, Runnable::run),
+			startedAt,
+			branchElapsedMs
+		);
+		return awaitBranch(reputationSync, BRANCH_REPUTATION, deadline, externalFailure, phase, companyId, stockCode);
+	}
 
-		if (!hasReport) {
-			try {
-				reportAnalysisService.fetchAndStoreReport(stockCode);
-			} catch (ExternalAiUnavailableException ex) {
-				if (externalFailure == null) {
-					externalFailure = ex;
-				}
-				log.warn("인사이트 조회 중 보고서 수집 실패: companyId={}, stockCode={}, reasonCode={}",
-					companyId, stockCode, ex.getReasonCode());
-			}
+	// 백그라운드 갱신기가 AI 장애를 기업별로 기억하도록 예외로 알린다.
+	private void throwIfFailed(InsightFetchResult fetchResult) {
+		if (fetchResult.externalFailure() != null) {
+			throw fetchResult.externalFailure();
 		}
-		if (!hasNews) {
-			try {
-				newsService.refreshLatestNews(stockCode);
-			} catch (ExternalAiUnavailableException ex) {
-				if (externalFailure == null) {
-					externalFailure = ex;
-				}
-				log.warn("인사이트 조회 중 뉴스 수집 실패: companyId={}, stockCode={}, reasonCode={}",
-					companyId, stockCode, ex.getReasonCode());
-			}
+	}
+
+	// 실행기가 가득 차면 뉴스 수집을 마친 스레드에서 그대로 동기화한다.
+	private void executeOnInsightExecutor(Runnable task) {
+		try {
+			insightExecutor.execute(task);
+		} catch (RejectedExecutionException e) {
+			task.run();
 		}
+	}
+
+	/**
+	 * 남은 마감 시간 안에서 수집 결과를 기다린다.
+	 * AI 장애와 마감 초과는 먼저 발생한 것만 남기고, 그 밖의 예외는 그대로 던진다.
+	 */
+	private ExternalAiUnavailableException awaitBranch(
+		CompletableFuture<?> fetch,
+		String branch,
+		long deadline,
+		ExternalAiUnavailableException externalFailure,
+		String phase,
+		Long companyId,
+		String stockCode
+	) {
+		ExternalAiUnavailableException failure;
 		try {
-			companyReputationScoreService.syncExternalHealthScoreIfPresent(companyId, stockCode);
-		} catch (ExternalAiUnavailableException ex) {
-			if (externalFailure == null) {
-				externalFailure = ex;
+			fetch.get(Math.max(0L, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+			return externalFailure;
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof ExternalAiUnavailableException ex) {
+				failure = ex;
+			} else if (e.getCause() instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			} else if (e.getCause() instanceof Error error) {
+				throw error;
+			} else {
+				throw new IllegalStateException(e.getCause());
 			}
-			log.warn("인사이트 조회 중 평판 점수 동기화 실패: companyId={}, stockCode={}, reasonCode={}",
-				companyId, stockCode, ex.getReasonCode());
+		} catch (TimeoutException e) {
+			failure = new ExternalAiUnavailableException("인사이트 수집 마감 시간 초과: " + branch, "AI_TIMEOUT", e);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			failure = new ExternalAiUnavailableException("인사이트 수집 대기 중단: " + branch, "AI_TIMEOUT", e);
 		}
-		return externalFailure;
+		log.warn("인사이트 {} 중 {} 실패: companyId={}, stockCode={}, reasonCode={}",
+			phase, branch, companyId, stockCode, failure.getReasonCode());
+		return externalFailure != null ? externalFailure : failure;
 	}
 
 	private LocalDateTime resolvePublishedAt(LocalDateTime publishedAt, LocalDateTime fallback) {
 		return publishedAt != null ? publishedAt : fallback;
 	}
 
-	private record CompanyIdentity(Long companyId, String stockCode) {
+	public record InsightResult(List<CompanyInsightDto> items, java.math.BigDecimal averageScore, boolean processing) {
 	}
 
-	public record InsightResult(List<CompanyInsightDto> items, java.math.BigDecimal averageScore, boolean processing) {
+	public record InsightFetchResult(ExternalAiUnavailableException externalFailure, Map<String, Long> branchElapsedMs) {
+	}
+
+	// 분석 시각은 UTC 기준으로 저장된다.
+	// 저장되지 않은 분석은 다시 수집해도 없을 수 있으므로(보고서가 없는 기업 등) 오래된 것으로 보지 않는다.
+	private record StoredInsights(
+		InsightResult result,
+		boolean hasAnalysis,
+		LocalDateTime newsAnalyzedAt,
+		LocalDateTime reportAnalyzedAt
+	) {
+
+		private boolean isNewsStale(LocalDateTime freshAfter) {
+			return isStale(newsAnalyzedAt, freshAfter);
+		}
+
+		private boolean isReportStale(LocalDateTime freshAfter) {
+			return isStale(reportAnalyzedAt, freshAfter);
+		}
+
+		private static boolean isStale(LocalDateTime analyzedAt, LocalDateTime freshAfter) {
+			return analyzedAt != null && analyzedAt.isBefore(freshAfter);
+		}
 	}
 }
@@ -0,0 +1,108 @@
+package com.aivle.project.company.insight.service;
+
+import com.aivle.project.common.error.ExternalAiUnavailableException;
+import com.aivle.project.company.client.AiCallPriority;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 인사이트 백그라운드 갱신 실행기.
+ * 기업당 하나의 갱신만 insightExecutor에서 실행하고, 최근에 시작한 기업은 최소 간격이 지날 때까지 다시 시작하지 않는다.
+ * 기업별 마지막 갱신이 AI 장애로 끝났으면 다음 갱신이 성공할 때까지 그 장애를 기억한다.
+ */
+@Slf4j
+@Component
+public class InsightBackgroundRefresher {
+
+	private final Executor insightExecutor;
+	private final MeterRegistry meterRegistry;
+	private final long minIntervalMs;
+	private final Set<Long> inFlights = ConcurrentHashMap.newKeySet();
+	private final Map<Long, Long> lastStartedAt = new ConcurrentHashMap<>();
+	private final Map<Long, ExternalAiUnavailableException> lastFailures = new ConcurrentHashMap<>();
+
+	public InsightBackgroundRefresher(
+		@Qualifier("insightExecutor") Executor insightExecutor,
+		ObjectProvider<MeterRegistry> meterRegistryProvider,
+		@Value("${app.company.insight.revalidate-min-interval-ms:60000}") long minIntervalMs
+	) {
+		this.insightExecutor = insightExecutor;
+		this.meterRegistry = meterRegistryProvider.getIfAvailable(SimpleMeterRegistry::new);
+		this.minIntervalMs = minIntervalMs;
+	}
+
+	/**
+	 * 기업 인사이트 갱신을 백그라운드로 요청한다.
+	 *
+	 * @return 이번 요청으로 갱신을 시작했으면 true, 진행 중이거나 최소 간격 안이거나 실행기가 가득 차면 false
+	 */
+	public boolean trigger(Long companyId, Runnable refresh) {
+		if (!inFlights.add(companyId)) {
+			record("deduplicated");
+			return false;
+		}
+		long now = System.currentTimeMillis();
+		Long startedAt = lastStartedAt.get(companyId);
+		if (startedAt != null && now - startedAt < minIntervalMs) {
+			inFlights.remove(companyId);
+			record("throttled");
+			return false;
+		}
+		lastStartedAt.put(companyId, now);
+		try {
+			insightExecutor.execute(() -> run(companyId, refresh));
+		} catch (RejectedExecutionException e) {
+			// 다음 조회에서 다시 요청할 수 있도록 시작 기록을 되돌린다.
+			lastStartedAt.remove(companyId, now);
+			inFlights.remove(companyId);
+			record("rejected");
+			log.warn("인사이트 백그라운드 갱신 거절: companyId={}", companyId);
+			return false;
+		}
+		record("started");
+		return true;
+	}
+
+	/**
+	 * 기업의 백그라운드 갱신이 진행 중인지 여부.
+	 */
+	public boolean isInFlight(Long companyId) {
+		return inFlights.contains(companyId);
+	}
+
+	/**
+	 * 기업의 마지막 백그라운드 갱신이 AI 장애로 끝났으면 그 장애를 돌려준다.
+	 */
+	public Optional<ExternalAiUnavailableException> lastFailure(Long companyId) {
+		return Optional.ofNullable(lastFailures.get(companyId));
+	}
+
+	private void run(Long companyId, Runnable refresh) {
+		try (AiCallPriority.Scope ignored = AiCallPriority.BACKGROUND.enter()) {
+			refresh.run();
+			lastFailures.remove(companyId);
+		} catch (ExternalAiUnavailableException e) {
+			lastFailures.put(companyId, e);
+			log.warn("인사이트 백그라운드 갱신 AI 장애: companyId={}, reasonCode={}", companyId, e.getReasonCode());
+		} catch (RuntimeException e) {
+			log.warn("인사이트 백그라운드 갱신 실패: companyId={}, reason={}", companyId, e.getMessage());
+		} finally {
+			inFlights.remove(companyId);
+		}
+	}
+
+	private void record(String result) {
+		meterRegistry.counter("company.insight.background_refresh", "result", result).increment();
+	}
+}
@@ -1,43 +1,98 @@
 package com.aivle.project.company.job;
 
+import com.aivle.project.common.config.KafkaListenerConfig;
+import com.aivle.project.common.config.KafkaTopicConfig;
+import com.aivle.project.company.client.AiCallPriority;
 import com.aivle.project.company.entity.CompaniesEntity;
 import com.aivle.project.company.repository.CompaniesRepository;
 import com.aivle.project.company.saga.AiReportSagaOrchestrator;
 import com.aivle.project.company.service.CompanyAiCommentService;
-import com.aivle.project.company.service.CompanyAiReportStoreService;
 import com.aivle.project.company.service.CompanyAiService;
 import com.aivle.project.company.service.CompanyReputationScoreService;
-import com.aivle.project.file.entity.FilesEntity;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import lombok.RequiredArgsConstructor;
+import com.fasterxml.jackson.databind.ObjectReader;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.BatchListenerFailedException;
 import org.springframework.stereotype.Component;
 
 /**
  * AI 작업 Kafka 컨슈머.
+ * 기본은 레코드 단위 리스너이며, {@code app.ai.job.consumer.batch-enabled=true}이면 poll 단위 배치 리스너가 대신 기동된다.
+ * 배치 모드는 같은 요청(requestId)의 메시지를 모아 순서대로 처리하고, 재전달된 중복 메시지와
+ * 같은 기업/분기의 코멘트 웜업 요청을 한 번만 처리한다.
  */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class AiJobKafkaConsumer {
 
-	private final ObjectMapper objectMapper;
+	private static final String CONCURRENCY =
+		"${app.ai.job.consumer.concurrency:" + KafkaTopicConfig.AI_JOB_TOPIC_PARTITIONS + "}";
+	private static final String RECORD_MODE = "#{!${app.ai.job.consumer.batch-enabled:false}}";
+	private static final String BATCH_MODE = "${app.ai.job.consumer.batch-enabled:false}";
+	private static final String MAX_POLL_RECORDS = "max.poll.records=${app.ai.job.consumer.max-poll-records:100}";
+
+	private final ObjectReader jobReader;
+	private final ObjectReader responseReader;
 	private final CompanyAiService companyAiService;
 	private final CompanyAiCommentService companyAiCommentService;
 	private final AiReportSagaOrchestrator aiReportSagaOrchestrator;
 	private final CompanyReputationScoreService companyReputationScoreService;
 	private final CompaniesRepository companiesRepository;
-	private final CompanyAiReportStoreService companyAiReportStoreService;
+	private final AiJobResponseProcessor aiJobResponseProcessor;
+	private final ProcessedMessageStore processedMessageStore;
+	private final MeterRegistry meterRegistry;
+	private final Map<TopicPartition, AtomicLong> partitionLags = new ConcurrentHashMap<>();
+
+	public AiJobKafkaConsumer(
+		ObjectMapper objectMapper,
+		CompanyAiService companyAiService,
+		CompanyAiCommentService companyAiCommentService,
+		AiReportSagaOrchestrator aiReportSagaOrchestrator,
+		CompanyReputationScoreService companyReputationScoreService,
+		CompaniesRepository companiesRepository,
+		AiJobResponseProcessor aiJobResponseProcessor,
+		ProcessedMessageStore processedMessageStore,
+		MeterRegistry meterRegistry
+	) {
+		this.jobReader = objectMapper.readerFor(AiJobMessage.class);
+		this.responseReader = objectMapper.readerFor(AiJobResponseMessage.class);
+		this.companyAiService = companyAiService;
+		this.companyAiCommentService = companyAiCommentService;
+		this.aiReportSagaOrchestrator = aiReportSagaOrchestrator;
+		this.companyReputationScoreService = companyReputationScoreService;
+		this.companiesRepository = companiesRepository;
+		this.aiJobResponseProcessor = aiJobResponseProcessor;
+		this.processedMessageStore = processedMessageStore;
+		this.meterRegistry = meterRegistry;
+	}
 
 	@KafkaListener(
 		topics = {"${app.ai.job.request-topic:ai-job-request}", "${app.ai.job.rollback-topic:ai-job-rollback}"},
-		groupId = "${APP_AI_JOB_KAFKA_GROUP_ID:ai-job-consumer}"
+		groupId = "${APP_AI_JOB_KAFKA_GROUP_ID:ai-job-consumer}",
+		concurrency = CONCURRENCY,
+		autoStartup = RECORD_MODE
 	)
 	public void consume(String payload) {
 		try {
-			AiJobMessage message = objectMapper.readValue(payload, AiJobMessage.class);
-			process(message, payload);
+			AiJobMessage message = jobReader.readValue(payload);
+			timed("request", message.type(), () -> process(message, payload));
 		} catch (Exception e) {
 			log.error("Failed to consume AI job payload: {}", payload, e);
 			throw new RuntimeException("Failed to process AI job", e);
@@ -46,21 +101,174 @@ public class AiJobKafkaConsumer {
 
 	@KafkaListener(
 		topics = {"${app.ai.job.response-topic:ai-job-response}"},
-		groupId = "${APP_AI_JOB_KAFKA_GROUP_ID:ai-job-consumer}-response"
+		groupId = "${APP_AI_JOB_KAFKA_GROUP_ID:ai-job-consumer}-response",
+		concurrency = CONCURRENCY,
+		autoStartup = RECORD_MODE
 	)
 	public void consumeResponse(String payload) {
-		log.info("Received AI job response payload: {}", payload);
+		log.debug("Received AI job response payload: {}", payload);
 		try {
-			AiJobResponseMessage message = objectMapper.readValue(payload, AiJobResponseMessage.class);
-			processResponse(message, payload);
+			AiJobResponseMessage message = responseReader.readValue(payload);
+			timed("response", message.type(), () -> processResponse(message, payload));
 		} catch (Exception e) {
 			log.error("Failed to consume AI job response payload: {}", payload, e);
 		}
 	}
 
-	private void process(AiJobMessage message, String payload) {
-		log.info("Processing AI job message type: {}, requestId: {}", message.type(), message.requestId());
+	/**
+	 * 요청/보상 토픽 배치 리스너. 역직렬화에 실패한 레코드가 있으면 그 앞까지 처리한 뒤
+	 * {@link BatchListenerFailedException}으로 실패 위치를 알려 이후 레코드만 재처리되게 한다.
+	 */
+	@KafkaListener(
+		topics = {"${app.ai.job.request-topic:ai-job-request}", "${app.ai.job.rollback-topic:ai-job-rollback}"},
+		groupId = "${APP_AI_JOB_KAFKA_GROUP_ID:ai-job-consumer}",
+		containerFactory = KafkaListenerConfig.AI_JOB_BATCH_CONTAINER_FACTORY,
+		concurrency = CONCURRENCY,
+		autoStartup = BATCH_MODE,
+		properties = MAX_POLL_RECORDS
+	)
+	public void consumeBatch(List<ConsumerRecord<String, String>> records, Consumer<?, ?> consumer) {
+		recordLag(records, consumer);
+		List<Parsed<AiJobMessage>> parsed = new ArrayList<>(records.size());
+		int failedIndex = -1;
+		Exception failure = null;
+		for (int i = 0; i < records.size(); i++) {
+			String payload = records.get(i).value();
+			try {
+				parsed.add(new Parsed<>(jobReader.readValue(payload), payload));
+			} catch (Exception e) {
+				failedIndex = i;
+				failure = e;
+				break;
+			}
+		}
+
+		Set<String> warmups = new HashSet<>();
+		for (List<Parsed<AiJobMessage>> group : groupByRequest(parsed, AiJobMessage::requestId, AiJobMessage::companyId).values()) {
+			Set<AiJobType> handled = new HashSet<>();
+			for (Parsed<AiJobMessage> job : group) {
+				AiJobMessage message = job.message();
+				if (!handled.add(message.type())) {
+					log.debug("Skipping duplicate AI job message in batch: type={}, requestId={}", message.type(), message.requestId());
+					continue;
+				}
+				if (message.type() == AiJobType.AI_COMMENT_WARMUP
+					&& !warmups.add(message.companyId() + ":" + message.period())) {
+					log.debug("Coalesced AI comment warmup in batch: companyId={}, period={}", message.companyId(), message.period());
+					continue;
+				}
+				timed("request", message.type(), () -> process(message, job.payload()));
+			}
+		}
+
+		if (failure != null) {
+			log.error("Failed to consume AI job payload at batch index {}: {}", failedIndex, records.get(failedIndex).value(), failure);
+			throw new BatchListenerFailedException("Failed to process AI job", failure, failedIndex);
+		}
+	}
+
+	/**
+	 * 응답 토픽 배치 리스너. 레코드 모드와 동일하게 역직렬화에 실패한 응답은 기록 후 건너뛴다.
+	 */
+	@KafkaListener(
+		topics = {"${app.ai.job.response-topic:ai-job-response}"},
+		groupId = "${APP_AI_JOB_KAFKA_GROUP_ID:ai-job-consumer}-response",
+		containerFactory = KafkaListenerConfig.AI_JOB_BATCH_CONTAINER_FACTORY,
+		concurrency = CONCURRENCY,
+		autoStartup = BATCH_MODE,
+		properties = MAX_POLL_RECORDS
+	)
+	public void consumeResponseBatch(List<ConsumerRecord<String, String>> records, Consumer<?, ?> consumer) {
+		recordLag(records, consumer);
+		List<Parsed<AiJobResponseMessage>> parsed = new ArrayList<>(records.size());
+		for (ConsumerRecord<String, String> record : records) {
+			try {
+				parsed.add(new Parsed<>(responseReader.readValue(record.value()), record.value()));
+			} catch (Exception e) {
+				log.error("Failed to consume AI job response payload: {}", record.value(), e);
+			}
+		}
+
+		for (List<Parsed<AiJobResponseMessage>> group
+			: groupByRequest(parsed, AiJobResponseMessage::requestId, AiJobResponseMessage::companyId).values()) {
+			Set<String> handled = new HashSet<>();
+			for (Parsed<AiJobResponseMessage> response : group) {
+				AiJobResponseMessage message = response.message();
+				if (!handled.add(message.type() + ":" + message.isSuccess())) {
+					log.debug("Skipping duplicate AI job response in batch: type={}, requestId={}", message.type(), message.requestId());
+					continue;
+				}
+				timed("response", message.type(), () -> processResponse(message, response.payload()));
+			}
+		}
+	}
+
+	/**
+	 * 요청 ID(없으면 기업 ID) 기준으로 묶는다. 레코드 키가 요청 ID라 같은 요청은 한 파티션에 순서대로 들어오므로
+	 * 그룹 안의 순서와 그룹이 처음 등장한 순서를 그대로 유지한다.
+	 */
+	private <T> Map<String, List<Parsed<T>>> groupByRequest(
+		List<Parsed<T>> parsed,
+		Function<T, String> requestId,
+		Function<T, Long> companyId
+	) {
+		Map<String, List<Parsed<T>>> groups = new LinkedHashMap<>();
+		for (Parsed<T> item : parsed) {
+			String key = requestId.apply(item.message());
+			if (key == null) {
+				key = "company:" + companyId.apply(item.message());
+			}
+			groups.computeIfAbsent(key, k -> new ArrayList<>()).add(item);
+		}
+		return groups;
+	}
+
+	private void timed(String direction, AiJobType type, Runnable task) {
+		Timer.Sample sample = Timer.start(meterRegistry);
 		try {
+			task.run();
+		} finally {
+			sample.stop(meterRegistry.timer("ai.job.consume.duration",
+				"direction", direction, "type", type == null ? "UNKNOWN" : type.name()));
+		}
+	}
+
+	/**
+	 * 레코드 생성 시각 대비 수신 지연과 파티션별 미처리 레코드 수(consumer lag)를 기록한다.
+	 */
+	private void recordLag(List<ConsumerRecord<String, String>> records, Consumer<?, ?> consumer) {
+		long now = System.currentTimeMillis();
+		Set<TopicPartition> partitions = new HashSet<>();
+		for (ConsumerRecord<String, String> record : records) {
+			if (record.timestamp() > 0) {
+				meterRegistry.timer("ai.job.consume.delay", "topic", record.topic())
+					.record(Math.max(0L, now - record.timestamp()), TimeUnit.MILLISECONDS);
+			}
+			partitions.add(new TopicPartition(record.topic(), record.partition()));
+		}
+		if (consumer == null) {
+			return;
+		}
+		for (TopicPartition partition : partitions) {
+			consumer.currentLag(partition).ifPresent(lag -> partitionLag(partition).set(lag));
+		}
+	}
+
+	private AtomicLong partitionLag(TopicPartition partition) {
+		return partitionLags.computeIfAbsent(partition, tp -> meterRegistry.gauge(
+			"ai.job.consumer.lag",
+			Tags.of("topic", tp.topic(), "partition", String.valueOf(tp.partition())),
+			new AtomicLong()
+		));
+	}
+
+	private record Parsed<T>(T message, String payload) {
+	}
+
+	private void process(AiJobMessage message, String payload) {
+		log.debug("Processing AI job message type: {}, requestId: {}", message.type(), message.requestId());
+		// 카프카 작업의 AI 호출은 사용자 요청보다 낮은 우선순위로 동시성 한도를 나눠 쓴다.
+		try (AiCallPriority.Scope ignored = AiCallPriority.BACKGROUND.enter()) {
 			switch (message.type()) {
 				case AI_REPORT -> {
 					// 기존 직접 생성 로직도 Feature Toggle 형태의 로깅으로 정리
@@ -113,52 +321,17 @@ public class AiJobKafkaConsumer {
 	}
 
 	private void processResponse(AiJobResponseMessage message, String payload) {
-		log.info("Processing AI job response for requestId: {}, type: {}, success: {}", 
+		log.debug("Processing AI job response for requestId: {}, type: {}, success: {}",
 			message.requestId(), message.type(), message.isSuccess());
-		
-		try {
-			if (!message.isSuccess()) {
-				log.warn("AI job failed on worker side for requestId: {}. Error: {}", message.requestId(), message.errorMessage());
-				if (message.type() == AiJobType.AI_FINANCIAL_ANALYSIS) {
-					aiReportSagaOrchestrator.onFinancialAnalysisFailure(message.requestId(), message.errorMessage());
-				} else if (message.type() == AiJobType.AI_COMMENT_COMPILATION) {
-					aiReportSagaOrchestrator.onCommentCompilationFailure(message.requestId(), message.errorMessage());
-				}
-				return;
-			}
+		if (message.requestId() != null && message.type() != null
+			&& processedMessageStore.isProcessedLocally(message.requestId(), message.type())) {
+			log.debug("Skipping already processed AI job response: requestId={}, type={}", message.requestId(), message.type());
+			return;
+		}
 
-			switch (message.type()) {
-				case AI_FINANCIAL_ANALYSIS -> {
-					// Python Worker가 구한 예측 수치 저장
-					companyAiService.savePythonPredictions(
-						message.companyId(),
-						message.year(),
-						message.quarter(),
-						message.predictions()
-					);
-					// Saga 성공 처리 연동
-					aiReportSagaOrchestrator.onFinancialAnalysisSuccess(message.requestId(), payload);
-					log.info("Successfully handled Python AI_FINANCIAL_ANALYSIS response for requestId: {}", message.requestId());
-				}
-				case AI_COMMENT_COMPILATION -> {
-					// Python Worker가 저장 완료한 스토리지 키 바인딩
-					FilesEntity file = companyAiReportStoreService.linkSavedReport(
-						message.companyId(),
-						message.year(),
-						message.quarter(),
-						message.storageKey(),
-						message.filename()
-					);
-					String downloadUrl = "/api/companies/" + message.companyId() + "/ai-report/download?year=" + message.year() + "&quarter=" + message.quarter();
-					// Saga 최종 완결 처리 연동
-					aiReportSagaOrchestrator.onCommentCompilationSuccess(
-						message.requestId(),
-						String.valueOf(file.getId()),
-						downloadUrl
-					);
-					log.info("Successfully handled Python AI_COMMENT_COMPILATION response for requestId: {}", message.requestId());
-				}
-				default -> log.warn("Unsupported AI job response type: {}", message.type());
+		try {
+			if (!aiJobResponseProcessor.process(message, payload)) {
+				log.info("Skipping duplicate AI job response: requestId={}, type={}", message.requestId(), message.type());
 			}
 		} catch (Exception e) {
 			log.error("Failed processing AI job response for requestId: {}", message.requestId(), e);
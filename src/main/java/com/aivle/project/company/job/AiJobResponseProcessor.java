@@ -0,0 +1,82 @@
+package com.aivle.project.company.job;
+
+import com.aivle.project.company.saga.AiReportSagaOrchestrator;
+import com.aivle.project.company.service.CompanyAiReportStoreService;
+import com.aivle.project.company.service.CompanyAiService;
+import com.aivle.project.file.entity.FilesEntity;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Python AI Worker 응답을 반영한다.
+ * 처리 이력 기록과 예측 저장/보고서 연결/Saga 전이를 한 트랜잭션으로 묶어,
+ * 재전달된 응답은 부수 효과 없이 건너뛰고 실패한 처리는 이력 없이 롤백되도록 한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AiJobResponseProcessor {
+
+	private final ProcessedMessageStore processedMessageStore;
+	private final CompanyAiService companyAiService;
+	private final CompanyAiReportStoreService companyAiReportStoreService;
+	private final AiReportSagaOrchestrator aiReportSagaOrchestrator;
+
+	/**
+	 * @return 처리했으면 true, 이미 처리된 응답이면 false
+	 */
+	@Transactional
+	public boolean process(AiJobResponseMessage message, String payload) {
+		if (message.requestId() != null && message.type() != null
+			&& !processedMessageStore.markProcessed(message.requestId(), message.type())) {
+			return false;
+		}
+
+		if (!message.isSuccess()) {
+			log.warn("AI job failed on worker side for requestId: {}. Error: {}", message.requestId(), message.errorMessage());
+			if (message.type() == AiJobType.AI_FINANCIAL_ANALYSIS) {
+				aiReportSagaOrchestrator.onFinancialAnalysisFailure(message.requestId(), message.errorMessage());
+			} else if (message.type() == AiJobType.AI_COMMENT_COMPILATION) {
+				aiReportSagaOrchestrator.onCommentCompilationFailure(message.requestId(), message.errorMessage());
+			}
+			return true;
+		}
+
+		switch (message.type()) {
+			case AI_FINANCIAL_ANALYSIS -> {
+				// Python Worker가 구한 예측 수치 저장
+				companyAiService.savePythonPredictions(
+					message.companyId(),
+					message.year(),
+					message.quarter(),
+					message.predictions()
+				);
+				// Saga 성공 처리 연동
+				aiReportSagaOrchestrator.onFinancialAnalysisSuccess(message.requestId(), payload);
+				log.info("Successfully handled Python AI_FINANCIAL_ANALYSIS response for requestId: {}", message.requestId());
+			}
+			case AI_COMMENT_COMPILATION -> {
+				// Python Worker가 저장 완료한 스토리지 키 바인딩
+				FilesEntity file = companyAiReportStoreService.linkSavedReport(
+					message.companyId(),
+					message.year(),
+					message.quarter(),
+					message.storageKey(),
+					message.filename()
+				);
+				String downloadUrl = "/api/companies/" + message.companyId() + "/ai-report/download?year=" + message.year() + "&quarter=" + message.quarter();
+				// Saga 최종 완결 처리 연동
+				aiReportSagaOrchestrator.onCommentCompilationSuccess(
+					message.requestId(),
+					String.valueOf(file.getId()),
+					downloadUrl
+				);
+				log.info("Successfully handled Python AI_COMMENT_COMPILATION response for requestId: {}", message.requestId());
+			}
+			default -> log.warn("Unsupported AI job response type: {}", message.type());
+		}
+		return true;
+	}
+}
@@ -0,0 +1,44 @@
+package com.aivle.project.company.job;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.LocalDateTime;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 만료된 AI 작업 응답 처리 이력을 청크 단위로 정리한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "app.ai.job.dedup.cleanup", name = "enabled", havingValue = "true")
+public class ProcessedMessageCleanupScheduler {
+
+	private final ProcessedMessageJdbcRepository processedMessageJdbcRepository;
+	private final ProcessedMessageProperties properties;
+	private final MeterRegistry meterRegistry;
+
+	@Scheduled(cron = "${app.ai.job.dedup.cleanup.cron:0 15 5 * * *}")
+	public void deleteExpired() {
+		try {
+			ProcessedMessageProperties.Cleanup cleanup = properties.getCleanup();
+			int chunkSize = Math.max(1, cleanup.getChunkSize());
+			LocalDateTime now = LocalDateTime.now();
+			int deleted = 0;
+			for (int chunk = 0; chunk < Math.max(1, cleanup.getMaxChunksPerRun()); chunk++) {
+				int removed = processedMessageJdbcRepository.deleteExpiredChunk(now, chunkSize);
+				deleted += removed;
+				if (removed < chunkSize) {
+					break;
+				}
+			}
+			meterRegistry.counter("ai.job.dedup.expired.deleted").increment(deleted);
+			log.info("Processed message cleanup finished: deleted={}", deleted);
+		} catch (Exception e) {
+			log.error("Processed message cleanup failed", e);
+		}
+	}
+}
@@ -0,0 +1,47 @@
+package com.aivle.project.company.job;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 처리 완료된 AI 작업 메시지 이력(processed_message) 저장소.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ProcessedMessageJdbcRepository {
+
+	private final JdbcTemplate jdbcTemplate;
+
+	/**
+	 * 처리 이력을 추가한다. 이미 있으면 아무것도 하지 않는다.
+	 * 같은 키를 동시에 처리하는 트랜잭션은 기본키 잠금에서 대기하다가 먼저 커밋된 쪽이 있으면 false를 받는다.
+	 *
+	 * @return 새로 추가했으면 true
+	 */
+	public boolean insertIfAbsent(String requestId, String messageType, LocalDateTime processedAt, LocalDateTime expiresAt) {
+		int inserted = jdbcTemplate.update(
+			"INSERT IGNORE INTO processed_message (request_id, message_type, processed_at, expires_at) VALUES (?, ?, ?, ?)",
+			requestId,
+			messageType,
+			Timestamp.valueOf(processedAt),
+			Timestamp.valueOf(expiresAt)
+		);
+		return inserted > 0;
+	}
+
+	/**
+	 * 만료된 이력을 한 청크만큼 삭제한다. expires_at 인덱스 범위만 읽으므로 잠금이 청크 크기로 제한된다.
+	 */
+	@Transactional
+	public int deleteExpiredChunk(LocalDateTime now, int chunkSize) {
+		return jdbcTemplate.update(
+			"DELETE FROM processed_message WHERE expires_at < ? LIMIT ?",
+			Timestamp.valueOf(now),
+			chunkSize
+		);
+	}
+}
@@ -0,0 +1,91 @@
+package com.aivle.project.company.job;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * AI 작업 응답 중복 처리 방지 저장소 설정.
+ */
+@Component
+@ConfigurationProperties(prefix = "app.ai.job.dedup")
+public class ProcessedMessageProperties {
+
+	/**
+	 * 처리 이력을 DB에 보관하는 기간. Kafka 재전달이 일어날 수 있는 기간보다 길어야 한다.
+	 */
+	private Duration ttl = Duration.ofDays(7);
+
+	/**
+	 * 노드 로컬 캐시에 처리 이력을 보관하는 기간.
+	 */
+	private Duration localTtl = Duration.ofMinutes(30);
+
+	/**
+	 * 노드 로컬 캐시 최대 항목 수.
+	 */
+	private int localMaxEntries = 10_000;
+
+	private final Cleanup cleanup = new Cleanup();
+
+	public Duration getTtl() {
+		return ttl;
+	}
+
+	public void setTtl(Duration ttl) {
+		this.ttl = ttl;
+	}
+
+	public Duration getLocalTtl() {
+		return localTtl;
+	}
+
+	public void setLocalTtl(Duration localTtl) {
+		this.localTtl = localTtl;
+	}
+
+	public int getLocalMaxEntries() {
+		return localMaxEntries;
+	}
+
+	public void setLocalMaxEntries(int localMaxEntries) {
+		this.localMaxEntries = localMaxEntries;
+	}
+
+	public Cleanup getCleanup() {
+		return cleanup;
+	}
+
+	public static class Cleanup {
+
+		private boolean enabled = true;
+
+		private int chunkSize = 1000;
+
+		private int maxChunksPerRun = 100;
+
+		public boolean isEnabled() {
+			return enabled;
+		}
+
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+		public int getChunkSize() {
+			return chunkSize;
+		}
+
+		public void setChunkSize(int chunkSize) {
+			this.chunkSize = chunkSize;
+		}
+
+		public int getMaxChunksPerRun() {
+			return maxChunksPerRun;
+		}
+
+		public void setMaxChunksPerRun(int maxChunksPerRun) {
+			this.maxChunksPerRun = maxChunksPerRun;
+		}
+	}
+}
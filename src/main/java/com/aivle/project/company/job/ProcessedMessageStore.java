@@ -0,0 +1,129 @@
+package com.aivle.project.company.job;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * AI 작업 응답의 (requestId, type) 단위 처리 이력 저장소.
+ * DB(processed_message)가 기준이며, 처리 이력이 확정된 키는 노드 로컬 캐시에 두어
+ * 재전달이 몰리는 키의 중복 판정을 DB 조회 없이 끝낸다.
+ */
+@Component
+public class ProcessedMessageStore {
+
+	private final ProcessedMessageJdbcRepository processedMessageJdbcRepository;
+	private final ProcessedMessageProperties properties;
+	private final Map<String, Long> localEntries = new ConcurrentHashMap<>();
+	private final AtomicBoolean evicting = new AtomicBoolean(false);
+	private final Counter localHitCounter;
+	private final Counter dbHitCounter;
+	private final Counter missCounter;
+
+	public ProcessedMessageStore(
+		ProcessedMessageJdbcRepository processedMessageJdbcRepository,
+		ProcessedMessageProperties properties,
+		MeterRegistry meterRegistry
+	) {
+		this.processedMessageJdbcRepository = processedMessageJdbcRepository;
+		this.properties = properties;
+		this.localHitCounter = meterRegistry.counter("ai.job.dedup.lookup", "result", "local_hit");
+		this.dbHitCounter = meterRegistry.counter("ai.job.dedup.lookup", "result", "db_hit");
+		this.missCounter = meterRegistry.counter("ai.job.dedup.lookup", "result", "miss");
+		meterRegistry.gaugeMapSize("ai.job.dedup.local.size", Tags.empty(), localEntries);
+	}
+
+	/**
+	 * 로컬 캐시만으로 이미 처리된 메시지인지 판정한다. false여도 DB에는 이력이 있을 수 있다.
+	 */
+	public boolean isProcessedLocally(String requestId, AiJobType type) {
+		String key = key(requestId, type);
+		Long expiresAt = localEntries.get(key);
+		if (expiresAt == null) {
+			return false;
+		}
+		if (expiresAt <= System.currentTimeMillis()) {
+			localEntries.remove(key, expiresAt);
+			return false;
+		}
+		localHitCounter.increment();
+		return true;
+	}
+
+	/**
+	 * 처리 이력을 기록한다. 부수 효과와 같은 트랜잭션 안에서 호출해야 하며,
+	 * 트랜잭션이 롤백되면 이력도 함께 사라져 재전달 시 다시 처리된다.
+	 *
+	 * @return 처음 처리하는 메시지면 true, 이미 처리된 메시지면 false
+	 */
+	public boolean markProcessed(String requestId, AiJobType type) {
+		if (isProcessedLocally(requestId, type)) {
+			return false;
+		}
+		String key = key(requestId, type);
+		LocalDateTime now = LocalDateTime.now();
+		boolean inserted = processedMessageJdbcRepository.insertIfAbsent(
+			requestId,
+			type.name(),
+			now,
+			now.plus(properties.getTtl())
+		);
+		if (!inserted) {
+			dbHitCounter.increment();
+			remember(key);
+			return false;
+		}
+		missCounter.increment();
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					remember(key);
+				}
+			});
+		} else {
+			remember(key);
+		}
+		return true;
+	}
+
+	private void remember(String key) {
+		Duration localTtl = properties.getLocalTtl();
+		if (localTtl == null || localTtl.isZero() || localTtl.isNegative()) {
+			return;
+		}
+		localEntries.put(key, System.currentTimeMillis() + localTtl.toMillis());
+		evictIfNecessary();
+	}
+
+	private void evictIfNecessary() {
+		int maxEntries = Math.max(1, properties.getLocalMaxEntries());
+		if (localEntries.size() <= maxEntries || !evicting.compareAndSet(false, true)) {
+			return;
+		}
+		try {
+			long now = System.currentTimeMillis();
+			localEntries.values().removeIf(expiresAt -> expiresAt <= now);
+			Iterator<String> iterator = localEntries.keySet().iterator();
+			while (localEntries.size() > maxEntries && iterator.hasNext()) {
+				iterator.next();
+				iterator.remove();
+			}
+		} finally {
+			evicting.set(false);
+		}
+	}
+
+	private String key(String requestId, AiJobType type) {
+		return type.name() + ":" + requestId;
+	}
+}
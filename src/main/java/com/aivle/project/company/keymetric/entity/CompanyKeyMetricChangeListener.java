@@ -0,0 +1,30 @@
+package com.aivle.project.company.keymetric.entity;
+
+import com.aivle.project.company.keymetric.event.CompanyKeyMetricChangedEvent;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * 핵심 지표 엔티티의 저장/수정/삭제를 애플리케이션 이벤트로 알린다.
+ * JPQL 벌크 연산은 엔티티 콜백을 거치지 않으므로 감지되지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class CompanyKeyMetricChangeListener {
+
+	private final ApplicationEventPublisher eventPublisher;
+
+	@PostPersist
+	@PostUpdate
+	@PostRemove
+	public void onChange(CompanyKeyMetricEntity entity) {
+		if (entity.getCompany() == null) {
+			return;
+		}
+		eventPublisher.publishEvent(new CompanyKeyMetricChangedEvent(entity.getCompany().getId()));
+	}
+}
@@ -6,6 +6,7 @@ import com.aivle.project.company.report.quarter.entity.QuartersEntity;
 import com.aivle.project.company.report.entity.CompanyReportVersionsEntity;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
@@ -30,6 +31,7 @@ import org.hibernate.type.SqlTypes;
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Entity
+@EntityListeners(CompanyKeyMetricChangeListener.class)
 @Table(name = "company_key_metrics")
 public class CompanyKeyMetricEntity extends BaseEntity {
 
@@ -0,0 +1,7 @@
+package com.aivle.project.company.keymetric.event;
+
+/**
+ * 기업 핵심 지표(company_key_metrics) 변경 이벤트.
+ */
+public record CompanyKeyMetricChangedEvent(Long companyId) {
+}
@@ -2,6 +2,7 @@ package com.aivle.project.company.keymetric.repository;
 
 import com.aivle.project.company.keymetric.entity.CompanyKeyMetricEntity;
 import com.aivle.project.company.keymetric.entity.CompanyKeyMetricRiskLevel;
+import java.math.BigDecimal;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.EntityGraph;
@@ -25,53 +26,54 @@ public interface CompanyKeyMetricRepository extends JpaRepository<CompanyKeyMetr
 	@EntityGraph(attributePaths = {"company", "quarter"})
 	List<CompanyKeyMetricEntity> findByCompanyIdInAndQuarter_QuarterKey(List<Long> companyIds, int quarterKey);
 
-	@EntityGraph(attributePaths = {"company", "quarter"})
+	/**
+	 * 대시보드 집계용 최소 컬럼 조회. 기업 ID 오름차순, 분기 키 내림차순으로 정렬해 한 번의 순회로 집계할 수 있게 한다.
+	 */
 	@Query("""
-		select ckm
+		select c.id as companyId, q.quarterKey as quarterKey, ckm.riskLevel as riskLevel,
+			ckm.internalHealthScore as internalHealthScore, i.industryName as sectorName
 		from CompanyKeyMetricEntity ckm
 		join ckm.quarter q
-		where ckm.company.id in :companyIds
-			and q.quarterKey <= :latestActualQuarterKey
-			and ckm.riskLevel is not null
+		join ckm.company c
+		left join c.industryCode i
+		where c.id in :companyIds
+			and q.quarterKey <= :maxQuarterKey
 			and ckm.deletedAt is null
-		order by q.quarterKey desc, ckm.company.id asc
+		order by c.id asc, q.quarterKey desc
 		""")
-	List<CompanyKeyMetricEntity> findRiskRecordsByCompanyIds(
+	List<DashboardMetricProjection> findDashboardMetricsByCompanyIds(
 		@Param("companyIds") List<Long> companyIds,
-		@Param("latestActualQuarterKey") int latestActualQuarterKey,
-		Pageable pageable
+		@Param("maxQuarterKey") int maxQuarterKey
 	);
 
-	@EntityGraph(attributePaths = {"company", "quarter"})
 	@Query("""
-		select ckm
+		select c.id as companyId, c.corpName as corpName, q.quarterKey as quarterKey, ckm.riskLevel as riskLevel
 		from CompanyKeyMetricEntity ckm
 		join ckm.quarter q
-		where ckm.company.id in :companyIds
-			and q.quarterKey in :quarterKeys
-			and ckm.deletedAt is null
-		""")
-	List<CompanyKeyMetricEntity> findByCompanyIdInAndQuarterKeyIn(
-		@Param("companyIds") List<Long> companyIds,
-		@Param("quarterKeys") List<Integer> quarterKeys
-	);
-
-	@Query("""
-		select ckm.company.id as companyId, q.quarterKey as quarterKey, ckm.riskLevel as riskLevel
-		from CompanyKeyMetricEntity ckm
-		join ckm.quarter q
-		where ckm.company.id in :companyIds
+		join ckm.company c
+		where c.id in :companyIds
 			and q.quarterKey <= :latestActualQuarterKey
 			and ckm.riskLevel is not null
 			and ckm.deletedAt is null
+		order by q.quarterKey desc, c.id asc
 		""")
-	List<CompanyRiskHistoryProjection> findRiskHistoryByCompanyIds(
+	List<CompanyRiskRecordProjection> findRiskRecordsByCompanyIds(
 		@Param("companyIds") List<Long> companyIds,
-		@Param("latestActualQuarterKey") int latestActualQuarterKey
+		@Param("latestActualQuarterKey") int latestActualQuarterKey,
+		Pageable pageable
 	);
 
-	interface CompanyRiskHistoryProjection {
+	interface DashboardMetricProjection {
+		Long getCompanyId();
+		Integer getQuarterKey();
+		CompanyKeyMetricRiskLevel getRiskLevel();
+		BigDecimal getInternalHealthScore();
+		String getSectorName();
+	}
+
+	interface CompanyRiskRecordProjection {
 		Long getCompanyId();
+		String getCorpName();
 		Integer getQuarterKey();
 		CompanyKeyMetricRiskLevel getRiskLevel();
 	}
@@ -1,9 +1,12 @@
 package com.aivle.project.company.keymetric.repository;
 
 import com.aivle.project.company.keymetric.entity.KeyMetricDescriptionEntity;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 /**
  * 핵심 건강도 설명 리포지토리.
@@ -12,5 +15,8 @@ public interface KeyMetricDescriptionRepository extends JpaRepository<KeyMetricD
 
 	Optional<KeyMetricDescriptionEntity> findByMetricCode(String metricCode);
 
-	List<KeyMetricDescriptionEntity> findAllByMetricCodeIn(List<String> metricCodes);
+	List<KeyMetricDescriptionEntity> findAllByMetricCodeIn(Collection<String> metricCodes);
+
+	@Query("select max(d.updatedAt) from KeyMetricDescriptionEntity d")
+	Optional<LocalDateTime> findMaxUpdatedAt();
 }
@@ -1,10 +1,12 @@
 package com.aivle.project.company.metric.repository;
 
 import com.aivle.project.company.metric.entity.MetricsEntity;
+import java.time.LocalDateTime;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 /**
  * 지표 조회/저장 리포지토리.
@@ -16,4 +18,7 @@ public interface MetricsRepository extends JpaRepository<MetricsEntity, Long> {
 	List<MetricsEntity> findAllByMetricCodeIn(Collection<String> metricCodes);
 
 	List<MetricsEntity> findAllByMetricNameEnIn(Collection<String> metricNameEns);
+
+	@Query("select max(m.updatedAt) from MetricsEntity m")
+	Optional<LocalDateTime> findMaxUpdatedAt();
 }
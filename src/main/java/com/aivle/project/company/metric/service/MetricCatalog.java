@@ -0,0 +1,191 @@
+package com.aivle.project.company.metric.service;
+
+import com.aivle.project.company.keymetric.entity.KeyMetricDescriptionEntity;
+import com.aivle.project.company.keymetric.repository.KeyMetricDescriptionRepository;
+import com.aivle.project.company.metric.entity.MetricsEntity;
+import com.aivle.project.company.metric.repository.MetricsRepository;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 지표/핵심 건강도 설명 카탈로그.
+ * 거의 바뀌지 않는 metrics, key_metric_descriptions 테이블을 불변 맵으로 들고 있다가
+ * 재적재 시 스냅샷을 통째로 교체한다. 카탈로그에 없는 코드만 DB에서 찾는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MetricCatalog {
+
+	private final MetricsRepository metricsRepository;
+	private final KeyMetricDescriptionRepository keyMetricDescriptionRepository;
+
+	private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void preload() {
+		try {
+			reload();
+		} catch (Exception e) {
+			log.warn("Failed to preload metric catalog: {}", e.getMessage());
+		}
+	}
+
+	/**
+	 * 두 테이블을 다시 읽어 스냅샷을 원자적으로 교체한다. 관리자 변경 직후 호출한다.
+	 */
+	public void reload() {
+		Version version = currentVersion();
+		List<MetricsEntity> metrics = metricsRepository.findAll();
+		List<KeyMetricDescriptionEntity> keyMetricDescriptions = keyMetricDescriptionRepository.findAll();
+		snapshot = Snapshot.of(version, metrics, keyMetricDescriptions);
+		log.info("Metric catalog loaded: metrics={}, keyMetricDescriptions={}", metrics.size(), keyMetricDescriptions.size());
+	}
+
+	/**
+	 * 테이블 버전(건수, 최종 수정 시각)이 바뀌었을 때만 재적재한다.
+	 *
+	 * @return 재적재 여부
+	 */
+	public boolean reloadIfChanged() {
+		if (currentVersion().equals(snapshot.version())) {
+			return false;
+		}
+		reload();
+		return true;
+	}
+
+	public Optional<MetricsEntity> findByCode(String metricCode) {
+		MetricsEntity metric = snapshot.metricsByCode().get(metricCode);
+		return metric != null ? Optional.of(metric) : metricsRepository.findByMetricCode(metricCode);
+	}
+
+	/**
+	 * 지표 코드별 지표를 찾는다. 없는 코드는 결과에서 빠진다.
+	 */
+	public Map<String, MetricsEntity> findAllByCodes(Collection<String> metricCodes) {
+		Map<String, MetricsEntity> byCode = snapshot.metricsByCode();
+		Map<String, MetricsEntity> result = new HashMap<>();
+		List<String> missing = new ArrayList<>();
+		for (String metricCode : metricCodes) {
+			MetricsEntity metric = byCode.get(metricCode);
+			if (metric != null) {
+				result.put(metricCode, metric);
+			} else {
+				missing.add(metricCode);
+			}
+		}
+		if (!missing.isEmpty()) {
+			metricsRepository.findAllByMetricCodeIn(missing)
+				.forEach(metric -> result.putIfAbsent(metric.getMetricCode(), metric));
+		}
+		return result;
+	}
+
+	/**
+	 * 영문 지표명별 지표를 찾는다. 없는 이름은 결과에서 빠진다.
+	 */
+	public Map<String, MetricsEntity> findAllByNameEns(Collection<String> metricNameEns) {
+		Map<String, MetricsEntity> byNameEn = snapshot.metricsByNameEn();
+		Map<String, MetricsEntity> result = new HashMap<>();
+		List<String> missing = new ArrayList<>();
+		for (String metricNameEn : metricNameEns) {
+			MetricsEntity metric = byNameEn.get(metricNameEn);
+			if (metric != null) {
+				result.put(metricNameEn, metric);
+			} else {
+				missing.add(metricNameEn);
+			}
+		}
+		if (!missing.isEmpty()) {
+			metricsRepository.findAllByMetricNameEnIn(missing)
+				.forEach(metric -> result.putIfAbsent(metric.getMetricNameEn(), metric));
+		}
+		return result;
+	}
+
+	/**
+	 * 핵심 건강도 지표 코드별 설명을 찾는다. 없는 코드는 결과에서 빠진다.
+	 */
+	public Map<String, KeyMetricDescriptionEntity> findKeyMetricDescriptions(Collection<String> metricCodes) {
+		Map<String, KeyMetricDescriptionEntity> byCode = snapshot.keyMetricDescriptionsByCode();
+		Map<String, KeyMetricDescriptionEntity> result = new HashMap<>();
+		List<String> missing = new ArrayList<>();
+		for (String metricCode : metricCodes) {
+			KeyMetricDescriptionEntity description = byCode.get(metricCode);
+			if (description != null) {
+				result.put(metricCode, description);
+			} else {
+				missing.add(metricCode);
+			}
+		}
+		if (!missing.isEmpty()) {
+			keyMetricDescriptionRepository.findAllByMetricCodeIn(missing)
+				.forEach(description -> result.putIfAbsent(description.getMetricCode(), description));
+		}
+		return result;
+	}
+
+	private Version currentVersion() {
+		return new Version(
+			metricsRepository.count(),
+			metricsRepository.findMaxUpdatedAt().orElse(null),
+			keyMetricDescriptionRepository.count(),
+			keyMetricDescriptionRepository.findMaxUpdatedAt().orElse(null)
+		);
+	}
+
+	private record Version(
+		long metricCount,
+		LocalDateTime metricsUpdatedAt,
+		long keyMetricDescriptionCount,
+		LocalDateTime keyMetricDescriptionsUpdatedAt
+	) {
+	}
+
+	private record Snapshot(
+		Version version,
+		Map<String, MetricsEntity> metricsByCode,
+		Map<String, MetricsEntity> metricsByNameEn,
+		Map<String, KeyMetricDescriptionEntity> keyMetricDescriptionsByCode
+	) {
+
+		private static final Snapshot EMPTY = new Snapshot(null, Map.of(), Map.of(), Map.of());
+
+		private static Snapshot of(
+			Version version,
+			List<MetricsEntity> metrics,
+			List<KeyMetricDescriptionEntity> keyMetricDescriptions
+		) {
+			Map<String, MetricsEntity> byCode = new HashMap<>();
+			Map<String, MetricsEntity> byNameEn = new HashMap<>();
+			for (MetricsEntity metric : metrics) {
+				byCode.putIfAbsent(metric.getMetricCode(), metric);
+				if (metric.getMetricNameEn() != null) {
+					byNameEn.putIfAbsent(metric.getMetricNameEn(), metric);
+				}
+			}
+			Map<String, KeyMetricDescriptionEntity> descriptions = new LinkedHashMap<>();
+			for (KeyMetricDescriptionEntity description : keyMetricDescriptions) {
+				descriptions.putIfAbsent(description.getMetricCode(), description);
+			}
+			return new Snapshot(
+				version,
+				Map.copyOf(byCode),
+				Map.copyOf(byNameEn),
+				Map.copyOf(descriptions)
+			);
+		}
+	}
+}
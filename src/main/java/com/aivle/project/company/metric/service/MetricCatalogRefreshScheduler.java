@@ -0,0 +1,30 @@
+package com.aivle.project.company.metric.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 지표 카탈로그의 테이블 버전을 주기적으로 확인해 변경된 경우에만 재적재한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "app.metric.catalog.refresh", name = "enabled", havingValue = "true")
+public class MetricCatalogRefreshScheduler {
+
+	private final MetricCatalog metricCatalog;
+
+	@Scheduled(fixedDelayString = "${app.metric.catalog.refresh.interval-ms:60000}")
+	public void refresh() {
+		try {
+			if (metricCatalog.reloadIfChanged()) {
+				log.info("Metric catalog refreshed after table change");
+			}
+		} catch (Exception e) {
+			log.error("Metric catalog refresh failed", e);
+		}
+	}
+}
@@ -1,12 +1,14 @@
 package com.aivle.project.company.news.client;
 
 import com.aivle.project.common.error.ExternalAiUnavailableException;
+import com.aivle.project.company.client.AiConcurrencyLimitExceededException;
+import com.aivle.project.company.client.AiConcurrencyLimiter;
 import com.aivle.project.company.news.dto.NewsApiResponse;
 import com.aivle.project.company.news.dto.NewsItemResponse;
-import io.github.resilience4j.bulkhead.annotation.Bulkhead;
 import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
 import io.github.resilience4j.retry.annotation.Retry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
@@ -15,11 +17,13 @@ import org.springframework.core.codec.DecodingException;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientRequestException;
+import reactor.core.publisher.Mono;
 
 import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 
 /**
  * AI 서버 뉴스 분석 API 클라이언트.
@@ -32,29 +36,44 @@ public class NewsClient {
     private final boolean mockEnabled;
     private final long mockLatencyMs;
     private final Duration callTimeout;
+	private final AiConcurrencyLimiter concurrencyLimiter;
 
     @Autowired
     public NewsClient(
         @Qualifier("aiWebClient") WebClient aiWebClient,
+		AiConcurrencyLimiter aiConcurrencyLimiter,
         @Value("${ai.server.mock.enabled:false}") boolean mockEnabled,
         @Value("${ai.server.mock.latency-ms:0}") long mockLatencyMs,
 		@Value("${ai.server.http.call-timeout-ms:10000}") long callTimeoutMs
     ) {
-        this(aiWebClient, mockEnabled, mockLatencyMs, Duration.ofMillis(callTimeoutMs));
+        this(aiWebClient, aiConcurrencyLimiter, mockEnabled, mockLatencyMs, Duration.ofMillis(callTimeoutMs));
     }
 
 	// 테스트 코드 호환을 위해 URL 기반 생성자를 유지한다.
 	NewsClient(String aiServerUrl, boolean mockEnabled, long mockLatencyMs) {
-		this(WebClient.builder().baseUrl(aiServerUrl).build(), mockEnabled, mockLatencyMs, Duration.ofMillis(10000L));
+		this(aiServerUrl, mockEnabled, mockLatencyMs, 10000L);
 	}
 
 	// 타임아웃 테스트를 위한 생성자.
 	NewsClient(String aiServerUrl, boolean mockEnabled, long mockLatencyMs, long callTimeoutMs) {
-		this(WebClient.builder().baseUrl(aiServerUrl).build(), mockEnabled, mockLatencyMs, Duration.ofMillis(callTimeoutMs));
+		this(
+			WebClient.builder().baseUrl(aiServerUrl).build(),
+			new AiConcurrencyLimiter(AiConcurrencyLimiter.Settings.DEFAULTS, new SimpleMeterRegistry()),
+			mockEnabled,
+			mockLatencyMs,
+			Duration.ofMillis(callTimeoutMs)
+		);
 	}
 
-	private NewsClient(WebClient webClient, boolean mockEnabled, long mockLatencyMs, Duration callTimeout) {
+	private NewsClient(
+		WebClient webClient,
+		AiConcurrencyLimiter concurrencyLimiter,
+		boolean mockEnabled,
+		long mockLatencyMs,
+		Duration callTimeout
+	) {
         this.webClient = webClient;
+		this.concurrencyLimiter = concurrencyLimiter;
         this.mockEnabled = mockEnabled;
         this.mockLatencyMs = mockLatencyMs;
 		this.callTimeout = callTimeout;
@@ -69,13 +88,11 @@ public class NewsClient {
 	 */
 	@CircuitBreaker(name = "aiServer")
 	@Retry(name = "aiServer")
-	@Bulkhead(name = "aiServer", type = Bulkhead.Type.SEMAPHORE)
 	public NewsApiResponse fetchNews(String companyCode, String companyName) {
 		log.info("Requesting news for company: {} ({})", companyCode, companyName);
 
 		if (mockEnabled) {
-			applyMockLatency();
-			return mockNews(companyCode, companyName);
+			return mockAsync(() -> mockNews(companyCode, companyName)).block();
 		}
 
 	        try {
@@ -102,13 +119,11 @@ public class NewsClient {
 	 */
 	@CircuitBreaker(name = "aiServer")
 	@Retry(name = "aiServer")
-	@Bulkhead(name = "aiServer", type = Bulkhead.Type.SEMAPHORE)
 	public com.aivle.project.company.reportanalysis.dto.ReportApiResponse fetchReport(String companyCode) {
 		log.info("Requesting report analysis for company: {}", companyCode);
 
 		if (mockEnabled) {
-			applyMockLatency();
-			return mockReport(companyCode);
+			return mockAsync(() -> mockReport(companyCode)).block();
 		}
 
 			try {
@@ -126,18 +141,76 @@ public class NewsClient {
 		}
 	}
 
-	private void applyMockLatency() {
-		if (mockLatencyMs <= 0) {
-			return;
+	/**
+	 * fetchNews의 논블로킹 버전. 응답을 기다리는 동안 호출 스레드를 점유하지 않는다.
+	 * 서킷 브레이커와 재시도는 동기 버전과 같은 aiServer 인스턴스가, 동시성 한도는 AiConcurrencyLimiter가 구독 시점에 적용한다.
+	 */
+	@CircuitBreaker(name = "aiServer")
+	@Retry(name = "aiServer")
+	public Mono<NewsApiResponse> fetchNewsAsync(String companyCode, String companyName) {
+		log.info("Requesting news asynchronously for company: {} ({})", companyCode, companyName);
+
+		if (mockEnabled) {
+			return mockAsync(() -> mockNews(companyCode, companyName));
 		}
-		try {
-			Thread.sleep(mockLatencyMs);
-		} catch (InterruptedException e) {
-			Thread.currentThread().interrupt();
+
+		return postMono(
+			"/api/v1/news/{companyCode}",
+			Map.of("company_name", companyName),
+			NewsApiResponse.class,
+			companyCode
+		).onErrorMap(e -> toFetchFailure(e, "news", companyCode));
+	}
+
+	/**
+	 * fetchReport의 논블로킹 버전.
+	 */
+	@CircuitBreaker(name = "aiServer")
+	@Retry(name = "aiServer")
+	public Mono<com.aivle.project.company.reportanalysis.dto.ReportApiResponse> fetchReportAsync(String companyCode) {
+		log.info("Requesting report analysis asynchronously for company: {}", companyCode);
+
+		if (mockEnabled) {
+			return mockAsync(() -> mockReport(companyCode));
 		}
+
+		return getMono(
+			"/api/v1/news/{companyCode}/report",
+			com.aivle.project.company.reportanalysis.dto.ReportApiResponse.class,
+			companyCode
+		).onErrorMap(e -> toFetchFailure(e, "report analysis", companyCode));
+	}
+
+	private RuntimeException toFetchFailure(Throwable throwable, String target, String companyCode) {
+		if (throwable instanceof DecodingException) {
+			log.error("Failed to decode AI {} response for company {}: {}", target, companyCode, throwable.getMessage());
+			return new RuntimeException("AI Server response format error: invalid datetime field", throwable);
+		}
+		log.error("Failed to fetch {} for company {}: {}", target, companyCode, throwable.getMessage());
+		return toExternalAiUnavailable(throwable);
 	}
 
+	// 모의 지연도 타이머로 처리해 비동기 호출이 스레드를 잡지 않게 한다.
+	// 모의 호출도 AiServerClient와 같은 동시성 한도를 거친다.
+	private <T> Mono<T> mockAsync(Supplier<T> mockResponse) {
+		Mono<T> response = Mono.fromSupplier(mockResponse);
+		if (mockLatencyMs > 0) {
+			response = Mono.delay(Duration.ofMillis(mockLatencyMs)).then(response);
+		}
+		return concurrencyLimiter.limit(response)
+			.onErrorMap(AiConcurrencyLimitExceededException.class, this::toExternalAiUnavailable);
+	}
+
+
 	private <T> T postWithTimeout(String uriTemplate, Object body, Class<T> responseType, Object... uriVariables) {
+		return postMono(uriTemplate, body, responseType, uriVariables).block();
+	}
+
+	private <T> T getWithTimeout(String uriTemplate, Class<T> responseType, Object... uriVariables) {
+		return getMono(uriTemplate, responseType, uriVariables).block();
+	}
+
+	private <T> Mono<T> postMono(String uriTemplate, Object body, Class<T> responseType, Object... uriVariables) {
 		return webClient.post()
 			.uri(uriTemplate, uriVariables)
 			.contentType(org.springframework.http.MediaType.APPLICATION_JSON)
@@ -145,16 +218,16 @@ public class NewsClient {
 			.retrieve()
 			.bodyToMono(responseType)
 			.timeout(callTimeout)
-			.block();
+			.transform(concurrencyLimiter::limit);
 	}
 
-	private <T> T getWithTimeout(String uriTemplate, Class<T> responseType, Object... uriVariables) {
+	private <T> Mono<T> getMono(String uriTemplate, Class<T> responseType, Object... uriVariables) {
 		return webClient.get()
 			.uri(uriTemplate, uriVariables)
 			.retrieve()
 			.bodyToMono(responseType)
 			.timeout(callTimeout)
-			.block();
+			.transform(concurrencyLimiter::limit);
 	}
 
 	private ExternalAiUnavailableException toExternalAiUnavailable(Throwable throwable) {
@@ -163,6 +236,9 @@ public class NewsClient {
 	}
 
 	private String resolveReasonCode(Throwable throwable) {
+		if (containsCause(throwable, AiConcurrencyLimitExceededException.class)) {
+			return "AI_OVERLOADED";
+		}
 		if (containsCause(throwable, CallNotPermittedException.class)) {
 			return "AI_CIRCUIT_OPEN";
 		}
@@ -1,5 +1,7 @@
 package com.aivle.project.company.news.service;
 
+import com.aivle.project.common.transaction.ShortTransactionRunner;
+import com.aivle.project.company.dataversion.CompanyDataChangedEvent;
 import com.aivle.project.company.entity.CompaniesEntity;
 import com.aivle.project.company.news.client.NewsClient;
 import com.aivle.project.company.news.dto.NewsApiResponse;
@@ -10,8 +12,11 @@ import com.aivle.project.company.news.repository.NewsAnalysisRepository;
 import com.aivle.project.company.news.repository.NewsArticleRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
@@ -34,25 +39,55 @@ public class NewsService {
     private final NewsArticleRepository newsArticleRepository;
     private final NewsClient newsClient;
     private final com.aivle.project.company.repository.CompaniesRepository companiesRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ShortTransactionRunner shortTransactionRunner;
 
     /**
      * AI 서버에서 뉴스 분석 데이터를 가져와 저장합니다.
+     * AI 응답을 기다리는 동안에는 트랜잭션을 열지 않고, 받은 결과만 짧은 트랜잭션으로 저장합니다.
      *
      * @param stockCode 기업 코드 (stock_code)
      * @return 저장된 뉴스 분석 정보
      */
-	    @Transactional
-	    public NewsAnalysisResponse fetchAndStoreNews(String stockCode) {
+    public NewsAnalysisResponse fetchAndStoreNews(String stockCode) {
         // 1. stockCode로 기업 조회
         CompaniesEntity company = companiesRepository.findByStockCode(stockCode)
                 .orElseThrow(() -> new IllegalArgumentException("Company not found for stockCode: " + stockCode));
 
         log.info("Fetching news for company: {} ({})", company.getCorpName(), stockCode);
 
-        // 2. AI 서버 API 호출
-	        NewsApiResponse apiResponse = fetchNewsOrThrow(stockCode, company.getCorpName());
+        // 2. AI 서버 API 호출 (트랜잭션 밖)
+        NewsApiResponse apiResponse = fetchNewsOrThrow(stockCode, company.getCorpName());
 
-        // 3. 분석 엔티티 생성 및 저장
+        // 3. 응답 저장 (짧은 쓰기 트랜잭션)
+        return shortTransactionRunner.write("NewsService.fetchAndStoreNews", () -> storeNews(company, apiResponse));
+    }
+
+    /**
+     * fetchAndStoreNews의 논블로킹 버전.
+     * AI 응답은 호출 스레드를 잡지 않고 기다리고, 응답을 받은 뒤에만 boundedElastic 스레드에서 짧은 트랜잭션으로 저장합니다.
+     *
+     * @param stockCode 기업 코드 (stock_code)
+     * @return 저장된 뉴스 분석 정보를 내보내는 Mono
+     */
+    public Mono<NewsAnalysisResponse> fetchAndStoreNewsAsync(String stockCode) {
+        return Mono.fromCallable(() -> companiesRepository.findByStockCode(stockCode)
+                        .orElseThrow(() -> new IllegalArgumentException("Company not found for stockCode: " + stockCode)))
+                .flatMap(company -> {
+                    log.info("Fetching news asynchronously for company: {} ({})", company.getCorpName(), stockCode);
+                    return newsClient.fetchNewsAsync(stockCode, company.getCorpName())
+                            .switchIfEmpty(Mono.error(() ->
+                                    new IllegalStateException("AI news response is null for stockCode: " + stockCode)))
+                            .publishOn(Schedulers.boundedElastic())
+                            .map(apiResponse -> shortTransactionRunner.write(
+                                    "NewsService.fetchAndStoreNews",
+                                    () -> storeNews(company, apiResponse)
+                            ));
+                });
+    }
+
+    private NewsAnalysisResponse storeNews(CompaniesEntity company, NewsApiResponse apiResponse) {
+        // 분석 엔티티 생성 및 저장
         com.aivle.project.company.news.entity.NewsAnalysisEntity analysis =
                 com.aivle.project.company.news.entity.NewsAnalysisEntity.builder()
                         .company(company)
@@ -66,29 +101,43 @@ public class NewsService {
         com.aivle.project.company.news.entity.NewsAnalysisEntity savedAnalysis =
                 newsAnalysisRepository.save(analysis);
 
-        // 4. 뉴스 기사 생성 및 저장
+        // 뉴스 기사 생성 및 저장
         List<com.aivle.project.company.news.entity.NewsArticleEntity> articles = apiResponse.news().stream()
                 .map(newsItem -> createNewsArticleEntity(savedAnalysis, newsItem))
                 .toList();
 
         newsArticleRepository.saveAll(articles);
+        eventPublisher.publishEvent(CompanyDataChangedEvent.of(company.getId()));
 
         log.info("News saved for company: {}, analysisId: {}, articleCount: {}",
                 company.getCorpName(), savedAnalysis.getId(), articles.size());
 
-        // 5. DTO로 변환하여 반환
+        // DTO로 변환하여 반환
         return NewsAnalysisResponse.from(company.getId(), savedAnalysis, articles);
     }
 
 	/**
 	 * 최신 뉴스를 재수집하고 average_score 누락 시 기사 점수 평균으로 복구합니다.
+	 * 재수집은 트랜잭션 밖에서 하고, 복구와 최신 조회만 짧은 트랜잭션으로 묶습니다.
 	 */
-	@Transactional
 	public NewsRefreshResponse refreshLatestNews(String stockCode) {
-		NewsAnalysisResponse analysis = fetchAndStoreNews(stockCode);
-		boolean repaired = repairAverageScoreIfMissing(analysis.id());
-		NewsAnalysisResponse latest = getLatestNews(stockCode);
-		return new NewsRefreshResponse(latest != null ? latest : analysis, repaired);
+		return completeRefresh(stockCode, fetchAndStoreNews(stockCode));
+	}
+
+	/**
+	 * refreshLatestNews의 논블로킹 버전. 복구와 최신 조회는 저장을 마친 스레드에서 이어서 수행합니다.
+	 */
+	public Mono<NewsRefreshResponse> refreshLatestNewsAsync(String stockCode) {
+		return fetchAndStoreNewsAsync(stockCode)
+			.map(analysis -> completeRefresh(stockCode, analysis));
+	}
+
+	private NewsRefreshResponse completeRefresh(String stockCode, NewsAnalysisResponse analysis) {
+		return shortTransactionRunner.write("NewsService.refreshLatestNews", () -> {
+			boolean repaired = repairAverageScoreIfMissing(analysis.id());
+			NewsAnalysisResponse latest = getLatestNews(stockCode);
+			return new NewsRefreshResponse(latest != null ? latest : analysis, repaired);
+		});
 	}
 
 	private NewsApiResponse fetchNewsOrThrow(String stockCode, String companyName) {
@@ -0,0 +1,34 @@
+package com.aivle.project.company.report.batch;
+
+import com.aivle.project.company.report.service.CompanyReportLatestVersionBatchService;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 최신 버전 포인터 정합성 점검/복구 스케줄러.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "report.latest-version.repair", name = "enabled", havingValue = "true")
+public class CompanyReportLatestVersionScheduler {
+
+	private final CompanyReportLatestVersionBatchService companyReportLatestVersionBatchService;
+
+	@Value("${report.latest-version.repair.auto-repair:true}")
+	private boolean autoRepair;
+
+	@Scheduled(cron = "${report.latest-version.repair.cron:0 30 4 * * *}")
+	public void verifyDaily() {
+		try {
+			companyReportLatestVersionBatchService.verify(autoRepair, "SCHEDULE", UUID.randomUUID().toString());
+		} catch (Exception ex) {
+			log.warn("최신 버전 포인터 점검 실패", ex);
+		}
+	}
+}
@@ -3,7 +3,9 @@ package com.aivle.project.company.report.controller;
 import com.aivle.project.common.dto.ApiResponse;
 import com.aivle.project.company.report.dto.CompanyMetricValueCommand;
 import com.aivle.project.company.report.dto.ReportImportResult;
+import com.aivle.project.company.report.dto.ReportLatestVersionRepairResult;
 import com.aivle.project.company.report.dto.ReportMetricGroupedResponse;
+import com.aivle.project.company.report.service.CompanyReportLatestVersionBatchService;
 import com.aivle.project.company.report.service.CompanyReportMetricImportService;
 import com.aivle.project.company.report.service.CompanyReportMetricQueryService;
 import com.aivle.project.company.report.util.ExcelIndustryMetricParser;
@@ -16,6 +18,7 @@ import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.UUID;
 
 @Tag(name = "Admin Report Management", description = "관리자용 보고서 관리 API")
 @RestController
@@ -26,6 +29,7 @@ public class AdminReportController {
     private final CompanyReportMetricImportService metricImportService;
     private final CompanyReportMetricQueryService metricQueryService;
     private final ExcelIndustryMetricParser industryMetricParser;
+    private final CompanyReportLatestVersionBatchService latestVersionBatchService;
 
     @Operation(summary = "업종 상대 지표 조회", description = "특정 기업의 업종 상대 위험 지표를 분기 범위로 조회합니다.")
     @GetMapping("/companies/{stockCode}/metrics/industry-relative")
@@ -56,4 +60,16 @@ public class AdminReportController {
         
         return ApiResponse.ok(result);
     }
+
+    @Operation(summary = "최신 버전 포인터 정합성 점검", description = "보고서별 최신 버전 포인터와 원천 지표 값의 불일치 건수를 조회합니다.")
+    @GetMapping("/latest-versions/verify")
+    public ApiResponse<ReportLatestVersionRepairResult> verifyLatestVersions() {
+        return ApiResponse.ok(latestVersionBatchService.verify(false, "MANUAL", UUID.randomUUID().toString()));
+    }
+
+    @Operation(summary = "최신 버전 포인터 재구축", description = "전체 보고서를 순회하며 최신 버전 포인터를 원천 지표 값 기준으로 복구합니다.")
+    @PostMapping("/latest-versions/rebuild")
+    public ApiResponse<ReportLatestVersionRepairResult> rebuildLatestVersions() {
+        return ApiResponse.ok(latestVersionBatchService.verify(true, "MANUAL", UUID.randomUUID().toString()));
+    }
 }
@@ -0,0 +1,11 @@
+package com.aivle.project.company.report.dto;
+
+/**
+ * 원천 지표 값 기준으로 집계한 기업별 최신 ACTUAL 분기.
+ */
+public interface CompanyLatestActualQuarterProjection {
+
+	Long getCompanyId();
+
+	Integer getQuarterKey();
+}
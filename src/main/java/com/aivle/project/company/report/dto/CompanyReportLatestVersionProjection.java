@@ -0,0 +1,19 @@
+package com.aivle.project.company.report.dto;
+
+import com.aivle.project.company.metric.entity.MetricValueType;
+
+/**
+ * 원천 지표 값 기준으로 집계한 (보고서, 값 유형)별 최신 유효 버전.
+ */
+public interface CompanyReportLatestVersionProjection {
+
+	Long getCompanyReportId();
+
+	MetricValueType getValueType();
+
+	Integer getLatestVersionNo();
+
+	Integer getLatestRiskVersionNo();
+
+	Integer getLatestNonRiskVersionNo();
+}
@@ -0,0 +1,13 @@
+package com.aivle.project.company.report.dto;
+
+/**
+ * 최신 버전 포인터 점검/복구 결과.
+ */
+public record ReportLatestVersionRepairResult(
+	int checkedReports,
+	int mismatchedPointers,
+	boolean repaired,
+	String triggerType,
+	String executionId
+) {
+}
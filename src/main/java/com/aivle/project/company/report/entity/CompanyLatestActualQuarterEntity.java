@@ -0,0 +1,50 @@
+package com.aivle.project.company.report.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * company_latest_actual_quarters 테이블에 매핑되는 기업별 최신 ACTUAL 분기 포인터.
+ * 최신 분기 조회는 지표 값 MAX 집계 대신 이 포인터를 PK로 읽는다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "company_latest_actual_quarters")
+public class CompanyLatestActualQuarterEntity {
+
+	@Id
+	@Column(name = "company_id", nullable = false)
+	private Long companyId;
+
+	@Column(name = "quarter_key", nullable = false)
+	private int quarterKey;
+
+	@Column(name = "refreshed_at", nullable = false)
+	private LocalDateTime refreshedAt;
+
+	/**
+	 * 포인터 생성.
+	 */
+	public static CompanyLatestActualQuarterEntity create(Long companyId, int quarterKey, LocalDateTime refreshedAt) {
+		CompanyLatestActualQuarterEntity pointer = new CompanyLatestActualQuarterEntity();
+		pointer.companyId = companyId;
+		pointer.quarterKey = quarterKey;
+		pointer.refreshedAt = refreshedAt;
+		return pointer;
+	}
+
+	/**
+	 * 재계산된 분기를 반영한다.
+	 */
+	public void update(int quarterKey, LocalDateTime refreshedAt) {
+		this.quarterKey = quarterKey;
+		this.refreshedAt = refreshedAt;
+	}
+}
@@ -0,0 +1,112 @@
+package com.aivle.project.company.report.entity;
+
+import com.aivle.project.company.metric.entity.MetricValueType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.Objects;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * company_report_latest_versions 테이블에 매핑되는 (보고서, 값 유형)별 최신 유효 버전 포인터.
+ * 지표 조회 쿼리는 MAX(version_no) 서브쿼리 대신 이 포인터와 조인한다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "company_report_latest_versions")
+@IdClass(CompanyReportLatestVersionEntity.Key.class)
+public class CompanyReportLatestVersionEntity {
+
+	@Id
+	@Column(name = "company_report_id", nullable = false)
+	private Long companyReportId;
+
+	@Id
+	@Enumerated(EnumType.STRING)
+	@Column(name = "value_type", nullable = false, length = 20)
+	private MetricValueType valueType;
+
+	@Column(name = "latest_version_no", nullable = false)
+	private int latestVersionNo;
+
+	@Column(name = "latest_risk_version_no")
+	private Integer latestRiskVersionNo;
+
+	@Column(name = "latest_non_risk_version_no")
+	private Integer latestNonRiskVersionNo;
+
+	@Column(name = "refreshed_at", nullable = false)
+	private LocalDateTime refreshedAt;
+
+	/**
+	 * 포인터 생성.
+	 */
+	public static CompanyReportLatestVersionEntity create(
+		Long companyReportId,
+		MetricValueType valueType,
+		int latestVersionNo,
+		Integer latestRiskVersionNo,
+		Integer latestNonRiskVersionNo,
+		LocalDateTime refreshedAt
+	) {
+		CompanyReportLatestVersionEntity pointer = new CompanyReportLatestVersionEntity();
+		pointer.companyReportId = companyReportId;
+		pointer.valueType = valueType;
+		pointer.latestVersionNo = latestVersionNo;
+		pointer.latestRiskVersionNo = latestRiskVersionNo;
+		pointer.latestNonRiskVersionNo = latestNonRiskVersionNo;
+		pointer.refreshedAt = refreshedAt;
+		return pointer;
+	}
+
+	/**
+	 * 원천 데이터와 동일한 포인터인지 확인한다.
+	 */
+	public boolean matches(int latestVersionNo, Integer latestRiskVersionNo, Integer latestNonRiskVersionNo) {
+		return this.latestVersionNo == latestVersionNo
+			&& Objects.equals(this.latestRiskVersionNo, latestRiskVersionNo)
+			&& Objects.equals(this.latestNonRiskVersionNo, latestNonRiskVersionNo);
+	}
+
+	/**
+	 * 재계산된 포인터를 반영한다.
+	 */
+	public void update(
+		int latestVersionNo,
+		Integer latestRiskVersionNo,
+		Integer latestNonRiskVersionNo,
+		LocalDateTime refreshedAt
+	) {
+		this.latestVersionNo = latestVersionNo;
+		this.latestRiskVersionNo = latestRiskVersionNo;
+		this.latestNonRiskVersionNo = latestNonRiskVersionNo;
+		this.refreshedAt = refreshedAt;
+	}
+
+	public Key getKey() {
+		return new Key(companyReportId, valueType);
+	}
+
+	/**
+	 * 포인터 복합 키.
+	 */
+	@Getter
+	@NoArgsConstructor
+	@AllArgsConstructor
+	@EqualsAndHashCode
+	public static class Key implements Serializable {
+		private Long companyReportId;
+		private MetricValueType valueType;
+	}
+}
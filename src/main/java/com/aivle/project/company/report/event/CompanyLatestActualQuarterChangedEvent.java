@@ -0,0 +1,9 @@
+package com.aivle.project.company.report.event;
+
+import java.util.Set;
+
+/**
+ * 기업별 최신 ACTUAL 분기 포인터가 바뀌었음을 알리는 이벤트.
+ */
+public record CompanyLatestActualQuarterChangedEvent(Set<Long> companyIds) {
+}
@@ -0,0 +1,226 @@
+package com.aivle.project.company.report.quarter.service;
+
+import com.aivle.project.common.util.GetOrCreateResolver;
+import com.aivle.project.company.report.quarter.entity.QuartersEntity;
+import com.aivle.project.company.report.quarter.repository.QuartersRepository;
+import com.aivle.project.company.report.quarter.support.QuarterCalculator;
+import com.aivle.project.company.report.quarter.support.YearQuarter;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 분기 차원 레지스트리.
+ * 분기 행은 수십 건 수준이고 생성 후 바뀌지 않으므로 기동 시 전부 적재해 불변 배열로 조회한다.
+ * 없는 분기는 DB에서 찾거나 생성하며, 같은 분기를 동시에 생성하려는 요청은 하나의 INSERT로 합친다.
+ * 트랜잭션 안에서 읽거나 만든 분기는 커밋된 뒤에만 레지스트리에 반영해 롤백된 행이 남지 않게 한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class QuarterRegistry {
+
+	private static final long CREATION_WAIT_SECONDS = 30;
+
+	private final QuartersRepository quartersRepository;
+	private final Map<Integer, CompletableFuture<QuartersEntity>> creations = new ConcurrentHashMap<>();
+
+	private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void preload() {
+		try {
+			List<QuartersEntity> quarters = quartersRepository.findAll();
+			synchronized (this) {
+				snapshot = Snapshot.of(quarters);
+			}
+			log.info("Quarter registry loaded: count={}", quarters.size());
+		} catch (Exception e) {
+			log.warn("Failed to preload quarter registry: {}", e.getMessage());
+		}
+	}
+
+	/**
+	 * 분기 키로 분기를 찾는다. 레지스트리에 없으면 DB를 조회한다.
+	 */
+	public Optional<QuartersEntity> find(int quarterKey) {
+		QuartersEntity cached = snapshot.get(quarterKey);
+		if (cached != null) {
+			return Optional.of(cached);
+		}
+		Optional<QuartersEntity> found = quartersRepository.findByQuarterKey(quarterKey);
+		found.ifPresent(this::registerAfterCommit);
+		return found;
+	}
+
+	public Optional<QuartersEntity> find(int year, int quarter) {
+		if (quarter < 1 || quarter > 4) {
+			return Optional.empty();
+		}
+		return find(new YearQuarter(year, quarter).toQuarterKey());
+	}
+
+	/**
+	 * 분기를 찾고, 없으면 생성한다.
+	 *
+	 * @throws IllegalArgumentException 분기 키가 유효하지 않은 경우
+	 */
+	public QuartersEntity getOrCreate(int quarterKey) {
+		YearQuarter yearQuarter = QuarterCalculator.parseQuarterKey(quarterKey);
+		Optional<QuartersEntity> existing = find(quarterKey);
+		if (existing.isPresent()) {
+			return existing.get();
+		}
+
+		CompletableFuture<QuartersEntity> creation = new CompletableFuture<>();
+		CompletableFuture<QuartersEntity> inFlight = creations.putIfAbsent(quarterKey, creation);
+		if (inFlight != null) {
+			QuartersEntity created = await(inFlight);
+			// 먼저 생성하던 요청이 롤백되었거나 늦어지면 DB 기준으로 직접 확정한다.
+			return created != null ? created : createOrFind(yearQuarter);
+		}
+
+		try {
+			QuartersEntity created = createOrFind(yearQuarter);
+			completeOnCommit(quarterKey, creation, created);
+			return created;
+		} catch (RuntimeException ex) {
+			creations.remove(quarterKey, creation);
+			creation.complete(null);
+			throw ex;
+		}
+	}
+
+	public QuartersEntity getOrCreate(YearQuarter yearQuarter) {
+		return getOrCreate(yearQuarter.toQuarterKey());
+	}
+
+	private QuartersEntity createOrFind(YearQuarter yearQuarter) {
+		int quarterKey = yearQuarter.toQuarterKey();
+		return GetOrCreateResolver.resolve(
+			() -> quartersRepository.findByQuarterKey(quarterKey),
+			() -> quartersRepository.save(QuartersEntity.create(
+				yearQuarter.year(),
+				yearQuarter.quarter(),
+				quarterKey,
+				QuarterCalculator.startDate(yearQuarter),
+				QuarterCalculator.endDate(yearQuarter)
+			)),
+			() -> quartersRepository.findByQuarterKey(quarterKey)
+		);
+	}
+
+	private void completeOnCommit(int quarterKey, CompletableFuture<QuartersEntity> creation, QuartersEntity created) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			register(created);
+			creations.remove(quarterKey, creation);
+			creation.complete(created);
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCompletion(int status) {
+				boolean committed = status == STATUS_COMMITTED;
+				if (committed) {
+					register(created);
+				}
+				creations.remove(quarterKey, creation);
+				creation.complete(committed ? created : null);
+			}
+		});
+	}
+
+	private QuartersEntity await(CompletableFuture<QuartersEntity> creation) {
+		try {
+			return creation.get(CREATION_WAIT_SECONDS, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return null;
+		} catch (ExecutionException | TimeoutException e) {
+			return null;
+		}
+	}
+
+	private void registerAfterCommit(QuartersEntity quarter) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			register(quarter);
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				register(quarter);
+			}
+		});
+	}
+
+	private synchronized void register(QuartersEntity quarter) {
+		if (snapshot.get(quarter.getQuarterKey()) == null) {
+			snapshot = snapshot.with(quarter);
+		}
+	}
+
+	/**
+	 * 분기 서수(연도 * 4 + 분기 - 1)를 인덱스로 쓰는 불변 배열.
+	 */
+	private record Snapshot(int minOrdinal, QuartersEntity[] quarters) {
+
+		private static final Snapshot EMPTY = new Snapshot(0, new QuartersEntity[0]);
+
+		private static Snapshot of(Collection<QuartersEntity> entities) {
+			if (entities.isEmpty()) {
+				return EMPTY;
+			}
+			int min = Integer.MAX_VALUE;
+			int max = Integer.MIN_VALUE;
+			for (QuartersEntity entity : entities) {
+				int ordinal = ordinal(entity.getQuarterKey());
+				min = Math.min(min, ordinal);
+				max = Math.max(max, ordinal);
+			}
+			QuartersEntity[] quarters = new QuartersEntity[max - min + 1];
+			for (QuartersEntity entity : entities) {
+				quarters[ordinal(entity.getQuarterKey()) - min] = entity;
+			}
+			return new Snapshot(min, quarters);
+		}
+
+		private QuartersEntity get(int quarterKey) {
+			int quarter = quarterKey % 10;
+			if (quarter < 1 || quarter > 4) {
+				return null;
+			}
+			int index = ordinal(quarterKey) - minOrdinal;
+			return index >= 0 && index < quarters.length ? quarters[index] : null;
+		}
+
+		private Snapshot with(QuartersEntity entity) {
+			List<QuartersEntity> entities = new ArrayList<>(quarters.length + 1);
+			for (QuartersEntity existing : quarters) {
+				if (existing != null) {
+					entities.add(existing);
+				}
+			}
+			entities.add(entity);
+			return of(entities);
+		}
+
+		private static int ordinal(int quarterKey) {
+			return (quarterKey / 10) * 4 + (quarterKey % 10 - 1);
+		}
+	}
+}
@@ -0,0 +1,37 @@
+package com.aivle.project.company.report.repository;
+
+import com.aivle.project.company.report.dto.CompanyLatestActualQuarterProjection;
+import com.aivle.project.company.report.entity.CompanyLatestActualQuarterEntity;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+/**
+ * 기업별 최신 ACTUAL 분기 포인터 리포지토리.
+ */
+public interface CompanyLatestActualQuarterRepository extends JpaRepository<CompanyLatestActualQuarterEntity, Long> {
+
+	/**
+	 * 같은 기업의 포인터를 동시에 재계산하지 않도록 기업 행을 id 순서대로 잠근다.
+	 */
+	@Query(value = "SELECT id FROM companies WHERE id IN (:companyIds) ORDER BY id FOR UPDATE", nativeQuery = true)
+	List<Long> lockCompanies(@Param("companyIds") Collection<Long> companyIds);
+
+	@Query("""
+		select cr.company.id as companyId,
+			max(q.quarterKey) as quarterKey
+		from CompanyReportMetricValuesEntity v
+		join v.reportVersion rv
+		join rv.companyReport cr
+		join v.quarter q
+		where cr.company.id in :companyIds
+		  and v.valueType = com.aivle.project.company.metric.entity.MetricValueType.ACTUAL
+		  and v.metricValue is not null
+		group by cr.company.id
+		""")
+	List<CompanyLatestActualQuarterProjection> aggregateLatestActualQuarters(
+		@Param("companyIds") Collection<Long> companyIds
+	);
+}
@@ -0,0 +1,36 @@
+package com.aivle.project.company.report.repository;
+
+import com.aivle.project.company.report.dto.CompanyReportLatestVersionProjection;
+import com.aivle.project.company.report.entity.CompanyReportLatestVersionEntity;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+/**
+ * 보고서 최신 유효 버전 포인터 리포지토리.
+ */
+public interface CompanyReportLatestVersionRepository
+	extends JpaRepository<CompanyReportLatestVersionEntity, CompanyReportLatestVersionEntity.Key> {
+
+	List<CompanyReportLatestVersionEntity> findAllByCompanyReportIdIn(Collection<Long> companyReportIds);
+
+	@Query("""
+		select rv.companyReport.id as companyReportId,
+			v.valueType as valueType,
+			max(rv.versionNo) as latestVersionNo,
+			max(case when m.isRiskIndicator = true then rv.versionNo else null end) as latestRiskVersionNo,
+			max(case when m.isRiskIndicator = false then rv.versionNo else null end) as latestNonRiskVersionNo
+		from CompanyReportMetricValuesEntity v
+		join v.reportVersion rv
+		join v.metric m
+		where rv.companyReport.id in :companyReportIds
+		  and v.metricValue is not null
+		  and v.valueType is not null
+		group by rv.companyReport.id, v.valueType
+		""")
+	List<CompanyReportLatestVersionProjection> aggregateLatestVersions(
+		@Param("companyReportIds") Collection<Long> companyReportIds
+	);
+}
@@ -11,6 +11,7 @@ import com.aivle.project.company.report.dto.MetricValueSampleProjection;
 import com.aivle.project.company.report.dto.ReportMetricRowProjection;
 import com.aivle.project.company.report.dto.ReportPredictMetricRowProjection;
 import com.aivle.project.company.report.entity.CompanyReportMetricValuesEntity;
+import com.aivle.project.company.report.entity.QCompanyReportLatestVersionEntity;
 import com.aivle.project.company.report.entity.QCompanyReportMetricValuesEntity;
 import com.aivle.project.company.report.entity.QCompanyReportVersionsEntity;
 import com.aivle.project.company.report.entity.QCompanyReportsEntity;
@@ -41,8 +42,7 @@ public class CompanyReportMetricValuesRepositoryImpl implements CompanyReportMet
 		QMetricsEntity m = QMetricsEntity.metricsEntity;
 		QQuartersEntity q = QQuartersEntity.quartersEntity;
 
-		QCompanyReportVersionsEntity rv2 = new QCompanyReportVersionsEntity("rv2");
-		QCompanyReportMetricValuesEntity v2 = new QCompanyReportMetricValuesEntity("v2");
+		QCompanyReportLatestVersionEntity lv = QCompanyReportLatestVersionEntity.companyReportLatestVersionEntity;
 
 		return queryFactory
 			.select(Projections.constructor(ReportMetricRowDto.class,
@@ -59,24 +59,14 @@ public class CompanyReportMetricValuesRepositoryImpl implements CompanyReportMet
 			.from(v)
 			.join(v.reportVersion, rv)
 			.join(rv.companyReport, cr)
+			.join(lv).on(lv.companyReportId.eq(cr.id), lv.valueType.eq(MetricValueType.ACTUAL))
 			.join(cr.company, c)
 			.join(v.metric, m)
 			.join(v.quarter, q)
 			.where(
 				c.stockCode.eq(stockCode),
 				q.quarterKey.between(fromQuarterKey, toQuarterKey),
-				rv.versionNo.eq(
-					JPAExpressions.select(rv2.versionNo.max())
-						.from(rv2)
-						.where(rv2.companyReport.eq(cr),
-							JPAExpressions.selectOne()
-								.from(v2)
-								.where(v2.reportVersion.eq(rv2),
-									v2.valueType.eq(MetricValueType.ACTUAL),
-									v2.metricValue.isNotNull()
-								).exists()
-						)
-				)
+				rv.versionNo.eq(lv.latestVersionNo)
 			)
 			.orderBy(q.quarterKey.asc(), m.metricCode.asc())
 			.fetch()
@@ -99,8 +89,7 @@ public class CompanyReportMetricValuesRepositoryImpl implements CompanyReportMet
 		QMetricsEntity m = QMetricsEntity.metricsEntity;
 		QQuartersEntity q = QQuartersEntity.quartersEntity;
 
-		QCompanyReportVersionsEntity rv2 = new QCompanyReportVersionsEntity("rv2");
-		QCompanyReportMetricValuesEntity v2 = new QCompanyReportMetricValuesEntity("v2");
+		QCompanyReportLatestVersionEntity lv = QCompanyReportLatestVersionEntity.companyReportLatestVersionEntity;
 
 		return queryFactory
 			.select(Projections.constructor(ReportMetricRowDto.class,
@@ -117,6 +106,7 @@ public class CompanyReportMetricValuesRepositoryImpl implements CompanyReportMet
 			.from(v)
 			.join(v.reportVersion, rv)
 			.join(rv.companyReport, cr)
+			.join(lv).on(lv.companyReportId.eq(cr.id), lv.valueType.eq(MetricValueType.ACTUAL))
 			.join(cr.company, c)
 			.join(v.metric, m)
 			.join(v.quarter, q)
@@ -124,18 +114,7 @@ public class CompanyReportMetricValuesRepositoryImpl implements CompanyReportMet
 				c.stockCode.eq(stockCode),
 				q.quarterKey.between(fromQuarterKey, toQuarterKey),
 				m.metricCode.in(metricCodes),
-				rv.versionNo.eq(
-					JPAExpressions.select(rv2.versionNo.max())
-						.from(rv2)
-						.where(rv2.companyReport.eq(cr),
-							JPAExpressions.selectOne()
-								.from(v2)
-								.where(v2.reportVersion.eq(rv2),
-									v2.valueType.eq(MetricValueType.ACTUAL),
-									v2.metricValue.isNotNull()
-								).exists()
-						)
-				)
+				rv.versionNo.eq(lv.latestVersionNo)
 			)
 			.orderBy(q.quarterKey.asc(), m.metricCode.asc())
 			.fetch()
@@ -158,8 +137,7 @@ public class CompanyReportMetricValuesRepositoryImpl implements CompanyReportMet
 		QQuartersEntity q = QQuartersEntity.quartersEntity;
 		QFilesEntity f = QFilesEntity.filesEntity;
 
-		QCompanyReportVersionsEntity rv2 = new QCompanyReportVersionsEntity("rv2");
-		QCompanyReportMetricValuesEntity v2 = new QCompanyReportMetricValuesEntity("v2");
+		QCompanyReportLatestVersionEntity lv = QCompanyReportLatestVersionEntity.companyReportLatestVersionEntity;
 
 		return queryFactory
 			.select(Projections.constructor(ReportPredictMetricRowDto.class,
@@ -179,6 +157,7 @@ public class CompanyReportMetricValuesRepositoryImpl implements CompanyReportMet
 			.from(v)
 			.join(v.reportVersion, rv)
 			.join(rv.companyReport, cr)
+			.join(lv).on(lv.companyReportId.eq(cr.id), lv.valueType.eq(valueType))
 			.join(cr.company, c)
 			.join(v.metric, m)
 			.join(v.quarter, q)
@@ -187,18 +166,7 @@ public class CompanyReportMetricValuesRepositoryImpl implements CompanyReportMet
 				c.stockCode.eq(stockCode),
 				cr.quarter.quarterKey.eq(quarterKey),
 				v.valueType.eq(valueType),
-				rv.versionNo.eq(
-					JPAExpressions.select(rv2.versionNo.max())
-						.from(rv2)
-						.where(rv2.companyReport.eq(cr),
-							JPAExpressions.selectOne()
-								.from(v2)
-								.where(v2.reportVersion.eq(rv2),
-									v2.valueType.eq(valueType),
-									v2.metricValue.isNotNull()
-								).exists()
-						)
-				)
+				rv.versionNo.eq(lv.latestVersionNo)
 			)
 			.orderBy(m.metricCode.asc())
 			.fetch()
@@ -221,8 +189,7 @@ public class CompanyReportMetricValuesRepositoryImpl implements CompanyReportMet
 		QQuartersEntity q = QQuartersEntity.quartersEntity;
 		QFilesEntity f = QFilesEntity.filesEntity;
 
-		QCompanyReportVersionsEntity rv2 = new QCompanyReportVersionsEntity("rv2");
-		QCompanyReportMetricValuesEntity v2 = new QCompanyReportMetricValuesEntity("v2");
+		QCompanyReportLatestVersionEntity lv = QCompanyReportLatestVersionEntity.companyReportLatestVersionEntity;
 
 		return queryFactory
 			.select(Projections.constructor(ReportPredictMetricRowDto.class,
@@ -242,6 +209,7 @@ public class CompanyReportMetricValuesRepositoryImpl implements CompanyReportMet
 			.from(v)
 			.join(v.reportVersion, rv)
 			.join(rv.companyReport, cr)
+			.join(lv).on(lv.companyReportId.eq(cr.id), lv.valueType.eq(valueType))
 			.join(cr.company, c)
 			.join(v.metric, m)
 			.join(v.quarter, q)
@@ -250,18 +218,7 @@ public class CompanyReportMetricValuesRepositoryImpl implements CompanyReportMet
 				c.id.eq(companyId),
 				cr.quarter.quarterKey.eq(quarterKey),
 				v.valueType.eq(valueType),
-				rv.versionNo.eq(
-					JPAExpressions.select(rv2.versionNo.max())
-						.from(rv2)
-						.where(rv2.companyReport.eq(cr),
-							JPAExpressions.selectOne()
-								.from(v2)
-								.where(v2.reportVersion.eq(rv2),
-									v2.valueType.eq(valueType),
-									v2.metricValue.isNotNull()
-								).exists()
-						)
-				)
+				rv.versionNo.eq(lv.latestVersionNo)
 			)
 			.orderBy(m.metricCode.asc())
 			.fetch()
@@ -285,44 +242,7 @@ public class CompanyReportMetricValuesRepositoryImpl implements CompanyReportMet
 		QQuartersEntity q = QQuartersEntity.quartersEntity;
 		QMetricDescriptionEntity md = QMetricDescriptionEntity.metricDescriptionEntity;
 
-		QCompanyReportVersionsEntity rv2 = new QCompanyReportVersionsEntity("rv2");
-		QCompanyReportMetricValuesEntity v2 = new QCompanyReportMetricValuesEntity("v2");
-		QMetricsEntity m2 = new QMetricsEntity("m2");
-		QCompanyReportVersionsEntity rv3 = new QCompanyReportVersionsEntity("rv3");
-		QCompanyReportMetricValuesEntity v3 = new QCompanyReportMetricValuesEntity("v3");
-		QMetricsEntity m3 = new QMetricsEntity("m3");
-
-		var latestRiskVersion = JPAExpressions.select(rv2.versionNo.max())
-			.from(rv2)
-			.where(
-				rv2.companyReport.eq(cr),
-				JPAExpressions.selectOne()
-					.from(v2)
-					.join(v2.metric, m2)
-					.where(
-						v2.reportVersion.eq(rv2),
-						v2.valueType.eq(valueType),
-						v2.metricValue.isNotNull(),
-						m2.isRiskIndicator.isTrue()
-					)
-					.exists()
-			);
-
-		var latestNonRiskVersion = JPAExpressions.select(rv3.versionNo.max())
-			.from(rv3)
-			.where(
-				rv3.companyReport.eq(cr),
-				JPAExpressions.selectOne()
-					.from(v3)
-					.join(v3.metric, m3)
-					.where(
-						v3.reportVersion.eq(rv3),
-						v3.valueType.eq(valueType),
-						v3.metricValue.isNotNull(),
-						m3.isRiskIndicator.isFalse()
-					)
-					.exists()
-			);
+		QCompanyReportLatestVersionEntity lv = QCompanyReportLatestVersionEntity.companyReportLatestVersionEntity;
 
 		return queryFactory
 			.select(Projections.constructor(CompanyOverviewMetricRowDto.class,
@@ -340,6 +260,7 @@ public class CompanyReportMetricValuesRepositoryImpl implements CompanyReportMet
 			.from(v)
 			.join(v.reportVersion, rv)
 			.join(rv.companyReport, cr)
+			.join(lv).on(lv.companyReportId.eq(cr.id), lv.valueType.eq(valueType))
 			.join(cr.company, c)
 			.join(v.metric, m)
 			.join(v.quarter, q)
@@ -349,8 +270,8 @@ public class CompanyReportMetricValuesRepositoryImpl implements CompanyReportMet
 				q.id.eq(quarterId),
 				v.valueType.eq(valueType),
 				v.metricValue.isNotNull(),
-				m.isRiskIndicator.isTrue().and(rv.versionNo.eq(latestRiskVersion))
-					.or(m.isRiskIndicator.isFalse().and(rv.versionNo.eq(latestNonRiskVersion)))
+				m.isRiskIndicator.isTrue().and(rv.versionNo.eq(lv.latestRiskVersionNo))
+					.or(m.isRiskIndicator.isFalse().and(rv.versionNo.eq(lv.latestNonRiskVersionNo)))
 			)
 			.orderBy(m.metricCode.asc())
 			.fetch()
@@ -374,42 +295,17 @@ public class CompanyReportMetricValuesRepositoryImpl implements CompanyReportMet
 		QQuartersEntity q = QQuartersEntity.quartersEntity;
 		QMetricDescriptionEntity md = QMetricDescriptionEntity.metricDescriptionEntity;
 
-		QCompanyReportVersionsEntity rv2 = new QCompanyReportVersionsEntity("rv2");
-		QCompanyReportMetricValuesEntity v2 = new QCompanyReportMetricValuesEntity("v2");
-		QMetricsEntity m2 = new QMetricsEntity("m2");
-		QCompanyReportVersionsEntity rv3 = new QCompanyReportVersionsEntity("rv3");
-		QCompanyReportMetricValuesEntity v3 = new QCompanyReportMetricValuesEntity("v3");
-		QMetricsEntity m3 = new QMetricsEntity("m3");
+		QCompanyReportLatestVersionEntity lv = new QCompanyReportLatestVersionEntity("lv");
+		QCompanyReportLatestVersionEntity lv2 = new QCompanyReportLatestVersionEntity("lv2");
 
-		var latestRiskVersion = JPAExpressions.select(rv2.versionNo.max())
-			.from(rv2)
-			.where(
-				rv2.companyReport.eq(cr),
-				JPAExpressions.selectOne()
-					.from(v2)
-					.join(v2.metric, m2)
-					.where(
-						v2.reportVersion.eq(rv2),
-						v2.metricValue.isNotNull(),
-						m2.isRiskIndicator.isTrue()
-					)
-					.exists()
-			);
-
-		var latestNonRiskVersion = JPAExpressions.select(rv3.versionNo.max())
-			.from(rv3)
-			.where(
-				rv3.companyReport.eq(cr),
-				JPAExpressions.selectOne()
-					.from(v3)
-					.join(v3.metric, m3)
-					.where(
-						v3.reportVersion.eq(rv3),
-						v3.metricValue.isNotNull(),
-						m3.isRiskIndicator.isFalse()
-					)
-					.exists()
-			);
+		// 값 유형과 무관하게 최신 버전을 고르므로 보고서당 최대 2건인 포인터에서 MAX를 취한다.
+		var latestRiskVersion = JPAExpressions.select(lv.latestRiskVersionNo.max())
+			.from(lv)
+			.where(lv.companyReportId.eq(cr.id));
+
+		var latestNonRiskVersion = JPAExpressions.select(lv2.latestNonRiskVersionNo.max())
+			.from(lv2)
+			.where(lv2.companyReportId.eq(cr.id));
 
 		return queryFactory
 			.select(Projections.constructor(CompanyOverviewMetricRowDto.class,
@@ -485,8 +381,7 @@ public class CompanyReportMetricValuesRepositoryImpl implements CompanyReportMet
 		QCompanyReportsEntity cr = QCompanyReportsEntity.companyReportsEntity;
 		QMetricsEntity m = QMetricsEntity.metricsEntity;
 
-		QCompanyReportVersionsEntity rv2 = new QCompanyReportVersionsEntity("rv2");
-		QCompanyReportMetricValuesEntity v2 = new QCompanyReportMetricValuesEntity("v2");
+		QCompanyReportLatestVersionEntity lv = QCompanyReportLatestVersionEntity.companyReportLatestVersionEntity;
 
 		return queryFactory
 			.select(Projections.constructor(MetricValueSampleDto.class,
@@ -496,6 +391,7 @@ public class CompanyReportMetricValuesRepositoryImpl implements CompanyReportMet
 			.from(v)
 			.join(v.reportVersion, rv)
 			.join(rv.companyReport, cr)
+			.join(lv).on(lv.companyReportId.eq(cr.id), lv.valueType.eq(valueType))
 			.join(v.metric, m)
 			.where(
 				cr.quarter.id.eq(quarterId),
@@ -503,18 +399,7 @@ public class CompanyReportMetricValuesRepositoryImpl implements CompanyReportMet
 				v.valueType.eq(valueType),
 				m.isRiskIndicator.isFalse(),
 				v.metricValue.isNotNull(),
-				rv.versionNo.eq(
-					JPAExpressions.select(rv2.versionNo.max())
-						.from(rv2)
-						.where(rv2.companyReport.eq(cr),
-							JPAExpressions.selectOne()
-								.from(v2)
-								.where(v2.reportVersion.eq(rv2),
-									v2.valueType.eq(valueType),
-									v2.metricValue.isNotNull()
-								).exists()
-						)
-				)
+				rv.versionNo.eq(lv.latestVersionNo)
 			)
 			.fetch()
 			.stream()
@@ -534,49 +419,13 @@ public class CompanyReportMetricValuesRepositoryImpl implements CompanyReportMet
 		QMetricsEntity m = QMetricsEntity.metricsEntity;
 		QQuartersEntity q = QQuartersEntity.quartersEntity;
 
-		QCompanyReportVersionsEntity rv2 = new QCompanyReportVersionsEntity("rv2");
-		QCompanyReportMetricValuesEntity v2 = new QCompanyReportMetricValuesEntity("v2");
-		QMetricsEntity m2 = new QMetricsEntity("m2");
-		QCompanyReportVersionsEntity rv3 = new QCompanyReportVersionsEntity("rv3");
-		QCompanyReportMetricValuesEntity v3 = new QCompanyReportMetricValuesEntity("v3");
-		QMetricsEntity m3 = new QMetricsEntity("m3");
-
-		var latestRiskVersion = JPAExpressions.select(rv2.versionNo.max())
-			.from(rv2)
-			.where(
-				rv2.companyReport.eq(cr),
-				JPAExpressions.selectOne()
-					.from(v2)
-					.join(v2.metric, m2)
-					.where(
-						v2.reportVersion.eq(rv2),
-						v2.valueType.eq(MetricValueType.ACTUAL),
-						v2.metricValue.isNotNull(),
-						m2.isRiskIndicator.isTrue()
-					)
-					.exists()
-			);
-
-		var latestNonRiskVersion = JPAExpressions.select(rv3.versionNo.max())
-			.from(rv3)
-			.where(
-				rv3.companyReport.eq(cr),
-				JPAExpressions.selectOne()
-					.from(v3)
-					.join(v3.metric, m3)
-					.where(
-						v3.reportVersion.eq(rv3),
-						v3.valueType.eq(MetricValueType.ACTUAL),
-						v3.metricValue.isNotNull(),
-						m3.isRiskIndicator.isFalse()
-					)
-					.exists()
-			);
+		QCompanyReportLatestVersionEntity lv = QCompanyReportLatestVersionEntity.companyReportLatestVersionEntity;
 
 		return queryFactory
 			.selectFrom(v)
 			.join(v.reportVersion, rv)
 			.join(rv.companyReport, cr)
+			.join(lv).on(lv.companyReportId.eq(cr.id), lv.valueType.eq(MetricValueType.ACTUAL))
 			.join(cr.company, c)
 			.join(v.metric, m).fetchJoin()
 			.join(v.quarter, q)
@@ -585,8 +434,8 @@ public class CompanyReportMetricValuesRepositoryImpl implements CompanyReportMet
 				q.quarterKey.eq(quarterKey),
 				v.valueType.eq(MetricValueType.ACTUAL),
 				v.metricValue.isNotNull(),
-				m.isRiskIndicator.isTrue().and(rv.versionNo.eq(latestRiskVersion))
-					.or(m.isRiskIndicator.isFalse().and(rv.versionNo.eq(latestNonRiskVersion)))
+				m.isRiskIndicator.isTrue().and(rv.versionNo.eq(lv.latestRiskVersionNo))
+					.or(m.isRiskIndicator.isFalse().and(rv.versionNo.eq(lv.latestNonRiskVersionNo)))
 			)
 			.fetch();
 	}
@@ -1,7 +1,10 @@
 package com.aivle.project.company.report.repository;
 
 import com.aivle.project.company.report.entity.CompanyReportsEntity;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -18,4 +21,25 @@ public interface CompanyReportsRepository extends JpaRepository<CompanyReportsEn
 	@Lock(LockModeType.PESSIMISTIC_WRITE)
 	@Query("select cr from CompanyReportsEntity cr where cr.id = :id")
 	Optional<CompanyReportsEntity> findByIdForUpdate(@Param("id") Long id);
+
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("select cr from CompanyReportsEntity cr where cr.id in :ids order by cr.id")
+	List<CompanyReportsEntity> findAllByIdInForUpdate(@Param("ids") Collection<Long> ids);
+
+	@Query("""
+		select cr.id
+		from CompanyReportsEntity cr
+		where cr.company.id = :companyId
+		  and cr.quarter.quarterKey = :quarterKey
+		""")
+	Optional<Long> findIdByCompanyIdAndQuarterKey(
+		@Param("companyId") Long companyId,
+		@Param("quarterKey") int quarterKey
+	);
+
+	@Query("select distinct cr.company.id from CompanyReportsEntity cr where cr.id in :ids")
+	List<Long> findCompanyIdsByIdIn(@Param("ids") Collection<Long> ids);
+
+	@Query("select cr.id from CompanyReportsEntity cr where cr.id > :afterId order by cr.id")
+	List<Long> findIdsAfter(@Param("afterId") Long afterId, Pageable pageable);
 }
@@ -0,0 +1,180 @@
+package com.aivle.project.company.report.service;
+
+import com.aivle.project.company.identity.CompanyIdentityCache;
+import com.aivle.project.company.report.event.CompanyLatestActualQuarterChangedEvent;
+import com.aivle.project.company.report.repository.CompanyLatestActualQuarterRepository;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 기업별 최신 ACTUAL 분기 조회 캐시.
+ * company_latest_actual_quarters 포인터를 PK로 읽어 노드 로컬에 보관하고, 포인터 변경이 커밋되면 제거한다.
+ * 같은 트랜잭션에서 포인터를 바꾼 기업은 캐시를 거치지 않고 직접 읽고, 쓰기 트랜잭션에서 읽은 값은 캐시에 올리지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class CompanyLatestActualQuarterCache {
+
+	private static final int NONE = 0;
+
+	private final CompanyLatestActualQuarterRepository companyLatestActualQuarterRepository;
+	private final CompanyIdentityCache companyIdentityCache;
+
+	// 다른 노드의 포인터 변경은 TTL로만 반영된다.
+	@Value("${app.company.latest-actual-quarter.cache-ttl-ms:300000}")
+	private long cacheTtlMs = 300_000L;
+
+	private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+	private final AtomicLong generation = new AtomicLong();
+	private final Object changedResourceKey = new Object();
+
+	public Optional<Integer> find(Long companyId) {
+		if (companyId == null) {
+			return Optional.empty();
+		}
+		return toOptional(findAll(List.of(companyId)).get(companyId));
+	}
+
+	public Optional<Integer> findByStockCode(String stockCode) {
+		return companyIdentityCache.findByStockCode(stockCode)
+			.flatMap(company -> find(company.id()));
+	}
+
+	/**
+	 * 여러 기업의 최신 ACTUAL 분기 중 가장 최근 분기를 반환한다.
+	 */
+	public Optional<Integer> findMax(Collection<Long> companyIds) {
+		if (companyIds == null || companyIds.isEmpty()) {
+			return Optional.empty();
+		}
+		return findAll(companyIds).values().stream()
+			.filter(quarterKey -> quarterKey != NONE)
+			.max(Integer::compare);
+	}
+
+	@EventListener
+	public void markChangedInTransaction(CompanyLatestActualQuarterChangedEvent event) {
+		Set<Long> changed = changedInCurrentTransaction();
+		if (changed != null) {
+			changed.addAll(event.companyIds());
+		}
+	}
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void evict(CompanyLatestActualQuarterChangedEvent event) {
+		generation.incrementAndGet();
+		event.companyIds().forEach(entries::remove);
+	}
+
+	private Map<Long, Integer> findAll(Collection<Long> companyIds) {
+		Set<Long> changed = changedCompanyIds();
+		long now = System.currentTimeMillis();
+		Map<Long, Integer> result = new HashMap<>();
+		List<Long> misses = new ArrayList<>();
+		for (Long companyId : companyIds) {
+			if (companyId == null || result.containsKey(companyId) || misses.contains(companyId)) {
+				continue;
+			}
+			Entry entry = changed.contains(companyId) ? null : entries.get(companyId);
+			if (entry != null && entry.expiresAt() > now) {
+				result.put(companyId, entry.quarterKey());
+			} else {
+				misses.add(companyId);
+			}
+		}
+		if (misses.isEmpty()) {
+			return result;
+		}
+
+		long observedGeneration = generation.get();
+		Map<Long, Integer> loaded = new HashMap<>();
+		companyLatestActualQuarterRepository.findAllById(misses)
+			.forEach(pointer -> loaded.put(pointer.getCompanyId(), pointer.getQuarterKey()));
+		List<Long> absent = misses.stream().filter(companyId -> !loaded.containsKey(companyId)).toList();
+		if (!absent.isEmpty()) {
+			// 포인터가 없으면 ACTUAL 값이 없는 기업이지만, 포인터 갱신이 누락된 경로에 대비해 원천에서 한 번 확인한다.
+			companyLatestActualQuarterRepository.aggregateLatestActualQuarters(absent)
+				.forEach(expected -> loaded.put(expected.getCompanyId(), expected.getQuarterKey()));
+		}
+
+		// 쓰기 트랜잭션에서 읽은 값은 커밋 전일 수 있으므로 캐시에 올리지 않는다.
+		boolean cacheable = !TransactionSynchronizationManager.isActualTransactionActive()
+			|| TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+		long expiresAt = now + cacheTtlMs;
+		for (Long companyId : misses) {
+			int quarterKey = loaded.getOrDefault(companyId, NONE);
+			result.put(companyId, quarterKey);
+			if (cacheable && !changed.contains(companyId)) {
+				put(companyId, new Entry(quarterKey, expiresAt), observedGeneration);
+			}
+		}
+		return result;
+	}
+
+	private void put(Long companyId, Entry entry, long observedGeneration) {
+		if (generation.get() != observedGeneration) {
+			return;
+		}
+		entries.put(companyId, entry);
+		// 조회 도중 무효화가 끼어들었다면 이전 값일 수 있으므로 되돌린다.
+		if (generation.get() != observedGeneration) {
+			entries.remove(companyId, entry);
+		}
+	}
+
+	private Set<Long> changedCompanyIds() {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			return Set.of();
+		}
+		Object changed = TransactionSynchronizationManager.getResource(changedResourceKey);
+		return changed == null ? Set.of() : castChanged(changed);
+	}
+
+	private Set<Long> changedInCurrentTransaction() {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			return null;
+		}
+		Object existing = TransactionSynchronizationManager.getResource(changedResourceKey);
+		if (existing != null) {
+			return castChanged(existing);
+		}
+		Set<Long> changed = new HashSet<>();
+		TransactionSynchronizationManager.bindResource(changedResourceKey, changed);
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCompletion(int status) {
+				TransactionSynchronizationManager.unbindResourceIfPossible(changedResourceKey);
+			}
+		});
+		return changed;
+	}
+
+	@SuppressWarnings("unchecked")
+	private Set<Long> castChanged(Object changed) {
+		return (Set<Long>) changed;
+	}
+
+	private Optional<Integer> toOptional(Integer quarterKey) {
+		return quarterKey == null || Objects.equals(quarterKey, NONE) ? Optional.empty() : Optional.of(quarterKey);
+	}
+
+	private record Entry(int quarterKey, long expiresAt) {
+	}
+}
@@ -0,0 +1,70 @@
+package com.aivle.project.company.report.service;
+
+import com.aivle.project.company.report.dto.ReportLatestVersionRepairResult;
+import com.aivle.project.company.report.repository.CompanyReportsRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+/**
+ * 전체 보고서를 청크 단위로 순회하며 최신 버전 포인터를 점검하거나 재구축한다.
+ * 청크마다 별도 트랜잭션으로 처리해 장시간 잠금을 피한다.
+ */
+@Slf4j
+@Service
+public class CompanyReportLatestVersionBatchService {
+
+	private final CompanyReportsRepository companyReportsRepository;
+	private final CompanyReportLatestVersionService companyReportLatestVersionService;
+	private final MeterRegistry meterRegistry;
+	private final int chunkSize;
+	private final AtomicInteger lastMismatchCount = new AtomicInteger();
+
+	public CompanyReportLatestVersionBatchService(
+		CompanyReportsRepository companyReportsRepository,
+		CompanyReportLatestVersionService companyReportLatestVersionService,
+		MeterRegistry meterRegistry,
+		@Value("${report.latest-version.repair.chunk-size:500}") int chunkSize
+	) {
+		this.companyReportsRepository = companyReportsRepository;
+		this.companyReportLatestVersionService = companyReportLatestVersionService;
+		this.meterRegistry = meterRegistry;
+		this.chunkSize = Math.max(1, chunkSize);
+		meterRegistry.gauge("report.latest_version.mismatches", lastMismatchCount);
+	}
+
+	/**
+	 * 포인터를 원천 데이터와 비교한다. repair가 true면 불일치 포인터를 즉시 복구한다.
+	 */
+	public ReportLatestVersionRepairResult verify(boolean repair, String triggerType, String executionId) {
+		Timer.Sample sample = Timer.start(meterRegistry);
+		int checkedReports = 0;
+		int mismatched = 0;
+		Long afterId = 0L;
+		while (true) {
+			List<Long> ids = companyReportsRepository.findIdsAfter(afterId, PageRequest.of(0, chunkSize));
+			if (ids.isEmpty()) {
+				break;
+			}
+			mismatched += repair
+				? companyReportLatestVersionService.repair(ids)
+				: companyReportLatestVersionService.countMismatches(ids);
+			checkedReports += ids.size();
+			afterId = ids.get(ids.size() - 1);
+		}
+
+		lastMismatchCount.set(mismatched);
+		sample.stop(meterRegistry.timer("report.latest_version.verify", "repair", String.valueOf(repair)));
+		if (repair && mismatched > 0) {
+			meterRegistry.counter("report.latest_version.repaired").increment(mismatched);
+		}
+		log.info("최신 버전 포인터 점검 완료. triggerType={}, executionId={}, checkedReports={}, mismatched={}, repaired={}",
+			triggerType, executionId, checkedReports, mismatched, repair);
+		return new ReportLatestVersionRepairResult(checkedReports, mismatched, repair, triggerType, executionId);
+	}
+}
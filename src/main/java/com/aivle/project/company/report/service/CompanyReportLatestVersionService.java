@@ -0,0 +1,212 @@
+package com.aivle.project.company.report.service;
+
+import com.aivle.project.company.dataversion.CompanyDataChangedEvent;
+import com.aivle.project.company.report.dto.CompanyLatestActualQuarterProjection;
+import com.aivle.project.company.report.dto.CompanyReportLatestVersionProjection;
+import com.aivle.project.company.report.entity.CompanyLatestActualQuarterEntity;
+import com.aivle.project.company.report.entity.CompanyReportLatestVersionEntity;
+import com.aivle.project.company.report.event.CompanyLatestActualQuarterChangedEvent;
+import com.aivle.project.company.report.repository.CompanyLatestActualQuarterRepository;
+import com.aivle.project.company.report.repository.CompanyReportLatestVersionRepository;
+import com.aivle.project.company.report.repository.CompanyReportsRepository;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * (보고서, 값 유형)별 최신 유효 버전 포인터와 기업별 최신 ACTUAL 분기 포인터를 원천 지표 값 기준으로 유지한다.
+ * 지표 값을 저장/삭제하는 쓰기 경로는 같은 트랜잭션 안에서 refresh를 호출해야 한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CompanyReportLatestVersionService {
+
+	private final CompanyReportsRepository companyReportsRepository;
+	private final CompanyReportLatestVersionRepository companyReportLatestVersionRepository;
+	private final CompanyLatestActualQuarterRepository companyLatestActualQuarterRepository;
+	private final ApplicationEventPublisher eventPublisher;
+
+	@Transactional
+	public int refresh(Long companyReportId) {
+		if (companyReportId == null) {
+			return 0;
+		}
+		return refresh(List.of(companyReportId));
+	}
+
+	/**
+	 * 보고서 행을 잠근 뒤 포인터를 재계산해 반영한다.
+	 *
+	 * @return 변경된 포인터 수(보고서별 최신 버전 포인터와 기업별 최신 ACTUAL 분기 포인터의 합)
+	 */
+	@Transactional
+	public int refresh(Collection<Long> companyReportIds) {
+		List<Long> ids = normalizeIds(companyReportIds);
+		if (ids.isEmpty()) {
+			return 0;
+		}
+		// 동일 보고서를 동시에 갱신할 때 PK 충돌이 나지 않도록 id 순서대로 잠근다.
+		companyReportsRepository.findAllByIdInForUpdate(ids);
+		return reconcile(ids, true, true);
+	}
+
+	/**
+	 * 점검 배치용 복구. refresh와 같지만 포인터가 실제로 바뀐 경우에만 기업 데이터 변경을 알린다.
+	 *
+	 * @return 변경된 포인터 수
+	 */
+	@Transactional
+	public int repair(Collection<Long> companyReportIds) {
+		List<Long> ids = normalizeIds(companyReportIds);
+		if (ids.isEmpty()) {
+			return 0;
+		}
+		companyReportsRepository.findAllByIdInForUpdate(ids);
+		return reconcile(ids, true, false);
+	}
+
+	@Transactional
+	public int refreshByCompanyAndQuarterKey(Long companyId, int quarterKey) {
+		return companyReportsRepository.findIdByCompanyIdAndQuarterKey(companyId, quarterKey)
+			.map(this::refresh)
+			.orElse(0);
+	}
+
+	/**
+	 * 저장된 포인터와 원천 데이터의 불일치 건수를 반환한다. 기업별 최신 ACTUAL 분기 포인터의 불일치도 포함하며, 데이터는 변경하지 않는다.
+	 */
+	@Transactional(readOnly = true)
+	public int countMismatches(Collection<Long> companyReportIds) {
+		List<Long> ids = normalizeIds(companyReportIds);
+		if (ids.isEmpty()) {
+			return 0;
+		}
+		return reconcile(ids, false, false);
+	}
+
+	/**
+	 * @param notifyAlways 쓰기 경로에서 호출할 때 true. 같은 버전 안에서 값만 바뀐 경우도 기업 데이터 변경으로 알린다.
+	 */
+	private int reconcile(List<Long> ids, boolean apply, boolean notifyAlways) {
+		Map<CompanyReportLatestVersionEntity.Key, CompanyReportLatestVersionEntity> stored = new HashMap<>();
+		for (CompanyReportLatestVersionEntity pointer : companyReportLatestVersionRepository.findAllByCompanyReportIdIn(ids)) {
+			stored.put(pointer.getKey(), pointer);
+		}
+
+		LocalDateTime now = LocalDateTime.now();
+		List<CompanyReportLatestVersionEntity> created = new ArrayList<>();
+		int changes = 0;
+		for (CompanyReportLatestVersionProjection expected : companyReportLatestVersionRepository.aggregateLatestVersions(ids)) {
+			CompanyReportLatestVersionEntity current = stored.remove(
+				new CompanyReportLatestVersionEntity.Key(expected.getCompanyReportId(), expected.getValueType())
+			);
+			int latestVersionNo = expected.getLatestVersionNo();
+			if (current == null) {
+				changes++;
+				if (apply) {
+					created.add(CompanyReportLatestVersionEntity.create(
+						expected.getCompanyReportId(),
+						expected.getValueType(),
+						latestVersionNo,
+						expected.getLatestRiskVersionNo(),
+						expected.getLatestNonRiskVersionNo(),
+						now
+					));
+				}
+				continue;
+			}
+			if (!current.matches(latestVersionNo, expected.getLatestRiskVersionNo(), expected.getLatestNonRiskVersionNo())) {
+				changes++;
+				if (apply) {
+					current.update(latestVersionNo, expected.getLatestRiskVersionNo(), expected.getLatestNonRiskVersionNo(), now);
+				}
+			}
+		}
+
+		// 원천 값이 모두 사라진 포인터(예: 예측값 롤백)는 제거한다.
+		changes += stored.size();
+		if (apply) {
+			companyReportLatestVersionRepository.saveAll(created);
+			companyReportLatestVersionRepository.deleteAll(stored.values());
+		}
+		List<Long> companyIds = companyReportsRepository.findCompanyIdsByIdIn(ids);
+		int quarterChanges = reconcileLatestActualQuarters(companyIds, apply, now);
+		if (apply && !companyIds.isEmpty() && (notifyAlways || changes > 0 || quarterChanges > 0)) {
+			eventPublisher.publishEvent(new CompanyDataChangedEvent(Set.copyOf(companyIds)));
+		}
+		if (changes > 0 || quarterChanges > 0) {
+			log.debug("최신 버전 포인터 {}: reports={}, changes={}, latestActualQuarterChanges={}",
+				apply ? "갱신" : "불일치", ids.size(), changes, quarterChanges);
+		}
+		return changes + quarterChanges;
+	}
+
+	/**
+	 * 보고서가 속한 기업의 최신 ACTUAL 분기 포인터를 재계산한다.
+	 * 반영된 변경은 커밋 후 캐시에서 제거되도록 이벤트로 알린다.
+	 */
+	private int reconcileLatestActualQuarters(List<Long> companyIds, boolean apply, LocalDateTime now) {
+		if (companyIds.isEmpty()) {
+			return 0;
+		}
+		if (apply) {
+			// 같은 기업의 다른 보고서를 동시에 갱신하면 첫 insert가 PK 충돌하거나 늦게 커밋한 쪽이 포인터를 되돌리므로,
+			// 기업 행을 잠가 포인터 조회부터 반영까지를 기업 단위로 직렬화한다.
+			companyLatestActualQuarterRepository.lockCompanies(companyIds);
+		}
+		Map<Long, CompanyLatestActualQuarterEntity> stored = new HashMap<>();
+		for (CompanyLatestActualQuarterEntity pointer : companyLatestActualQuarterRepository.findAllById(companyIds)) {
+			stored.put(pointer.getCompanyId(), pointer);
+		}
+
+		List<CompanyLatestActualQuarterEntity> created = new ArrayList<>();
+		Set<Long> changedCompanyIds = new HashSet<>();
+		for (CompanyLatestActualQuarterProjection expected : companyLatestActualQuarterRepository.aggregateLatestActualQuarters(companyIds)) {
+			CompanyLatestActualQuarterEntity current = stored.remove(expected.getCompanyId());
+			int quarterKey = expected.getQuarterKey();
+			if (current == null) {
+				changedCompanyIds.add(expected.getCompanyId());
+				if (apply) {
+					created.add(CompanyLatestActualQuarterEntity.create(expected.getCompanyId(), quarterKey, now));
+				}
+			} else if (current.getQuarterKey() != quarterKey) {
+				changedCompanyIds.add(expected.getCompanyId());
+				if (apply) {
+					current.update(quarterKey, now);
+				}
+			}
+		}
+
+		// ACTUAL 값이 모두 사라진 기업의 포인터는 제거한다.
+		changedCompanyIds.addAll(stored.keySet());
+		if (apply && !changedCompanyIds.isEmpty()) {
+			companyLatestActualQuarterRepository.saveAll(created);
+			companyLatestActualQuarterRepository.deleteAll(stored.values());
+			eventPublisher.publishEvent(new CompanyLatestActualQuarterChangedEvent(Set.copyOf(changedCompanyIds)));
+		}
+		return changedCompanyIds.size();
+	}
+
+	private List<Long> normalizeIds(Collection<Long> companyReportIds) {
+		if (companyReportIds == null || companyReportIds.isEmpty()) {
+			return List.of();
+		}
+		return companyReportIds.stream()
+			.filter(Objects::nonNull)
+			.distinct()
+			.sorted()
+			.toList();
+	}
+}
@@ -5,9 +5,9 @@ import com.aivle.project.company.repository.CompaniesRepository;
 import com.aivle.project.common.util.GetOrCreateResolver;
 import com.aivle.project.company.metric.entity.MetricValueType;
 import com.aivle.project.company.metric.entity.MetricsEntity;
-import com.aivle.project.company.metric.repository.MetricsRepository;
+import com.aivle.project.company.metric.service.MetricCatalog;
 import com.aivle.project.company.report.quarter.entity.QuartersEntity;
-import com.aivle.project.company.report.quarter.repository.QuartersRepository;
+import com.aivle.project.company.report.quarter.service.QuarterRegistry;
 import com.aivle.project.company.report.quarter.support.QuarterCalculator;
 import com.aivle.project.company.report.quarter.support.YearQuarter;
 import com.aivle.project.company.report.dto.CompanyMetricValueCommand;
@@ -38,12 +38,13 @@ import org.springframework.transaction.annotation.Transactional;
 public class CompanyReportMetricImportService {
 
 	private final CompaniesRepository companiesRepository;
-	private final QuartersRepository quartersRepository;
-	private final MetricsRepository metricsRepository;
+	private final QuarterRegistry quarterRegistry;
+	private final MetricCatalog metricCatalog;
 	private final CompanyReportsRepository companyReportsRepository;
 	private final CompanyReportVersionsRepository companyReportVersionsRepository;
 	private final CompanyReportMetricValuesRepository companyReportMetricValuesRepository;
 	private final CompanyReportVersionIssueService companyReportVersionIssueService;
+	private final CompanyReportLatestVersionService companyReportLatestVersionService;
 
 	@Transactional
 	public ReportImportResult importMetrics(int baseQuarterKey, List<CompanyMetricValueCommand> commands) {
@@ -53,7 +54,7 @@ public class CompanyReportMetricImportService {
 
 		log.info("지표 적재 시작: baseQuarterKey={}, commands={}", baseQuarterKey, commands.size());
 		YearQuarter baseQuarter = QuarterCalculator.parseQuarterKey(baseQuarterKey);
-		QuartersEntity baseQuarterEntity = getOrCreateQuarter(baseQuarterKey, baseQuarter);
+		QuartersEntity baseQuarterEntity = quarterRegistry.getOrCreate(baseQuarterKey);
 
 		Map<String, List<CompanyMetricValueCommand>> commandsByCompany = groupByCompany(commands);
 		Map<String, MetricsEntity> metricCache = new HashMap<>();
@@ -103,10 +104,7 @@ public class CompanyReportMetricImportService {
 				}
 
 				int quarterKey = toQuarterKey(baseQuarter, command.quarterOffset());
-				QuartersEntity quarter = quarterCache.computeIfAbsent(
-					quarterKey,
-					key -> getOrCreateQuarter(key, QuarterCalculator.parseQuarterKey(key))
-				);
+				QuartersEntity quarter = quarterCache.computeIfAbsent(quarterKey, quarterRegistry::getOrCreate);
 
 				seedsByQuarter.computeIfAbsent(quarter.getId(), ignored -> new ArrayList<>()).add(new MetricValueSeed(
 					metric,
@@ -165,6 +163,7 @@ public class CompanyReportMetricImportService {
 
 				try {
 					companyReportMetricValuesRepository.saveAllAndFlush(values);
+					companyReportLatestVersionService.refresh(report.getId());
 					savedValues += values.size();
 				} catch (org.springframework.dao.DataIntegrityViolationException e) {
 					log.warn("지표 적재 중복 또는 무결성 충돌 발생 (stockCode={}): {}", stockCode, e.getMessage());
@@ -216,7 +215,7 @@ public class CompanyReportMetricImportService {
 	}
 
 	private MetricsEntity findMetric(String metricCode) {
-		return metricsRepository.findByMetricCode(metricCode).orElse(null);
+		return metricCatalog.findByCode(metricCode).orElse(null);
 	}
 
 	private CompanyReportsEntity getOrCreateReport(CompaniesEntity company, QuartersEntity quarter) {
@@ -231,20 +230,6 @@ public class CompanyReportMetricImportService {
 		return companyReportVersionIssueService.issueNextVersion(report, false, null);
 	}
 
-	private QuartersEntity getOrCreateQuarter(int quarterKey, YearQuarter yearQuarter) {
-		return GetOrCreateResolver.resolve(
-			() -> quartersRepository.findByQuarterKey(quarterKey),
-			() -> quartersRepository.save(QuartersEntity.create(
-				yearQuarter.year(),
-				yearQuarter.quarter(),
-				quarterKey,
-				QuarterCalculator.startDate(yearQuarter),
-				QuarterCalculator.endDate(yearQuarter)
-			)),
-			() -> quartersRepository.findByQuarterKey(quarterKey)
-		);
-	}
-
 	private int toQuarterKey(YearQuarter baseQuarter, int offset) {
 		YearQuarter targetQuarter = QuarterCalculator.offset(baseQuarter, offset);
 		return targetQuarter.year() * 10 + targetQuarter.quarter();
@@ -5,11 +5,9 @@ import com.aivle.project.company.repository.CompaniesRepository;
 import com.aivle.project.common.util.GetOrCreateResolver;
 import com.aivle.project.company.metric.entity.MetricValueType;
 import com.aivle.project.company.metric.entity.MetricsEntity;
-import com.aivle.project.company.metric.repository.MetricsRepository;
+import com.aivle.project.company.metric.service.MetricCatalog;
 import com.aivle.project.company.report.quarter.entity.QuartersEntity;
-import com.aivle.project.company.report.quarter.repository.QuartersRepository;
-import com.aivle.project.company.report.quarter.support.QuarterCalculator;
-import com.aivle.project.company.report.quarter.support.YearQuarter;
+import com.aivle.project.company.report.quarter.service.QuarterRegistry;
 import com.aivle.project.company.report.dto.ReportPredictRequest;
 import com.aivle.project.company.report.dto.ReportPredictResult;
 import com.aivle.project.company.report.entity.CompanyReportMetricValuesEntity;
@@ -22,7 +20,6 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -37,12 +34,13 @@ import org.springframework.transaction.annotation.Transactional;
 public class CompanyReportMetricPredictService {
 
 	private final CompaniesRepository companiesRepository;
-	private final QuartersRepository quartersRepository;
-	private final MetricsRepository metricsRepository;
+	private final QuarterRegistry quarterRegistry;
+	private final MetricCatalog metricCatalog;
 	private final CompanyReportsRepository companyReportsRepository;
 	private final CompanyReportVersionsRepository companyReportVersionsRepository;
 	private final CompanyReportMetricValuesRepository companyReportMetricValuesRepository;
 	private final CompanyReportVersionIssueService companyReportVersionIssueService;
+	private final CompanyReportLatestVersionService companyReportLatestVersionService;
 
 	@Transactional
 	public ReportPredictResult importPredictedMetrics(ReportPredictRequest request) {
@@ -63,8 +61,7 @@ public class CompanyReportMetricPredictService {
 		}
 
 		int quarterKey = request.quarterKey();
-		YearQuarter baseQuarter = QuarterCalculator.parseQuarterKey(quarterKey);
-		QuartersEntity quarter = getOrCreateQuarter(quarterKey, baseQuarter);
+		QuartersEntity quarter = quarterRegistry.getOrCreate(quarterKey);
 
 		CompanyReportsEntity report = getOrCreateReport(company.get(), quarter);
 
@@ -74,8 +71,7 @@ public class CompanyReportMetricPredictService {
 			.map(this::normalizeMetricNameEn)
 			.filter(name -> !name.isBlank())
 			.toList();
-		Map<String, MetricsEntity> metricMap = metricsRepository.findAllByMetricNameEnIn(metricNameEns).stream()
-			.collect(Collectors.toMap(MetricsEntity::getMetricNameEn, metric -> metric));
+		Map<String, MetricsEntity> metricMap = metricCatalog.findAllByNameEns(metricNameEns);
 
 		int skippedMetrics = 0;
 		List<CompanyReportMetricValuesEntity> values = new ArrayList<>();
@@ -108,6 +104,7 @@ public class CompanyReportMetricPredictService {
 		}
 
 		companyReportMetricValuesRepository.saveAll(values);
+		companyReportLatestVersionService.refresh(report.getId());
 		log.info(
 			"예측값 적재 완료: stockCode={}, quarterKey={}, total={}, saved={}, skippedMetrics={}",
 			stockCode,
@@ -138,20 +135,6 @@ public class CompanyReportMetricPredictService {
 		);
 	}
 
-	private QuartersEntity getOrCreateQuarter(int quarterKey, YearQuarter yearQuarter) {
-		return GetOrCreateResolver.resolve(
-			() -> quartersRepository.findByQuarterKey(quarterKey),
-			() -> quartersRepository.save(QuartersEntity.create(
-				yearQuarter.year(),
-				yearQuarter.quarter(),
-				quarterKey,
-				QuarterCalculator.startDate(yearQuarter),
-				QuarterCalculator.endDate(yearQuarter)
-			)),
-			() -> quartersRepository.findByQuarterKey(quarterKey)
-		);
-	}
-
 	private String normalizeStockCode(String stockCode) {
 		if (stockCode == null) {
 			return "";
@@ -5,11 +5,9 @@ import com.aivle.project.company.repository.CompaniesRepository;
 import com.aivle.project.common.util.GetOrCreateResolver;
 import com.aivle.project.company.metric.entity.MetricValueType;
 import com.aivle.project.company.metric.entity.MetricsEntity;
-import com.aivle.project.company.metric.repository.MetricsRepository;
+import com.aivle.project.company.metric.service.MetricCatalog;
 import com.aivle.project.company.report.quarter.entity.QuartersEntity;
-import com.aivle.project.company.report.quarter.repository.QuartersRepository;
-import com.aivle.project.company.report.quarter.support.QuarterCalculator;
-import com.aivle.project.company.report.quarter.support.YearQuarter;
+import com.aivle.project.company.report.quarter.service.QuarterRegistry;
 import com.aivle.project.company.report.dto.ReportPublishResult;
 import com.aivle.project.company.report.entity.CompanyReportMetricValuesEntity;
 import com.aivle.project.company.report.entity.CompanyReportVersionsEntity;
@@ -22,7 +20,6 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -37,12 +34,13 @@ import org.springframework.transaction.annotation.Transactional;
 public class CompanyReportMetricPublishService {
 
 	private final CompaniesRepository companiesRepository;
-	private final QuartersRepository quartersRepository;
-	private final MetricsRepository metricsRepository;
+	private final QuarterRegistry quarterRegistry;
+	private final MetricCatalog metricCatalog;
 	private final CompanyReportsRepository companyReportsRepository;
 	private final CompanyReportVersionsRepository companyReportVersionsRepository;
 	private final CompanyReportMetricValuesRepository companyReportMetricValuesRepository;
 	private final CompanyReportVersionIssueService companyReportVersionIssueService;
+	private final CompanyReportLatestVersionService companyReportLatestVersionService;
 
 	@Transactional
 	public ReportPublishResult publishMetrics(
@@ -67,19 +65,17 @@ public class CompanyReportMetricPublishService {
 			return new ReportPublishResult(metrics.size(), 0, 0, 1, null);
 		}
 
-		YearQuarter baseQuarter = QuarterCalculator.parseQuarterKey(quarterKey);
-		QuartersEntity quarter = getOrCreateQuarter(quarterKey, baseQuarter);
+		QuartersEntity quarter = quarterRegistry.getOrCreate(quarterKey);
 		CompanyReportsEntity report = getOrCreateReport(company.get(), quarter);
 
 		CompanyReportVersionsEntity version = resolveMetricVersion(report, valueType);
 
-		Map<String, MetricsEntity> metricMap = metricsRepository.findAllByMetricNameEnIn(
-				metrics.keySet().stream()
-					.map(this::normalizeMetricNameEn)
-					.filter(name -> !name.isBlank())
-					.toList()
-			).stream()
-			.collect(Collectors.toMap(MetricsEntity::getMetricNameEn, metric -> metric));
+		Map<String, MetricsEntity> metricMap = metricCatalog.findAllByNameEns(
+			metrics.keySet().stream()
+				.map(this::normalizeMetricNameEn)
+				.filter(name -> !name.isBlank())
+				.toList()
+		);
 
 		List<CompanyReportMetricValuesEntity> values = new ArrayList<>();
 		int skippedMetrics = 0;
@@ -113,6 +109,7 @@ public class CompanyReportMetricPublishService {
 
 		try {
 			companyReportMetricValuesRepository.saveAllAndFlush(values);
+			companyReportLatestVersionService.refresh(report.getId());
 		} catch (org.springframework.dao.DataIntegrityViolationException e) {
 			log.warn("보고서 지표 중복 등록 감지 (stockCode={}, quarterKey={})", normalizedStockCode, quarterKey);
 			// 중복 등록 시에는 무시하거나 덮어쓰지 않고 부분 실패를 인정함
@@ -156,20 +153,6 @@ public class CompanyReportMetricPublishService {
 		);
 	}
 
-	private QuartersEntity getOrCreateQuarter(int quarterKey, YearQuarter yearQuarter) {
-		return GetOrCreateResolver.resolve(
-			() -> quartersRepository.findByQuarterKey(quarterKey),
-			() -> quartersRepository.save(QuartersEntity.create(
-				yearQuarter.year(),
-				yearQuarter.quarter(),
-				quarterKey,
-				QuarterCalculator.startDate(yearQuarter),
-				QuarterCalculator.endDate(yearQuarter)
-			)),
-			() -> quartersRepository.findByQuarterKey(quarterKey)
-		);
-	}
-
 	private String normalizeStockCode(String stockCode) {
 		if (stockCode == null) {
 			return "";
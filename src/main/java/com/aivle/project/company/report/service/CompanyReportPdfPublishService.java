@@ -12,9 +12,7 @@ import com.aivle.project.file.storage.FileStorageService;
 import com.aivle.project.file.storage.StoredFile;
 import com.aivle.project.file.validator.FileValidator;
 import com.aivle.project.company.report.quarter.entity.QuartersEntity;
-import com.aivle.project.company.report.quarter.repository.QuartersRepository;
-import com.aivle.project.company.report.quarter.support.QuarterCalculator;
-import com.aivle.project.company.report.quarter.support.YearQuarter;
+import com.aivle.project.company.report.quarter.service.QuarterRegistry;
 import com.aivle.project.company.report.dto.ReportPdfPublishResult;
 import com.aivle.project.company.report.entity.CompanyReportVersionsEntity;
 import com.aivle.project.company.report.entity.CompanyReportsEntity;
@@ -36,7 +34,7 @@ import org.springframework.web.multipart.MultipartFile;
 public class CompanyReportPdfPublishService {
 
 	private final CompaniesRepository companiesRepository;
-	private final QuartersRepository quartersRepository;
+	private final QuarterRegistry quarterRegistry;
 	private final CompanyReportsRepository companyReportsRepository;
 	private final CompanyReportVersionsRepository companyReportVersionsRepository;
 	private final FileStorageService fileStorageService;
@@ -60,8 +58,7 @@ public class CompanyReportPdfPublishService {
 
 		validatePdf(pdfFile);
 
-		YearQuarter baseQuarter = QuarterCalculator.parseQuarterKey(quarterKey);
-		QuartersEntity quarter = getOrCreateQuarter(quarterKey, baseQuarter);
+		QuartersEntity quarter = quarterRegistry.getOrCreate(quarterKey);
 
 		CompanyReportsEntity report = getOrCreateReport(company.get(), quarter);
 
@@ -97,20 +94,6 @@ public class CompanyReportPdfPublishService {
 		);
 	}
 
-	private QuartersEntity getOrCreateQuarter(int quarterKey, YearQuarter yearQuarter) {
-		return GetOrCreateResolver.resolve(
-			() -> quartersRepository.findByQuarterKey(quarterKey),
-			() -> quartersRepository.save(QuartersEntity.create(
-				yearQuarter.year(),
-				yearQuarter.quarter(),
-				quarterKey,
-				QuarterCalculator.startDate(yearQuarter),
-				QuarterCalculator.endDate(yearQuarter)
-			)),
-			() -> quartersRepository.findByQuarterKey(quarterKey)
-		);
-	}
-
 	private FilesEntity savePdf(CompanyReportsEntity report, CompanyReportVersionsEntity version, MultipartFile file) {
 		String keyPrefix = "reports/" + report.getId() + "/v" + version.getVersionNo();
 		StoredFile stored = fileStorageService.store(file, keyPrefix);
@@ -27,6 +27,7 @@ public class CompanyReportVersionPublishService {
 	private final QuartersRepository quartersRepository;
 	private final CompanyReportsRepository companyReportsRepository;
 	private final CompanyReportVersionsRepository companyReportVersionsRepository;
+	private final CompanyReportLatestVersionService companyReportLatestVersionService;
 
 	@Transactional
 	public ReportVersionPublishResult publishLatestVersion(String stockCode, int quarterKey) {
@@ -83,6 +84,8 @@ public class CompanyReportVersionPublishService {
 
 		latestVersion.publish();
 		companyReportVersionsRepository.save(latestVersion);
+		// 발행 시점에 포인터를 원천 값과 다시 맞춘다.
+		companyReportLatestVersionService.refresh(report.get().getId());
 		return new ReportVersionPublishResult(1, 0, 0, 0, latestVersion.getVersionNo());
 	}
 
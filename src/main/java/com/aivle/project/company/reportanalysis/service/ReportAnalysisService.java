@@ -1,5 +1,6 @@
 package com.aivle.project.company.reportanalysis.service;
 
+import com.aivle.project.common.transaction.ShortTransactionRunner;
 import com.aivle.project.company.entity.CompaniesEntity;
 import com.aivle.project.company.news.client.NewsClient;
 import com.aivle.project.company.news.dto.NewsItemResponse;
@@ -20,6 +21,8 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 /**
  * 사업보고서 분석 서비스.
@@ -33,22 +36,53 @@ public class ReportAnalysisService {
 	private final ReportContentRepository reportContentRepository;
 	private final NewsClient newsClient;
 	private final CompaniesRepository companiesRepository;
+	private final ShortTransactionRunner shortTransactionRunner;
 
 	/**
 	 * AI 서버에서 사업보고서 분석 데이터를 가져와 저장합니다.
+	 * AI 응답을 기다리는 동안에는 트랜잭션을 열지 않고, 받은 결과만 짧은 트랜잭션으로 저장합니다.
 	 *
 	 * @param stockCode 기업 코드 (stock_code)
 	 * @return 저장된 사업보고서 분석 정보
 	 */
-	@Transactional
 	public ReportAnalysisResponse fetchAndStoreReport(String stockCode) {
 		CompaniesEntity company = companiesRepository.findByStockCode(stockCode)
 			.orElseThrow(() -> new IllegalArgumentException("Company not found for stockCode: " + stockCode));
 
 		log.info("Fetching report analysis for company: {} ({})", company.getCorpName(), stockCode);
 
-			ReportApiResponse apiResponse = fetchReportOrThrow(stockCode);
+		ReportApiResponse apiResponse = fetchReportOrThrow(stockCode);
 
+		return shortTransactionRunner.write(
+			"ReportAnalysisService.fetchAndStoreReport",
+			() -> storeReport(company, apiResponse)
+		);
+	}
+
+	/**
+	 * fetchAndStoreReport의 논블로킹 버전.
+	 * AI 응답은 호출 스레드를 잡지 않고 기다리고, 응답을 받은 뒤에만 boundedElastic 스레드에서 짧은 트랜잭션으로 저장합니다.
+	 *
+	 * @param stockCode 기업 코드 (stock_code)
+	 * @return 저장된 사업보고서 분석 정보를 내보내는 Mono
+	 */
+	public Mono<ReportAnalysisResponse> fetchAndStoreReportAsync(String stockCode) {
+		return Mono.fromCallable(() -> companiesRepository.findByStockCode(stockCode)
+				.orElseThrow(() -> new IllegalArgumentException("Company not found for stockCode: " + stockCode)))
+			.flatMap(company -> {
+				log.info("Fetching report analysis asynchronously for company: {} ({})", company.getCorpName(), stockCode);
+				return newsClient.fetchReportAsync(stockCode)
+					.switchIfEmpty(Mono.error(() ->
+						new IllegalStateException("AI report response is null for stockCode: " + stockCode)))
+					.publishOn(Schedulers.boundedElastic())
+					.map(apiResponse -> shortTransactionRunner.write(
+						"ReportAnalysisService.fetchAndStoreReport",
+						() -> storeReport(company, apiResponse)
+					));
+			});
+	}
+
+	private ReportAnalysisResponse storeReport(CompaniesEntity company, ReportApiResponse apiResponse) {
 		ReportAnalysisEntity analysis = ReportAnalysisEntity.builder()
 			.company(company)
 			.companyName(apiResponse.companyName())
@@ -1,13 +1,16 @@
 package com.aivle.project.company.repository;
 
 import com.aivle.project.company.batch.DartCorpCodeItem;
+import com.aivle.project.company.identity.CompanyIdentityChangedEvent;
 import java.sql.Date;
 import java.time.LocalDate;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.jdbc.core.BatchPreparedStatementSetter;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
@@ -23,6 +26,7 @@ public class CompaniesJdbcRepository {
 
 	private final JdbcTemplate jdbcTemplate;
 	private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+	private final ApplicationEventPublisher eventPublisher;
 
 	public Map<String, LocalDate> findModifyDatesByCorpCodes(List<String> corpCodes) {
 		if (corpCodes == null || corpCodes.isEmpty()) {
@@ -73,6 +77,9 @@ public class CompaniesJdbcRepository {
 				return items.size();
 			}
 		});
+		eventPublisher.publishEvent(new CompanyIdentityChangedEvent(
+			items.stream().map(DartCorpCodeItem::corpCode).collect(Collectors.toSet())
+		));
 	}
 
 	private static LocalDate toLocalDate(Date date) {
@@ -1,6 +1,10 @@
 package com.aivle.project.company.repository;
 
 import com.aivle.project.company.entity.CompaniesEntity;
+import com.aivle.project.company.identity.CompanyIdentity;
+import com.aivle.project.company.search.CompanySearchEntry;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.domain.Pageable;
@@ -15,6 +19,26 @@ public interface CompaniesRepository extends JpaRepository<CompaniesEntity, Long
 
 	Optional<CompaniesEntity> findByStockCode(String stockCode);
 
+	@Query("""
+		select new com.aivle.project.company.identity.CompanyIdentity(
+			c.id, c.stockCode, c.corpCode, c.corpName, i.industryCode, i.industryName
+		)
+		from CompaniesEntity c
+		left join c.industryCode i
+		where c.id = :companyId
+		""")
+	Optional<CompanyIdentity> findIdentityById(@Param("companyId") Long companyId);
+
+	@Query("""
+		select new com.aivle.project.company.identity.CompanyIdentity(
+			c.id, c.stockCode, c.corpCode, c.corpName, i.industryCode, i.industryName
+		)
+		from CompaniesEntity c
+		left join c.industryCode i
+		where c.stockCode = :stockCode
+		""")
+	Optional<CompanyIdentity> findIdentityByStockCode(@Param("stockCode") String stockCode);
+
 	@Query("""
 		select c
 		from CompaniesEntity c
@@ -37,4 +61,33 @@ public interface CompaniesRepository extends JpaRepository<CompaniesEntity, Long
 		nativeQuery = true
 	)
 	List<CompaniesEntity> searchByKeywordFullTextExcludingNullStockCode(@Param("keyword") String keyword, @Param("limit") int limit);
+
+	@Query("""
+		select new com.aivle.project.company.search.CompanySearchEntry(
+			c.id, c.corpCode, c.corpName, c.corpEngName, c.stockCode
+		)
+		from CompaniesEntity c
+		where c.stockCode is not null
+		""")
+	List<CompanySearchEntry> findAllSearchEntries();
+
+	@Query("""
+		select new com.aivle.project.company.search.CompanySearchEntry(
+			c.id, c.corpCode, c.corpName, c.corpEngName, c.stockCode
+		)
+		from CompaniesEntity c
+		where c.stockCode is not null
+		  and c.corpCode in :corpCodes
+		""")
+	List<CompanySearchEntry> findSearchEntriesByCorpCodes(@Param("corpCodes") Collection<String> corpCodes);
+
+	@Query("select max(c.updatedAt) from CompaniesEntity c")
+	Optional<LocalDateTime> findMaxUpdatedAt();
+
+	@Query("""
+		select c.id
+		from CompaniesEntity c
+		where c.corpCode in :corpCodes
+		""")
+	List<Long> findIdsByCorpCodes(@Param("corpCodes") Collection<String> corpCodes);
 }
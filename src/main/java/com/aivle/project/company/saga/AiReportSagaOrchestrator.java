@@ -7,13 +7,18 @@ import com.aivle.project.company.job.AiJobType;
 import com.aivle.project.company.service.AiReportRequestStatusService;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.time.OffsetDateTime;
+import java.util.Map;
 
 /**
  * AI 리포트 생성 프로세스를 3단계(재무 수치 분석 -> 뉴스 감성 분석 -> 종합 코멘트 컴파일)로
@@ -34,6 +39,19 @@ public class AiReportSagaOrchestrator {
     private final OutboxRepository outboxRepository;
     private final AiReportRequestStatusService aiReportRequestStatusService;
     private final ObjectMapper objectMapper;
+    private final SagaTimeoutProperties sagaTimeoutProperties;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 응답을 기다리는 단계별로 타임아웃 시 재요청할 명령.
+     */
+    private static final Map<String, StepCommand> STEP_COMMANDS = Map.of(
+            "FINANCIAL_ANALYSIS", new StepCommand(AiJobType.AI_FINANCIAL_ANALYSIS, "AI_REPORT_FINANCIAL_REQUEST", false),
+            "NEWS_ANALYSIS", new StepCommand(AiJobType.AI_NEWS_ANALYSIS, "AI_REPORT_NEWS_REQUEST", false),
+            "COMMENT_COMPILATION", new StepCommand(AiJobType.AI_COMMENT_COMPILATION, "AI_REPORT_COMMENT_REQUEST", false),
+            "COMPENSATE_NEWS", new StepCommand(AiJobType.AI_NEWS_COMPENSATE, "AI_REPORT_NEWS_COMPENSATE", true),
+            "COMPENSATE_FINANCIAL", new StepCommand(AiJobType.AI_FINANCIAL_COMPENSATE, "AI_REPORT_FINANCIAL_COMPENSATE", true)
+    );
 
     /**
      * Saga 인스턴스를 생성하고 1단계(재무 수치 분석) 요청을 Outbox에 적재하여 전체 Saga 프로세스를 개시합니다.
@@ -62,6 +80,8 @@ public class AiReportSagaOrchestrator {
                     .status(SagaStatus.STARTED)
                     .currentStep("FINANCIAL_ANALYSIS")
                     .payload(payload)
+                    .stepStartedAt(LocalDateTime.now())
+                    .deadlineAt(deadlineFor("FINANCIAL_ANALYSIS"))
                     .build();
             sagaInstanceRepository.save(saga);
 
@@ -90,8 +110,10 @@ public class AiReportSagaOrchestrator {
     public void onFinancialAnalysisSuccess(String requestId, String payload) {
         log.info("Saga {} Financial Analysis succeeded. Progressing to News Analysis.", requestId);
 
-        SagaInstance saga = sagaInstanceRepository.findById(requestId)
-                .orElseThrow(() -> new IllegalArgumentException("Saga instance not found: " + requestId));
+        SagaInstance saga = findAwaitingReply(requestId, "FINANCIAL_ANALYSIS");
+        if (saga == null) {
+            return;
+        }
 
         try {
             AiJobMessage prevMessage = objectMapper.readValue(saga.getPayload(), AiJobMessage.class);
@@ -107,7 +129,7 @@ public class AiReportSagaOrchestrator {
             String nextPayload = objectMapper.writeValueAsString(nextMessage);
 
             // 1. SagaInstance 상태 업데이트
-            saga.transitionTo(SagaStatus.FINANCIAL_ANALYZED, "NEWS_ANALYSIS");
+            moveTo(saga, SagaStatus.FINANCIAL_ANALYZED, "NEWS_ANALYSIS");
             sagaInstanceRepository.save(saga);
 
             // 2. 2단계 뉴스 분석 명령을 Outbox에 적재
@@ -135,10 +157,12 @@ public class AiReportSagaOrchestrator {
     public void onFinancialAnalysisFailure(String requestId, String reason) {
         log.warn("Saga {} Financial Analysis failed. Reason: {}. Transitioning directly to COMPENSATED (No rollback needed).", requestId, reason);
 
-        SagaInstance saga = sagaInstanceRepository.findById(requestId)
-                .orElseThrow(() -> new IllegalArgumentException("Saga instance not found: " + requestId));
+        SagaInstance saga = findAwaitingReply(requestId, "FINANCIAL_ANALYSIS");
+        if (saga == null) {
+            return;
+        }
 
-        saga.transitionTo(SagaStatus.COMPENSATED, "FAILED");
+        moveTo(saga, SagaStatus.COMPENSATED, "FAILED");
         sagaInstanceRepository.save(saga);
 
         aiReportRequestStatusService.updateFailed(requestId, "Financial analysis step failed: " + reason);
@@ -151,8 +175,10 @@ public class AiReportSagaOrchestrator {
     public void onNewsAnalysisSuccess(String requestId, String payload) {
         log.info("Saga {} News Analysis succeeded. Progressing to AI Comment Compilation.", requestId);
 
-        SagaInstance saga = sagaInstanceRepository.findById(requestId)
-                .orElseThrow(() -> new IllegalArgumentException("Saga instance not found: " + requestId));
+        SagaInstance saga = findAwaitingReply(requestId, "NEWS_ANALYSIS");
+        if (saga == null) {
+            return;
+        }
 
         try {
             AiJobMessage prevMessage = objectMapper.readValue(saga.getPayload(), AiJobMessage.class);
@@ -168,7 +194,7 @@ public class AiReportSagaOrchestrator {
             String nextPayload = objectMapper.writeValueAsString(nextMessage);
 
             // 1. SagaInstance 상태 업데이트
-            saga.transitionTo(SagaStatus.NEWS_ANALYZED, "COMMENT_COMPILATION");
+            moveTo(saga, SagaStatus.NEWS_ANALYZED, "COMMENT_COMPILATION");
             sagaInstanceRepository.save(saga);
 
             // 2. 3단계 종합 코멘트 명령을 Outbox에 적재
@@ -195,8 +221,10 @@ public class AiReportSagaOrchestrator {
     public void onNewsAnalysisFailure(String requestId, String reason) {
         log.warn("Saga {} News Analysis failed. Reason: {}. Triggering compensating transactions.", requestId, reason);
 
-        SagaInstance saga = sagaInstanceRepository.findById(requestId)
-                .orElseThrow(() -> new IllegalArgumentException("Saga instance not found: " + requestId));
+        SagaInstance saga = findAwaitingReply(requestId, "NEWS_ANALYSIS");
+        if (saga == null) {
+            return;
+        }
 
         try {
             AiJobMessage prevMessage = objectMapper.readValue(saga.getPayload(), AiJobMessage.class);
@@ -212,7 +240,7 @@ public class AiReportSagaOrchestrator {
             String rollbackPayload = objectMapper.writeValueAsString(rollbackMessage);
 
             // 1. SagaInstance 상태 COMPENSATING 업데이트
-            saga.transitionTo(SagaStatus.COMPENSATING, "COMPENSATE_FINANCIAL");
+            moveTo(saga, SagaStatus.COMPENSATING, "COMPENSATE_FINANCIAL");
             sagaInstanceRepository.save(saga);
 
             // 2. 1단계 재무 분석 보상(롤백) 명령을 Outbox에 적재
@@ -239,11 +267,13 @@ public class AiReportSagaOrchestrator {
     public void onCommentCompilationSuccess(String requestId, String fileId, String downloadUrl) {
         log.info("Saga {} AI Comment Compilation succeeded. Saga Completed!", requestId);
 
-        SagaInstance saga = sagaInstanceRepository.findById(requestId)
-                .orElseThrow(() -> new IllegalArgumentException("Saga instance not found: " + requestId));
+        SagaInstance saga = findAwaitingReply(requestId, "COMMENT_COMPILATION");
+        if (saga == null) {
+            return;
+        }
 
         // 1. SagaInstance 상태 AI_COMPLETED 업데이트
-        saga.transitionTo(SagaStatus.AI_COMPLETED, "COMPLETED");
+        moveTo(saga, SagaStatus.AI_COMPLETED, "COMPLETED");
         sagaInstanceRepository.save(saga);
 
         // 2. 리포트 생성 최종 완료 처리
@@ -258,8 +288,10 @@ public class AiReportSagaOrchestrator {
     public void onCommentCompilationFailure(String requestId, String reason) {
         log.warn("Saga {} AI Comment Compilation failed. Reason: {}. Triggering compensation chain.", requestId, reason);
 
-        SagaInstance saga = sagaInstanceRepository.findById(requestId)
-                .orElseThrow(() -> new IllegalArgumentException("Saga instance not found: " + requestId));
+        SagaInstance saga = findAwaitingReply(requestId, "COMMENT_COMPILATION");
+        if (saga == null) {
+            return;
+        }
 
         try {
             AiJobMessage prevMessage = objectMapper.readValue(saga.getPayload(), AiJobMessage.class);
@@ -275,7 +307,7 @@ public class AiReportSagaOrchestrator {
             String rollbackPayload = objectMapper.writeValueAsString(rollbackMessage);
 
             // 1. SagaInstance 상태 COMPENSATING 업데이트
-            saga.transitionTo(SagaStatus.COMPENSATING, "COMPENSATE_NEWS");
+            moveTo(saga, SagaStatus.COMPENSATING, "COMPENSATE_NEWS");
             sagaInstanceRepository.save(saga);
 
             // 2. 2단계 뉴스 롤백 보상 명령을 Outbox에 적재
@@ -302,8 +334,10 @@ public class AiReportSagaOrchestrator {
     public void onNewsCompensated(String requestId) {
         log.info("Saga {} News Compensation completed. Progressing to Financial Compensation.", requestId);
 
-        SagaInstance saga = sagaInstanceRepository.findById(requestId)
-                .orElseThrow(() -> new IllegalArgumentException("Saga instance not found: " + requestId));
+        SagaInstance saga = findAwaitingReply(requestId, "COMPENSATE_NEWS");
+        if (saga == null) {
+            return;
+        }
 
         try {
             AiJobMessage prevMessage = objectMapper.readValue(saga.getPayload(), AiJobMessage.class);
@@ -319,7 +353,7 @@ public class AiReportSagaOrchestrator {
             String rollbackPayload = objectMapper.writeValueAsString(rollbackMessage);
 
             // 1. SagaInstance 상태 COMPENSATING 유지하되 단계 수정
-            saga.setCurrentStep("COMPENSATE_FINANCIAL");
+            moveTo(saga, SagaStatus.COMPENSATING, "COMPENSATE_FINANCIAL");
             sagaInstanceRepository.save(saga);
 
             // 2. 1단계 재무 분석 보상(롤백) 명령을 Outbox에 적재
@@ -346,15 +380,128 @@ public class AiReportSagaOrchestrator {
     public void onFinancialCompensated(String requestId) {
         log.info("Saga {} Financial Compensation completed. Completing Saga Failure.", requestId);
 
-        SagaInstance saga = sagaInstanceRepository.findById(requestId)
-                .orElseThrow(() -> new IllegalArgumentException("Saga instance not found: " + requestId));
+        SagaInstance saga = findAwaitingReply(requestId, "COMPENSATE_FINANCIAL");
+        if (saga == null) {
+            return;
+        }
 
         // 1. SagaInstance 상태 COMPENSATED 최종 실패 업데이트
-        saga.transitionTo(SagaStatus.COMPENSATED, "FAILED");
+        moveTo(saga, SagaStatus.COMPENSATED, "FAILED");
         sagaInstanceRepository.save(saga);
 
         // 2. 리포트 생성 실패 처리
         aiReportRequestStatusService.updateFailed(requestId, "Saga execution failed and fully compensated.");
         log.info("Saga {} successfully compensated and closed.", requestId);
     }
+
+    /**
+     * 단계 기한이 지난 Saga를 처리합니다. 재요청 한도 안이면 현재 단계 명령을 Outbox에 다시 적재하고,
+     * 한도를 넘으면 해당 단계의 실패 처리(보상 트랜잭션 개시 또는 최종 실패)로 넘깁니다.
+     * 점검 대상으로 선점한 뒤 응답이 도착해 단계가 바뀌었다면 아무것도 하지 않습니다.
+     */
+    @Transactional
+    public void handleStepTimeout(SagaTimeoutCandidate candidate) {
+        String requestId = candidate.requestId();
+        SagaInstance saga = sagaInstanceRepository.findByIdForUpdate(requestId).orElse(null);
+        if (saga == null || saga.getDeadlineAt() == null || saga.getStatus().isTerminal()
+                || !candidate.matches(saga)) {
+            return;
+        }
+        String step = saga.getCurrentStep();
+        StepCommand command = STEP_COMMANDS.get(step);
+        if (command == null) {
+            saga.scheduleDeadline(null);
+            sagaInstanceRepository.save(saga);
+            return;
+        }
+
+        if (saga.getStepAttempts() < sagaTimeoutProperties.getMaxAttempts()) {
+            log.warn("Saga {} step {} timed out. Re-dispatching (attempt {}).", requestId, step, saga.getStepAttempts() + 1);
+            dispatch(saga, command);
+            saga.recordStepRetry(deadlineFor(step));
+            sagaInstanceRepository.save(saga);
+            meterRegistry.counter("saga.step.timeout", "step", step, "action", "retry").increment();
+            return;
+        }
+
+        log.warn("Saga {} step {} timed out after {} attempts. Failing the step.", requestId, step, saga.getStepAttempts());
+        meterRegistry.counter("saga.step.timeout", "step", step, "action", "fail").increment();
+        String reason = "Step " + step + " timed out";
+        switch (step) {
+            case "FINANCIAL_ANALYSIS" -> onFinancialAnalysisFailure(requestId, reason);
+            case "NEWS_ANALYSIS" -> onNewsAnalysisFailure(requestId, reason);
+            case "COMMENT_COMPILATION" -> onCommentCompilationFailure(requestId, reason);
+            default -> {
+                // 보상 명령마저 응답이 없으면 더 되돌릴 수 없으므로 최종 실패로 닫는다.
+                moveTo(saga, SagaStatus.FAILED, "FAILED");
+                sagaInstanceRepository.save(saga);
+                aiReportRequestStatusService.updateFailed(requestId, "Saga compensation timed out at step " + step);
+            }
+        }
+    }
+
+    /**
+     * 응답이 가리키는 단계를 여전히 기다리는 Saga만 잠가서 반환합니다.
+     * 타임아웃 재요청 뒤의 중복 응답이나 보상·종료 이후 늦게 도착한 응답이 Saga를 다시 전진시키고
+     * 명령을 중복 적재하지 않도록, 종료 상태이거나 현재 단계가 다르면 기록만 남기고 null을 반환합니다.
+     */
+    private SagaInstance findAwaitingReply(String requestId, String replyStep) {
+        SagaInstance saga = sagaInstanceRepository.findByIdForUpdate(requestId)
+                .orElseThrow(() -> new IllegalArgumentException("Saga instance not found: " + requestId));
+        if (saga.getStatus().isTerminal() || !replyStep.equals(saga.getCurrentStep())) {
+            log.warn("Saga {} dropped stale reply for step {}: status={}, currentStep={}",
+                    requestId, replyStep, saga.getStatus(), saga.getCurrentStep());
+            meterRegistry.counter("saga.reply.stale", "step", replyStep).increment();
+            return null;
+        }
+        return saga;
+    }
+
+    private void dispatch(SagaInstance saga, StepCommand command) {
+        try {
+            AiJobMessage origin = objectMapper.readValue(saga.getPayload(), AiJobMessage.class);
+            AiJobMessage message = new AiJobMessage(
+                    saga.getId(),
+                    command.jobType(),
+                    origin.companyId(),
+                    origin.year(),
+                    origin.quarter(),
+                    origin.period(),
+                    OffsetDateTime.now()
+            );
+            outboxRepository.save(OutboxEvent.builder()
+                    .eventType(command.eventType())
+                    .aggregateType("SagaInstance")
+                    .aggregateId(saga.getId())
+                    .topic(command.rollback() ? rollbackTopic : requestTopic)
+                    .payload(objectMapper.writeValueAsString(message))
+                    .build());
+        } catch (JsonProcessingException e) {
+            log.error("Serialization failed while re-dispatching timed out step: requestId={}", saga.getId(), e);
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * 단계 소요 시간을 기록한 뒤 다음 단계로 전이하고, 응답을 기다리는 단계면 기한을 설정합니다.
+     */
+    private void moveTo(SagaInstance saga, SagaStatus status, String nextStep) {
+        LocalDateTime now = LocalDateTime.now();
+        if (saga.getStepStartedAt() != null) {
+            Timer.builder("saga.step.duration")
+                    .tag("step", saga.getCurrentStep())
+                    .publishPercentileHistogram()
+                    .register(meterRegistry)
+                    .record(Duration.between(saga.getStepStartedAt(), now));
+        }
+        saga.transitionTo(status, nextStep);
+        saga.scheduleDeadline(status.isTerminal() ? null : deadlineFor(nextStep));
+    }
+
+    private LocalDateTime deadlineFor(String step) {
+        return LocalDateTime.now().plus(sagaTimeoutProperties.timeoutFor(step));
+    }
+
+    private record StepCommand(AiJobType jobType, String eventType, boolean rollback) {
+    }
 }
@@ -4,6 +4,8 @@ import com.aivle.project.common.entity.BaseEntity;
 import jakarta.persistence.*;
 import lombok.*;
 
+import java.time.LocalDateTime;
+
 /**
  * Saga 상태를 추적하고 보존하는 JPA 엔티티 클래스.
  */
@@ -33,8 +35,41 @@ public class SagaInstance extends BaseEntity {
     @Column(name = "payload", columnDefinition = "TEXT", nullable = false)
     private String payload;
 
+    /**
+     * 현재 단계에 진입한 시각. 단계별 소요 시간 측정에 사용한다.
+     */
+    @Column(name = "step_started_at")
+    private LocalDateTime stepStartedAt;
+
+    /**
+     * 현재 단계의 응답 기한. null이면 타임아웃 점검 대상이 아니다(종료 상태 등).
+     */
+    @Column(name = "deadline_at")
+    private LocalDateTime deadlineAt;
+
+    /**
+     * 현재 단계를 타임아웃으로 재요청한 횟수.
+     */
+    @Column(name = "step_attempts", nullable = false)
+    @Builder.Default
+    private Integer stepAttempts = 0;
+
     public void transitionTo(SagaStatus newStatus, String nextStep) {
+        if (status != null && status.isTerminal()) {
+            throw new IllegalStateException("Saga " + id + " is already " + status + "; cannot move to " + newStatus);
+        }
         this.status = newStatus;
         this.currentStep = nextStep;
+        this.stepStartedAt = LocalDateTime.now();
+        this.stepAttempts = 0;
+    }
+
+    public void scheduleDeadline(LocalDateTime deadlineAt) {
+        this.deadlineAt = deadlineAt;
+    }
+
+    public void recordStepRetry(LocalDateTime deadlineAt) {
+        this.stepAttempts += 1;
+        this.deadlineAt = deadlineAt;
     }
 }
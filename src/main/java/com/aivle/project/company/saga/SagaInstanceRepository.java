@@ -1,11 +1,41 @@
 package com.aivle.project.company.saga;
 
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 /**
  * SagaInstance를 처리하는 JPA Repository 인터페이스.
  */
 @Repository
 public interface SagaInstanceRepository extends JpaRepository<SagaInstance, String> {
+
+    /**
+     * 응답 처리와 타임아웃 처리가 같은 Saga를 동시에 전이시키지 않도록 행을 잠그며 조회한다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM SagaInstance s WHERE s.id = :id")
+    Optional<SagaInstance> findByIdForUpdate(@Param("id") String id);
+
+    /**
+     * 기한이 지난 Saga ID를 잠그며 조회한다. 다른 노드가 잠근 행은 건너뛴다(idx_saga_instance_deadline_at).
+     */
+    @Query(value = "SELECT id FROM saga_instance WHERE deadline_at < :now AND deleted_at IS NULL "
+            + "ORDER BY deadline_at ASC LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<String> findTimedOutIdsForUpdate(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    @Modifying
+    @Query("UPDATE SagaInstance s SET s.deadlineAt = :leaseUntil WHERE s.id IN :ids")
+    int extendDeadline(@Param("ids") Collection<String> ids, @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    long countByDeadlineAtBeforeAndDeletedAtIsNull(LocalDateTime now);
 }
@@ -10,5 +10,12 @@ public enum SagaStatus {
     AI_COMPLETED,
     FAILED,
     COMPENSATING,
-    COMPENSATED
+    COMPENSATED;
+
+    /**
+     * 더 이상 단계가 진행되지 않는 종료 상태인지 여부.
+     */
+    public boolean isTerminal() {
+        return this == AI_COMPLETED || this == FAILED || this == COMPENSATED;
+    }
 }
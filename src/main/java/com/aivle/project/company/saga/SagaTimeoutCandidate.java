@@ -0,0 +1,20 @@
+package com.aivle.project.company.saga;
+
+import java.util.Objects;
+
+/**
+ * 타임아웃 점검 시점에 선점한 Saga의 단계 스냅샷.
+ */
+public record SagaTimeoutCandidate(String requestId, String step, int stepAttempts) {
+
+    public static SagaTimeoutCandidate of(SagaInstance saga) {
+        return new SagaTimeoutCandidate(saga.getId(), saga.getCurrentStep(), saga.getStepAttempts());
+    }
+
+    /**
+     * 선점 이후 단계가 진행되거나 다른 노드가 재요청했다면 false.
+     */
+    public boolean matches(SagaInstance saga) {
+        return Objects.equals(step, saga.getCurrentStep()) && stepAttempts == saga.getStepAttempts();
+    }
+}
@@ -0,0 +1,72 @@
+package com.aivle.project.company.saga;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Saga 단계별 응답 제한 시간 및 타임아웃 복구 정책 설정.
+ */
+@Component
+@ConfigurationProperties(prefix = "app.saga.timeout")
+public class SagaTimeoutProperties {
+
+    /**
+     * 단계별 제한 시간이 없을 때 사용하는 기본값.
+     */
+    private Duration defaultTimeout = Duration.ofMinutes(10);
+
+    /**
+     * 단계(currentStep)별 제한 시간. 예: FINANCIAL_ANALYSIS: 5m
+     */
+    private Map<String, Duration> steps = new HashMap<>();
+
+    /**
+     * 같은 단계를 재요청하는 최대 횟수. 초과하면 보상 트랜잭션(또는 최종 실패)으로 넘어간다.
+     */
+    private int maxAttempts = 2;
+
+    /**
+     * 한 번의 점검에서 처리하는 최대 Saga 수.
+     */
+    private int batchSize = 50;
+
+    public Duration timeoutFor(String step) {
+        return steps.getOrDefault(step, defaultTimeout);
+    }
+
+    public Duration getDefaultTimeout() {
+        return defaultTimeout;
+    }
+
+    public void setDefaultTimeout(Duration defaultTimeout) {
+        this.defaultTimeout = defaultTimeout;
+    }
+
+    public Map<String, Duration> getSteps() {
+        return steps;
+    }
+
+    public void setSteps(Map<String, Duration> steps) {
+        this.steps = steps;
+    }
+
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    public void setMaxAttempts(int maxAttempts) {
+        this.maxAttempts = maxAttempts;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+}
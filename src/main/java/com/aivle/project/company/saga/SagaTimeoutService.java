@@ -0,0 +1,40 @@
+package com.aivle.project.company.saga;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 기한이 지난 Saga를 노드 간 중복 없이 선점합니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class SagaTimeoutService {
+
+    private final SagaInstanceRepository sagaInstanceRepository;
+    private final SagaTimeoutProperties sagaTimeoutProperties;
+
+    /**
+     * SKIP LOCKED로 다른 노드가 점검 중인 행을 건너뛰며 최대 {@code limit}건을 잠그고,
+     * 처리하는 동안 다시 선점되지 않도록 기한을 임대 시간만큼 뒤로 미룬 뒤 스냅샷을 반환합니다.
+     */
+    @Transactional
+    public List<SagaTimeoutCandidate> claimTimedOut(LocalDateTime now, int limit) {
+        List<String> ids = sagaInstanceRepository.findTimedOutIdsForUpdate(now, limit);
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        List<SagaTimeoutCandidate> candidates = sagaInstanceRepository.findAllById(ids).stream()
+                .map(SagaTimeoutCandidate::of)
+                .toList();
+        sagaInstanceRepository.extendDeadline(ids, now.plus(sagaTimeoutProperties.getDefaultTimeout()));
+        return candidates;
+    }
+
+    public long countTimedOut(LocalDateTime now) {
+        return sagaInstanceRepository.countByDeadlineAtBeforeAndDeletedAtIsNull(now);
+    }
+}
@@ -0,0 +1,59 @@
+package com.aivle.project.company.saga;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 단계 기한이 지난 Saga를 주기적으로 찾아 재요청 또는 보상으로 복구합니다.
+ * 여러 노드에서 동시에 실행되어도 SKIP LOCKED 선점으로 같은 Saga를 중복 처리하지 않습니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "app.saga.timeout", name = "enabled", havingValue = "true")
+public class SagaTimeoutWatchdog {
+
+    private final SagaTimeoutService sagaTimeoutService;
+    private final AiReportSagaOrchestrator aiReportSagaOrchestrator;
+    private final SagaTimeoutProperties sagaTimeoutProperties;
+    private final AtomicLong stuckSagas = new AtomicLong();
+
+    public SagaTimeoutWatchdog(
+            SagaTimeoutService sagaTimeoutService,
+            AiReportSagaOrchestrator aiReportSagaOrchestrator,
+            SagaTimeoutProperties sagaTimeoutProperties,
+            MeterRegistry meterRegistry
+    ) {
+        this.sagaTimeoutService = sagaTimeoutService;
+        this.aiReportSagaOrchestrator = aiReportSagaOrchestrator;
+        this.sagaTimeoutProperties = sagaTimeoutProperties;
+        meterRegistry.gauge("saga.stuck", stuckSagas);
+    }
+
+    @Scheduled(fixedDelayString = "${app.saga.timeout.interval-ms:30000}")
+    public void recoverTimedOutSagas() {
+        LocalDateTime now = LocalDateTime.now();
+        try {
+            stuckSagas.set(sagaTimeoutService.countTimedOut(now));
+            List<SagaTimeoutCandidate> candidates =
+                    sagaTimeoutService.claimTimedOut(now, Math.max(1, sagaTimeoutProperties.getBatchSize()));
+            for (SagaTimeoutCandidate candidate : candidates) {
+                try {
+                    aiReportSagaOrchestrator.handleStepTimeout(candidate);
+                } catch (Exception e) {
+                    // 선점 임대가 끝나면 다음 점검에서 다시 시도된다.
+                    log.error("Failed to recover timed out saga: requestId={}, step={}",
+                            candidate.requestId(), candidate.step(), e);
+                }
+            }
+        } catch (Exception e) {
+            log.error("Saga timeout watchdog cycle failed", e);
+        }
+    }
+}
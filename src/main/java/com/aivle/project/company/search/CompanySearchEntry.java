@@ -0,0 +1,13 @@
+package com.aivle.project.company.search;
+
+/**
+ * 검색 색인에 올리는 상장 기업 정보.
+ */
+public record CompanySearchEntry(
+	Long companyId,
+	String corpCode,
+	String corpName,
+	String corpEngName,
+	String stockCode
+) {
+}
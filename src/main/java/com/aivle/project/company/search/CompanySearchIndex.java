@@ -0,0 +1,346 @@
+package com.aivle.project.company.search;
+
+import com.aivle.project.company.repository.CompaniesRepository;
+import java.text.Normalizer;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 상장 기업(stock_code not null) 인메모리 검색 색인.
+ * 기업명/영문명/초성/종목코드의 2-gram과 첫 글자 포스팅을 불변 스냅샷으로 들고 있다가
+ * 변경분을 반영할 때 새 스냅샷을 만들어 통째로 교체한다.
+ * 다른 노드에서 바뀐 기업은 이 노드의 변경 이벤트로 오지 않으므로, companies 테이블 버전을 주기적으로 확인해 다시 적재한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CompanySearchIndex {
+
+	private static final int REFRESH_BATCH_SIZE = 1000;
+	private static final char HANGUL_SYLLABLE_BEGIN = '가';
+	private static final char HANGUL_SYLLABLE_END = '힣';
+	private static final int SYLLABLES_PER_CHOSEONG = 21 * 28;
+	private static final char[] CHOSEONG = {
+		'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ',
+		'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+	};
+	private static final Comparator<CompanySearchEntry> ENTRY_ORDER = Comparator
+		.comparing(CompanySearchEntry::corpName, Comparator.nullsLast(Comparator.naturalOrder()))
+		.thenComparing(CompanySearchEntry::stockCode, Comparator.nullsLast(Comparator.naturalOrder()));
+
+	private final CompaniesRepository companiesRepository;
+	@Value("${app.company.search-index.enabled:true}")
+	private boolean enabled;
+
+	private final Set<String> pendingCorpCodes = ConcurrentHashMap.newKeySet();
+	private volatile Snapshot snapshot;
+	private volatile Version loadedVersion;
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void preload() {
+		if (!enabled) {
+			return;
+		}
+		try {
+			rebuild();
+		} catch (Exception e) {
+			log.warn("Failed to preload company search index: {}", e.getMessage());
+		}
+	}
+
+	/**
+	 * 상장 기업 전체를 다시 읽어 색인을 교체한다.
+	 */
+	public synchronized void rebuild() {
+		pendingCorpCodes.clear();
+		// 버전을 먼저 읽어 두면 적재 중에 바뀐 기업은 다음 확인에서 다시 적재된다.
+		Version version = currentVersion();
+		List<CompanySearchEntry> entries = companiesRepository.findAllSearchEntries();
+		snapshot = Snapshot.of(entries);
+		loadedVersion = version;
+		log.info("Company search index built: companies={}", entries.size());
+	}
+
+	/**
+	 * companies 테이블 버전(건수, 최종 수정 시각)이 마지막 전체 적재 때와 다를 때만 다시 적재한다.
+	 * 이 노드에서 변경분만 반영한 뒤에도 버전은 달라지므로, 다음 확인에서 한 번 더 전체 적재한다.
+	 *
+	 * @return 재적재 여부
+	 */
+	public boolean rebuildIfChanged() {
+		if (!enabled || currentVersion().equals(loadedVersion)) {
+			return false;
+		}
+		rebuild();
+		return true;
+	}
+
+	/**
+	 * 색인 적재 여부. 적재 전에는 호출 측이 DB 검색으로 대체한다.
+	 */
+	public boolean isReady() {
+		return snapshot != null;
+	}
+
+	/**
+	 * 변경된 법인 코드를 다음 반영 대상으로 기록한다. 적재 전이면 전체 적재 때 반영되므로 무시한다.
+	 */
+	public void markChanged(Collection<String> corpCodes) {
+		if (snapshot != null && corpCodes != null) {
+			pendingCorpCodes.addAll(corpCodes);
+		}
+	}
+
+	/**
+	 * 기록된 법인 코드만 DB에서 다시 읽어 기존 항목과 합친 뒤 색인을 교체한다.
+	 * 종목 코드가 사라진 기업은 색인에서 빠진다.
+	 *
+	 * @return 반영한 법인 코드 수
+	 */
+	public synchronized int applyPendingChanges() {
+		Snapshot current = snapshot;
+		if (current == null || pendingCorpCodes.isEmpty()) {
+			return 0;
+		}
+		List<String> corpCodes = new ArrayList<>(pendingCorpCodes);
+		pendingCorpCodes.removeAll(corpCodes);
+
+		Map<String, CompanySearchEntry> entriesByCorpCode = new HashMap<>(current.entriesByCorpCode);
+		corpCodes.forEach(entriesByCorpCode::remove);
+		for (int from = 0; from < corpCodes.size(); from += REFRESH_BATCH_SIZE) {
+			List<String> batch = corpCodes.subList(from, Math.min(from + REFRESH_BATCH_SIZE, corpCodes.size()));
+			companiesRepository.findSearchEntriesByCorpCodes(batch)
+				.forEach(entry -> entriesByCorpCode.put(entry.corpCode(), entry));
+		}
+		snapshot = Snapshot.of(entriesByCorpCode.values());
+		log.info("Company search index refreshed: changed={}, companies={}", corpCodes.size(), entriesByCorpCode.size());
+		return corpCodes.size();
+	}
+
+	/**
+	 * 키워드와 일치하는 기업을 점수순으로 최대 limit건 반환한다.
+	 * 정확히 일치 > 앞부분 일치 > 부분 일치 순이며, 초성만 입력하면 기업명 초성과 비교한다.
+	 */
+	public List<CompanySearchEntry> search(String keyword, int limit) {
+		Snapshot current = snapshot;
+		String query = fold(keyword);
+		if (current == null || query.isEmpty() || limit <= 0) {
+			return List.of();
+		}
+		return current.search(query, limit);
+	}
+
+	static String fold(String value) {
+		if (value == null || value.isEmpty()) {
+			return "";
+		}
+		// NFKC는 호환 자모(ㄱ)를 조합형 자모로 바꾸므로 NFC로만 정규화한다.
+		String normalized = Normalizer.normalize(value, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+		StringBuilder folded = new StringBuilder(normalized.length());
+		for (int i = 0; i < normalized.length(); i++) {
+			char c = normalized.charAt(i);
+			if (Character.isLetterOrDigit(c)) {
+				folded.append(c);
+			}
+		}
+		return folded.toString();
+	}
+
+	static String toChoseong(String folded) {
+		StringBuilder choseong = new StringBuilder(folded.length());
+		for (int i = 0; i < folded.length(); i++) {
+			char c = folded.charAt(i);
+			if (c >= HANGUL_SYLLABLE_BEGIN && c <= HANGUL_SYLLABLE_END) {
+				choseong.append(CHOSEONG[(c - HANGUL_SYLLABLE_BEGIN) / SYLLABLES_PER_CHOSEONG]);
+			} else {
+				choseong.append(c);
+			}
+		}
+		return choseong.toString();
+	}
+
+	private static boolean containsChoseong(String folded) {
+		for (int i = 0; i < folded.length(); i++) {
+			char c = folded.charAt(i);
+			if (c >= 'ㄱ' && c <= 'ㅎ') {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private Version currentVersion() {
+		return new Version(companiesRepository.count(), companiesRepository.findMaxUpdatedAt().orElse(null));
+	}
+
+	private record Version(long companyCount, LocalDateTime companiesUpdatedAt) {
+	}
+
+	private record Document(CompanySearchEntry entry, String name, String engName, String choseong, String stockCode) {
+
+		private List<String> keys() {
+			return List.of(name, engName, choseong, stockCode);
+		}
+	}
+
+	private record Match(int docId, int score, int nameLength) {
+
+		private static final Comparator<Match> BEST_FIRST = Comparator
+			.comparingInt(Match::score).reversed()
+			.thenComparingInt(Match::nameLength)
+			.thenComparingInt(Match::docId);
+	}
+
+	private static final class Snapshot {
+
+		private final Map<String, CompanySearchEntry> entriesByCorpCode;
+		private final Document[] documents;
+		private final Map<String, int[]> bigramPostings;
+		private final Map<String, int[]> leadingCharPostings;
+
+		private Snapshot(
+			Map<String, CompanySearchEntry> entriesByCorpCode,
+			Document[] documents,
+			Map<String, int[]> bigramPostings,
+			Map<String, int[]> leadingCharPostings
+		) {
+			this.entriesByCorpCode = entriesByCorpCode;
+			this.documents = documents;
+			this.bigramPostings = bigramPostings;
+			this.leadingCharPostings = leadingCharPostings;
+		}
+
+		private static Snapshot of(Collection<CompanySearchEntry> entries) {
+			// 문서 번호를 기업명 순으로 매겨 점수가 같으면 기업명 순으로 정렬되게 한다.
+			List<CompanySearchEntry> sorted = new ArrayList<>(entries);
+			sorted.sort(ENTRY_ORDER);
+			Document[] documents = new Document[sorted.size()];
+			Map<String, CompanySearchEntry> entriesByCorpCode = new HashMap<>();
+			Map<String, List<Integer>> bigrams = new HashMap<>();
+			Map<String, List<Integer>> leadingChars = new HashMap<>();
+			for (int docId = 0; docId < documents.length; docId++) {
+				CompanySearchEntry entry = sorted.get(docId);
+				String name = fold(entry.corpName());
+				Document document = new Document(entry, name, fold(entry.corpEngName()), toChoseong(name), fold(entry.stockCode()));
+				documents[docId] = document;
+				entriesByCorpCode.put(entry.corpCode(), entry);
+				for (String key : document.keys()) {
+					if (key.isEmpty()) {
+						continue;
+					}
+					addPosting(leadingChars, key.substring(0, 1), docId);
+					for (int i = 0; i + 2 <= key.length(); i++) {
+						addPosting(bigrams, key.substring(i, i + 2), docId);
+					}
+				}
+			}
+			return new Snapshot(Map.copyOf(entriesByCorpCode), documents, toArrays(bigrams), toArrays(leadingChars));
+		}
+
+		private List<CompanySearchEntry> search(String query, int limit) {
+			boolean choseongQuery = containsChoseong(query);
+			String target = choseongQuery ? toChoseong(query) : query;
+			int[] candidates = candidates(target);
+			if (candidates.length == 0) {
+				return List.of();
+			}
+
+			PriorityQueue<Match> top = new PriorityQueue<>(limit + 1, Match.BEST_FIRST.reversed());
+			for (int docId : candidates) {
+				Document document = documents[docId];
+				int score = choseongQuery ? scoreChoseong(document, target) : score(document, target);
+				if (score == 0) {
+					continue;
+				}
+				top.add(new Match(docId, score, document.name().length()));
+				if (top.size() > limit) {
+					top.poll();
+				}
+			}
+			List<Match> matches = new ArrayList<>(top);
+			matches.sort(Match.BEST_FIRST);
+			return matches.stream()
+				.map(match -> documents[match.docId()].entry())
+				.toList();
+		}
+
+		/**
+		 * 한 글자는 첫 글자 포스팅, 두 글자 이상은 모든 2-gram 포스팅의 교집합을 후보로 삼는다.
+		 */
+		private int[] candidates(String target) {
+			if (target.length() == 1) {
+				return leadingCharPostings.getOrDefault(target, new int[0]);
+			}
+			Set<String> grams = new LinkedHashSet<>();
+			for (int i = 0; i + 2 <= target.length(); i++) {
+				grams.add(target.substring(i, i + 2));
+			}
+			List<int[]> postings = new ArrayList<>(grams.size());
+			for (String gram : grams) {
+				int[] docIds = bigramPostings.get(gram);
+				if (docIds == null) {
+					return new int[0];
+				}
+				postings.add(docIds);
+			}
+			postings.sort(Comparator.comparingInt(docIds -> docIds.length));
+			int[] smallest = postings.get(0);
+			return Arrays.stream(smallest)
+				.filter(docId -> postings.stream().skip(1).allMatch(docIds -> Arrays.binarySearch(docIds, docId) >= 0))
+				.toArray();
+		}
+
+		private static int score(Document document, String target) {
+			int best = rank(document.name(), target, 100, 80, 50);
+			best = Math.max(best, rank(document.stockCode(), target, 95, 75, 0));
+			return Math.max(best, rank(document.engName(), target, 90, 70, 40));
+		}
+
+		private static int scoreChoseong(Document document, String target) {
+			return rank(document.choseong(), target, 85, 60, 30);
+		}
+
+		private static int rank(String key, String target, int exact, int prefix, int contains) {
+			if (key.isEmpty()) {
+				return 0;
+			}
+			if (key.equals(target)) {
+				return exact;
+			}
+			if (key.startsWith(target)) {
+				return prefix;
+			}
+			return key.contains(target) ? contains : 0;
+		}
+
+		private static void addPosting(Map<String, List<Integer>> postings, String token, int docId) {
+			List<Integer> docIds = postings.computeIfAbsent(token, ignored -> new ArrayList<>());
+			if (docIds.isEmpty() || docIds.get(docIds.size() - 1) != docId) {
+				docIds.add(docId);
+			}
+		}
+
+		private static Map<String, int[]> toArrays(Map<String, List<Integer>> postings) {
+			Map<String, int[]> arrays = new HashMap<>(postings.size() * 2);
+			postings.forEach((token, docIds) -> arrays.put(token, docIds.stream().mapToInt(Integer::intValue).toArray()));
+			return arrays;
+		}
+	}
+}
@@ -0,0 +1,23 @@
+package com.aivle.project.company.search;
+
+import com.aivle.project.company.identity.CompanyIdentityChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 커밋된 기업 변경을 검색 색인 반영 대상으로 기록한다.
+ * 실제 반영은 DART 기업 목록 동기화가 끝난 뒤 한 번에 수행한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class CompanySearchIndexListener {
+
+	private final CompanySearchIndex companySearchIndex;
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void onCompaniesChanged(CompanyIdentityChangedEvent event) {
+		companySearchIndex.markChanged(event.corpCodes());
+	}
+}
@@ -0,0 +1,30 @@
+package com.aivle.project.company.search;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * companies 테이블 버전을 주기적으로 확인해 다른 노드의 기업 변경을 검색 색인에 반영한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "app.company.search-index.refresh", name = "enabled", havingValue = "true")
+public class CompanySearchIndexRefreshScheduler {
+
+	private final CompanySearchIndex companySearchIndex;
+
+	@Scheduled(fixedDelayString = "${app.company.search-index.refresh.interval-ms:60000}")
+	public void refresh() {
+		try {
+			if (companySearchIndex.rebuildIfChanged()) {
+				log.info("Company search index rebuilt after companies table change");
+			}
+		} catch (Exception e) {
+			log.error("Company search index refresh failed", e);
+		}
+	}
+}
@@ -1,18 +1,23 @@
 package com.aivle.project.company.service;
 
 import com.aivle.project.company.client.AiServerClient;
+import com.aivle.project.company.dataversion.CompanyDataChangedEvent;
 import com.aivle.project.company.dto.AiCommentResponse;
-import com.aivle.project.company.entity.CompaniesEntity;
+import com.aivle.project.company.identity.CompanyIdentity;
+import com.aivle.project.company.identity.CompanyIdentityCache;
 import com.aivle.project.company.keymetric.entity.CompanyKeyMetricEntity;
-import com.aivle.project.company.repository.CompaniesRepository;
 import com.aivle.project.company.report.quarter.support.QuarterCalculator;
 import com.aivle.project.company.report.quarter.support.YearQuarter;
-import com.aivle.project.company.report.repository.CompanyReportMetricValuesRepository;
+import com.aivle.project.company.report.service.CompanyLatestActualQuarterCache;
+import com.aivle.project.company.singleflight.AiFillKey;
+import com.aivle.project.company.singleflight.AiFillOperation;
+import com.aivle.project.company.singleflight.AiFillSingleFlight;
 import java.time.LocalDateTime;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 /**
  * AI 종합 코멘트 캐시 서비스.
@@ -22,28 +27,39 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class CompanyAiCommentService {
 
-	private final CompaniesRepository companiesRepository;
-	private final CompanyReportMetricValuesRepository companyReportMetricValuesRepository;
+	private final CompanyIdentityCache companyIdentityCache;
+	private final CompanyLatestActualQuarterCache companyLatestActualQuarterCache;
 	private final CompanyHealthScoreCacheService companyHealthScoreCacheService;
 	private final AiServerClient aiServerClient;
+	private final ApplicationEventPublisher eventPublisher;
+	private final AiFillSingleFlight aiFillSingleFlight;
+	private final TransactionTemplate transactionTemplate;
 
 	/**
 	 * 요청 분기의 AI 코멘트를 보장한다.
+	 * 같은 기업·분기의 적재가 진행 중이면 AI를 다시 호출하지 않고 그 코멘트를 함께 받는다.
 	 */
-	@Transactional
 	public String ensureAiCommentCached(Long companyId, String period) {
-		CompaniesEntity company = companiesRepository.findById(companyId)
+		CompanyIdentity company = companyIdentityCache.find(companyId)
 			.orElseThrow(() -> new IllegalArgumentException("Company not found: " + companyId));
 
-		int targetQuarterKey = resolveTargetQuarterKey(company.getStockCode(), period);
+		int targetQuarterKey = resolveTargetQuarterKey(company, period);
+		return aiFillSingleFlight.execute(
+			AiFillKey.of(AiFillOperation.AI_COMMENT, companyId, targetQuarterKey),
+			() -> transactionTemplate.execute(status -> fillAiComment(company, targetQuarterKey))
+		);
+	}
+
+	private String fillAiComment(CompanyIdentity company, int targetQuarterKey) {
+		Long companyId = company.id();
 		CompanyKeyMetricEntity keyMetric = companyHealthScoreCacheService.getOrCreateKeyMetric(companyId, targetQuarterKey);
 		if (keyMetric.getAiComment() != null && !keyMetric.getAiComment().isBlank()) {
 			return keyMetric.getAiComment();
 		}
 
-		AiCommentResponse response = aiServerClient.getAiComment(company.getStockCode(), String.valueOf(targetQuarterKey));
+		AiCommentResponse response = aiServerClient.getAiComment(company.stockCode(), String.valueOf(targetQuarterKey));
 		if (response == null || response.aiComment() == null || response.aiComment().isBlank()) {
-			log.warn("Empty AI comment response for company: {}, quarterKey: {}", company.getStockCode(), targetQuarterKey);
+			log.warn("Empty AI comment response for company: {}, quarterKey: {}", company.stockCode(), targetQuarterKey);
 			return null;
 		}
 
@@ -54,15 +70,16 @@ public class CompanyAiCommentService {
 			null,
 			LocalDateTime.now()
 		);
+		eventPublisher.publishEvent(CompanyDataChangedEvent.of(companyId));
 		return keyMetric.getAiComment();
 	}
 
-	private int resolveTargetQuarterKey(String stockCode, String period) {
+	private int resolveTargetQuarterKey(CompanyIdentity company, String period) {
 		if (period != null && !period.isBlank()) {
 			return parseQuarterKey(period);
 		}
-		return companyReportMetricValuesRepository.findMaxActualQuarterKeyByStockCode(stockCode)
-			.orElseThrow(() -> new IllegalArgumentException("Actual quarter not found for stockCode: " + stockCode));
+		return companyLatestActualQuarterCache.find(company.id())
+			.orElseThrow(() -> new IllegalArgumentException("Actual quarter not found for stockCode: " + company.stockCode()));
 	}
 
 	private int parseQuarterKey(String period) {
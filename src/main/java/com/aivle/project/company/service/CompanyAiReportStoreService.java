@@ -10,7 +10,8 @@ import com.aivle.project.file.repository.FilesRepository;
 import com.aivle.project.file.storage.FileStorageService;
 import com.aivle.project.file.storage.StoredFile;
 import com.aivle.project.company.report.quarter.entity.QuartersEntity;
-import com.aivle.project.company.report.quarter.repository.QuartersRepository;
+import com.aivle.project.company.report.quarter.service.QuarterRegistry;
+import com.aivle.project.company.report.quarter.support.YearQuarter;
 import com.aivle.project.company.report.entity.CompanyReportVersionsEntity;
 import com.aivle.project.company.report.entity.CompanyReportsEntity;
 import com.aivle.project.company.report.repository.CompanyReportsRepository;
@@ -34,7 +35,7 @@ public class CompanyAiReportStoreService {
     private final CompaniesRepository companiesRepository;
     private final FileStorageService fileStorageService;
     private final FilesRepository filesRepository;
-    private final QuartersRepository quartersRepository;
+    private final QuarterRegistry quarterRegistry;
     private final CompanyReportsRepository companyReportsRepository;
     private final CompanyReportVersionIssueService companyReportVersionIssueService;
 
@@ -71,7 +72,7 @@ public class CompanyAiReportStoreService {
         FilesEntity savedFileEntity = filesRepository.save(filesEntity);
 
         // 7. 분기 조회 또는 생성
-        QuartersEntity quarterEntity = getOrCreateQuarter(targetYear, targetQuarter);
+        QuartersEntity quarterEntity = quarterRegistry.getOrCreate(new YearQuarter(targetYear, targetQuarter));
 
         // 8. 기업-분기 보고서 조회 또는 생성
         CompanyReportsEntity report = getOrCreateReport(company, quarterEntity);
@@ -104,7 +105,7 @@ public class CompanyAiReportStoreService {
         FilesEntity savedFileEntity = filesRepository.save(filesEntity);
 
         // 분기 조회 또는 생성
-        QuartersEntity quarterEntity = getOrCreateQuarter(targetYear, targetQuarter);
+        QuartersEntity quarterEntity = quarterRegistry.getOrCreate(new YearQuarter(targetYear, targetQuarter));
 
         // 기업-분기 보고서 조회 또는 생성
         CompanyReportsEntity report = getOrCreateReport(company, quarterEntity);
@@ -117,24 +118,6 @@ public class CompanyAiReportStoreService {
         return savedFileEntity;
     }
 
-    private QuartersEntity createNewQuarter(int year, int quarter) {
-        log.info("Creating new quarter: {} year {} quarter", year, quarter);
-        int quarterKey = year * 10 + quarter;
-        LocalDate startDate = LocalDate.of(year, (quarter - 1) * 3 + 1, 1);
-        LocalDate endDate = startDate.plusMonths(3).minusDays(1);
-
-        QuartersEntity newQuarter = QuartersEntity.create(year, quarter, quarterKey, startDate, endDate);
-        return quartersRepository.save(newQuarter);
-    }
-
-    private QuartersEntity getOrCreateQuarter(int year, int quarter) {
-        return GetOrCreateResolver.resolve(
-            () -> quartersRepository.findByYearAndQuarter((short) year, (byte) quarter),
-            () -> createNewQuarter(year, quarter),
-            () -> quartersRepository.findByYearAndQuarter((short) year, (byte) quarter)
-        );
-    }
-
     private CompanyReportsEntity getOrCreateReport(CompaniesEntity company, QuartersEntity quarter) {
         return GetOrCreateResolver.resolve(
             () -> companyReportsRepository.findByCompanyIdAndQuarterId(company.getId(), quarter.getId()),
@@ -1,8 +1,11 @@
 package com.aivle.project.company.service;
 
+import com.aivle.project.common.transaction.ShortTransactionRunner;
 import com.aivle.project.common.util.SimpleMultipartFile;
 import com.aivle.project.common.util.GetOrCreateResolver;
+import com.aivle.project.company.client.AiCallPriority;
 import com.aivle.project.company.client.AiServerClient;
+import com.aivle.project.company.dataversion.CompanyDataChangedEvent;
 import com.aivle.project.company.dto.AiAnalysisResponse;
 import com.aivle.project.company.entity.CompaniesEntity;
 import com.aivle.project.company.repository.CompaniesRepository;
@@ -13,15 +16,18 @@ import com.aivle.project.file.storage.FileStorageService;
 import com.aivle.project.file.storage.StoredFile;
 import com.aivle.project.company.metric.entity.MetricValueType;
 import com.aivle.project.company.metric.entity.MetricsEntity;
-import com.aivle.project.company.metric.repository.MetricsRepository;
+import com.aivle.project.company.metric.service.MetricCatalog;
 import com.aivle.project.company.report.quarter.entity.QuartersEntity;
-import com.aivle.project.company.report.quarter.repository.QuartersRepository;
+import com.aivle.project.company.report.quarter.service.QuarterRegistry;
+import com.aivle.project.company.report.quarter.support.YearQuarter;
 import com.aivle.project.company.report.entity.CompanyReportMetricValuesEntity;
 import com.aivle.project.company.report.entity.CompanyReportVersionsEntity;
 import com.aivle.project.company.report.entity.CompanyReportsEntity;
 import com.aivle.project.company.report.repository.CompanyReportMetricValuesRepository;
 import com.aivle.project.company.report.repository.CompanyReportVersionsRepository;
 import com.aivle.project.company.report.repository.CompanyReportsRepository;
+import com.aivle.project.company.report.service.CompanyLatestActualQuarterCache;
+import com.aivle.project.company.report.service.CompanyReportLatestVersionService;
 import com.aivle.project.company.report.service.CompanyReportVersionIssueService;
 import com.aivle.project.company.news.repository.NewsAnalysisRepository;
 import com.aivle.project.company.keymetric.repository.CompanyKeyMetricRepository;
@@ -29,13 +35,12 @@ import com.aivle.project.company.news.entity.NewsAnalysisEntity;
 import com.aivle.project.company.keymetric.entity.CompanyKeyMetricEntity;
 import java.math.BigDecimal;
 import java.time.LocalDate;
-import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.function.Function;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -53,29 +58,33 @@ public class CompanyAiService {
     private final FileStorageService fileStorageService;
     private final FilesRepository filesRepository;
     private final CompaniesRepository companiesRepository;
-    private final QuartersRepository quartersRepository;
+    private final QuarterRegistry quarterRegistry;
     private final CompanyReportsRepository companyReportsRepository;
     private final CompanyReportVersionsRepository companyReportVersionsRepository;
-    private final MetricsRepository metricsRepository;
+    private final MetricCatalog metricCatalog;
     private final CompanyReportMetricValuesRepository companyReportMetricValuesRepository;
+    private final CompanyLatestActualQuarterCache companyLatestActualQuarterCache;
     private final AiReportRequestStatusService aiReportRequestStatusService;
     private final CompanyReportVersionIssueService companyReportVersionIssueService;
+    private final CompanyReportLatestVersionService companyReportLatestVersionService;
     private final CompanyAiReportStoreService companyAiReportStoreService;
     private final StringRedisTemplate redisTemplate;
     private final NewsAnalysisRepository newsAnalysisRepository;
     private final CompanyKeyMetricRepository companyKeyMetricRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ShortTransactionRunner shortTransactionRunner;
 
     /**
      * 특정 기업의 AI 재무 분석 예측 결과를 조회하고 저장합니다.
      * DB에 해당 분기의 예측치가 이미 존재하면 DB 값을 반환하고,
      * 없으면 AI 서버를 호출하여 새로 분석 및 저장합니다.
+     * AI 서버 호출은 트랜잭션 밖에서 하고, 응답 저장만 짧은 쓰기 트랜잭션으로 처리합니다.
      *
      * @param companyId 기업 ID
      * @param year      연도 (선택)
      * @param quarter   분기 (선택)
      * @return 예측 결과 DTO
      */
-    @Transactional
     public AiAnalysisResponse getCompanyAnalysis(Long companyId, Integer year, Integer quarter) {
         log.info("Fetching AI analysis for companyId: {}, year: {}, quarter: {}", companyId, year, quarter);
 
@@ -99,7 +108,7 @@ public class CompanyAiService {
             basePeriod = String.valueOf(bYear * 10 + bQuarter);
         } else {
             // 미지정 시 가장 최근 실제 데이터(ACTUAL) 분기 확인
-            Optional<Integer> maxActualQuarterKey = companyReportMetricValuesRepository.findMaxActualQuarterKeyByCompanyId(companyId);
+            Optional<Integer> maxActualQuarterKey = companyLatestActualQuarterCache.find(companyId);
             if (maxActualQuarterKey.isPresent()) {
                 int baseQuarterKey = maxActualQuarterKey.get();
                 basePeriod = String.valueOf(baseQuarterKey);
@@ -115,7 +124,7 @@ public class CompanyAiService {
                 // 실적 데이터가 전혀 없는 경우 AI 서버에 위임
                 log.info("No actual data found for company {}. Calling AI server directly.", companyId);
                 AiAnalysisResponse response = aiServerClient.getPrediction(company.getStockCode());
-                saveAiPredictions(company.getId(), response);
+                storeAnalysis(company.getId(), response);
                 return response;
             }
         }
@@ -144,11 +153,15 @@ public class CompanyAiService {
         // 3. DB에 없으면 AI 서버 호출 및 저장
         log.info("No existing predictions found for target quarter {}. Calling AI server...", targetQuarterKey);
         AiAnalysisResponse response = aiServerClient.getPrediction(company.getStockCode());
-        saveAiPredictions(company.getId(), response);
+        storeAnalysis(company.getId(), response);
 
         return response;
     }
 
+    private void storeAnalysis(Long companyId, AiAnalysisResponse response) {
+        shortTransactionRunner.run("CompanyAiService.getCompanyAnalysis", () -> saveAiPredictions(companyId, response));
+    }
+
     /**
      * Python AI Worker 등에서 전달한 예측 수치 결과들을 DB에 PREDICTED 타입으로 저장합니다.
      */
@@ -207,7 +220,7 @@ public class CompanyAiService {
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 기업 ID입니다: " + companyId));
 
             // 3. 타겟 분기 조회 또는 생성
-            QuartersEntity targetQuarterEntity = getOrCreateQuarter(targetYear, targetQuarter);
+            QuartersEntity targetQuarterEntity = quarterRegistry.getOrCreate(new YearQuarter(targetYear, targetQuarter));
 
             // 4. 리포트 조회 또는 생성
             CompanyReportsEntity report = getOrCreateReport(company, targetQuarterEntity);
@@ -217,9 +230,7 @@ public class CompanyAiService {
 
             // 6. 지표 매핑 및 값 저장
             Map<String, Double> predictions = response.predictions();
-            List<MetricsEntity> metrics = metricsRepository.findAllByMetricCodeIn(predictions.keySet());
-            Map<String, MetricsEntity> metricMap = metrics.stream()
-                .collect(Collectors.toMap(MetricsEntity::getMetricCode, Function.identity()));
+            Map<String, MetricsEntity> metricMap = metricCatalog.findAllByCodes(predictions.keySet());
 
             for (Map.Entry<String, Double> entry : predictions.entrySet()) {
                 String metricCode = entry.getKey();
@@ -237,6 +248,7 @@ public class CompanyAiService {
                     companyReportMetricValuesRepository.save(metricValue);
                 }
             }
+            companyReportLatestVersionService.refresh(report.getId());
             log.info("Saved {} prediction metrics for companyId {}", predictions.size(), companyId);
 
         } catch (Exception e) {
@@ -289,7 +301,7 @@ public class CompanyAiService {
         CompaniesEntity company = companiesRepository.findByStockCode(stockCode)
             .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 기업 코드입니다: " + stockCode));
 
-        QuartersEntity quarterEntity = quartersRepository.findByYearAndQuarter(year.shortValue(), quarter.byteValue())
+        QuartersEntity quarterEntity = quarterRegistry.find(year, quarter)
             .orElseThrow(() -> new IllegalArgumentException("해당 연도/분기 정보가 존재하지 않습니다."));
 
         CompanyReportsEntity report = companyReportsRepository.findByCompanyIdAndQuarterId(company.getId(), quarterEntity.getId())
@@ -327,7 +339,7 @@ public class CompanyAiService {
         CompaniesEntity company = companiesRepository.findById(companyId)
             .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 기업 ID입니다: " + companyId));
 
-        QuartersEntity quarterEntity = quartersRepository.findByYearAndQuarter(year.shortValue(), quarter.byteValue())
+        QuartersEntity quarterEntity = quarterRegistry.find(year, quarter)
             .orElseThrow(() -> new IllegalArgumentException("해당 연도/분기 정보가 존재하지 않습니다."));
 
         CompanyReportsEntity report = companyReportsRepository.findByCompanyIdAndQuarterId(company.getId(), quarterEntity.getId())
@@ -347,24 +359,6 @@ public class CompanyAiService {
         return file;
     }
 
-    private QuartersEntity createNewQuarter(int year, int quarter) {
-        log.info("Creating new quarter: {} year {} quarter", year, quarter);
-        int quarterKey = year * 10 + quarter;
-        LocalDate startDate = LocalDate.of(year, (quarter - 1) * 3 + 1, 1);
-        LocalDate endDate = startDate.plusMonths(3).minusDays(1);
-
-        QuartersEntity newQuarter = QuartersEntity.create(year, quarter, quarterKey, startDate, endDate);
-        return quartersRepository.save(newQuarter);
-    }
-
-    private QuartersEntity getOrCreateQuarter(int year, int quarter) {
-        return GetOrCreateResolver.resolve(
-            () -> quartersRepository.findByYearAndQuarter((short) year, (byte) quarter),
-            () -> createNewQuarter(year, quarter),
-            () -> quartersRepository.findByYearAndQuarter((short) year, (byte) quarter)
-        );
-    }
-
     private CompanyReportsEntity getOrCreateReport(CompaniesEntity company, QuartersEntity quarter) {
         return GetOrCreateResolver.resolve(
             () -> companyReportsRepository.findByCompanyIdAndQuarterId(company.getId(), quarter.getId()),
@@ -385,7 +379,9 @@ public class CompanyAiService {
     @Async("insightExecutor")
     @Transactional
     public void generateReportAsync(String requestId, Long companyId, Integer year, Integer quarter) {
-        processReportGeneration(requestId, companyId, year, quarter);
+        try (AiCallPriority.Scope ignored = AiCallPriority.BACKGROUND.enter()) {
+            processReportGeneration(requestId, companyId, year, quarter);
+        }
     }
 
     /**
@@ -408,7 +404,7 @@ public class CompanyAiService {
                 targetQuarter = quarter;
             } else {
                 // 가장 최근 ACTUAL 분기 조회
-                Optional<Integer> maxActualQuarterKey = companyReportMetricValuesRepository.findMaxActualQuarterKeyByCompanyId(companyId);
+                Optional<Integer> maxActualQuarterKey = companyLatestActualQuarterCache.find(companyId);
                 if (maxActualQuarterKey.isPresent()) {
                     int baseQuarterKey = maxActualQuarterKey.get();
                     int baseYear = baseQuarterKey / 10;
@@ -508,7 +504,7 @@ public class CompanyAiService {
         FilesEntity savedFileEntity = filesRepository.save(filesEntity);
 
         // 7. 분기 조회 또는 생성
-        QuartersEntity quarterEntity = getOrCreateQuarter(targetYear, targetQuarter);
+        QuartersEntity quarterEntity = quarterRegistry.getOrCreate(new YearQuarter(targetYear, targetQuarter));
 
         // 8. 기업-분기 보고서 조회 또는 생성
         CompanyReportsEntity report = getOrCreateReport(company, quarterEntity);
@@ -557,6 +553,7 @@ public class CompanyAiService {
         companyReportMetricValuesRepository.deleteByCompanyIdAndQuarterKeyAndValueType(
             companyId, targetQuarterKey, MetricValueType.PREDICTED
         );
+        companyReportLatestVersionService.refreshByCompanyAndQuarterKey(companyId, targetQuarterKey);
         log.info("Completed rollbackFinancialAnalysis for companyId: {}", companyId);
     }
 
@@ -577,10 +574,10 @@ public class CompanyAiService {
             BigDecimal prevScore = prevAnalysisOpt.map(NewsAnalysisEntity::getAverageScore).orElse(null);
 
             // 3. 최신 실제(ACTUAL) 분기 조회하여 Key Metric 찾기
-            Optional<Integer> latestActualQuarterKeyOpt = companyReportMetricValuesRepository.findMaxActualQuarterKeyByCompanyId(companyId);
+            Optional<Integer> latestActualQuarterKeyOpt = companyLatestActualQuarterCache.find(companyId);
             if (latestActualQuarterKeyOpt.isPresent()) {
                 int quarterKey = latestActualQuarterKeyOpt.get();
-                quartersRepository.findByQuarterKey(quarterKey).ifPresent(quarter -> {
+                quarterRegistry.find(quarterKey).ifPresent(quarter -> {
                     companyKeyMetricRepository.findByCompanyIdAndQuarterId(companyId, quarter.getId()).ifPresent(keyMetric -> {
                         log.info("Rolling back external health score of companyKeyMetric (companyId: {}, quarterId: {}) to: {}", companyId, quarter.getId(), prevScore);
                         keyMetric.applyExternalHealthScore(prevScore);
@@ -588,6 +585,7 @@ public class CompanyAiService {
                     });
                 });
             }
+            eventPublisher.publishEvent(CompanyDataChangedEvent.of(companyId));
         } else {
             log.info("No NewsAnalysisEntity found to rollback for companyId: {}", companyId);
         }
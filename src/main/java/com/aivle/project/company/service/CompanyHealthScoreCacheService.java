@@ -1,22 +1,29 @@
 package com.aivle.project.company.service;
 
+import com.aivle.project.common.transaction.ShortTransactionRunner;
 import com.aivle.project.common.util.GetOrCreateResolver;
-import com.aivle.project.company.client.AiServerClient;
+import com.aivle.project.company.client.AiBatchCoalescer;
+import com.aivle.project.company.dataversion.CompanyDataChangedEvent;
 import com.aivle.project.company.dto.AiHealthScoreResponse;
-import com.aivle.project.company.entity.CompaniesEntity;
+import com.aivle.project.company.identity.CompanyIdentity;
+import com.aivle.project.company.identity.CompanyIdentityCache;
 import com.aivle.project.company.keymetric.entity.CompanyKeyMetricEntity;
 import com.aivle.project.company.keymetric.entity.CompanyKeyMetricRiskLevel;
 import com.aivle.project.company.keymetric.repository.CompanyKeyMetricRepository;
 import com.aivle.project.company.repository.CompaniesRepository;
 import com.aivle.project.company.report.quarter.entity.QuartersEntity;
-import com.aivle.project.company.report.quarter.repository.QuartersRepository;
+import com.aivle.project.company.report.quarter.service.QuarterRegistry;
 import com.aivle.project.company.report.quarter.support.QuarterCalculator;
 import com.aivle.project.company.report.quarter.support.YearQuarter;
+import com.aivle.project.company.singleflight.AiFillKey;
+import com.aivle.project.company.singleflight.AiFillOperation;
+import com.aivle.project.company.singleflight.AiFillSingleFlight;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -30,17 +37,32 @@ public class CompanyHealthScoreCacheService {
 
 	private static final int DEFAULT_CALCULATION_LOGIC_VER = 1;
 
-	private final AiServerClient aiServerClient;
+	private final AiBatchCoalescer aiBatchCoalescer;
 	private final CompaniesRepository companiesRepository;
-	private final QuartersRepository quartersRepository;
+	private final CompanyIdentityCache companyIdentityCache;
+	private final QuarterRegistry quarterRegistry;
 	private final CompanyKeyMetricRepository companyKeyMetricRepository;
+	private final ApplicationEventPublisher eventPublisher;
+	private final AiFillSingleFlight aiFillSingleFlight;
+	private final ShortTransactionRunner shortTransactionRunner;
 
 	/**
 	 * 분기별 재무건전성 점수 캐시를 보장한다.
+	 * 같은 기업·분기의 적재가 진행 중이면 AI를 다시 호출하지 않고 그 결과를 기다린다.
+	 * AI 응답은 트랜잭션 밖에서 받고, 저장만 짧은 쓰기 트랜잭션으로 처리한다.
 	 */
-	@Transactional
 	public void ensureHealthScoreCached(Long companyId, int requestedQuarterKey) {
-		CompaniesEntity company = companiesRepository.findById(companyId)
+		aiFillSingleFlight.execute(
+			AiFillKey.of(AiFillOperation.HEALTH_SCORE, companyId, requestedQuarterKey),
+			() -> {
+				fillHealthScore(companyId, requestedQuarterKey);
+				return null;
+			}
+		);
+	}
+
+	private void fillHealthScore(Long companyId, int requestedQuarterKey) {
+		CompanyIdentity company = companyIdentityCache.find(companyId)
 			.orElseThrow(() -> new IllegalArgumentException("Company not found: " + companyId));
 
 		Optional<CompanyKeyMetricEntity> cached = companyKeyMetricRepository
@@ -49,18 +71,26 @@ public class CompanyHealthScoreCacheService {
 			return;
 		}
 
-		AiHealthScoreResponse response = aiServerClient.getHealthScore(company.getStockCode());
+		AiHealthScoreResponse response = aiBatchCoalescer.getHealthScore(company.stockCode());
 		if (response == null || response.quarters() == null || response.quarters().isEmpty()) {
-			log.warn("Empty AI health score response for company: {}", company.getStockCode());
+			log.warn("Empty AI health score response for company: {}", company.stockCode());
 			return;
 		}
 
+		shortTransactionRunner.run(
+			"CompanyHealthScoreCacheService.ensureHealthScoreCached",
+			() -> storeHealthScores(companyId, response)
+		);
+	}
+
+	private void storeHealthScores(Long companyId, AiHealthScoreResponse response) {
+		boolean changed = false;
 		for (AiHealthScoreResponse.HealthScoreQuarter quarterScore : response.quarters()) {
 			if (quarterScore == null || quarterScore.period() == null || quarterScore.score() == null) {
 				continue;
 			}
 			int quarterKey = parseQuarterKey(quarterScore.period());
-			QuartersEntity quarter = getOrCreateQuarter(quarterKey);
+			QuartersEntity quarter = quarterRegistry.getOrCreate(quarterKey);
 			CompanyKeyMetricEntity entity = companyKeyMetricRepository
 				.findByCompanyIdAndQuarterId(companyId, quarter.getId())
 				.orElse(null);
@@ -72,7 +102,7 @@ public class CompanyHealthScoreCacheService {
 			if (entity == null) {
 				try {
 					companyKeyMetricRepository.saveAndFlush(CompanyKeyMetricEntity.create(
-						company,
+						companiesRepository.getReferenceById(companyId),
 						quarter,
 						null,
 						score,
@@ -82,6 +112,7 @@ public class CompanyHealthScoreCacheService {
 						DEFAULT_CALCULATION_LOGIC_VER,
 						now
 					));
+					changed = true;
 				} catch (org.springframework.dao.DataIntegrityViolationException e) {
 					log.warn("Concurrent insert detected for health score caching, companyId={}, quarterId={}", companyId, quarter.getId());
 				}
@@ -96,8 +127,12 @@ public class CompanyHealthScoreCacheService {
 					DEFAULT_CALCULATION_LOGIC_VER,
 					now
 				);
+				changed = true;
 			}
 		}
+		if (changed) {
+			eventPublisher.publishEvent(CompanyDataChangedEvent.of(companyId));
+		}
 	}
 
 	/**
@@ -146,14 +181,14 @@ public class CompanyHealthScoreCacheService {
 	}
 
 	private CompanyKeyMetricEntity createFallbackKeyMetric(Long companyId, int quarterKey) {
-		CompaniesEntity company = companiesRepository.findById(companyId)
+		companyIdentityCache.find(companyId)
 			.orElseThrow(() -> new IllegalArgumentException("Company not found: " + companyId));
-		QuartersEntity quarter = getOrCreateQuarter(quarterKey);
+		QuartersEntity quarter = quarterRegistry.getOrCreate(quarterKey);
 		
 		return GetOrCreateResolver.resolve(
 			() -> companyKeyMetricRepository.findByCompanyIdAndQuarterId(companyId, quarter.getId()),
 			() -> companyKeyMetricRepository.save(CompanyKeyMetricEntity.create(
-				company,
+				companiesRepository.getReferenceById(companyId),
 				quarter,
 				null,
 				null,
@@ -167,21 +202,6 @@ public class CompanyHealthScoreCacheService {
 		);
 	}
 
-	private QuartersEntity getOrCreateQuarter(int quarterKey) {
-		YearQuarter yearQuarter = QuarterCalculator.parseQuarterKey(quarterKey);
-		return GetOrCreateResolver.resolve(
-			() -> quartersRepository.findByYearAndQuarter((short) yearQuarter.year(), (byte) yearQuarter.quarter()),
-			() -> quartersRepository.save(QuartersEntity.create(
-				yearQuarter.year(),
-				yearQuarter.quarter(),
-				quarterKey,
-				QuarterCalculator.startDate(yearQuarter),
-				QuarterCalculator.endDate(yearQuarter)
-			)),
-			() -> quartersRepository.findByYearAndQuarter((short) yearQuarter.year(), (byte) yearQuarter.quarter())
-		);
-	}
-
 	private int parseQuarterKey(String period) {
 		try {
 			String normalized = normalizeQuarterKey(period);
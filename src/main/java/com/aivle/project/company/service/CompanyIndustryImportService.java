@@ -2,19 +2,23 @@ package com.aivle.project.company.service;
 
 import com.aivle.project.company.dto.CompanyIndustryImportDto;
 import com.aivle.project.company.entity.CompaniesEntity;
+import com.aivle.project.company.identity.CompanyIdentityChangedEvent;
 import com.aivle.project.company.repository.CompaniesRepository;
 import com.aivle.project.company.util.ExcelCompanyIndustryParser;
 import com.aivle.project.company.industry.entity.IndustryEntity;
 import com.aivle.project.company.industry.entity.IndustryRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 @Slf4j
 @Service
@@ -24,6 +28,7 @@ public class CompanyIndustryImportService {
     private final CompaniesRepository companiesRepository;
     private final IndustryRepository industryRepository;
     private final ExcelCompanyIndustryParser excelParser;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public void importCompanyIndustries(MultipartFile file) throws IOException {
@@ -32,6 +37,7 @@ public class CompanyIndustryImportService {
 
         int updateCount = 0;
         int skipCount = 0;
+        Set<String> updatedCorpCodes = new HashSet<>();
 
         for (CompanyIndustryImportDto dto : dtos) {
             log.debug("Processing dto: stockCode={}, industryCode={}", dto.getStockCode(), dto.getIndustryCode());
@@ -43,6 +49,7 @@ public class CompanyIndustryImportService {
                 
                 if (industryOpt.isPresent()) {
                     company.updateIndustryCode(industryOpt.get());
+                    updatedCorpCodes.add(company.getCorpCode());
                     updateCount++;
                     log.debug("Successfully updated company {} with industry {}", dto.getStockCode(), dto.getIndustryCode());
                 } else {
@@ -55,6 +62,9 @@ public class CompanyIndustryImportService {
             }
         }
 
+        if (!updatedCorpCodes.isEmpty()) {
+            eventPublisher.publishEvent(new CompanyIdentityChangedEvent(updatedCorpCodes));
+        }
         log.info("Import finished. Updated: {}, Skipped: {}", updateCount, skipCount);
     }
 }
@@ -2,10 +2,10 @@ package com.aivle.project.company.service;
 
 import com.aivle.project.company.dto.CompanyInfoDto;
 import com.aivle.project.company.dto.CompanySectorDto;
-import com.aivle.project.company.entity.CompaniesEntity;
+import com.aivle.project.company.identity.CompanyIdentity;
+import com.aivle.project.company.identity.CompanyIdentityCache;
 import com.aivle.project.company.keymetric.entity.CompanyKeyMetricEntity;
 import com.aivle.project.company.keymetric.repository.CompanyKeyMetricRepository;
-import com.aivle.project.company.repository.CompaniesRepository;
 import com.aivle.project.company.report.quarter.entity.QuartersEntity;
 import com.aivle.project.company.report.quarter.repository.QuartersRepository;
 import com.aivle.project.company.report.quarter.support.QuarterCalculator;
@@ -21,7 +21,7 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class CompanyInfoService {
 
-	private final CompaniesRepository companiesRepository;
+	private final CompanyIdentityCache companyIdentityCache;
 	private final QuartersRepository quartersRepository;
 	private final CompanyKeyMetricRepository companyKeyMetricRepository;
 	private final CompanySectorService companySectorService;
@@ -31,7 +31,7 @@ public class CompanyInfoService {
 	 * 기업 기본 정보를 분기 기준으로 조회한다.
 	 */
 	public CompanyInfoDto getCompanyInfo(Long companyId, String quarterKey) {
-		CompaniesEntity company = companiesRepository.findById(companyId)
+		CompanyIdentity company = companyIdentityCache.find(companyId)
 			.orElseThrow(() -> new IllegalArgumentException("Company not found for id: " + companyId));
 
 		int parsedQuarterKey = parseQuarterKey(quarterKey);
@@ -42,15 +42,15 @@ public class CompanyInfoService {
 	 * 기업 기본 정보를 분기 키 기준으로 조회한다. 분기 키가 없으면 점수는 비운다.
 	 */
 	public CompanyInfoDto getCompanyInfo(Long companyId, Integer quarterKey) {
-		CompaniesEntity company = companiesRepository.findById(companyId)
+		CompanyIdentity company = companyIdentityCache.find(companyId)
 			.orElseThrow(() -> new IllegalArgumentException("Company not found for id: " + companyId));
 
 		if (quarterKey == null) {
 			CompanySectorDto sector = companySectorService.getSector(companyId);
 			return new CompanyInfoDto(
-				company.getId(),
-				company.getCorpName(),
-				company.getStockCode(),
+				company.id(),
+				company.corpName(),
+				company.stockCode(),
 				sector,
 				null,
 				null,
@@ -62,13 +62,13 @@ public class CompanyInfoService {
 		return getCompanyInfo(company, quarterKey);
 	}
 
-	private CompanyInfoDto getCompanyInfo(CompaniesEntity company, int quarterKey) {
+	private CompanyInfoDto getCompanyInfo(CompanyIdentity company, int quarterKey) {
 		QuartersEntity quarter = quartersRepository.findByQuarterKey(quarterKey)
 			.orElseThrow(() -> new IllegalArgumentException("Quarter not found for key: " + quarterKey));
 
-		CompanySectorDto sector = companySectorService.getSector(company.getId());
+		CompanySectorDto sector = companySectorService.getSector(company.id());
 		CompanyKeyMetricEntity keyMetric = companyKeyMetricRepository
-			.findByCompanyIdAndQuarterId(company.getId(), quarter.getId())
+			.findByCompanyIdAndQuarterId(company.id(), quarter.getId())
 			.orElse(null);
 
 		Double networkHealth = toDouble(keyMetric != null ? keyMetric.getInternalHealthScore() : null);
@@ -76,8 +76,8 @@ public class CompanyInfoService {
 		Double reputationScore = toDouble(keyMetric != null ? keyMetric.getExternalHealthScore() : null);
 		if (reputationScore == null) {
 			reputationScore = toDouble(companyReputationScoreService.resolveLatestAverageScore(
-				company.getId(),
-				company.getStockCode()
+				company.id(),
+				company.stockCode()
 			));
 		}
 		reputationScore = scaleReputationScore(reputationScore);
@@ -86,9 +86,9 @@ public class CompanyInfoService {
 			: null;
 
 		return new CompanyInfoDto(
-			company.getId(),
-			company.getCorpName(),
-			company.getStockCode(),
+			company.id(),
+			company.corpName(),
+			company.stockCode(),
 			sector,
 			overallScore,
 			riskLevel,
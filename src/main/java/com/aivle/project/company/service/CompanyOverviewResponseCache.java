@@ -0,0 +1,39 @@
+package com.aivle.project.company.service;
+
+import com.aivle.project.company.dto.CompanyOverviewResponseDto;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 조립된 기업 개요 응답 캐시.
+ * 키에 기업 데이터 버전이 들어 있어 무효화하지 않고, 버전이 지난 항목은 LRU로 밀려난다.
+ */
+@Component
+public class CompanyOverviewResponseCache {
+
+	private final Map<CompanyOverviewService.OverviewVersion, CompanyOverviewResponseDto> entries;
+
+	public CompanyOverviewResponseCache(
+		@Value("${app.company.overview-cache.max-entries:2000}") int maxEntries
+	) {
+		int capacity = Math.max(1, maxEntries);
+		this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(
+				Map.Entry<CompanyOverviewService.OverviewVersion, CompanyOverviewResponseDto> eldest
+			) {
+				return size() > capacity;
+			}
+		};
+	}
+
+	public synchronized CompanyOverviewResponseDto get(CompanyOverviewService.OverviewVersion version) {
+		return entries.get(version);
+	}
+
+	public synchronized void put(CompanyOverviewService.OverviewVersion version, CompanyOverviewResponseDto response) {
+		entries.put(version, response);
+	}
+}
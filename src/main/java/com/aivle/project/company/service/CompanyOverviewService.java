@@ -1,5 +1,6 @@
 package com.aivle.project.company.service;
 
+import com.aivle.project.company.dataversion.CompanyDataVersionService;
 import com.aivle.project.company.dto.CompanyInfoDto;
 import com.aivle.project.company.dto.CompanyOverviewDataPointDto;
 import com.aivle.project.company.dto.CompanyOverviewDataType;
@@ -11,10 +12,10 @@ import com.aivle.project.company.dto.CompanyOverviewResponseDto;
 import com.aivle.project.company.dto.CompanyOverviewSignalLevel;
 import com.aivle.project.company.dto.CompanyOverviewTooltipDto;
 import com.aivle.project.company.keymetric.entity.CompanyKeyMetricEntity;
+import com.aivle.project.company.identity.CompanyIdentityCache;
 import com.aivle.project.company.keymetric.repository.CompanyKeyMetricRepository;
-import com.aivle.project.company.keymetric.repository.KeyMetricDescriptionRepository;
-import com.aivle.project.company.repository.CompaniesRepository;
 import com.aivle.project.company.metric.entity.MetricValueType;
+import com.aivle.project.company.metric.service.MetricCatalog;
 import com.aivle.project.company.report.quarter.entity.QuartersEntity;
 import com.aivle.project.company.report.quarter.repository.QuartersRepository;
 import com.aivle.project.company.report.quarter.support.QuarterCalculator;
@@ -22,6 +23,7 @@ import com.aivle.project.company.report.quarter.support.YearQuarter;
 import com.aivle.project.company.report.dto.CompanyOverviewMetricRowProjection;
 import com.aivle.project.company.report.entity.SignalColor;
 import com.aivle.project.company.report.repository.CompanyReportMetricValuesRepository;
+import com.aivle.project.company.report.service.CompanyLatestActualQuarterCache;
 import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.LinkedHashMap;
@@ -30,6 +32,7 @@ import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 /**
  * 기업 개요 응답 조립 서비스.
@@ -46,19 +49,54 @@ public class CompanyOverviewService {
 	);
 
 	private final CompanyInfoService companyInfoService;
-	private final CompaniesRepository companiesRepository;
+	private final CompanyIdentityCache companyIdentityCache;
 	private final QuartersRepository quartersRepository;
 	private final CompanyKeyMetricRepository companyKeyMetricRepository;
-	private final KeyMetricDescriptionRepository keyMetricDescriptionRepository;
+	private final MetricCatalog metricCatalog;
 	private final CompanyReportMetricValuesRepository companyReportMetricValuesRepository;
+	private final CompanyLatestActualQuarterCache companyLatestActualQuarterCache;
+	private final CompanyDataVersionService companyDataVersionService;
+	private final CompanyOverviewResponseCache companyOverviewResponseCache;
+
+	/**
+	 * 기업 개요 응답의 버전을 계산한다. 버전이 같으면 응답도 같으므로 ETag로 쓸 수 있다.
+	 * 캐시만 조회하므로 캐시가 채워져 있으면 DB를 읽지 않는다.
+	 */
+	public OverviewVersion resolveVersion(Long companyId, String quarterKey) {
+		long dataVersion = companyDataVersionService.currentVersion(companyId);
+		String resolvedQuarterKey = resolveQuarterKey(companyId, quarterKey);
+		Integer parsedQuarterKey = resolvedQuarterKey == null ? null : parseQuarterKey(resolvedQuarterKey);
+		return new OverviewVersion(companyId, parsedQuarterKey, dataVersion);
+	}
 
 	/**
 	 * 기업 개요 응답을 구성한다.
 	 */
 	@Transactional(readOnly = true)
 	public CompanyOverviewResponseDto getOverview(Long companyId, String quarterKey) {
-		String resolvedQuarterKey = resolveQuarterKey(companyId, quarterKey);
-		if (resolvedQuarterKey == null) {
+		return getOverview(resolveVersion(companyId, quarterKey));
+	}
+
+	/**
+	 * 버전에 해당하는 기업 개요 응답을 반환한다. 같은 버전으로 조립한 응답이 있으면 재사용한다.
+	 */
+	@Transactional(readOnly = true)
+	public CompanyOverviewResponseDto getOverview(OverviewVersion version) {
+		CompanyOverviewResponseDto cached = companyOverviewResponseCache.get(version);
+		if (cached != null) {
+			return cached;
+		}
+		CompanyOverviewResponseDto response = buildOverview(version.companyId(), version.quarterKey());
+		// 쓰기 트랜잭션 안에서 조립한 응답은 커밋 전 데이터일 수 있으므로 보관하지 않는다.
+		if (!TransactionSynchronizationManager.isActualTransactionActive()
+			|| TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+			companyOverviewResponseCache.put(version, response);
+		}
+		return response;
+	}
+
+	private CompanyOverviewResponseDto buildOverview(Long companyId, Integer parsedQuarterKey) {
+		if (parsedQuarterKey == null) {
 			return new CompanyOverviewResponseDto(
 				companyInfoService.getCompanyInfo(companyId, (Integer) null),
 				new CompanyOverviewForecastDto(null, null, List.of()),
@@ -67,8 +105,7 @@ public class CompanyOverviewService {
 				null
 			);
 		}
-		int parsedQuarterKey = parseQuarterKey(resolvedQuarterKey);
-		CompanyInfoDto companyInfo = companyInfoService.getCompanyInfo(companyId, resolvedQuarterKey);
+		CompanyInfoDto companyInfo = companyInfoService.getCompanyInfo(companyId, parsedQuarterKey);
 		QuartersEntity quarter = quartersRepository.findByQuarterKey(parsedQuarterKey)
 			.orElseThrow(() -> new IllegalArgumentException("Quarter not found for key: " + parsedQuarterKey));
 
@@ -95,10 +132,10 @@ public class CompanyOverviewService {
 		if (quarterKey != null && !quarterKey.isBlank()) {
 			return quarterKey;
 		}
-		String stockCode = companiesRepository.findById(companyId)
-			.map(company -> company.getStockCode())
-			.orElseThrow(() -> new IllegalArgumentException("Company not found: " + companyId));
-		return companyReportMetricValuesRepository.findMaxActualQuarterKeyByStockCode(stockCode)
+		if (companyIdentityCache.find(companyId).isEmpty()) {
+			throw new IllegalArgumentException("Company not found: " + companyId);
+		}
+		return companyLatestActualQuarterCache.find(companyId)
 			.map(String::valueOf)
 			.orElse(null);
 	}
@@ -156,13 +193,8 @@ public class CompanyOverviewService {
 			valueMap.put("EXTERNAL_REPUTATION", null);
 		}
 
-		Map<String, com.aivle.project.company.keymetric.entity.KeyMetricDescriptionEntity> descriptionMap = keyMetricDescriptionRepository
-			.findAllByMetricCodeIn(KEY_METRIC_CODES)
-			.stream()
-			.collect(java.util.stream.Collectors.toMap(
-				com.aivle.project.company.keymetric.entity.KeyMetricDescriptionEntity::getMetricCode,
-				description -> description
-			));
+		Map<String, com.aivle.project.company.keymetric.entity.KeyMetricDescriptionEntity> descriptionMap =
+			metricCatalog.findKeyMetricDescriptions(KEY_METRIC_CODES);
 
 		for (String metricCode : KEY_METRIC_CODES) {
 			var description = descriptionMap.get(metricCode);
@@ -294,4 +326,14 @@ private SignalColor resolveSignalColor(
 	private Double toDouble(BigDecimal value) {
 		return value == null ? null : value.doubleValue();
 	}
+
+	/**
+	 * 기업 개요 응답 버전. 기업, 분기, 기업 데이터 버전이 같으면 응답이 같다.
+	 */
+	public record OverviewVersion(Long companyId, Integer quarterKey, long dataVersion) {
+
+		public String toETag() {
+			return "W/\"overview-" + companyId + "-" + (quarterKey != null ? quarterKey : "none") + "-" + dataVersion + "\"";
+		}
+	}
 }
@@ -1,15 +1,18 @@
 package com.aivle.project.company.service;
 
-import com.aivle.project.company.client.AiServerClient;
+import com.aivle.project.company.client.AiBatchCoalescer;
 import com.aivle.project.company.dto.AiAnalysisResponse;
 import com.aivle.project.company.entity.CompaniesEntity;
+import com.aivle.project.company.identity.CompanyIdentity;
+import com.aivle.project.company.identity.CompanyIdentityCache;
+import com.aivle.project.company.report.service.CompanyLatestActualQuarterCache;
 import com.aivle.project.company.repository.CompaniesRepository;
 import com.aivle.project.common.util.GetOrCreateResolver;
 import com.aivle.project.company.metric.entity.MetricValueType;
 import com.aivle.project.company.metric.entity.MetricsEntity;
-import com.aivle.project.company.metric.repository.MetricsRepository;
+import com.aivle.project.company.metric.service.MetricCatalog;
 import com.aivle.project.company.report.quarter.entity.QuartersEntity;
-import com.aivle.project.company.report.quarter.repository.QuartersRepository;
+import com.aivle.project.company.report.quarter.service.QuarterRegistry;
 import com.aivle.project.company.report.quarter.support.QuarterCalculator;
 import com.aivle.project.company.report.quarter.support.YearQuarter;
 import com.aivle.project.company.report.entity.CompanyReportMetricValuesEntity;
@@ -18,17 +21,18 @@ import com.aivle.project.company.report.entity.CompanyReportsEntity;
 import com.aivle.project.company.report.repository.CompanyReportMetricValuesRepository;
 import com.aivle.project.company.report.repository.CompanyReportVersionsRepository;
 import com.aivle.project.company.report.repository.CompanyReportsRepository;
+import com.aivle.project.company.report.service.CompanyReportLatestVersionService;
 import com.aivle.project.company.report.service.CompanyReportVersionIssueService;
+import com.aivle.project.company.singleflight.AiFillKey;
+import com.aivle.project.company.singleflight.AiFillOperation;
+import com.aivle.project.company.singleflight.AiFillSingleFlight;
 import java.math.BigDecimal;
-import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.function.Function;
-import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 /**
  * 기업 개요 조회용 예측값 캐시 서비스.
@@ -38,26 +42,40 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class CompanyPredictionCacheService {
 
-	private final AiServerClient aiServerClient;
+	private final AiBatchCoalescer aiBatchCoalescer;
 	private final CompaniesRepository companiesRepository;
-	private final QuartersRepository quartersRepository;
+	private final CompanyIdentityCache companyIdentityCache;
+	private final QuarterRegistry quarterRegistry;
 	private final CompanyReportsRepository companyReportsRepository;
 	private final CompanyReportVersionsRepository companyReportVersionsRepository;
-	private final MetricsRepository metricsRepository;
+	private final MetricCatalog metricCatalog;
 	private final CompanyReportMetricValuesRepository companyReportMetricValuesRepository;
+	private final CompanyLatestActualQuarterCache companyLatestActualQuarterCache;
 	private final CompanyReportVersionIssueService companyReportVersionIssueService;
+	private final CompanyReportLatestVersionService companyReportLatestVersionService;
+	private final AiFillSingleFlight aiFillSingleFlight;
+	private final TransactionTemplate transactionTemplate;
 
 	/**
 	 * 최신 ACTUAL 분기 기준으로 다음 분기 예측값을 캐시한다.
 	 * 요청 분기가 최신 ACTUAL 분기와 다르면 AI 호출을 하지 않는다.
+	 * 같은 기업·분기의 적재가 진행 중이면 AI를 다시 호출하지 않고 그 결과를 기다린다.
 	 */
-	@Transactional
 	public void ensurePredictionCached(Long companyId, int requestedQuarterKey) {
-		CompaniesEntity company = companiesRepository.findById(companyId)
+		aiFillSingleFlight.execute(
+			AiFillKey.of(AiFillOperation.PREDICTION, companyId, requestedQuarterKey),
+			() -> transactionTemplate.execute(status -> {
+				fillPrediction(companyId, requestedQuarterKey);
+				return null;
+			})
+		);
+	}
+
+	private void fillPrediction(Long companyId, int requestedQuarterKey) {
+		CompanyIdentity company = companyIdentityCache.find(companyId)
 			.orElseThrow(() -> new IllegalArgumentException("Company not found: " + companyId));
 
-		Optional<Integer> latestActualQuarterKey = companyReportMetricValuesRepository
-			.findMaxActualQuarterKeyByStockCode(company.getStockCode());
+		Optional<Integer> latestActualQuarterKey = companyLatestActualQuarterCache.find(company.id());
 		if (latestActualQuarterKey.isEmpty()) {
 			log.info("No actual quarter found for company: {}", companyId);
 			return;
@@ -71,9 +89,9 @@ public class CompanyPredictionCacheService {
 
 		YearQuarter baseQuarter = QuarterCalculator.parseQuarterKey(latestActualKey);
 		YearQuarter targetQuarter = QuarterCalculator.offset(baseQuarter, 1);
-		QuartersEntity targetQuarterEntity = getOrCreateQuarter(targetQuarter);
+		QuartersEntity targetQuarterEntity = quarterRegistry.getOrCreate(targetQuarter);
 
-		CompanyReportsEntity report = getOrCreateReport(company, targetQuarterEntity);
+		CompanyReportsEntity report = getOrCreateReport(companiesRepository.getReferenceById(companyId), targetQuarterEntity);
 
 		CompanyReportVersionsEntity latestVersion = companyReportVersionsRepository
 			.findTopByCompanyReportOrderByVersionNoDesc(report)
@@ -87,9 +105,9 @@ public class CompanyPredictionCacheService {
 			return;
 		}
 
-		AiAnalysisResponse response = aiServerClient.getPrediction(company.getStockCode());
+		AiAnalysisResponse response = aiBatchCoalescer.getPrediction(company.stockCode());
 		if (response == null || response.predictions() == null || response.basePeriod() == null) {
-			log.warn("Empty AI prediction response for company: {}", company.getStockCode());
+			log.warn("Empty AI prediction response for company: {}", company.stockCode());
 			return;
 		}
 
@@ -102,20 +120,6 @@ public class CompanyPredictionCacheService {
 		savePredictions(latestVersion, targetQuarterEntity, response.predictions());
 	}
 
-	private QuartersEntity getOrCreateQuarter(YearQuarter quarter) {
-		return GetOrCreateResolver.resolve(
-			() -> quartersRepository.findByYearAndQuarter((short) quarter.year(), (byte) quarter.quarter()),
-			() -> quartersRepository.save(QuartersEntity.create(
-				quarter.year(),
-				quarter.quarter(),
-				quarter.toQuarterKey(),
-				QuarterCalculator.startDate(quarter),
-				QuarterCalculator.endDate(quarter)
-			)),
-			() -> quartersRepository.findByYearAndQuarter((short) quarter.year(), (byte) quarter.quarter())
-		);
-	}
-
 	private CompanyReportsEntity getOrCreateReport(CompaniesEntity company, QuartersEntity quarter) {
 		return GetOrCreateResolver.resolve(
 			() -> companyReportsRepository.findByCompanyIdAndQuarterId(company.getId(), quarter.getId()),
@@ -129,9 +133,7 @@ public class CompanyPredictionCacheService {
 		QuartersEntity quarter,
 		Map<String, Double> predictions
 	) {
-		List<MetricsEntity> metrics = metricsRepository.findAllByMetricCodeIn(predictions.keySet());
-		Map<String, MetricsEntity> metricMap = metrics.stream()
-			.collect(Collectors.toMap(MetricsEntity::getMetricCode, Function.identity()));
+		Map<String, MetricsEntity> metricMap = metricCatalog.findAllByCodes(predictions.keySet());
 
 		for (Map.Entry<String, Double> entry : predictions.entrySet()) {
 			MetricsEntity metric = metricMap.get(entry.getKey());
@@ -148,6 +150,7 @@ public class CompanyPredictionCacheService {
 			);
 			companyReportMetricValuesRepository.save(metricValue);
 		}
+		companyReportLatestVersionService.refresh(reportVersion.getCompanyReport().getId());
 	}
 
 	private int parseBasePeriod(String basePeriod) {
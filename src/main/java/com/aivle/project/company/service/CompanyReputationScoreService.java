@@ -1,16 +1,18 @@
 package com.aivle.project.company.service;
 
-import com.aivle.project.company.keymetric.entity.CompanyKeyMetricEntity;
+import com.aivle.project.common.transaction.ShortTransactionRunner;
+import com.aivle.project.company.dataversion.CompanyDataChangedEvent;
 import com.aivle.project.company.keymetric.repository.CompanyKeyMetricRepository;
 import com.aivle.project.company.news.entity.NewsAnalysisEntity;
 import com.aivle.project.company.news.repository.NewsAnalysisRepository;
 import com.aivle.project.company.news.service.NewsService;
 import com.aivle.project.company.report.quarter.entity.QuartersEntity;
 import com.aivle.project.company.report.quarter.repository.QuartersRepository;
-import com.aivle.project.company.report.repository.CompanyReportMetricValuesRepository;
+import com.aivle.project.company.report.service.CompanyLatestActualQuarterCache;
 import java.math.BigDecimal;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -21,15 +23,20 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class CompanyReputationScoreService {
 
-	private final CompanyReportMetricValuesRepository companyReportMetricValuesRepository;
+	private final CompanyLatestActualQuarterCache companyLatestActualQuarterCache;
 	private final QuartersRepository quartersRepository;
 	private final CompanyKeyMetricRepository companyKeyMetricRepository;
 	private final NewsAnalysisRepository newsAnalysisRepository;
 	private final NewsService newsService;
+	private final ApplicationEventPublisher eventPublisher;
+	private final ShortTransactionRunner shortTransactionRunner;
 
-	@Transactional
+	/**
+	 * 최신 ACTUAL 분기 핵심 지표에 최신 뉴스 평균 점수를 외부 건강도로 반영한다.
+	 * 뉴스 분석이 없으면 트랜잭션 밖에서 먼저 수집하고, 점수 반영만 짧은 트랜잭션으로 처리한다.
+	 */
 	public void syncExternalHealthScoreIfPresent(Long companyId, String stockCode) {
-		Integer latestActualQuarterKey = companyReportMetricValuesRepository.findMaxActualQuarterKeyByStockCode(stockCode)
+		Integer latestActualQuarterKey = companyLatestActualQuarterCache.find(companyId)
 			.orElse(null);
 		if (latestActualQuarterKey == null) {
 			return;
@@ -40,11 +47,9 @@ public class CompanyReputationScoreService {
 		if (quarter == null) {
 			return;
 		}
+		Long quarterId = quarter.getId();
 
-		CompanyKeyMetricEntity keyMetric = companyKeyMetricRepository
-			.findByCompanyIdAndQuarterId(companyId, quarter.getId())
-			.orElse(null);
-		if (keyMetric == null) {
+		if (companyKeyMetricRepository.findByCompanyIdAndQuarterId(companyId, quarterId).isEmpty()) {
 			return;
 		}
 
@@ -53,7 +58,13 @@ public class CompanyReputationScoreService {
 			return;
 		}
 
-		keyMetric.applyExternalHealthScore(averageScore);
+		shortTransactionRunner.run("CompanyReputationScoreService.syncExternalHealthScoreIfPresent", () ->
+			companyKeyMetricRepository.findByCompanyIdAndQuarterId(companyId, quarterId)
+				.ifPresent(keyMetric -> {
+					keyMetric.applyExternalHealthScore(averageScore);
+					eventPublisher.publishEvent(CompanyDataChangedEvent.of(companyId));
+				})
+		);
 	}
 
 	@Transactional(readOnly = true)
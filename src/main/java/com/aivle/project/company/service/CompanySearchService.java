@@ -3,6 +3,8 @@ package com.aivle.project.company.service;
 import com.aivle.project.company.dto.CompanySearchResponse;
 import com.aivle.project.company.entity.CompaniesEntity;
 import com.aivle.project.company.repository.CompaniesRepository;
+import com.aivle.project.company.search.CompanySearchEntry;
+import com.aivle.project.company.search.CompanySearchIndex;
 import java.sql.SQLException;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
@@ -14,6 +16,7 @@ import org.springframework.stereotype.Service;
 
 /**
  * 기업 검색 서비스.
+ * 검색 색인이 적재된 뒤에는 색인만 사용하고, 적재 전에는 DB 검색으로 대체한다.
  */
 @Slf4j
 @Service
@@ -22,9 +25,11 @@ public class CompanySearchService {
 
 	private static final int MIN_KEYWORD_LENGTH = 2;
 	private static final int SEARCH_LIMIT = 20;
+	private static final int AUTOCOMPLETE_DEFAULT_LIMIT = 10;
 
 	private final CompaniesRepository companiesRepository;
 	private final com.aivle.project.company.mapper.CompanyMapper companyMapper;
+	private final CompanySearchIndex companySearchIndex;
 	@Value("${spring.datasource.url:}")
 	private String dataSourceUrl;
 
@@ -34,13 +39,48 @@ public class CompanySearchService {
 			throw new IllegalArgumentException("keyword는 2자 이상이어야 합니다.");
 		}
 
+		if (companySearchIndex.isReady()) {
+			return searchIndex(normalized, SEARCH_LIMIT);
+		}
 		List<CompaniesEntity> companies = searchHybrid(normalized);
-		log.info("기업 검색 완료: keyword={}, count={}, datasource={}", normalized, companies.size(), dataSourceUrl);
+		log.info("기업 검색 완료(DB): keyword={}, count={}", normalized, companies.size());
 		return companies.stream()
 			.map(companyMapper::toSearchResponse)
 			.toList();
 	}
 
+	/**
+	 * 자동완성 검색. 입력할 때마다 호출되므로 한 글자(초성 포함)부터 색인에서만 찾는다.
+	 * 색인 적재 전에는 2자 이상일 때만 DB 부분일치 검색으로 대체한다.
+	 */
+	public List<CompanySearchResponse> autocomplete(String keyword, Integer limit) {
+		String normalized = normalizeKeyword(keyword);
+		if (normalized.isEmpty()) {
+			return List.of();
+		}
+		int size = limit == null ? AUTOCOMPLETE_DEFAULT_LIMIT : Math.min(Math.max(limit, 1), SEARCH_LIMIT);
+
+		if (companySearchIndex.isReady()) {
+			return searchIndex(normalized, size);
+		}
+		if (normalized.length() < MIN_KEYWORD_LENGTH) {
+			return List.of();
+		}
+		return companiesRepository.searchByKeywordExcludingNullStockCode(normalized, PageRequest.of(0, size)).stream()
+			.map(companyMapper::toSearchResponse)
+			.toList();
+	}
+
+	private List<CompanySearchResponse> searchIndex(String keyword, int limit) {
+		return companySearchIndex.search(keyword, limit).stream()
+			.map(this::toSearchResponse)
+			.toList();
+	}
+
+	private CompanySearchResponse toSearchResponse(CompanySearchEntry entry) {
+		return new CompanySearchResponse(entry.companyId(), entry.corpName(), entry.corpEngName(), entry.stockCode());
+	}
+
 	private List<CompaniesEntity> searchHybrid(String keyword) {
 		if (isH2Database()) {
 			return searchWithLike(keyword);
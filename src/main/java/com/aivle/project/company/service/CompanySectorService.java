@@ -1,9 +1,8 @@
 package com.aivle.project.company.service;
 
 import com.aivle.project.company.dto.CompanySectorDto;
-import com.aivle.project.company.entity.CompaniesEntity;
-import com.aivle.project.company.repository.CompaniesRepository;
-import com.aivle.project.company.industry.entity.IndustryEntity;
+import com.aivle.project.company.identity.CompanyIdentity;
+import com.aivle.project.company.identity.CompanyIdentityCache;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -16,18 +15,17 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class CompanySectorService {
 
-	private final CompaniesRepository companiesRepository;
+	private final CompanyIdentityCache companyIdentityCache;
 
 	/**
 	 * 회사 ID 기준 섹터 정보를 조회한다.
 	 */
 	@Transactional(readOnly = true)
 	public CompanySectorDto getSector(Long companyId) {
-		CompaniesEntity company = companiesRepository.findById(companyId)
+		CompanyIdentity company = companyIdentityCache.find(companyId)
 			.orElseThrow(() -> new IllegalArgumentException("Company not found for id: " + companyId));
 
-		String label = Optional.ofNullable(company.getIndustryCode())
-			.map(IndustryEntity::getIndustryName)
+		String label = Optional.ofNullable(company.industryName())
 			.orElse("");
 
 		return new CompanySectorDto("", label);
@@ -1,13 +1,18 @@
 package com.aivle.project.company.service;
 
-import com.aivle.project.company.client.AiServerClient;
+import com.aivle.project.company.client.AiBatchCoalescer;
+import com.aivle.project.company.dataversion.CompanyDataChangedEvent;
 import com.aivle.project.company.dto.AiSignalResponse;
-import com.aivle.project.company.entity.CompaniesEntity;
-import com.aivle.project.company.repository.CompaniesRepository;
-import com.aivle.project.company.metric.repository.MetricsRepository;
+import com.aivle.project.company.identity.CompanyIdentity;
+import com.aivle.project.company.identity.CompanyIdentityCache;
+import com.aivle.project.company.metric.service.MetricCatalog;
 import com.aivle.project.company.report.entity.CompanyReportMetricValuesEntity;
 import com.aivle.project.company.report.entity.SignalColor;
 import com.aivle.project.company.report.repository.CompanyReportMetricValuesRepository;
+import com.aivle.project.company.report.service.CompanyLatestActualQuarterCache;
+import com.aivle.project.company.singleflight.AiFillKey;
+import com.aivle.project.company.singleflight.AiFillOperation;
+import com.aivle.project.company.singleflight.AiFillSingleFlight;
 import java.math.BigDecimal;
 import java.util.List;
 import java.util.Map;
@@ -16,8 +21,9 @@ import java.util.Set;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 /**
  * 업종 상대 신호등 캐시 서비스.
@@ -27,21 +33,35 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class CompanySignalCacheService {
 
-	private final AiServerClient aiServerClient;
-	private final CompaniesRepository companiesRepository;
+	private final AiBatchCoalescer aiBatchCoalescer;
+	private final CompanyIdentityCache companyIdentityCache;
 	private final CompanyReportMetricValuesRepository companyReportMetricValuesRepository;
-	private final MetricsRepository metricsRepository;
+	private final CompanyLatestActualQuarterCache companyLatestActualQuarterCache;
+	private final MetricCatalog metricCatalog;
+	private final AiFillSingleFlight aiFillSingleFlight;
+	private final TransactionTemplate transactionTemplate;
+	private final ApplicationEventPublisher eventPublisher;
 
 	/**
 	 * 최신 ACTUAL 분기일 때만 신호등 캐시를 시도한다.
+	 * 같은 기업·분기의 적재가 진행 중이면 AI를 다시 호출하지 않고 그 결과를 기다린다.
+	 * 신호등이 하나라도 바뀌면 기업 데이터 변경 이벤트를 발행해 캐시된 개요를 무효화한다.
 	 */
-	@Transactional
 	public void ensureSignalsCached(Long companyId, int requestedQuarterKey) {
-		CompaniesEntity company = companiesRepository.findById(companyId)
+		aiFillSingleFlight.execute(
+			AiFillKey.of(AiFillOperation.SIGNAL, companyId, requestedQuarterKey),
+			() -> transactionTemplate.execute(status -> {
+				fillSignals(companyId, requestedQuarterKey);
+				return null;
+			})
+		);
+	}
+
+	private void fillSignals(Long companyId, int requestedQuarterKey) {
+		CompanyIdentity company = companyIdentityCache.find(companyId)
 			.orElseThrow(() -> new IllegalArgumentException("Company not found: " + companyId));
 
-		Optional<Integer> latestActualQuarterKey = companyReportMetricValuesRepository
-			.findMaxActualQuarterKeyByStockCode(company.getStockCode());
+		Optional<Integer> latestActualQuarterKey = companyLatestActualQuarterCache.find(company.id());
 		if (latestActualQuarterKey.isEmpty()) {
 			return;
 		}
@@ -59,9 +79,9 @@ public class CompanySignalCacheService {
 			return;
 		}
 
-		AiSignalResponse response = aiServerClient.getSignals(company.getStockCode(), String.valueOf(latestKey));
+		AiSignalResponse response = aiBatchCoalescer.getSignals(company.stockCode(), String.valueOf(latestKey));
 		if (response == null || response.signals() == null || response.signals().isEmpty()) {
-			log.warn("Empty AI signal response for company: {}", company.getStockCode());
+			log.warn("Empty AI signal response for company: {}", company.stockCode());
 			return;
 		}
 
@@ -71,10 +91,12 @@ public class CompanySignalCacheService {
 		}
 
 		Set<String> metricCodes = signalMap.keySet();
-		Map<Long, String> metricIdMap = metricsRepository.findAllByMetricCodeIn(metricCodes)
+		Map<Long, String> metricIdMap = metricCatalog.findAllByCodes(metricCodes)
+			.values()
 			.stream()
 			.collect(Collectors.toMap(m -> m.getId(), m -> m.getMetricCode()));
 
+		boolean changed = false;
 		for (CompanyReportMetricValuesEntity value : latestActualValues) {
 			Long metricId = value.getMetric().getId();
 			String metricCode = metricIdMap.get(metricId);
@@ -86,6 +108,10 @@ public class CompanySignalCacheService {
 				continue;
 			}
 			value.applySignal(color, null, (BigDecimal) null);
+			changed = true;
+		}
+		if (changed) {
+			eventPublisher.publishEvent(CompanyDataChangedEvent.of(companyId));
 		}
 	}
 
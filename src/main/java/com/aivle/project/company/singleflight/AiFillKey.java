@@ -0,0 +1,17 @@
+package com.aivle.project.company.singleflight;
+
+/**
+ * 단일 적재 단위 키. 같은 키의 적재는 노드 안팎에서 한 번만 수행된다.
+ */
+public record AiFillKey(AiFillOperation operation, Long companyId, int quarterKey) {
+
+	private static final String LEASE_KEY_FORMAT = "company:ai-fill:lease:%s:%d:%d";
+
+	public static AiFillKey of(AiFillOperation operation, Long companyId, int quarterKey) {
+		return new AiFillKey(operation, companyId, quarterKey);
+	}
+
+	String leaseKey() {
+		return LEASE_KEY_FORMAT.formatted(operation.tagValue(), companyId, quarterKey);
+	}
+}
@@ -0,0 +1,15 @@
+package com.aivle.project.company.singleflight;
+
+/**
+ * AI 응답을 DB에 적재하는 캐시 작업 종류.
+ */
+public enum AiFillOperation {
+	HEALTH_SCORE,
+	SIGNAL,
+	PREDICTION,
+	AI_COMMENT;
+
+	String tagValue() {
+		return name().toLowerCase();
+	}
+}
@@ -0,0 +1,183 @@
+package com.aivle.project.company.singleflight;
+
+import com.aivle.project.common.error.ExternalAiUnavailableException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * AI 캐시 적재 단일화(single-flight).
+ * 같은 키의 적재가 이 노드에서 진행 중이면 새 호출은 AI를 부르지 않고 선행 호출의 결과를 기다린다.
+ * 노드 간에는 Redis 리스로 한 노드만 적재하고, 나머지 노드는 리스가 풀린 뒤 커밋된 캐시를 읽는다.
+ * 적재 함수는 자체 트랜잭션을 커밋한 뒤 반환해야 하며, 호출자 트랜잭션 안에서는 단일화하지 않는다.
+ */
+@Slf4j
+@Component
+public class AiFillSingleFlight {
+
+	private static final String RELEASE_LEASE_LUA =
+		"if redis.call('get', KEYS[1]) == ARGV[1] then " +
+		"    return redis.call('del', KEYS[1]) " +
+		"end " +
+		"return 0";
+
+	private final StringRedisTemplate redisTemplate;
+	private final MeterRegistry meterRegistry;
+	private final long waitTimeoutMs;
+	private final Duration leaseTtl;
+	private final long leasePollIntervalMs;
+	private final Map<AiFillKey, CompletableFuture<Object>> inFlights = new ConcurrentHashMap<>();
+
+	public AiFillSingleFlight(
+		ObjectProvider<StringRedisTemplate> redisTemplateProvider,
+		ObjectProvider<MeterRegistry> meterRegistryProvider,
+		@Value("${app.company.ai-fill.wait-timeout-ms:90000}") long waitTimeoutMs,
+		@Value("${app.company.ai-fill.lease-ttl-ms:120000}") long leaseTtlMs,
+		@Value("${app.company.ai-fill.lease-poll-interval-ms:200}") long leasePollIntervalMs
+	) {
+		this.redisTemplate = redisTemplateProvider.getIfAvailable();
+		this.meterRegistry = meterRegistryProvider.getIfAvailable(SimpleMeterRegistry::new);
+		this.waitTimeoutMs = waitTimeoutMs;
+		this.leaseTtl = Duration.ofMillis(leaseTtlMs);
+		this.leasePollIntervalMs = Math.max(10L, leasePollIntervalMs);
+	}
+
+	/**
+	 * 키 단위로 한 번만 적재를 수행한다.
+	 * 대기 중인 호출은 선행 호출의 결과나 예외를 그대로 받고, 대기 시간을 넘기면 AI 장애로 처리한다.
+	 */
+	public <T> T execute(AiFillKey key, Supplier<T> fill) {
+		if (TransactionSynchronizationManager.isActualTransactionActive()) {
+			// 호출자 트랜잭션 안에서는 다른 호출이 커밋한 결과를 볼 수 없으므로 기다리지 않는다.
+			return fill.get();
+		}
+
+		CompletableFuture<Object> leader = new CompletableFuture<>();
+		CompletableFuture<Object> inFlight = inFlights.putIfAbsent(key, leader);
+		if (inFlight != null) {
+			return awaitLocal(key, inFlight);
+		}
+		try {
+			T result = fillUnderLease(key, fill);
+			leader.complete(result);
+			return result;
+		} catch (RuntimeException | Error e) {
+			leader.completeExceptionally(e);
+			throw e;
+		} finally {
+			inFlights.remove(key, leader);
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private <T> T awaitLocal(AiFillKey key, CompletableFuture<Object> inFlight) {
+		meterRegistry.counter("company.ai_fill.coalesced", "operation", key.operation().tagValue(), "scope", "local")
+			.increment();
+		try {
+			T result = (T) inFlight.get(waitTimeoutMs, TimeUnit.MILLISECONDS);
+			meterRegistry.counter("company.ai_fill.saved_calls", "operation", key.operation().tagValue()).increment();
+			return result;
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+			if (e.getCause() instanceof Error error) {
+				throw error;
+			}
+			throw new IllegalStateException(e.getCause());
+		} catch (TimeoutException e) {
+			throw waitTimeout(key, e);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw waitTimeout(key, e);
+		}
+	}
+
+	private <T> T fillUnderLease(AiFillKey key, Supplier<T> fill) {
+		if (redisTemplate == null) {
+			return fill.get();
+		}
+		String token = UUID.randomUUID().toString();
+		if (tryAcquireLease(key, token)) {
+			try {
+				return fill.get();
+			} finally {
+				releaseLease(key, token);
+			}
+		}
+
+		meterRegistry.counter("company.ai_fill.coalesced", "operation", key.operation().tagValue(), "scope", "remote")
+			.increment();
+		awaitLeaseRelease(key);
+		// 다른 노드가 커밋한 캐시를 먼저 확인하므로 보통 AI 호출 없이 끝난다.
+		meterRegistry.counter("company.ai_fill.saved_calls", "operation", key.operation().tagValue()).increment();
+		return fill.get();
+	}
+
+	private boolean tryAcquireLease(AiFillKey key, String token) {
+		try {
+			return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(key.leaseKey(), token, leaseTtl));
+		} catch (DataAccessException e) {
+			// Redis 장애 시에는 노드 내 단일화만 유지한다.
+			log.warn("AI 적재 리스 획득 실패, 노드 내 단일화만 적용: key={}, reason={}", key, e.getMessage());
+			return true;
+		}
+	}
+
+	private void releaseLease(AiFillKey key, String token) {
+		try {
+			redisTemplate.execute(
+				new DefaultRedisScript<>(RELEASE_LEASE_LUA, Long.class),
+				List.of(key.leaseKey()),
+				token
+			);
+		} catch (DataAccessException e) {
+			log.warn("AI 적재 리스 해제 실패, TTL 만료를 기다림: key={}, reason={}", key, e.getMessage());
+		}
+	}
+
+	private void awaitLeaseRelease(AiFillKey key) {
+		long deadline = System.currentTimeMillis() + waitTimeoutMs;
+		while (true) {
+			try {
+				if (!Boolean.TRUE.equals(redisTemplate.hasKey(key.leaseKey()))) {
+					return;
+				}
+			} catch (DataAccessException e) {
+				log.warn("AI 적재 리스 확인 실패, 대기 중단: key={}, reason={}", key, e.getMessage());
+				return;
+			}
+			if (System.currentTimeMillis() >= deadline) {
+				throw waitTimeout(key, null);
+			}
+			try {
+				Thread.sleep(leasePollIntervalMs);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw waitTimeout(key, e);
+			}
+		}
+	}
+
+	private ExternalAiUnavailableException waitTimeout(AiFillKey key, Throwable cause) {
+		meterRegistry.counter("company.ai_fill.wait_timeout", "operation", key.operation().tagValue()).increment();
+		return new ExternalAiUnavailableException("AI 캐시 적재 대기 시간 초과: " + key, "AI_FILL_WAIT_TIMEOUT", cause);
+	}
+}
@@ -0,0 +1,36 @@
+package com.aivle.project.company.watchlist.dashboard.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 사용자별 대시보드 요약 스냅샷 설정.
+ */
+@Component
+@ConfigurationProperties(prefix = "app.dashboard.snapshot")
+public class DashboardSnapshotProperties {
+
+	private boolean enabled = true;
+
+	/**
+	 * 스냅샷 최대 보존 기간. 이벤트로 감지되지 않는 변경(벌크 수정 등)도 이 기간 안에 반영된다.
+	 */
+	private Duration maxStaleness = Duration.ofMinutes(10);
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	public void setEnabled(boolean enabled) {
+		this.enabled = enabled;
+	}
+
+	public Duration getMaxStaleness() {
+		return maxStaleness;
+	}
+
+	public void setMaxStaleness(Duration maxStaleness) {
+		this.maxStaleness = maxStaleness;
+	}
+}
@@ -4,6 +4,7 @@ import com.aivle.project.common.dto.ApiResponse;
 import com.aivle.project.common.security.CurrentUser;
 import com.aivle.project.company.watchlist.dashboard.dto.CompanyQuarterRiskDto;
 import com.aivle.project.company.watchlist.dashboard.dto.DashboardSummaryResponse;
+import com.aivle.project.company.watchlist.dashboard.service.DashboardSnapshotService;
 import com.aivle.project.company.watchlist.dashboard.service.DashboardSummaryService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
@@ -28,6 +29,7 @@ import org.springframework.web.bind.annotation.RestController;
 public class DashboardController {
 
 	private final DashboardSummaryService dashboardSummaryService;
+	private final DashboardSnapshotService dashboardSnapshotService;
 
 	@GetMapping("/summary")
 	@Operation(summary = "대시보드 요약 조회", description = "로그인 사용자의 워치리스트 기준 대시보드 요약을 조회합니다.")
@@ -36,7 +38,7 @@ public class DashboardController {
 		@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "인증 필요")
 	})
 	public ResponseEntity<ApiResponse<DashboardSummaryResponse>> getSummary(@CurrentUser Long userId) {
-		DashboardSummaryResponse response = dashboardSummaryService.getSummary(userId);
+		DashboardSummaryResponse response = dashboardSnapshotService.getSummary(userId);
 		return ResponseEntity.ok(ApiResponse.ok(response));
 	}
 
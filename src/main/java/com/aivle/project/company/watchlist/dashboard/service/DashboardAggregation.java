@@ -0,0 +1,211 @@
+package com.aivle.project.company.watchlist.dashboard.service;
+
+import com.aivle.project.company.keymetric.entity.CompanyKeyMetricRiskLevel;
+import com.aivle.project.company.keymetric.repository.CompanyKeyMetricRepository.DashboardMetricProjection;
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 대시보드 요약 지표를 한 번의 순회로 집계한다.
+ * 입력은 기업 ID 오름차순, 분기 키 내림차순으로 정렬되어 있어야 하며,
+ * 분기별 분포는 윈도우 인덱스(최신-3 ~ 최신+1)로 관리해 분기 수에 비례하는 메모리만 사용한다.
+ */
+final class DashboardAggregation {
+
+	static final int WINDOW_SIZE = 5;
+	static final int LATEST_INDEX = 3;
+	static final String UNCLASSIFIED_SECTOR = "미분류";
+
+	private static final int SAFE = 0;
+	private static final int WARN = 1;
+	private static final int RISK = 2;
+
+	private final int latestOrdinal;
+	private final int[][] windowCounts = new int[WINDOW_SIZE][3];
+	private final Map<String, SectorAggregate> sectorAggregates = new HashMap<>();
+	private final DwellStreak latestStreak;
+	private final DwellStreak previousStreak;
+
+	private double healthScoreSum;
+	private int healthScoreCount;
+	private boolean hasPreviousQuarter;
+	private Long currentCompanyId;
+
+	DashboardAggregation(int latestActualQuarterKey) {
+		this.latestOrdinal = toOrdinal(latestActualQuarterKey);
+		this.latestStreak = new DwellStreak(latestOrdinal);
+		this.previousStreak = new DwellStreak(latestOrdinal - 1);
+	}
+
+	void accept(DashboardMetricProjection row) {
+		if (row.getCompanyId() == null || row.getQuarterKey() == null) {
+			return;
+		}
+		if (!row.getCompanyId().equals(currentCompanyId)) {
+			closeCompany();
+			currentCompanyId = row.getCompanyId();
+		}
+
+		int ordinal = toOrdinal(row.getQuarterKey());
+		CompanyKeyMetricRiskLevel level = row.getRiskLevel();
+		if (level == null) {
+			// 위험 등급이 없는 행은 분포·섹터·체류 기간에서 빼되, 최신 분기 건강 점수 평균에는 넣는다.
+			if (ordinal == latestOrdinal) {
+				acceptHealthScore(row);
+			}
+			return;
+		}
+		int windowIndex = ordinal - latestOrdinal + LATEST_INDEX;
+		if (windowIndex >= 0 && windowIndex < WINDOW_SIZE) {
+			windowCounts[windowIndex][levelIndex(level)]++;
+		}
+		if (ordinal == latestOrdinal) {
+			acceptLatest(row, level);
+		} else if (ordinal == latestOrdinal - 1) {
+			hasPreviousQuarter = true;
+		}
+		latestStreak.accept(ordinal, level);
+		previousStreak.accept(ordinal, level);
+	}
+
+	/**
+	 * 마지막 기업의 체류 기간을 반영한다. 모든 행을 넘긴 뒤 한 번 호출한다.
+	 */
+	DashboardAggregation finish() {
+		closeCompany();
+		currentCompanyId = null;
+		return this;
+	}
+
+	int normalCount(int windowIndex) {
+		return windowCounts[windowIndex][SAFE];
+	}
+
+	int cautionCount(int windowIndex) {
+		return windowCounts[windowIndex][WARN];
+	}
+
+	int riskCount(int windowIndex) {
+		return windowCounts[windowIndex][RISK];
+	}
+
+	/**
+	 * 최신 분기 internal_health_score 평균. 점수가 없으면 0.0.
+	 */
+	double averageHealthScore() {
+		return healthScoreCount == 0 ? 0.0 : healthScoreSum / healthScoreCount;
+	}
+
+	double averageLatestDwellTime() {
+		return latestStreak.average();
+	}
+
+	double averagePreviousDwellTime() {
+		return previousStreak.average();
+	}
+
+	boolean hasPreviousQuarter() {
+		return hasPreviousQuarter;
+	}
+
+	Map<String, SectorAggregate> sectorAggregates() {
+		return sectorAggregates;
+	}
+
+	private void acceptLatest(DashboardMetricProjection row, CompanyKeyMetricRiskLevel level) {
+		acceptHealthScore(row);
+		String sectorName = row.getSectorName();
+		SectorAggregate aggregate = sectorAggregates.computeIfAbsent(
+			(sectorName == null || sectorName.isBlank()) ? UNCLASSIFIED_SECTOR : sectorName,
+			key -> new SectorAggregate()
+		);
+		aggregate.totalCount++;
+		if (level == CompanyKeyMetricRiskLevel.WARN) {
+			aggregate.warnCount++;
+		}
+		if (level == CompanyKeyMetricRiskLevel.RISK) {
+			aggregate.riskCount++;
+		}
+	}
+
+	private void acceptHealthScore(DashboardMetricProjection row) {
+		BigDecimal healthScore = row.getInternalHealthScore();
+		if (healthScore != null) {
+			healthScoreSum += healthScore.doubleValue();
+			healthScoreCount++;
+		}
+	}
+
+	private void closeCompany() {
+		if (currentCompanyId == null) {
+			return;
+		}
+		latestStreak.close();
+		previousStreak.close();
+	}
+
+	private static int levelIndex(CompanyKeyMetricRiskLevel level) {
+		return switch (level) {
+			case SAFE -> SAFE;
+			case WARN -> WARN;
+			case RISK -> RISK;
+		};
+	}
+
+	private static int toOrdinal(int quarterKey) {
+		return (quarterKey / 10) * 4 + (quarterKey % 10 - 1);
+	}
+
+	/**
+	 * 기준 분기부터 과거로 연속된 주의/위험 분기 수를 기업별로 센다.
+	 * 기준 분기 이후 행은 건너뛰고, 분기가 비거나 정상 등급을 만나면 해당 기업의 집계를 멈춘다.
+	 */
+	private static final class DwellStreak {
+
+		private final int baseOrdinal;
+		private int expectedOrdinal;
+		private int streak;
+		private boolean open = true;
+		private long sum;
+		private int companies;
+
+		private DwellStreak(int baseOrdinal) {
+			this.baseOrdinal = baseOrdinal;
+			this.expectedOrdinal = baseOrdinal;
+		}
+
+		private void accept(int ordinal, CompanyKeyMetricRiskLevel level) {
+			if (!open || ordinal > baseOrdinal) {
+				return;
+			}
+			if (ordinal == expectedOrdinal
+				&& (level == CompanyKeyMetricRiskLevel.WARN || level == CompanyKeyMetricRiskLevel.RISK)) {
+				streak++;
+				expectedOrdinal--;
+				return;
+			}
+			open = false;
+		}
+
+		private void close() {
+			if (streak > 0) {
+				sum += streak;
+				companies++;
+			}
+			streak = 0;
+			open = true;
+			expectedOrdinal = baseOrdinal;
+		}
+
+		private double average() {
+			return companies == 0 ? 0.0 : (double) sum / companies;
+		}
+	}
+
+	static final class SectorAggregate {
+		int totalCount;
+		int warnCount;
+		int riskCount;
+	}
+}
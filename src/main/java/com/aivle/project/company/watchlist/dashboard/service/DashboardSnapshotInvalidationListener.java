@@ -0,0 +1,35 @@
+package com.aivle.project.company.watchlist.dashboard.service;
+
+import com.aivle.project.company.keymetric.event.CompanyKeyMetricChangedEvent;
+import com.aivle.project.company.watchlist.event.CompanyWatchlistCreatedEvent;
+import com.aivle.project.company.watchlist.event.CompanyWatchlistRemovedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 커밋된 워치리스트/핵심 지표 변경을 대시보드 스냅샷 갱신 대상으로 표시한다.
+ * 실제 재계산은 {@link DashboardSnapshotRefreshScheduler}가 비동기로 수행한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class DashboardSnapshotInvalidationListener {
+
+	private final DashboardSnapshotService dashboardSnapshotService;
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void onWatchlistCreated(CompanyWatchlistCreatedEvent event) {
+		dashboardSnapshotService.markUserDirty(event.userId());
+	}
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void onWatchlistRemoved(CompanyWatchlistRemovedEvent event) {
+		dashboardSnapshotService.markUserDirty(event.userId());
+	}
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void onKeyMetricChanged(CompanyKeyMetricChangedEvent event) {
+		dashboardSnapshotService.markCompanyDirty(event.companyId());
+	}
+}
@@ -0,0 +1,31 @@
+package com.aivle.project.company.watchlist.dashboard.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 갱신 대상으로 표시된 대시보드 스냅샷을 주기적으로 다시 계산한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "app.dashboard.snapshot", name = "enabled", havingValue = "true")
+public class DashboardSnapshotRefreshScheduler {
+
+	private final DashboardSnapshotService dashboardSnapshotService;
+
+	@Scheduled(fixedDelayString = "${app.dashboard.snapshot.refresh-interval-ms:1000}")
+	public void refreshDirtySnapshots() {
+		try {
+			int refreshed = dashboardSnapshotService.refreshDirty();
+			if (refreshed > 0) {
+				log.debug("Dashboard snapshots refreshed: count={}", refreshed);
+			}
+		} catch (Exception e) {
+			log.error("Dashboard snapshot refresh failed", e);
+		}
+	}
+}
@@ -0,0 +1,159 @@
+package com.aivle.project.company.watchlist.dashboard.service;
+
+import com.aivle.project.company.watchlist.dashboard.config.DashboardSnapshotProperties;
+import com.aivle.project.company.watchlist.dashboard.dto.DashboardSummaryResponse;
+import com.aivle.project.company.watchlist.repository.CompanyWatchlistRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+/**
+ * 사용자별 대시보드 요약 스냅샷 서비스.
+ * 요약 응답을 Redis에 그대로 보관해 조회를 키 하나로 끝내고, 워치리스트/핵심 지표 변경 시
+ * 해당 사용자를 갱신 대상으로 표시해 스케줄러가 사용자당 한 번씩 다시 계산한다.
+ */
+@Slf4j
+@Service
+public class DashboardSnapshotService {
+
+	private static final String KEY_PREFIX = "dashboard:summary:";
+
+	private final StringRedisTemplate redisTemplate;
+	private final DashboardSummaryService dashboardSummaryService;
+	private final CompanyWatchlistRepository companyWatchlistRepository;
+	private final DashboardSnapshotProperties properties;
+	private final ObjectReader reader;
+	private final ObjectWriter writer;
+	private final Set<Long> dirtyUsers = ConcurrentHashMap.newKeySet();
+	private final Set<Long> dirtyCompanies = ConcurrentHashMap.newKeySet();
+	private final Counter hitCounter;
+	private final Counter missCounter;
+	private final Timer rebuildTimer;
+
+	public DashboardSnapshotService(
+		StringRedisTemplate redisTemplate,
+		ObjectMapper objectMapper,
+		DashboardSummaryService dashboardSummaryService,
+		CompanyWatchlistRepository companyWatchlistRepository,
+		DashboardSnapshotProperties properties,
+		MeterRegistry meterRegistry
+	) {
+		this.redisTemplate = redisTemplate;
+		this.dashboardSummaryService = dashboardSummaryService;
+		this.companyWatchlistRepository = companyWatchlistRepository;
+		this.properties = properties;
+		this.reader = objectMapper.readerFor(DashboardSummaryResponse.class);
+		this.writer = objectMapper.writerFor(DashboardSummaryResponse.class);
+		this.hitCounter = meterRegistry.counter("dashboard.snapshot.lookup", "result", "hit");
+		this.missCounter = meterRegistry.counter("dashboard.snapshot.lookup", "result", "miss");
+		this.rebuildTimer = meterRegistry.timer("dashboard.snapshot.rebuild");
+		meterRegistry.gaugeCollectionSize("dashboard.snapshot.pending", Tags.empty(), dirtyUsers);
+	}
+
+	public DashboardSummaryResponse getSummary(Long userId) {
+		if (!properties.isEnabled()) {
+			return dashboardSummaryService.getSummary(userId);
+		}
+		DashboardSummaryResponse snapshot = read(userId);
+		if (snapshot != null) {
+			hitCounter.increment();
+			return snapshot;
+		}
+		missCounter.increment();
+		return rebuild(userId);
+	}
+
+	/**
+	 * 요약을 다시 계산해 스냅샷으로 저장한다.
+	 */
+	public DashboardSummaryResponse rebuild(Long userId) {
+		DashboardSummaryResponse summary = rebuildTimer.record(() -> dashboardSummaryService.getSummary(userId));
+		write(userId, summary);
+		return summary;
+	}
+
+	public void markUserDirty(Long userId) {
+		if (properties.isEnabled() && userId != null) {
+			dirtyUsers.add(userId);
+		}
+	}
+
+	public void markCompanyDirty(Long companyId) {
+		if (properties.isEnabled() && companyId != null) {
+			dirtyCompanies.add(companyId);
+		}
+	}
+
+	/**
+	 * 갱신 대상으로 표시된 사용자의 스냅샷을 다시 계산한다. 같은 사용자에 대한 여러 변경은 한 번으로 합쳐진다.
+	 *
+	 * @return 다시 계산한 사용자 수
+	 */
+	public int refreshDirty() {
+		List<Long> companyIds = drain(dirtyCompanies);
+		if (!companyIds.isEmpty()) {
+			dirtyUsers.addAll(companyWatchlistRepository.findActiveUserIdsByCompanyIds(companyIds));
+		}
+
+		int refreshed = 0;
+		for (Long userId : drain(dirtyUsers)) {
+			try {
+				rebuild(userId);
+				refreshed++;
+			} catch (Exception e) {
+				// 계산할 수 없는 상태(워치리스트의 ACTUAL 데이터 없음 등)면 스냅샷을 지워 조회 시 원래 오류가 나도록 한다.
+				evict(userId);
+				log.warn("Dashboard snapshot rebuild failed: userId={}, reason={}", userId, e.getMessage());
+			}
+		}
+		return refreshed;
+	}
+
+	public void evict(Long userId) {
+		try {
+			redisTemplate.delete(KEY_PREFIX + userId);
+		} catch (Exception e) {
+			log.warn("Failed to evict dashboard snapshot: userId={}", userId, e);
+		}
+	}
+
+	private DashboardSummaryResponse read(Long userId) {
+		try {
+			String json = redisTemplate.opsForValue().get(KEY_PREFIX + userId);
+			return json == null ? null : reader.readValue(json);
+		} catch (Exception e) {
+			log.warn("Failed to read dashboard snapshot: userId={}", userId, e);
+			return null;
+		}
+	}
+
+	private void write(Long userId, DashboardSummaryResponse summary) {
+		try {
+			redisTemplate.opsForValue().set(KEY_PREFIX + userId, writer.writeValueAsString(summary), properties.getMaxStaleness());
+		} catch (Exception e) {
+			log.warn("Failed to write dashboard snapshot: userId={}", userId, e);
+		}
+	}
+
+	private List<Long> drain(Set<Long> source) {
+		List<Long> drained = new ArrayList<>();
+		Iterator<Long> iterator = source.iterator();
+		while (iterator.hasNext()) {
+			drained.add(iterator.next());
+			iterator.remove();
+		}
+		return drained;
+	}
+}
@@ -1,9 +1,8 @@
 package com.aivle.project.company.watchlist.dashboard.service;
 
-import com.aivle.project.company.entity.CompaniesEntity;
-import com.aivle.project.company.keymetric.entity.CompanyKeyMetricEntity;
 import com.aivle.project.company.keymetric.entity.CompanyKeyMetricRiskLevel;
 import com.aivle.project.company.keymetric.repository.CompanyKeyMetricRepository;
+import com.aivle.project.company.report.service.CompanyLatestActualQuarterCache;
 import com.aivle.project.company.watchlist.dashboard.dto.CompanyQuarterRiskDto;
 import com.aivle.project.company.watchlist.dashboard.dto.DashboardSummaryResponse;
 import com.aivle.project.company.watchlist.dashboard.dto.KpiCardDto;
@@ -13,17 +12,13 @@ import com.aivle.project.company.watchlist.dashboard.dto.RiskStatusDistributionD
 import com.aivle.project.company.watchlist.dashboard.dto.RiskStatusDistributionPercentDto;
 import com.aivle.project.company.report.quarter.support.QuarterCalculator;
 import com.aivle.project.company.report.quarter.support.YearQuarter;
-import com.aivle.project.company.report.repository.CompanyReportMetricValuesRepository;
-import com.aivle.project.company.watchlist.entity.CompanyWatchlistEntity;
+import com.aivle.project.company.watchlist.dashboard.service.DashboardAggregation.SectorAggregate;
 import com.aivle.project.company.watchlist.repository.CompanyWatchlistRepository;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.util.ArrayList;
-import java.util.EnumMap;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
@@ -39,13 +34,13 @@ public class DashboardSummaryService {
 	private static final String RANGE_LABEL = "최근 4분기";
 
 	private final CompanyWatchlistRepository companyWatchlistRepository;
-	private final CompanyReportMetricValuesRepository companyReportMetricValuesRepository;
+	private final CompanyLatestActualQuarterCache companyLatestActualQuarterCache;
 	private final CompanyKeyMetricRepository companyKeyMetricRepository;
 
 	@Transactional(readOnly = true)
 	public DashboardSummaryResponse getSummary(Long userId) {
-		List<CompanyWatchlistEntity> watchlists = companyWatchlistRepository.findActiveByUserId(userId);
-		if (watchlists.isEmpty()) {
+		DashboardScope scope = resolveScope(userId);
+		if (scope == null) {
 			return new DashboardSummaryResponse(
 				RANGE_LABEL,
 				buildKpis(
@@ -79,32 +74,32 @@ public class DashboardSummaryService {
 			);
 		}
 
-		List<Long> companyIds = watchlists.stream()
-			.map(cw -> cw.getCompany().getId())
-			.toList();
-
-		int latestActualQuarterKey = resolveLatestActualQuarterKey(watchlists);
+		int latestActualQuarterKey = scope.latestActualQuarterKey();
 		int forecastQuarterKey = QuarterCalculator.offset(QuarterCalculator.parseQuarterKey(latestActualQuarterKey), 1)
 			.toQuarterKey();
 
 		List<Integer> windowQuarterKeys = buildWindowQuarterKeys(latestActualQuarterKey);
 		List<String> windowQuarters = windowQuarterKeys.stream().map(this::toQuarterLabel).toList();
 
-		List<CompanyKeyMetricEntity> latestMetrics = companyKeyMetricRepository
-			.findByCompanyIdInAndQuarter_QuarterKey(companyIds, latestActualQuarterKey);
+		DashboardAggregation aggregation = new DashboardAggregation(latestActualQuarterKey);
+		for (CompanyKeyMetricRepository.DashboardMetricProjection row : companyKeyMetricRepository
+			.findDashboardMetricsByCompanyIds(scope.companyIds(), forecastQuarterKey)) {
+			aggregation.accept(row);
+		}
+		aggregation.finish();
 
-		RiskStatusDistributionDto currentDistribution = countDistribution(latestMetrics);
+		RiskStatusDistributionDto currentDistribution = toDistribution(aggregation, DashboardAggregation.LATEST_INDEX);
 		RiskStatusDistributionPercentDto distributionPercent = toDistributionPercent(currentDistribution);
-		double networkStatus = calculateNetworkStatus(latestMetrics);
+		double networkStatus = roundOneDecimal(aggregation.averageHealthScore());
 		double averageRiskLevel = roundOneDecimal(100.0 - networkStatus);
 		double riskIndex = calculateRiskIndex(distributionPercent);
-		KpiCardDto riskDwellTimeKpi = buildRiskDwellTimeKpi(companyIds, latestActualQuarterKey);
-		MajorSectorDto majorSector = calculateMajorSector(watchlists, companyIds, latestMetrics);
-		List<RiskStatusBucketDto> trend = buildTrend(companyIds, windowQuarterKeys, latestActualQuarterKey);
+		KpiCardDto riskDwellTimeKpi = buildRiskDwellTimeKpi(aggregation);
+		MajorSectorDto majorSector = calculateMajorSector(aggregation);
+		List<RiskStatusBucketDto> trend = buildTrend(aggregation, windowQuarterKeys, latestActualQuarterKey);
 
 		return new DashboardSummaryResponse(
 			RANGE_LABEL,
-			buildKpis(companyIds.size(), currentDistribution, networkStatus, riskIndex, riskDwellTimeKpi),
+			buildKpis(scope.companyIds().size(), currentDistribution, networkStatus, riskIndex, riskDwellTimeKpi),
 			toQuarterLabel(latestActualQuarterKey),
 			toQuarterLabel(forecastQuarterKey),
 			windowQuarters,
@@ -118,44 +113,52 @@ public class DashboardSummaryService {
 
 	@Transactional(readOnly = true)
 	public List<CompanyQuarterRiskDto> getRiskRecords(Long userId, int limit) {
-		List<CompanyWatchlistEntity> watchlists = companyWatchlistRepository.findActiveByUserId(userId);
-		if (watchlists.isEmpty()) {
+		DashboardScope scope = resolveScope(userId);
+		if (scope == null) {
 			return List.of();
 		}
 
-		List<Long> companyIds = watchlists.stream()
-			.map(cw -> cw.getCompany().getId())
-			.toList();
-
-		int latestActualQuarterKey = resolveLatestActualQuarterKey(watchlists);
-
 		return companyKeyMetricRepository.findRiskRecordsByCompanyIds(
-				companyIds,
-				latestActualQuarterKey,
+				scope.companyIds(),
+				scope.latestActualQuarterKey(),
 				PageRequest.of(0, limit)
 			).stream()
-			.map(metric -> new CompanyQuarterRiskDto(
-				String.valueOf(metric.getCompany().getId()),
-				metric.getCompany().getCorpName(),
-				toQuarterLabel(metric.getQuarter().getQuarterKey()),
-				toRiskLevel(metric.getRiskLevel())
+			.map(record -> new CompanyQuarterRiskDto(
+				String.valueOf(record.getCompanyId()),
+				record.getCorpName(),
+				toQuarterLabel(record.getQuarterKey()),
+				toRiskLevel(record.getRiskLevel())
 			))
 			.toList();
 	}
 
-	private int resolveLatestActualQuarterKey(List<CompanyWatchlistEntity> watchlists) {
-		List<String> stockCodes = watchlists.stream()
-			.map(CompanyWatchlistEntity::getCompany)
-			.map(CompaniesEntity::getStockCode)
-			.filter(stockCode -> stockCode != null && !stockCode.isBlank())
-			.toList();
+	/**
+	 * 워치리스트 기업과 최신 ACTUAL 분기를 한 번에 확정한다. 워치리스트가 비어 있으면 null.
+	 */
+	private DashboardScope resolveScope(Long userId) {
+		List<CompanyWatchlistRepository.WatchlistCompanyProjection> companies = companyWatchlistRepository
+			.findActiveCompaniesByUserId(userId);
+		if (companies.isEmpty()) {
+			return null;
+		}
+
+		List<Long> companyIds = new ArrayList<>(companies.size());
+		List<Long> listedCompanyIds = new ArrayList<>(companies.size());
+		for (CompanyWatchlistRepository.WatchlistCompanyProjection company : companies) {
+			companyIds.add(company.getCompanyId());
+			String stockCode = company.getStockCode();
+			if (stockCode != null && !stockCode.isBlank()) {
+				listedCompanyIds.add(company.getCompanyId());
+			}
+		}
 
-		if (stockCodes.isEmpty()) {
+		if (listedCompanyIds.isEmpty()) {
 			throw new IllegalArgumentException("관심 기업의 종목 코드를 찾을 수 없습니다.");
 		}
 
-		return companyReportMetricValuesRepository.findMaxActualQuarterKeyByStockCodes(stockCodes)
+		int latestActualQuarterKey = companyLatestActualQuarterCache.findMax(listedCompanyIds)
 			.orElseThrow(() -> new IllegalArgumentException("ACTUAL 분기 데이터를 찾을 수 없습니다."));
+		return new DashboardScope(companyIds, latestActualQuarterKey);
 	}
 
 	private List<Integer> buildWindowQuarterKeys(int latestActualQuarterKey) {
@@ -169,57 +172,34 @@ public class DashboardSummaryService {
 		return keys;
 	}
 
-	private List<RiskStatusBucketDto> buildTrend(List<Long> companyIds, List<Integer> windowQuarterKeys, int latestActualQuarterKey) {
-		Map<Integer, List<CompanyKeyMetricEntity>> metricsByQuarterKey = companyKeyMetricRepository
-			.findByCompanyIdInAndQuarterKeyIn(companyIds, windowQuarterKeys).stream()
-			.collect(Collectors.groupingBy(metric -> metric.getQuarter().getQuarterKey()));
-
-		List<RiskStatusBucketDto> buckets = new ArrayList<>();
-		for (int quarterKey : windowQuarterKeys) {
+	private List<RiskStatusBucketDto> buildTrend(
+		DashboardAggregation aggregation,
+		List<Integer> windowQuarterKeys,
+		int latestActualQuarterKey
+	) {
+		List<RiskStatusBucketDto> buckets = new ArrayList<>(windowQuarterKeys.size());
+		for (int index = 0; index < windowQuarterKeys.size(); index++) {
+			int quarterKey = windowQuarterKeys.get(index);
 			boolean forecast = quarterKey > latestActualQuarterKey;
-			List<CompanyKeyMetricEntity> metrics = metricsByQuarterKey.getOrDefault(quarterKey, List.of());
-			RiskStatusDistributionDto distribution = countDistribution(metrics);
 			RiskStatusBucketDto.DataType dataType = forecast
 				? RiskStatusBucketDto.DataType.FORECAST
 				: RiskStatusBucketDto.DataType.ACTUAL;
 			buckets.add(new RiskStatusBucketDto(
 				toQuarterLabel(quarterKey),
 				dataType,
-				distribution.NORMAL(),
-				distribution.CAUTION(),
-				distribution.RISK()
+				aggregation.normalCount(index),
+				aggregation.cautionCount(index),
+				aggregation.riskCount(index)
 			));
 		}
 		return buckets;
 	}
 
-	private double calculateNetworkStatus(List<CompanyKeyMetricEntity> metrics) {
-		double average = metrics.stream()
-			.map(CompanyKeyMetricEntity::getInternalHealthScore)
-			.filter(java.util.Objects::nonNull)
-			.mapToDouble(BigDecimal::doubleValue)
-			.average()
-			.orElse(0.0);
-
-		return BigDecimal.valueOf(average)
-			.setScale(1, RoundingMode.HALF_UP)
-			.doubleValue();
-	}
-
-	private RiskStatusDistributionDto countDistribution(List<CompanyKeyMetricEntity> metrics) {
-		Map<CompanyKeyMetricRiskLevel, Integer> counter = new EnumMap<>(CompanyKeyMetricRiskLevel.class);
-		for (CompanyKeyMetricEntity metric : metrics) {
-			CompanyKeyMetricRiskLevel level = metric.getRiskLevel();
-			if (level == null) {
-				continue;
-			}
-			counter.put(level, counter.getOrDefault(level, 0) + 1);
-		}
-
+	private RiskStatusDistributionDto toDistribution(DashboardAggregation aggregation, int windowIndex) {
 		return new RiskStatusDistributionDto(
-			counter.getOrDefault(CompanyKeyMetricRiskLevel.SAFE, 0),
-			counter.getOrDefault(CompanyKeyMetricRiskLevel.WARN, 0),
-			counter.getOrDefault(CompanyKeyMetricRiskLevel.RISK, 0)
+			aggregation.normalCount(windowIndex),
+			aggregation.cautionCount(windowIndex),
+			aggregation.riskCount(windowIndex)
 		);
 	}
 
@@ -239,42 +219,8 @@ public class DashboardSummaryService {
 		return roundOneDecimal(distributionPercent.CAUTION() * 0.5 + distributionPercent.RISK());
 	}
 
-	private MajorSectorDto calculateMajorSector(
-		List<CompanyWatchlistEntity> watchlists,
-		List<Long> companyIds,
-		List<CompanyKeyMetricEntity> latestMetrics
-	) {
-		Map<Long, String> sectorByCompanyId = new HashMap<>();
-		for (CompanyWatchlistEntity watchlist : watchlists) {
-			Long companyId = watchlist.getCompany().getId();
-			String sectorName = watchlist.getCompany().getIndustryCode() == null
-				? null
-				: watchlist.getCompany().getIndustryCode().getIndustryName();
-			sectorByCompanyId.put(companyId, (sectorName == null || sectorName.isBlank()) ? "미분류" : sectorName);
-		}
-
-		Map<Long, CompanyKeyMetricEntity> actualMetricByCompanyId = new HashMap<>();
-		for (CompanyKeyMetricEntity metric : latestMetrics) {
-			actualMetricByCompanyId.put(metric.getCompany().getId(), metric);
-		}
-
-		Map<String, SectorAggregate> aggregateBySector = new HashMap<>();
-		for (Long companyId : companyIds) {
-			CompanyKeyMetricEntity metric = actualMetricByCompanyId.get(companyId);
-			if (metric == null || metric.getRiskLevel() == null) {
-				continue;
-			}
-			String sectorName = sectorByCompanyId.getOrDefault(companyId, "미분류");
-			SectorAggregate aggregate = aggregateBySector.computeIfAbsent(sectorName, key -> new SectorAggregate());
-			aggregate.totalCount++;
-			if (metric.getRiskLevel() == CompanyKeyMetricRiskLevel.WARN) {
-				aggregate.warnCount++;
-			}
-			if (metric.getRiskLevel() == CompanyKeyMetricRiskLevel.RISK) {
-				aggregate.riskCount++;
-			}
-		}
-
+	private MajorSectorDto calculateMajorSector(DashboardAggregation aggregation) {
+		Map<String, SectorAggregate> aggregateBySector = aggregation.sectorAggregates();
 		return aggregateBySector.entrySet().stream()
 			.filter(entry -> entry.getValue().warnCount + entry.getValue().riskCount > 0)
 			.max((a, b) -> compareSectorAggregate(a.getValue(), b.getValue()))
@@ -308,25 +254,13 @@ public class DashboardSummaryService {
 		return Integer.compare(a.totalCount, b.totalCount);
 	}
 
-	private KpiCardDto buildRiskDwellTimeKpi(List<Long> companyIds, int latestActualQuarterKey) {
-		List<CompanyKeyMetricRepository.CompanyRiskHistoryProjection> actualMetrics = companyKeyMetricRepository
-			.findRiskHistoryByCompanyIds(companyIds, latestActualQuarterKey);
-
-		Map<Long, Map<Integer, CompanyKeyMetricRiskLevel>> riskHistoryByCompany = new HashMap<>();
-		for (CompanyKeyMetricRepository.CompanyRiskHistoryProjection metric : actualMetrics) {
-			riskHistoryByCompany
-				.computeIfAbsent(metric.getCompanyId(), key -> new HashMap<>())
-				.put(metric.getQuarterKey(), metric.getRiskLevel());
-		}
-
-		double currentDwellTime = calculateAverageRiskDwellTime(riskHistoryByCompany, latestActualQuarterKey);
-		int previousQuarterKey = QuarterCalculator.offset(QuarterCalculator.parseQuarterKey(latestActualQuarterKey), -1)
-			.toQuarterKey();
+	private KpiCardDto buildRiskDwellTimeKpi(DashboardAggregation aggregation) {
+		double currentDwellTime = roundOneDecimal(aggregation.averageLatestDwellTime());
 		KpiCardDto.KpiDeltaDto delta = null;
 
 		// 직전 분기 데이터가 존재할 때만 비교값을 내려준다.
-		if (hasQuarterData(riskHistoryByCompany, previousQuarterKey)) {
-			double previousDwellTime = calculateAverageRiskDwellTime(riskHistoryByCompany, previousQuarterKey);
+		if (aggregation.hasPreviousQuarter()) {
+			double previousDwellTime = roundOneDecimal(aggregation.averagePreviousDwellTime());
 			double difference = roundOneDecimal(currentDwellTime - previousDwellTime);
 			KpiCardDto.KpiDeltaDto.Direction direction = KpiCardDto.KpiDeltaDto.Direction.FLAT;
 			if (difference > 0.0) {
@@ -359,45 +293,6 @@ public class DashboardSummaryService {
 		);
 	}
 
-	private boolean hasQuarterData(Map<Long, Map<Integer, CompanyKeyMetricRiskLevel>> riskHistoryByCompany, int quarterKey) {
-		return riskHistoryByCompany.values().stream().anyMatch(history -> history.containsKey(quarterKey));
-	}
-
-	private double calculateAverageRiskDwellTime(
-		Map<Long, Map<Integer, CompanyKeyMetricRiskLevel>> riskHistoryByCompany,
-		int baseQuarterKey
-	) {
-		List<Integer> dwellTimes = new ArrayList<>();
-		for (Map<Integer, CompanyKeyMetricRiskLevel> history : riskHistoryByCompany.values()) {
-			CompanyKeyMetricRiskLevel baseLevel = history.get(baseQuarterKey);
-			if (!isRisk(baseLevel)) {
-				continue;
-			}
-
-			int dwell = 0;
-			int cursorQuarterKey = baseQuarterKey;
-			while (true) {
-				CompanyKeyMetricRiskLevel level = history.get(cursorQuarterKey);
-				if (!isRisk(level)) {
-					break;
-				}
-				dwell++;
-				cursorQuarterKey = QuarterCalculator.offset(QuarterCalculator.parseQuarterKey(cursorQuarterKey), -1).toQuarterKey();
-			}
-			dwellTimes.add(dwell);
-		}
-
-		if (dwellTimes.isEmpty()) {
-			return 0.0;
-		}
-		double average = dwellTimes.stream().mapToInt(Integer::intValue).average().orElse(0.0);
-		return roundOneDecimal(average);
-	}
-
-	private boolean isRisk(CompanyKeyMetricRiskLevel level) {
-		return level == CompanyKeyMetricRiskLevel.WARN || level == CompanyKeyMetricRiskLevel.RISK;
-	}
-
 	private CompanyQuarterRiskDto.RiskLevel toRiskLevel(CompanyKeyMetricRiskLevel level) {
 		return switch (level) {
 			case SAFE -> CompanyQuarterRiskDto.RiskLevel.MIN;
@@ -486,10 +381,7 @@ public class DashboardSummaryService {
 		);
 	}
 
-	private static class SectorAggregate {
-		private int totalCount;
-		private int warnCount;
-		private int riskCount;
+	private record DashboardScope(List<Long> companyIds, int latestActualQuarterKey) {
 	}
 
 	private String toQuarterLabel(int quarterKey) {
@@ -0,0 +1,7 @@
+package com.aivle.project.company.watchlist.event;
+
+/**
+ * 워치리스트 해제 완료 이벤트.
+ */
+public record CompanyWatchlistRemovedEvent(Long userId, Long companyId) {
+}
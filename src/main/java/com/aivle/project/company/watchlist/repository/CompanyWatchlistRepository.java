@@ -1,6 +1,7 @@
 package com.aivle.project.company.watchlist.repository;
 
 import com.aivle.project.company.watchlist.entity.CompanyWatchlistEntity;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -21,4 +22,24 @@ public interface CompanyWatchlistRepository extends JpaRepository<CompanyWatchli
 		order by cw.id desc
 		""")
 	List<CompanyWatchlistEntity> findActiveByUserId(@Param("userId") Long userId);
+
+	@Query("""
+		select c.id as companyId, c.stockCode as stockCode
+		from CompanyWatchlistEntity cw
+		join cw.company c
+		where cw.user.id = :userId and cw.deletedAt is null
+		order by cw.id desc
+		""")
+	List<WatchlistCompanyProjection> findActiveCompaniesByUserId(@Param("userId") Long userId);
+
+	@Query("""
+		select distinct cw.user.id from CompanyWatchlistEntity cw
+		where cw.company.id in :companyIds and cw.deletedAt is null
+		""")
+	List<Long> findActiveUserIdsByCompanyIds(@Param("companyIds") Collection<Long> companyIds);
+
+	interface WatchlistCompanyProjection {
+		Long getCompanyId();
+		String getStockCode();
+	}
 }
@@ -5,6 +5,7 @@ import com.aivle.project.company.metric.entity.MetricValueType;
 import com.aivle.project.company.metric.entity.QMetricsEntity;
 import com.aivle.project.company.metric.metricaverage.entity.QMetricAverageEntity;
 import com.aivle.project.company.report.quarter.entity.QQuartersEntity;
+import com.aivle.project.company.report.entity.QCompanyReportLatestVersionEntity;
 import com.aivle.project.company.report.entity.QCompanyReportMetricValuesEntity;
 import com.aivle.project.company.report.entity.QCompanyReportVersionsEntity;
 import com.aivle.project.company.report.entity.QCompanyReportsEntity;
@@ -17,8 +18,6 @@ import com.aivle.project.company.watchlist.entity.QCompanyWatchlistEntity;
 import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.core.types.dsl.Expressions;
-import com.querydsl.core.types.dsl.Expressions;
-import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import java.math.BigDecimal;
 import java.util.Collection;
@@ -49,8 +48,7 @@ public class CompanyWatchlistRepositoryImpl implements CompanyWatchlistRepositor
 		QMetricsEntity m = QMetricsEntity.metricsEntity;
 		QMetricAverageEntity ma = QMetricAverageEntity.metricAverageEntity;
 
-		QCompanyReportVersionsEntity crv2 = new QCompanyReportVersionsEntity("crv2");
-		QCompanyReportMetricValuesEntity v2 = new QCompanyReportMetricValuesEntity("v2");
+		QCompanyReportLatestVersionEntity lv = QCompanyReportLatestVersionEntity.companyReportLatestVersionEntity;
 
 		return queryFactory
 			.select(Projections.constructor(WatchlistDashboardMetricRow.class,
@@ -68,6 +66,7 @@ public class CompanyWatchlistRepositoryImpl implements CompanyWatchlistRepositor
 			.join(cw.company, c)
 			.join(cr).on(cr.company.eq(c))
 			.join(cr.quarter, q)
+			.join(lv).on(lv.companyReportId.eq(cr.id), lv.valueType.eq(valueType))
 			.join(crv).on(crv.companyReport.eq(cr))
 			.join(crmv).on(crmv.reportVersion.eq(crv).and(crmv.quarter.eq(q)))
 			.join(crmv.metric, m)
@@ -80,18 +79,7 @@ public class CompanyWatchlistRepositoryImpl implements CompanyWatchlistRepositor
 				m.isRiskIndicator.isFalse(),
 				crmv.valueType.eq(valueType),
 				crmv.metricValue.isNotNull(),
-				crv.versionNo.eq(
-					JPAExpressions.select(crv2.versionNo.max())
-						.from(crv2)
-						.where(crv2.companyReport.eq(cr),
-							JPAExpressions.selectOne()
-								.from(v2)
-								.where(v2.reportVersion.eq(crv2),
-									v2.valueType.eq(valueType),
-									v2.metricValue.isNotNull()
-								).exists()
-						)
-				),
+				crv.versionNo.eq(lv.latestVersionNo),
 				metricCodesExpression(m, metricCodes, metricCodesEmpty)
 			)
 			.orderBy(c.corpName.asc(), m.metricCode.asc())
@@ -146,8 +134,7 @@ public class CompanyWatchlistRepositoryImpl implements CompanyWatchlistRepositor
 		QCompanyReportMetricValuesEntity crmv = QCompanyReportMetricValuesEntity.companyReportMetricValuesEntity;
 		QMetricsEntity m = QMetricsEntity.metricsEntity;
 
-		QCompanyReportVersionsEntity crv2 = new QCompanyReportVersionsEntity("crv2");
-		QCompanyReportMetricValuesEntity v2 = new QCompanyReportMetricValuesEntity("v2");
+		QCompanyReportLatestVersionEntity lv = QCompanyReportLatestVersionEntity.companyReportLatestVersionEntity;
 
 		return queryFactory
 			.select(Projections.constructor(WatchlistMetricValueDto.class,
@@ -165,6 +152,7 @@ public class CompanyWatchlistRepositoryImpl implements CompanyWatchlistRepositor
 			.join(cw.company, c)
 			.join(cr).on(cr.company.eq(c))
 			.join(cr.quarter, q)
+			.join(lv).on(lv.companyReportId.eq(cr.id), lv.valueType.eq(valueType))
 			.join(crv).on(crv.companyReport.eq(cr))
 			.join(crmv).on(crmv.reportVersion.eq(crv).and(crmv.quarter.eq(q)))
 			.join(crmv.metric, m)
@@ -175,18 +163,7 @@ public class CompanyWatchlistRepositoryImpl implements CompanyWatchlistRepositor
 				q.quarter.eq(quarter),
 				crmv.valueType.eq(valueType),
 				crmv.metricValue.isNotNull(),
-				crv.versionNo.eq(
-					JPAExpressions.select(crv2.versionNo.max())
-						.from(crv2)
-						.where(crv2.companyReport.eq(cr),
-							JPAExpressions.selectOne()
-								.from(v2)
-								.where(v2.reportVersion.eq(crv2),
-									v2.valueType.eq(valueType),
-									v2.metricValue.isNotNull()
-								).exists()
-						)
-				)
+				crv.versionNo.eq(lv.latestVersionNo)
 			)
 			.orderBy(c.corpName.asc(), m.metricCode.asc())
 			.fetch()
@@ -212,8 +189,7 @@ public class CompanyWatchlistRepositoryImpl implements CompanyWatchlistRepositor
 		QCompanyReportMetricValuesEntity crmv = QCompanyReportMetricValuesEntity.companyReportMetricValuesEntity;
 		QMetricsEntity m = QMetricsEntity.metricsEntity;
 
-		QCompanyReportVersionsEntity crv2 = new QCompanyReportVersionsEntity("crv2");
-		QCompanyReportMetricValuesEntity v2 = new QCompanyReportMetricValuesEntity("v2");
+		QCompanyReportLatestVersionEntity lv = QCompanyReportLatestVersionEntity.companyReportLatestVersionEntity;
 
 		return queryFactory
 			.select(Projections.constructor(WatchlistMetricValueDto.class,
@@ -231,6 +207,7 @@ public class CompanyWatchlistRepositoryImpl implements CompanyWatchlistRepositor
 			.join(cw.company, c)
 			.join(cr).on(cr.company.eq(c))
 			.join(cr.quarter, q)
+			.join(lv).on(lv.companyReportId.eq(cr.id), lv.valueType.eq(valueType))
 			.join(crv).on(crv.companyReport.eq(cr))
 			.join(crmv).on(crmv.reportVersion.eq(crv).and(crmv.quarter.eq(q)))
 			.join(crmv.metric, m)
@@ -241,18 +218,7 @@ public class CompanyWatchlistRepositoryImpl implements CompanyWatchlistRepositor
 				q.year.lt(toYear).or(q.year.eq(toYear).and(q.quarter.loe(toQuarter))),
 				crmv.valueType.eq(valueType),
 				crmv.metricValue.isNotNull(),
-				crv.versionNo.eq(
-					JPAExpressions.select(crv2.versionNo.max())
-						.from(crv2)
-						.where(crv2.companyReport.eq(cr),
-							JPAExpressions.selectOne()
-								.from(v2)
-								.where(v2.reportVersion.eq(crv2),
-									v2.valueType.eq(valueType),
-									v2.metricValue.isNotNull()
-								).exists()
-						)
-				)
+				crv.versionNo.eq(lv.latestVersionNo)
 			)
 			.orderBy(q.year.asc(), q.quarter.asc(), c.corpName.asc(), m.metricCode.asc())
 			.fetch()
@@ -278,8 +244,7 @@ public class CompanyWatchlistRepositoryImpl implements CompanyWatchlistRepositor
 		QCompanyReportMetricValuesEntity crmv = QCompanyReportMetricValuesEntity.companyReportMetricValuesEntity;
 		QMetricsEntity m = QMetricsEntity.metricsEntity;
 
-		QCompanyReportVersionsEntity crv2 = new QCompanyReportVersionsEntity("crv2");
-		QCompanyReportMetricValuesEntity v2 = new QCompanyReportMetricValuesEntity("v2");
+		QCompanyReportLatestVersionEntity lv = QCompanyReportLatestVersionEntity.companyReportLatestVersionEntity;
 
 		return queryFactory
 			.select(Projections.constructor(WatchlistMetricAverageRow.class,
@@ -292,6 +257,7 @@ public class CompanyWatchlistRepositoryImpl implements CompanyWatchlistRepositor
 			.join(cw.company, c)
 			.join(cr).on(cr.company.eq(c))
 			.join(cr.quarter, q)
+			.join(lv).on(lv.companyReportId.eq(cr.id), lv.valueType.eq(valueType))
 			.join(crv).on(crv.companyReport.eq(cr))
 			.join(crmv).on(crmv.reportVersion.eq(crv).and(crmv.quarter.eq(q)))
 			.join(crmv.metric, m)
@@ -303,18 +269,7 @@ public class CompanyWatchlistRepositoryImpl implements CompanyWatchlistRepositor
 				crmv.valueType.eq(valueType),
 				m.isRiskIndicator.isFalse(),
 				crmv.metricValue.isNotNull(),
-				crv.versionNo.eq(
-					JPAExpressions.select(crv2.versionNo.max())
-						.from(crv2)
-						.where(crv2.companyReport.eq(cr),
-							JPAExpressions.selectOne()
-								.from(v2)
-								.where(v2.reportVersion.eq(crv2),
-									v2.valueType.eq(valueType),
-									v2.metricValue.isNotNull()
-								).exists()
-						)
-				),
+				crv.versionNo.eq(lv.latestVersionNo),
 				metricCodesExpression(m, metricCodes, metricCodesEmpty)
 			)
 			.groupBy(m.id, m.metricCode, m.metricNameKo)
@@ -1,6 +1,8 @@
 package com.aivle.project.company.watchlist.service;
 
+import com.aivle.project.company.client.AiCallPriority;
 import com.aivle.project.company.entity.CompaniesEntity;
+import com.aivle.project.company.report.service.CompanyLatestActualQuarterCache;
 import com.aivle.project.company.repository.CompaniesRepository;
 import com.aivle.project.company.service.CompanyHealthScoreCacheService;
 import com.aivle.project.company.service.CompanyAiCommentService;
@@ -9,7 +11,6 @@ import com.aivle.project.company.service.CompanyReputationScoreService;
 import com.aivle.project.company.service.CompanySignalCacheService;
 import com.aivle.project.company.job.AiJobDispatchService;
 import com.aivle.project.common.error.ExternalAiUnavailableException;
-import com.aivle.project.company.report.repository.CompanyReportMetricValuesRepository;
 import com.aivle.project.company.watchlist.event.CompanyWatchlistCreatedEvent;
 import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
 import lombok.RequiredArgsConstructor;
@@ -25,7 +26,7 @@ import org.springframework.transaction.event.TransactionalEventListener;
 public class CompanyWatchlistAsyncHandler {
 
 	private final CompaniesRepository companiesRepository;
-	private final CompanyReportMetricValuesRepository companyReportMetricValuesRepository;
+	private final CompanyLatestActualQuarterCache companyLatestActualQuarterCache;
 	private final CompanyHealthScoreCacheService companyHealthScoreCacheService;
 	private final CompanyAiCommentService companyAiCommentService;
 	private final CompanyPredictionCacheService companyPredictionCacheService;
@@ -37,14 +38,14 @@ public class CompanyWatchlistAsyncHandler {
 	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
 		public void handleWatchlistCreated(CompanyWatchlistCreatedEvent event) {
 			String stockCode = null;
-			try {
+			// 워밍업은 사용자 요청이 아니므로 AI 동시성 한도를 낮은 우선순위로 쓴다.
+			try (AiCallPriority.Scope ignored = AiCallPriority.BACKGROUND.enter()) {
 				CompaniesEntity company = companiesRepository.findById(event.companyId()).orElse(null);
 				if (company == null) {
 					return;
 				}
 				stockCode = company.getStockCode();
-				Integer latestActualQuarterKey = companyReportMetricValuesRepository
-					.findMaxActualQuarterKeyByStockCode(stockCode)
+				Integer latestActualQuarterKey = companyLatestActualQuarterCache.find(event.companyId())
 					.orElse(null);
 			if (latestActualQuarterKey == null) {
 				return;
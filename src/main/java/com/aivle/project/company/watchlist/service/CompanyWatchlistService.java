@@ -1,6 +1,7 @@
 package com.aivle.project.company.watchlist.service;
 
 import com.aivle.project.company.entity.CompaniesEntity;
+import com.aivle.project.company.report.service.CompanyLatestActualQuarterCache;
 import com.aivle.project.company.repository.CompaniesRepository;
 import com.aivle.project.company.service.CompanyInfoService;
 import com.aivle.project.common.error.CommonException;
@@ -8,7 +9,6 @@ import com.aivle.project.company.metric.entity.MetricValueType;
 import com.aivle.project.company.report.quarter.entity.QuartersEntity;
 import com.aivle.project.company.report.quarter.repository.QuartersRepository;
 import com.aivle.project.company.risk.entity.RiskLevel;
-import com.aivle.project.company.report.repository.CompanyReportMetricValuesRepository;
 import com.aivle.project.auth.user.entity.UserEntity;
 import com.aivle.project.auth.user.repository.UserRepository;
 import com.aivle.project.company.watchlist.dto.WatchlistDashboardMetricRow;
@@ -26,6 +26,7 @@ import com.aivle.project.company.watchlist.error.WatchlistErrorCode;
 import com.aivle.project.company.watchlist.repository.CompanyWatchlistRepository;
 import com.aivle.project.company.watchlist.repository.WatchlistMetricValueProjection;
 import com.aivle.project.company.watchlist.event.CompanyWatchlistCreatedEvent;
+import com.aivle.project.company.watchlist.event.CompanyWatchlistRemovedEvent;
 import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -43,7 +44,7 @@ public class CompanyWatchlistService {
 	private final UserRepository userRepository;
 	private final CompaniesRepository companiesRepository;
 	private final QuartersRepository quartersRepository;
-	private final CompanyReportMetricValuesRepository companyReportMetricValuesRepository;
+	private final CompanyLatestActualQuarterCache companyLatestActualQuarterCache;
 	private final CompanyInfoService companyInfoService;
 	private final ApplicationEventPublisher eventPublisher;
 
@@ -80,6 +81,7 @@ public class CompanyWatchlistService {
 			throw new CommonException(WatchlistErrorCode.WATCHLIST_FORBIDDEN);
 		}
 		existing.delete();
+		eventPublisher.publishEvent(new CompanyWatchlistRemovedEvent(userId, companyId));
 	}
 
 	@Transactional(readOnly = true)
@@ -105,8 +107,7 @@ public class CompanyWatchlistService {
 		return watchlists.stream()
 			.map(watchlist -> {
 				CompaniesEntity company = watchlist.getCompany();
-				Integer quarterKey = companyReportMetricValuesRepository
-					.findMaxActualQuarterKeyByStockCode(company.getStockCode())
+				Integer quarterKey = companyLatestActualQuarterCache.find(company.getId())
 					.orElse(null);
 				return companyInfoService.getCompanyInfo(company.getId(), quarterKey);
 			})
@@ -1,6 +1,7 @@
 package com.aivle.project.perf;
 
 import com.aivle.project.common.dto.ApiResponse;
+import com.aivle.project.company.client.AiServerClient;
 import com.aivle.project.company.entity.CompaniesEntity;
 import com.aivle.project.company.insight.service.CompanyInsightService;
 import com.aivle.project.company.news.service.NewsService;
@@ -8,7 +9,16 @@ import com.aivle.project.company.reportanalysis.service.ReportAnalysisService;
 import com.aivle.project.company.repository.CompaniesRepository;
 import com.aivle.project.company.service.CompanyAiService;
 import io.swagger.v3.oas.annotations.Hidden;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Profile;
 import org.springframework.http.ResponseEntity;
@@ -18,6 +28,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
 
 /**
  * Virtual Thread 벤치마크용 perf 전용 API.
@@ -29,11 +40,14 @@ import org.springframework.web.bind.annotation.RestController;
 @RequestMapping("/api/perf/benchmark")
 public class PerfBenchmarkController {
 
+	private static final int MAX_FANOUT_CALLS = 2000;
+
 	private final CompaniesRepository companiesRepository;
 	private final NewsService newsService;
 	private final ReportAnalysisService reportAnalysisService;
 	private final CompanyInsightService companyInsightService;
 	private final CompanyAiService companyAiService;
+	private final AiServerClient aiServerClient;
 
 	@GetMapping("/fixture")
 	public ResponseEntity<ApiResponse<Map<String, Object>>> fixture() {
@@ -62,10 +76,11 @@ public class PerfBenchmarkController {
 	@GetMapping("/insight-refresh/{companyId}")
 	public ResponseEntity<ApiResponse<Map<String, Object>>> insightRefresh(@PathVariable Long companyId) {
 		long startedAt = System.nanoTime();
-		com.aivle.project.common.error.ExternalAiUnavailableException externalFailure =
-			companyInsightService.ensureInsightData(companyId, true);
-		companyInsightService.loadInsights(companyId, 0, 10, 0, 1, externalFailure);
-		return ResponseEntity.ok(ApiResponse.ok(createResult("insight-refresh", startedAt)));
+		CompanyInsightService.InsightFetchResult fetchResult = companyInsightService.fetchInsightData(companyId, true);
+		companyInsightService.loadInsights(companyId, 0, 10, 0, 1, fetchResult.externalFailure());
+		Map<String, Object> result = new LinkedHashMap<>(createResult("insight-refresh", startedAt));
+		result.put("branchElapsedMs", fetchResult.branchElapsedMs());
+		return ResponseEntity.ok(ApiResponse.ok(result));
 	}
 
 	@PostMapping("/ai-report/{companyId}")
@@ -79,6 +94,73 @@ public class PerfBenchmarkController {
 		return ResponseEntity.ok(ApiResponse.ok(createResult("ai-report", startedAt)));
 	}
 
+	/**
+	 * 느린 AI 호출을 동시에 보낼 때 블로킹 클라이언트와 논블로킹 클라이언트의 스레드 사용량을 비교한다.
+	 * blocking은 호출마다 플랫폼 스레드 하나가 응답을 기다리고, async는 응답 대기 중 스레드를 점유하지 않는다.
+	 */
+	@PostMapping("/ai-fanout")
+	public ResponseEntity<ApiResponse<Map<String, Object>>> aiFanout(
+		@RequestParam(defaultValue = "500") int calls,
+		@RequestParam(defaultValue = "async") String mode
+	) {
+		int callCount = Math.clamp(calls, 1, MAX_FANOUT_CALLS);
+		boolean blocking = "blocking".equalsIgnoreCase(mode);
+		ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+		int baselineThreads = threadMXBean.getThreadCount();
+		threadMXBean.resetPeakThreadCount();
+
+		long startedAt = System.nanoTime();
+		long succeeded = blocking ? fanoutBlocking(callCount) : fanoutAsync(callCount);
+		int peakThreads = threadMXBean.getPeakThreadCount();
+
+		Map<String, Object> result = new LinkedHashMap<>(createResult(blocking ? "ai-fanout-blocking" : "ai-fanout-async", startedAt));
+		result.put("calls", callCount);
+		result.put("succeeded", succeeded);
+		result.put("failed", callCount - succeeded);
+		result.put("baselineThreads", baselineThreads);
+		result.put("peakThreads", peakThreads);
+		result.put("extraThreads", Math.max(0, peakThreads - baselineThreads));
+		return ResponseEntity.ok(ApiResponse.ok(result));
+	}
+
+	private long fanoutBlocking(int callCount) {
+		ExecutorService executor = Executors.newFixedThreadPool(callCount);
+		try {
+			List<Future<Boolean>> futures = new ArrayList<>(callCount);
+			for (int i = 0; i < callCount; i++) {
+				futures.add(executor.submit(() -> {
+					aiServerClient.getHealthScore(PerfDataInitializer.PERF_STOCK_CODE);
+					return true;
+				}));
+			}
+			long succeeded = 0;
+			for (Future<Boolean> future : futures) {
+				try {
+					future.get();
+					succeeded++;
+				} catch (ExecutionException e) {
+					// 실패 건수는 호출 수와의 차이로 집계한다.
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					break;
+				}
+			}
+			return succeeded;
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private long fanoutAsync(int callCount) {
+		Long succeeded = Flux.range(0, callCount)
+			.flatMap(i -> aiServerClient.getHealthScoreAsync(PerfDataInitializer.PERF_STOCK_CODE)
+				.map(response -> 1L)
+				.onErrorReturn(0L), callCount)
+			.reduce(0L, Long::sum)
+			.block();
+		return succeeded == null ? 0L : succeeded;
+	}
+
 	private Map<String, Object> createResult(String benchmarkName, long startedAt) {
 		long elapsedMs = Math.round((System.nanoTime() - startedAt) / 1_000_000d);
 		return Map.of(
@@ -0,0 +1,35 @@
+package com.aivle.project.post.batch;
+
+import com.aivle.project.post.service.PostViewCountService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Redis에 누적된 게시글 조회수를 주기적으로 DB에 반영하는 스케줄러.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "app.post.view-count.flush", name = "enabled", havingValue = "true")
+public class PostViewCountFlushScheduler {
+
+	private final PostViewCountService postViewCountService;
+
+	@Scheduled(
+		fixedDelayString = "${app.post.view-count.flush.interval-ms:30000}",
+		initialDelayString = "${app.post.view-count.flush.interval-ms:30000}"
+	)
+	public void flushViewCounts() {
+		try {
+			int flushed = postViewCountService.flush();
+			if (flushed > 0) {
+				log.debug("게시글 조회수 반영 완료: posts={}", flushed);
+			}
+		} catch (Exception ex) {
+			log.warn("게시글 조회수 반영 실패", ex);
+		}
+	}
+}
@@ -0,0 +1,52 @@
+package com.aivle.project.post.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 게시글 조회수 버퍼링 정책 설정.
+ */
+@Component
+@ConfigurationProperties(prefix = "app.post.view-count")
+public class PostViewCountProperties {
+
+	/**
+	 * 동일 사용자/IP의 중복 조회를 1회로 보는 구간. 0이면 중복 제거를 하지 않는다.
+	 */
+	private Duration dedupWindow = Duration.ofMinutes(10);
+
+	/**
+	 * 한 번의 flush에서 DB에 반영하는 최대 행 수.
+	 */
+	private int flushBatchSize = 500;
+
+	/**
+	 * 여러 노드가 동시에 flush하지 않도록 잡는 잠금 유지 시간.
+	 */
+	private Duration flushLockTtl = Duration.ofSeconds(30);
+
+	public Duration getDedupWindow() {
+		return dedupWindow;
+	}
+
+	public void setDedupWindow(Duration dedupWindow) {
+		this.dedupWindow = dedupWindow;
+	}
+
+	public int getFlushBatchSize() {
+		return flushBatchSize;
+	}
+
+	public void setFlushBatchSize(int flushBatchSize) {
+		this.flushBatchSize = flushBatchSize;
+	}
+
+	public Duration getFlushLockTtl() {
+		return flushLockTtl;
+	}
+
+	public void setFlushLockTtl(Duration flushLockTtl) {
+		this.flushLockTtl = flushLockTtl;
+	}
+}
@@ -35,4 +35,11 @@ public record PostResponse(
 	@Schema(description = "수정 일시", example = "2026-01-25T12:40:00")
 	LocalDateTime updatedAt
 ) {
+
+	/**
+	 * 조회수만 교체한 응답을 반환한다.
+	 */
+	public PostResponse withViewCount(int viewCount) {
+		return new PostResponse(id, name, categoryId, title, content, viewCount, isPinned, status, qnaStatus, createdAt, updatedAt);
+	}
 }
@@ -0,0 +1,60 @@
+package com.aivle.project.post.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 버퍼링된 조회수 증분을 일괄 반영하는 JDBC 저장소.
+ */
+@Repository
+@RequiredArgsConstructor
+public class PostViewCountsJdbcRepository {
+
+	private final JdbcTemplate jdbcTemplate;
+
+	/**
+	 * 게시글별 증분을 하나의 배치로 더한다.
+	 *
+	 * @return 실제로 반영된 행 수
+	 */
+	@Transactional
+	public int addViewCounts(Map<Long, Long> deltasByPostId) {
+		if (deltasByPostId == null || deltasByPostId.isEmpty()) {
+			return 0;
+		}
+		List<Map.Entry<Long, Long>> entries = new ArrayList<>(deltasByPostId.entrySet());
+		int[] results = jdbcTemplate.batchUpdate(
+			"UPDATE post_view_counts SET view_count = view_count + ? WHERE post_id = ?",
+			new BatchPreparedStatementSetter() {
+				@Override
+				public void setValues(PreparedStatement ps, int i) throws SQLException {
+					Map.Entry<Long, Long> entry = entries.get(i);
+					ps.setLong(1, entry.getValue());
+					ps.setLong(2, entry.getKey());
+				}
+
+				@Override
+				public int getBatchSize() {
+					return entries.size();
+				}
+			}
+		);
+		int updated = 0;
+		for (int result : results) {
+			// 드라이버가 건수를 모르면 SUCCESS_NO_INFO(-2)를 반환한다.
+			if (result > 0 || result == Statement.SUCCESS_NO_INFO) {
+				updated++;
+			}
+		}
+		return updated;
+	}
+}
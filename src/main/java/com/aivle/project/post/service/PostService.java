@@ -52,6 +52,7 @@ public class PostService {
 	private final com.aivle.project.post.mapper.PostMapper postMapper;
 	private final PostFilesRepository postFilesRepository;
 	private final FileMapper fileMapper;
+	private final PostViewCountService postViewCountService;
 
 	private static final String BOARD_NOTICES = "notices";
 	private static final String BOARD_QNA = "qna";
@@ -79,16 +80,20 @@ public class PostService {
 		}
 
 		Map<Long, String> qnaStatusByPostId = resolveQnaStatusByPosts(page.getContent());
+		Map<Long, Long> bufferedViews = resolveBufferedViews(page.getContent());
 		return PageResponse.of(
-			page.map(post -> postMapper.toResponseWithQnaStatus(post, qnaStatusByPostId.get(post.getId())))
+			page.map(post -> applyBufferedViews(
+				postMapper.toResponseWithQnaStatus(post, qnaStatusByPostId.get(post.getId())),
+				bufferedViews
+			))
 		);
 	}
 
 	/**
-	 * [사용자] 게시글 상세 조회.
+	 * [사용자] 게시글 상세 조회. 조회수는 버퍼에 기록하고 미반영분을 더해 응답한다.
 	 */
 	@Transactional(readOnly = true)
-	public PostDetailResponse get(String categoryName, Long postId, UserEntity user) {
+	public PostDetailResponse get(String categoryName, Long postId, UserEntity user, String clientIp) {
 		PostsEntity post = findPostInBoard(postId, categoryName);
 		
 		if (BOARD_QNA.equalsIgnoreCase(categoryName)) {
@@ -98,7 +103,8 @@ public class PostService {
 			validateOwner(post, user.getId());
 		}
 
-		PostResponse response = toResponseWithQnaStatus(post);
+		postViewCountService.recordView(postId, resolveViewerKey(user, clientIp));
+		PostResponse response = withBufferedViews(toResponseWithQnaStatus(post));
 		boolean downloadable = user != null && user.getId() != null;
 		List<PostFileResponse> files = postFilesRepository.findAllActiveByPostIdOrderByCreatedAtAsc(postId).stream()
 			.map(mapping -> fileMapper.toResponse(postId, mapping.getFile()))
@@ -133,7 +139,7 @@ public class PostService {
 	 * [사용자] 게시글 상세 조회(카테고리 경로 없이 ID 기준).
 	 */
 	@Transactional(readOnly = true)
-	public PostDetailResponse getById(Long postId, UserEntity user) {
+	public PostDetailResponse getById(Long postId, UserEntity user, String clientIp) {
 		PostsEntity post = findPost(postId);
 		String categoryName = post.getCategory().getName();
 		if (BOARD_QNA.equalsIgnoreCase(categoryName)) {
@@ -143,7 +149,8 @@ public class PostService {
 			validateOwner(post, user.getId());
 		}
 
-		PostResponse response = toResponseWithQnaStatus(post);
+		postViewCountService.recordView(postId, resolveViewerKey(user, clientIp));
+		PostResponse response = withBufferedViews(toResponseWithQnaStatus(post));
 		boolean downloadable = user != null && user.getId() != null;
 		List<PostFileResponse> files = postFilesRepository.findAllActiveByPostIdOrderByCreatedAtAsc(postId).stream()
 			.map(mapping -> fileMapper.toResponse(postId, mapping.getFile()))
@@ -254,8 +261,12 @@ public class PostService {
 			categoryName, pageRequest.toPageable()
 		);
 		Map<Long, String> qnaStatusByPostId = resolveQnaStatusByPosts(page.getContent());
+		Map<Long, Long> bufferedViews = resolveBufferedViews(page.getContent());
 		return PageResponse.of(
-			page.map(post -> postMapper.toResponseWithQnaStatus(post, qnaStatusByPostId.get(post.getId())))
+			page.map(post -> applyBufferedViews(
+				postMapper.toResponseWithQnaStatus(post, qnaStatusByPostId.get(post.getId())),
+				bufferedViews
+			))
 		);
 	}
 
@@ -265,7 +276,7 @@ public class PostService {
 	@Transactional(readOnly = true)
 	public PostResponse getAdmin(String categoryName, Long postId) {
 		PostsEntity post = findPostInBoard(postId, categoryName);
-		return toResponseWithQnaStatus(post);
+		return withBufferedViews(toResponseWithQnaStatus(post));
 	}
 
 	/**
@@ -351,6 +362,40 @@ public class PostService {
 		return user.getId();
 	}
 
+	private String resolveViewerKey(UserEntity user, String clientIp) {
+		if (user != null && user.getId() != null) {
+			return "u:" + user.getId();
+		}
+		if (clientIp != null && !clientIp.isBlank()) {
+			return "ip:" + clientIp;
+		}
+		return null;
+	}
+
+	private PostResponse withBufferedViews(PostResponse response) {
+		long buffered = postViewCountService.getBufferedCount(response.id());
+		if (buffered <= 0) {
+			return response;
+		}
+		return response.withViewCount(saturatedViewCount(response.viewCount(), buffered));
+	}
+
+	private Map<Long, Long> resolveBufferedViews(List<PostsEntity> posts) {
+		return postViewCountService.getBufferedCounts(posts.stream().map(PostsEntity::getId).toList());
+	}
+
+	private PostResponse applyBufferedViews(PostResponse response, Map<Long, Long> bufferedViews) {
+		Long buffered = bufferedViews.get(response.id());
+		if (buffered == null || buffered <= 0) {
+			return response;
+		}
+		return response.withViewCount(saturatedViewCount(response.viewCount(), buffered));
+	}
+
+	private int saturatedViewCount(int stored, long buffered) {
+		return (int) Math.min(Integer.MAX_VALUE, stored + buffered);
+	}
+
 	private PostResponse toResponseWithQnaStatus(PostsEntity post) {
 		if (!isQnaCategory(post) || post.getId() == null) {
 			return postMapper.toResponse(post);
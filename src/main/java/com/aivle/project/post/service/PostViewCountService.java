@@ -0,0 +1,262 @@
+package com.aivle.project.post.service;
+
+import com.aivle.project.post.config.PostViewCountProperties;
+import com.aivle.project.post.repository.PostViewCountsJdbcRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Service;
+
+/**
+ * 게시글 조회수를 Redis에 누적했다가 주기적으로 post_view_counts에 일괄 반영한다.
+ * 상세 조회마다 post_view_counts 행을 갱신하지 않도록 쓰기를 지연(write-behind)한다.
+ */
+@Slf4j
+@Service
+public class PostViewCountService {
+
+	private static final String PENDING_KEY = "post:view:pending";
+	private static final String FLUSHING_KEY = "post:view:flushing";
+	private static final String DEDUP_KEY = "post:view:dedup:%d:%s";
+	private static final String FLUSH_LOCK_KEY = "post:view:flush-lock";
+	private static final String LAST_FLUSH_KEY = "post:view:last-flush";
+
+	// 중복 조회 키가 새로 생성된 경우에만 증가시킨다. ARGV[2]가 0이면 중복 제거를 생략한다.
+	private static final String RECORD_VIEW_LUA =
+		"if tonumber(ARGV[2]) > 0 then " +
+		"    if not redis.call('set', KEYS[2], '1', 'NX', 'PX', ARGV[2]) then " +
+		"        return 0 " +
+		"    end " +
+		"end " +
+		"redis.call('hincrby', KEYS[1], ARGV[1], 1) " +
+		"return 1";
+
+	// 이전 flush가 남긴 스냅샷이 없을 때만 누적분을 스냅샷으로 넘긴다.
+	private static final String HANDOFF_LUA =
+		"if redis.call('exists', KEYS[2]) == 0 and redis.call('exists', KEYS[1]) == 1 then " +
+		"    redis.call('rename', KEYS[1], KEYS[2]) " +
+		"end " +
+		"return redis.call('hgetall', KEYS[2])";
+
+	private static final String RELEASE_LOCK_LUA =
+		"if redis.call('get', KEYS[1]) == ARGV[1] then " +
+		"    return redis.call('del', KEYS[1]) " +
+		"end " +
+		"return 0";
+
+	// 잠금을 아직 소유하고 있을 때만 만료 시간을 다시 늘린다.
+	private static final String RENEW_LOCK_LUA =
+		"if redis.call('get', KEYS[1]) == ARGV[1] then " +
+		"    return redis.call('pexpire', KEYS[1], ARGV[2]) " +
+		"end " +
+		"return 0";
+
+	private final StringRedisTemplate redisTemplate;
+	private final PostViewCountsJdbcRepository postViewCountsJdbcRepository;
+	private final PostViewCountProperties properties;
+	private final MeterRegistry meterRegistry;
+	private final AtomicLong lastFlushedAtMillis = new AtomicLong(System.currentTimeMillis());
+
+	public PostViewCountService(
+		StringRedisTemplate redisTemplate,
+		PostViewCountsJdbcRepository postViewCountsJdbcRepository,
+		PostViewCountProperties properties,
+		MeterRegistry meterRegistry
+	) {
+		this.redisTemplate = redisTemplate;
+		this.postViewCountsJdbcRepository = postViewCountsJdbcRepository;
+		this.properties = properties;
+		this.meterRegistry = meterRegistry;
+		meterRegistry.gauge("post.view_count.flush.lag.seconds", lastFlushedAtMillis,
+			value -> (System.currentTimeMillis() - value.get()) / 1000.0);
+	}
+
+	/**
+	 * 조회 1건을 버퍼에 기록한다. viewerKey가 있으면 중복 제거 구간 안의 재조회는 무시한다.
+	 *
+	 * @return 조회수가 증가했으면 true
+	 */
+	public boolean recordView(Long postId, String viewerKey) {
+		if (postId == null) {
+			return false;
+		}
+		long dedupWindowMillis = viewerKey == null || properties.getDedupWindow() == null
+			? 0L
+			: properties.getDedupWindow().toMillis();
+		try {
+			Long result = redisTemplate.execute(
+				new DefaultRedisScript<>(RECORD_VIEW_LUA, Long.class),
+				List.of(PENDING_KEY, String.format(DEDUP_KEY, postId, Objects.requireNonNullElse(viewerKey, ""))),
+				String.valueOf(postId),
+				String.valueOf(dedupWindowMillis)
+			);
+			return result != null && result > 0;
+		} catch (DataAccessException ex) {
+			// 조회수는 부가 정보이므로 Redis 장애가 본문 조회를 막지 않게 한다.
+			log.warn("조회수 버퍼 기록 실패: postId={}, reason={}", postId, ex.getMessage());
+			return false;
+		}
+	}
+
+	/**
+	 * 아직 DB에 반영되지 않은 조회수 증분을 반환한다.
+	 */
+	public long getBufferedCount(Long postId) {
+		if (postId == null) {
+			return 0L;
+		}
+		return getBufferedCounts(List.of(postId)).getOrDefault(postId, 0L);
+	}
+
+	/**
+	 * 게시글 목록의 미반영 조회수 증분을 반환한다. 증분이 없는 게시글은 결과에 포함하지 않는다.
+	 */
+	public Map<Long, Long> getBufferedCounts(Collection<Long> postIds) {
+		if (postIds == null || postIds.isEmpty()) {
+			return Map.of();
+		}
+		List<Object> fields = postIds.stream()
+			.filter(Objects::nonNull)
+			.distinct()
+			.map(id -> (Object) String.valueOf(id))
+			.toList();
+		if (fields.isEmpty()) {
+			return Map.of();
+		}
+		try {
+			List<Object> pending = redisTemplate.opsForHash().multiGet(PENDING_KEY, fields);
+			List<Object> flushing = redisTemplate.opsForHash().multiGet(FLUSHING_KEY, fields);
+			Map<Long, Long> result = new HashMap<>();
+			for (int i = 0; i < fields.size(); i++) {
+				long delta = parseLong(pending.get(i)) + parseLong(flushing.get(i));
+				if (delta > 0) {
+					result.put(Long.valueOf((String) fields.get(i)), delta);
+				}
+			}
+			return result;
+		} catch (DataAccessException ex) {
+			log.warn("조회수 버퍼 조회 실패: reason={}", ex.getMessage());
+			return Map.of();
+		}
+	}
+
+	/**
+	 * 누적된 증분을 DB에 일괄 반영한다. 다른 노드가 flush 중이면 건너뛴다.
+	 * 청크마다 잠금을 연장하고, 잠금을 잃었으면 다른 노드가 같은 스냅샷을 반영할 수 있으므로 남은 청크를 반영하지 않는다.
+	 * DB 반영 후 스냅샷 삭제 전에 장애가 나면 해당 청크가 다음 flush에서 한 번 더 반영될 수 있다.
+	 *
+	 * @return DB에 반영한 게시글 수
+	 */
+	public int flush() {
+		String token = UUID.randomUUID().toString();
+		Boolean acquired = redisTemplate.opsForValue()
+			.setIfAbsent(FLUSH_LOCK_KEY, token, properties.getFlushLockTtl());
+		if (!Boolean.TRUE.equals(acquired)) {
+			syncLastFlushedAt();
+			return 0;
+		}
+
+		Timer.Sample sample = Timer.start(meterRegistry);
+		int flushedPosts = 0;
+		try {
+			Map<Long, Long> deltas = handoff();
+			List<Map.Entry<Long, Long>> entries = new ArrayList<>(deltas.entrySet());
+			int batchSize = Math.max(1, properties.getFlushBatchSize());
+			boolean completed = true;
+			for (int from = 0; from < entries.size(); from += batchSize) {
+				if (!renewLock(token)) {
+					log.warn("조회수 flush 잠금을 잃어 남은 청크 반영을 중단: remaining={}", entries.size() - from);
+					meterRegistry.counter("post.view_count.flush.lock_lost").increment();
+					completed = false;
+					break;
+				}
+				List<Map.Entry<Long, Long>> chunk = entries.subList(from, Math.min(entries.size(), from + batchSize));
+				Map<Long, Long> chunkDeltas = new LinkedHashMap<>();
+				chunk.forEach(entry -> chunkDeltas.put(entry.getKey(), entry.getValue()));
+
+				int updated = postViewCountsJdbcRepository.addViewCounts(chunkDeltas);
+				redisTemplate.opsForHash().delete(
+					FLUSHING_KEY,
+					chunkDeltas.keySet().stream().map(String::valueOf).toArray()
+				);
+				flushedPosts += updated;
+				if (updated < chunkDeltas.size()) {
+					log.debug("조회수 반영 대상 행 누락: expected={}, updated={}", chunkDeltas.size(), updated);
+				}
+			}
+
+			if (completed) {
+				long now = System.currentTimeMillis();
+				lastFlushedAtMillis.set(now);
+				redisTemplate.opsForValue().set(LAST_FLUSH_KEY, String.valueOf(now));
+			}
+			meterRegistry.counter("post.view_count.flushed.posts").increment(flushedPosts);
+			return flushedPosts;
+		} finally {
+			sample.stop(meterRegistry.timer("post.view_count.flush"));
+			redisTemplate.execute(
+				new DefaultRedisScript<>(RELEASE_LOCK_LUA, Long.class),
+				List.of(FLUSH_LOCK_KEY),
+				token
+			);
+		}
+	}
+
+	private boolean renewLock(String token) {
+		Long renewed = redisTemplate.execute(
+			new DefaultRedisScript<>(RENEW_LOCK_LUA, Long.class),
+			List.of(FLUSH_LOCK_KEY),
+			token,
+			String.valueOf(properties.getFlushLockTtl().toMillis())
+		);
+		return renewed != null && renewed > 0;
+	}
+
+	private Map<Long, Long> handoff() {
+		List<?> raw = redisTemplate.execute(
+			new DefaultRedisScript<>(HANDOFF_LUA, List.class),
+			List.of(PENDING_KEY, FLUSHING_KEY)
+		);
+		Map<Long, Long> deltas = new LinkedHashMap<>();
+		if (raw == null) {
+			return deltas;
+		}
+		for (int i = 0; i + 1 < raw.size(); i += 2) {
+			try {
+				long delta = parseLong(raw.get(i + 1));
+				if (delta > 0) {
+					deltas.put(Long.valueOf(String.valueOf(raw.get(i))), delta);
+				}
+			} catch (NumberFormatException ex) {
+				log.warn("잘못된 조회수 버퍼 항목을 건너뜀: field={}", raw.get(i));
+			}
+		}
+		return deltas;
+	}
+
+	private void syncLastFlushedAt() {
+		String value = redisTemplate.opsForValue().get(LAST_FLUSH_KEY);
+		if (value != null) {
+			lastFlushedAtMillis.accumulateAndGet(Long.parseLong(value), Math::max);
+		}
+	}
+
+	private long parseLong(Object value) {
+		if (value == null) {
+			return 0L;
+		}
+		return Long.parseLong(value.toString());
+	}
+}
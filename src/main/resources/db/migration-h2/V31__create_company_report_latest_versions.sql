@@ -0,0 +1,31 @@
+-- (보고서, 값 유형)별 최신 유효 버전 포인터 테이블 (H2 호환)
+
+CREATE TABLE company_report_latest_versions (
+    company_report_id BIGINT NOT NULL,
+    value_type VARCHAR(20) NOT NULL,
+    latest_version_no INT NOT NULL,
+    latest_risk_version_no INT,
+    latest_non_risk_version_no INT,
+    refreshed_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (company_report_id, value_type),
+    CONSTRAINT fk_crlv_report FOREIGN KEY (company_report_id) REFERENCES company_reports(id) ON DELETE CASCADE
+);
+
+INSERT INTO company_report_latest_versions (
+    company_report_id,
+    value_type,
+    latest_version_no,
+    latest_risk_version_no,
+    latest_non_risk_version_no
+)
+SELECT rv.company_report_id,
+       v.value_type,
+       MAX(rv.version_no),
+       MAX(CASE WHEN m.is_risk_indicator = TRUE THEN rv.version_no END),
+       MAX(CASE WHEN m.is_risk_indicator = FALSE THEN rv.version_no END)
+FROM company_report_metric_values v
+JOIN company_report_versions rv ON rv.id = v.report_version_id
+JOIN metrics m ON m.id = v.metric_id
+WHERE v.metric_value IS NOT NULL
+  AND v.value_type IS NOT NULL
+GROUP BY rv.company_report_id, v.value_type;
@@ -0,0 +1,13 @@
+-- Saga 단계별 응답 기한 및 타임아웃 점검 인덱스 (H2 호환)
+
+ALTER TABLE saga_instance ADD COLUMN step_started_at TIMESTAMP;
+ALTER TABLE saga_instance ADD COLUMN deadline_at TIMESTAMP;
+ALTER TABLE saga_instance ADD COLUMN step_attempts INT DEFAULT 0 NOT NULL;
+
+UPDATE saga_instance
+SET step_started_at = updated_at,
+    deadline_at = DATEADD(MINUTE, 10, updated_at)
+WHERE saga_type = 'AI_REPORT_GENERATION'
+  AND status IN ('STARTED', 'FINANCIAL_ANALYZED', 'NEWS_ANALYZED', 'COMPENSATING');
+
+CREATE INDEX idx_saga_instance_deadline_at ON saga_instance (deadline_at);
@@ -0,0 +1,11 @@
+-- AI 작업 응답 중복 처리 방지용 처리 이력 테이블 (H2 호환)
+
+CREATE TABLE processed_message (
+    request_id VARCHAR(100) NOT NULL,
+    message_type VARCHAR(50) NOT NULL,
+    processed_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    expires_at TIMESTAMP NOT NULL,
+    PRIMARY KEY (request_id, message_type)
+);
+
+CREATE INDEX idx_processed_message_expires_at ON processed_message (expires_at);
@@ -0,0 +1,20 @@
+-- 기업별 최신 ACTUAL 분기 포인터 테이블 (H2 호환)
+
+CREATE TABLE company_latest_actual_quarters (
+    company_id BIGINT NOT NULL,
+    quarter_key INT NOT NULL,
+    refreshed_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (company_id),
+    CONSTRAINT fk_claq_company FOREIGN KEY (company_id) REFERENCES companies(id) ON DELETE CASCADE
+);
+
+INSERT INTO company_latest_actual_quarters (company_id, quarter_key)
+SELECT cr.company_id,
+       MAX(q.quarter_key)
+FROM company_report_metric_values v
+JOIN company_report_versions rv ON rv.id = v.report_version_id
+JOIN company_reports cr ON cr.id = rv.company_report_id
+JOIN quarters q ON q.id = v.quarter_id
+WHERE v.value_type = 'ACTUAL'
+  AND v.metric_value IS NOT NULL
+GROUP BY cr.company_id;
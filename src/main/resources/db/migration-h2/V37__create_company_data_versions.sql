@@ -0,0 +1,9 @@
+-- 기업별 데이터 버전 테이블 (H2 호환)
+
+CREATE TABLE company_data_versions (
+    company_id BIGINT NOT NULL,
+    data_version BIGINT NOT NULL,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (company_id),
+    CONSTRAINT fk_cdv_company FOREIGN KEY (company_id) REFERENCES companies(id) ON DELETE CASCADE
+);
@@ -0,0 +1,35 @@
+-- (보고서, 값 유형)별 최신 유효 버전 포인터 테이블 (MySQL 호환)
+-- 지표 조회 시 반복되던 MAX(version_no) + EXISTS 상관 서브쿼리를 PK 조인으로 대체한다.
+
+CREATE TABLE company_report_latest_versions (
+    company_report_id BIGINT NOT NULL COMMENT '보고서 고유 식별자',
+    value_type VARCHAR(20) NOT NULL COMMENT '값 유형 (ACTUAL, PREDICTED)',
+    latest_version_no INT NOT NULL COMMENT '해당 유형 값이 존재하는 최신 버전 번호',
+    latest_risk_version_no INT NULL COMMENT '리스크 지표 값이 존재하는 최신 버전 번호',
+    latest_non_risk_version_no INT NULL COMMENT '일반 지표 값이 존재하는 최신 버전 번호',
+    refreshed_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP COMMENT '마지막 재계산 시각',
+    PRIMARY KEY (company_report_id, value_type),
+    CONSTRAINT fk_crlv_report
+        FOREIGN KEY (company_report_id) REFERENCES company_reports(id)
+            ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COMMENT='보고서 최신 유효 버전 포인터';
+
+-- 기존 데이터 백필
+INSERT INTO company_report_latest_versions (
+    company_report_id,
+    value_type,
+    latest_version_no,
+    latest_risk_version_no,
+    latest_non_risk_version_no
+)
+SELECT rv.company_report_id,
+       v.value_type,
+       MAX(rv.version_no),
+       MAX(CASE WHEN m.is_risk_indicator = 1 THEN rv.version_no END),
+       MAX(CASE WHEN m.is_risk_indicator = 0 THEN rv.version_no END)
+FROM company_report_metric_values v
+JOIN company_report_versions rv ON rv.id = v.report_version_id
+JOIN metrics m ON m.id = v.metric_id
+WHERE v.metric_value IS NOT NULL
+  AND v.value_type IS NOT NULL
+GROUP BY rv.company_report_id, v.value_type;
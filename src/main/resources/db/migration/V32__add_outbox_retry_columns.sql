@@ -0,0 +1,8 @@
+-- Outbox 재시도 스케줄링 컬럼 및 재시도 폴링 인덱스 (MySQL 호환)
+
+ALTER TABLE outbox_event ADD COLUMN next_attempt_at TIMESTAMP NULL;
+
+-- 기존 FAILED 이벤트는 즉시 재시도 대상이 되도록 채운다.
+UPDATE outbox_event SET next_attempt_at = updated_at WHERE status = 'FAILED';
+
+CREATE INDEX idx_outbox_event_status_next_attempt ON outbox_event (status, next_attempt_at, id);
@@ -0,0 +1,19 @@
+-- 처리 완료된 Outbox 이벤트 보관 테이블 및 폴링 인덱스 (MySQL 호환)
+
+CREATE TABLE outbox_event_archive (
+    id BIGINT PRIMARY KEY,
+    event_type VARCHAR(100) NOT NULL,
+    aggregate_type VARCHAR(100) NOT NULL,
+    aggregate_id VARCHAR(100) NOT NULL,
+    topic VARCHAR(100) NOT NULL,
+    payload TEXT NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    retry_count INT NOT NULL,
+    created_at TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP NOT NULL,
+    archived_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    INDEX idx_outbox_event_archive_archived_at (archived_at)
+);
+
+-- status = 'PENDING' ORDER BY id 폴링과 PROCESSED 정리 스캔을 인덱스 순서대로 처리한다.
+CREATE INDEX idx_outbox_event_status_id ON outbox_event (status, id);
@@ -0,0 +1,14 @@
+-- Saga 단계별 응답 기한 및 타임아웃 점검 인덱스 (MySQL 호환)
+
+ALTER TABLE saga_instance ADD COLUMN step_started_at TIMESTAMP NULL;
+ALTER TABLE saga_instance ADD COLUMN deadline_at TIMESTAMP NULL;
+ALTER TABLE saga_instance ADD COLUMN step_attempts INT NOT NULL DEFAULT 0;
+
+-- 진행 중인 리포트 Saga는 마지막 갱신 시각 기준 기본 제한 시간(10분)으로 기한을 채운다.
+UPDATE saga_instance
+SET step_started_at = updated_at,
+    deadline_at = DATE_ADD(updated_at, INTERVAL 10 MINUTE)
+WHERE saga_type = 'AI_REPORT_GENERATION'
+  AND status IN ('STARTED', 'FINANCIAL_ANALYZED', 'NEWS_ANALYZED', 'COMPENSATING');
+
+CREATE INDEX idx_saga_instance_deadline_at ON saga_instance (deadline_at);
@@ -0,0 +1,24 @@
+-- 기업별 최신 ACTUAL 분기 포인터 테이블 (MySQL 호환)
+-- 화면마다 반복되던 MAX(quarter_key) 집계를 PK 조회로 대체한다.
+
+CREATE TABLE company_latest_actual_quarters (
+    company_id BIGINT NOT NULL COMMENT '기업 고유 식별자',
+    quarter_key INT NOT NULL COMMENT 'ACTUAL 지표 값이 존재하는 최신 분기 키',
+    refreshed_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP COMMENT '마지막 재계산 시각',
+    PRIMARY KEY (company_id),
+    CONSTRAINT fk_claq_company
+        FOREIGN KEY (company_id) REFERENCES companies(id)
+            ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COMMENT='기업별 최신 ACTUAL 분기 포인터';
+
+-- 기존 데이터 백필
+INSERT INTO company_latest_actual_quarters (company_id, quarter_key)
+SELECT cr.company_id,
+       MAX(q.quarter_key)
+FROM company_report_metric_values v
+JOIN company_report_versions rv ON rv.id = v.report_version_id
+JOIN company_reports cr ON cr.id = rv.company_report_id
+JOIN quarters q ON q.id = v.quarter_id
+WHERE v.value_type = 'ACTUAL'
+  AND v.metric_value IS NOT NULL
+GROUP BY cr.company_id;
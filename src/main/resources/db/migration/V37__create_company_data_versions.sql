@@ -0,0 +1,13 @@
+-- 기업별 데이터 버전 테이블 (MySQL 호환)
+-- 기업 개요에 영향을 주는 쓰기(지표 적재/발행, AI 결과 저장, 뉴스 분석)마다 증가시켜
+-- 개요 응답 캐시 키와 ETag로 사용한다. 행이 없으면 버전 0으로 본다.
+
+CREATE TABLE company_data_versions (
+    company_id BIGINT NOT NULL COMMENT '기업 고유 식별자',
+    data_version BIGINT NOT NULL COMMENT '기업 데이터 버전',
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP COMMENT '마지막 증가 시각',
+    PRIMARY KEY (company_id),
+    CONSTRAINT fk_cdv_company
+        FOREIGN KEY (company_id) REFERENCES companies(id)
+            ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COMMENT='기업별 데이터 버전';
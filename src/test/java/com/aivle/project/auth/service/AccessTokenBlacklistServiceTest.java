@@ -5,7 +5,11 @@ import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
+import com.aivle.project.auth.config.AccessTokenRevocationProperties;
+import com.aivle.project.auth.token.AccessTokenRevocationMessage;
+import com.aivle.project.auth.token.AccessTokenRevocationNearCache;
 import com.aivle.project.auth.token.JwtProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.time.Duration;
 import java.time.Instant;
 import org.junit.jupiter.api.BeforeEach;
@@ -31,11 +35,21 @@ class AccessTokenBlacklistServiceTest {
 
 	private JwtProperties jwtProperties;
 
+	private AccessTokenRevocationProperties revocationProperties;
+
+	private AccessTokenRevocationNearCache revocationNearCache;
+
 	@BeforeEach
 	void setUp() {
 		jwtProperties = new JwtProperties();
 		jwtProperties.getAccessToken().setExpiration(3600);
-		accessTokenBlacklistService = new AccessTokenBlacklistService(redisTemplate, jwtProperties);
+		revocationProperties = new AccessTokenRevocationProperties();
+		revocationNearCache = new AccessTokenRevocationNearCache(
+			revocationProperties,
+			jwtProperties,
+			new SimpleMeterRegistry()
+		);
+		accessTokenBlacklistService = new AccessTokenBlacklistService(redisTemplate, jwtProperties, revocationNearCache);
 	}
 
 	@Test
@@ -57,6 +71,10 @@ class AccessTokenBlacklistServiceTest {
 			ttlCaptor.capture()
 		);
 		assertThat(ttlCaptor.getValue().toSeconds()).isBetween(1L, 120L);
+		verify(redisTemplate).convertAndSend(
+			org.mockito.ArgumentMatchers.eq(AccessTokenRevocationMessage.CHANNEL),
+			org.mockito.ArgumentMatchers.startsWith("BLACKLIST|")
+		);
 	}
 
 	@Test
@@ -136,4 +154,53 @@ class AccessTokenBlacklistServiceTest {
 		// then
 		assertThat(result).isNull();
 	}
+
+	@Test
+	@DisplayName("로컬 캐시가 활성화되면 블룸 필터에 없는 토큰은 Redis를 조회하지 않는다")
+	void isBlacklisted_shouldSkipRedisWhenBloomFilterMisses() {
+		// given
+		revocationProperties.setEnabled(true);
+		revocationNearCache.completeRebuild(revocationNearCache.beginRebuild());
+
+		// when
+		boolean result = accessTokenBlacklistService.isBlacklisted("token");
+
+		// then
+		assertThat(result).isFalse();
+		verify(redisTemplate, never()).hasKey(org.mockito.ArgumentMatchers.anyString());
+	}
+
+	@Test
+	@DisplayName("블랙리스트 등록 즉시 같은 노드의 조회는 Redis 없이 차단된다")
+	void isBlacklisted_shouldUseLocalRevocationAfterBlacklist() {
+		// given
+		revocationProperties.setEnabled(true);
+		revocationNearCache.completeRebuild(revocationNearCache.beginRebuild());
+		given(redisTemplate.opsForValue()).willReturn(valueOperations);
+		accessTokenBlacklistService.blacklist("token", Instant.now().plusSeconds(120));
+
+		// when
+		boolean result = accessTokenBlacklistService.isBlacklisted("token");
+
+		// then
+		assertThat(result).isTrue();
+		verify(redisTemplate, never()).hasKey(org.mockito.ArgumentMatchers.anyString());
+	}
+
+	@Test
+	@DisplayName("Redis에서 확인한 전체 로그아웃 기준 시각은 로컬 캐시에서 재사용한다")
+	void getLogoutAllAt_shouldCacheRedisResult() {
+		// given
+		revocationProperties.setEnabled(true);
+		given(redisTemplate.opsForValue()).willReturn(valueOperations);
+		given(valueOperations.get("logout-all:user-1")).willReturn("1700000000123");
+
+		// when
+		accessTokenBlacklistService.getLogoutAllAt("user-1");
+		Instant result = accessTokenBlacklistService.getLogoutAllAt("user-1");
+
+		// then
+		assertThat(result).isEqualTo(Instant.ofEpochMilli(1700000000123L));
+		verify(valueOperations, org.mockito.Mockito.times(1)).get("logout-all:user-1");
+	}
 }
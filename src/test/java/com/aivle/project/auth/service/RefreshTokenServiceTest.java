@@ -18,8 +18,10 @@ import com.aivle.project.common.security.TokenHashProperties;
 import com.aivle.project.common.security.TokenHashService;
 import com.aivle.project.auth.user.security.CustomUserDetails;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -34,6 +36,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.redis.core.SetOperations;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
 import org.springframework.test.util.ReflectionTestUtils;
 
 @ExtendWith(MockitoExtension.class)
@@ -62,8 +65,12 @@ class RefreshTokenServiceTest {
 	@Captor
 	private ArgumentCaptor<Duration> durationCaptor;
 
+	@Captor
+	private ArgumentCaptor<Collection<String>> keysCaptor;
+
 	private RefreshTokenService refreshTokenService;
 	private TokenHashService tokenHashService;
+	private SimpleMeterRegistry meterRegistry;
 
 	@BeforeEach
 	void setUp() {
@@ -75,12 +82,14 @@ class RefreshTokenServiceTest {
 		TokenHashProperties properties = new TokenHashProperties();
 		properties.setPepperBase64("dGVzdC1wZXBwZXI=");
 		tokenHashService = new TokenHashService(properties);
+		meterRegistry = new SimpleMeterRegistry();
 		refreshTokenService = new RefreshTokenService(
 			redisTemplate,
 			objectMapper,
 			refreshTokenRepository,
 			jwtTokenService,
-			tokenHashService
+			tokenHashService,
+			meterRegistry
 		);
 	}
 
@@ -161,11 +170,27 @@ class RefreshTokenServiceTest {
 		// when: 리프레시 토큰을 회전
 		refreshTokenService.rotateToken("rt-old", "rt-new");
 
-		// then: 기존 토큰 삭제와 신규 토큰 저장이 수행된다
-		verify(redisTemplate).delete("refresh:" + oldTokenHash);
-		verify(setOperations).remove("sessions:" + USER_ID, oldTokenHash);
-		verify(valueOperations).set(eq("refresh:" + newTokenHash), any(String.class), any(Duration.class));
+		// then: 기존 토큰 삭제와 신규 토큰 저장이 하나의 스크립트로 수행된다
+		String oldLegacyHash = tokenHashService.legacyHash("rt-old");
+		verify(redisTemplate).execute(
+			any(DefaultRedisScript.class),
+			eq(List.of(
+				"sessions:" + USER_ID,
+				"refresh:" + oldTokenHash,
+				"refresh:" + oldLegacyHash,
+				"refresh:rt-old",
+				"refresh:" + newTokenHash
+			)),
+			eq("3"),
+			anyString(),
+			anyString(),
+			eq(newTokenHash),
+			eq(oldTokenHash),
+			eq(oldLegacyHash),
+			eq("rt-old")
+		);
 		verify(refreshTokenRepository, atLeastOnce()).save(any(RefreshTokenEntity.class));
+		assertThat(meterRegistry.get("auth.refresh_token.rotation").timer().count()).isEqualTo(1L);
 	}
 
 	@Test
@@ -212,10 +237,13 @@ class RefreshTokenServiceTest {
 		// when: 전체 토큰 폐기
 		refreshTokenService.revokeAllByUserId(USER_ID);
 
-		// then: Redis 토큰 키/세션 키가 삭제되고 DB 토큰이 revoke 처리된다
-		verify(redisTemplate).delete("refresh:" + firstHash);
-		verify(redisTemplate).delete("refresh:" + secondHash);
-		verify(redisTemplate).delete("sessions:" + USER_ID);
+		// then: Redis 토큰 키/세션 키가 한 번에 삭제되고 DB 토큰이 revoke 처리된다
+		verify(redisTemplate).delete(keysCaptor.capture());
+		assertThat(keysCaptor.getValue()).containsExactlyInAnyOrder(
+			"refresh:" + firstHash,
+			"refresh:" + secondHash,
+			"sessions:" + USER_ID
+		);
 		verify(refreshTokenRepository).saveAll(List.of(first, second));
 		assertThat(first.isRevoked()).isTrue();
 		assertThat(second.isRevoked()).isTrue();
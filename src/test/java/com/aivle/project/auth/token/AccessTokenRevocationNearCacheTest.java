@@ -0,0 +1,158 @@
+package com.aivle.project.auth.token;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.aivle.project.auth.config.AccessTokenRevocationProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Instant;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class AccessTokenRevocationNearCacheTest {
+
+	private AccessTokenRevocationProperties properties;
+	private SimpleMeterRegistry meterRegistry;
+	private AccessTokenRevocationNearCache nearCache;
+
+	@BeforeEach
+	void setUp() {
+		properties = new AccessTokenRevocationProperties();
+		properties.setEnabled(true);
+		JwtProperties jwtProperties = new JwtProperties();
+		jwtProperties.getAccessToken().setExpiration(3600);
+		meterRegistry = new SimpleMeterRegistry();
+		nearCache = new AccessTokenRevocationNearCache(properties, jwtProperties, meterRegistry);
+	}
+
+	@Test
+	@DisplayName("블룸 필터 재구성 전에는 로컬에서 판정하지 않는다")
+	void findBlacklisted_shouldMissBeforeRebuild() {
+		// when
+		Boolean result = nearCache.findBlacklisted("jti-1");
+
+		// then
+		assertThat(result).isNull();
+	}
+
+	@Test
+	@DisplayName("구독한 폐기 메시지는 로컬 캐시에 즉시 반영되고 전파 지연이 기록된다")
+	void apply_shouldRevokeLocallyAndRecordLatency() {
+		// given
+		nearCache.completeRebuild(nearCache.beginRebuild());
+		long now = System.currentTimeMillis();
+		AccessTokenRevocationMessage message = AccessTokenRevocationMessage.decode(new AccessTokenRevocationMessage(
+			AccessTokenRevocationMessage.Type.LOGOUT_ALL, "user-1", now, now).encode());
+
+		// when
+		nearCache.apply(message);
+		nearCache.recordInvalidationLatency(message);
+
+		// then
+		AccessTokenRevocationNearCache.Lookup lookup = nearCache.findLogoutAllAt("user-1");
+		assertThat(lookup.hit()).isTrue();
+		assertThat(lookup.logoutAllAt()).isEqualTo(Instant.ofEpochMilli(now));
+		assertThat(meterRegistry.get("auth.revocation.invalidation.latency").timer().count()).isEqualTo(1L);
+	}
+
+	@Test
+	@DisplayName("Redis 조회 중 도착한 폐기 정보는 부정 결과로 덮어쓰지 않는다")
+	void cacheBlacklisted_shouldNotOverwriteRevocation() {
+		// given
+		nearCache.apply(new AccessTokenRevocationMessage(
+			AccessTokenRevocationMessage.Type.BLACKLIST,
+			"jti-1",
+			System.currentTimeMillis() + 60_000L,
+			System.currentTimeMillis()
+		));
+
+		// when
+		nearCache.cacheBlacklisted("jti-1", false);
+
+		// then
+		assertThat(nearCache.findBlacklisted("jti-1")).isTrue();
+	}
+
+	@Test
+	@DisplayName("재구성 중 도착한 폐기 메시지는 새 블룸 필터에도 기록된다")
+	void rebuild_shouldKeepRevocationsArrivingDuringRebuild() {
+		// given
+		RevocationBloomFilter next = nearCache.beginRebuild();
+		nearCache.apply(new AccessTokenRevocationMessage(
+			AccessTokenRevocationMessage.Type.BLACKLIST,
+			"jti-1",
+			System.currentTimeMillis() + 60_000L,
+			System.currentTimeMillis()
+		));
+
+		// when
+		nearCache.completeRebuild(next);
+
+		// then
+		assertThat(next.mightContain("j:jti-1")).isTrue();
+		assertThat(nearCache.findBlacklisted("jti-2")).isFalse();
+	}
+
+	@Test
+	@DisplayName("재구성 완료와 동시에 도착한 폐기 메시지도 교체된 블룸 필터에서 빠지지 않는다")
+	void apply_shouldNotLoseRevocationRacingCompleteRebuild() throws Exception {
+		// given
+		nearCache.completeRebuild(nearCache.beginRebuild());
+		ExecutorService subscriber = Executors.newSingleThreadExecutor();
+
+		try {
+			for (int i = 0; i < 200; i++) {
+				String jti = "jti-race-" + i;
+				RevocationBloomFilter next = nearCache.beginRebuild();
+				CountDownLatch start = new CountDownLatch(1);
+				Future<?> applied = subscriber.submit(() -> {
+					awaitQuietly(start);
+					nearCache.apply(new AccessTokenRevocationMessage(
+						AccessTokenRevocationMessage.Type.BLACKLIST,
+						jti,
+						System.currentTimeMillis() + 60_000L,
+						System.currentTimeMillis()
+					));
+				});
+
+				// when
+				start.countDown();
+				nearCache.completeRebuild(next);
+				applied.get(5, TimeUnit.SECONDS);
+
+				// then
+				assertThat(nearCache.findBlacklisted(jti)).as(jti).isTrue();
+			}
+		} finally {
+			subscriber.shutdownNow();
+		}
+	}
+
+	@Test
+	@DisplayName("로컬 캐시는 최대 항목 수를 넘지 않는다")
+	void cacheBlacklisted_shouldBoundEntries() {
+		// given
+		properties.setMaxEntries(2);
+
+		// when
+		nearCache.cacheBlacklisted("jti-1", false);
+		nearCache.cacheBlacklisted("jti-2", false);
+		nearCache.cacheBlacklisted("jti-3", false);
+
+		// then
+		assertThat(meterRegistry.get("auth.revocation.near_cache.size").gauge().value()).isEqualTo(2.0);
+	}
+
+	private static void awaitQuietly(CountDownLatch latch) {
+		try {
+			latch.await(5, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
@@ -59,6 +59,17 @@ class SecurityEndpointAuthorizationTest {
 			.andExpect(status().isOk());
 	}
 
+	@Test
+	@DisplayName("공개 자동완성 API는 인증 없이 접근 가능하다")
+	void companyAutocompleteEndpoint_shouldPermitAll() throws Exception {
+		// given
+		given(companySearchService.autocomplete("ㅅㅅ", null)).willReturn(List.of());
+
+		// when & then
+		mockMvc.perform(get("/api/companies/autocomplete").param("query", "ㅅㅅ"))
+			.andExpect(status().isOk());
+	}
+
 	@Test
 	@DisplayName("대시보드 리스크 레코드 API는 인증이 없으면 401을 반환한다")
 	void dashboardRiskRecordsEndpoint_shouldRequireAuthentication() throws Exception {
@@ -0,0 +1,119 @@
+package com.aivle.project.common.outbox;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(OutboxArchiveJdbcRepository.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class OutboxArchiveJdbcRepositoryTest {
+
+	private static final LocalDateTime CUTOFF = LocalDateTime.now().minusDays(1);
+
+	@Autowired
+	private OutboxArchiveJdbcRepository outboxArchiveJdbcRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@AfterEach
+	void tearDown() {
+		jdbcTemplate.update("DELETE FROM outbox_event_archive");
+		jdbcTemplate.update("DELETE FROM outbox_event");
+	}
+
+	@Test
+	@DisplayName("두 노드가 동시에 보관 청크를 잡으면 잠긴 행을 건너뛰어 서로 다른 행을 보관한다")
+	void purgeProcessedChunk_concurrentTransactionsClaimDisjointChunks() throws Exception {
+		// given
+		for (int i = 0; i < 4; i++) {
+			insertProcessedEvent(CUTOFF.minusDays(1));
+		}
+		TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+		CountDownLatch firstClaimed = new CountDownLatch(1);
+		CountDownLatch secondFinished = new CountDownLatch(1);
+		ExecutorService otherNode = Executors.newSingleThreadExecutor();
+
+		try {
+			// when
+			Future<Integer> first = otherNode.submit(() -> transactionTemplate.execute(status -> {
+				int removed = outboxArchiveJdbcRepository.purgeProcessedChunk(CUTOFF, 2, true);
+				firstClaimed.countDown();
+				awaitQuietly(secondFinished);
+				return removed;
+			}));
+			assertThat(firstClaimed.await(5, TimeUnit.SECONDS)).isTrue();
+			Integer second = transactionTemplate.execute(
+				status -> outboxArchiveJdbcRepository.purgeProcessedChunk(CUTOFF, 2, true)
+			);
+			secondFinished.countDown();
+
+			// then
+			assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo(2);
+			assertThat(second).isEqualTo(2);
+			List<Long> archivedIds = jdbcTemplate.queryForList("SELECT id FROM outbox_event_archive", Long.class);
+			assertThat(archivedIds).hasSize(4).doesNotHaveDuplicates();
+			assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM outbox_event", Long.class)).isZero();
+		} finally {
+			secondFinished.countDown();
+			otherNode.shutdownNow();
+		}
+	}
+
+	@Test
+	@DisplayName("보존 기간이 지나지 않은 처리 완료 이벤트는 보관하지 않는다")
+	void purgeProcessedChunk_keepsRecentEvents() {
+		// given
+		insertProcessedEvent(CUTOFF.minusDays(1));
+		insertProcessedEvent(CUTOFF.plusHours(1));
+
+		// when
+		int removed = outboxArchiveJdbcRepository.purgeProcessedChunk(CUTOFF, 10, true);
+
+		// then
+		assertThat(removed).isEqualTo(1);
+		assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM outbox_event", Long.class)).isEqualTo(1L);
+		assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM outbox_event_archive", Long.class)).isEqualTo(1L);
+	}
+
+	private void insertProcessedEvent(LocalDateTime updatedAt) {
+		Timestamp timestamp = Timestamp.valueOf(updatedAt);
+		jdbcTemplate.update(
+			"INSERT INTO outbox_event (event_type, aggregate_type, aggregate_id, topic, payload, status, retry_count, "
+				+ "created_at, updated_at) VALUES (?, ?, ?, ?, ?, 'PROCESSED', 0, ?, ?)",
+			"TestEvent", "Company", "1", "test-topic", "{}", timestamp, timestamp
+		);
+	}
+
+	private static void awaitQuietly(CountDownLatch latch) {
+		try {
+			latch.await(5, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
@@ -0,0 +1,141 @@
+package com.aivle.project.common.outbox;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxPublisherTest {
+
+	@Mock
+	private OutboxRepository outboxRepository;
+
+	@Mock
+	private ObjectProvider<KafkaTemplate<String, String>> kafkaTemplateProvider;
+
+	@Mock
+	private KafkaTemplate<String, String> kafkaTemplate;
+
+	private SimpleMeterRegistry meterRegistry;
+
+	private OutboxProperties outboxProperties;
+
+	private OutboxPublisher outboxPublisher;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		outboxProperties = new OutboxProperties();
+		outboxPublisher = new OutboxPublisher(
+			outboxRepository,
+			kafkaTemplateProvider,
+			outboxProperties,
+			new OutboxRetryPolicy(outboxProperties),
+			meterRegistry
+		);
+	}
+
+	@Test
+	@DisplayName("배치 모드는 전체 이벤트를 비동기로 발행하고 성공 이벤트를 일괄 갱신한다")
+	void publishEventsAsyncBatch_shouldBulkUpdateByOutcome() {
+		// given
+		OutboxEvent first = event(1L);
+		OutboxEvent second = event(2L);
+		OutboxEvent third = event(3L);
+		when(outboxRepository.findPendingEventsForPublishing(10)).thenReturn(List.of(first, second, third));
+		when(kafkaTemplateProvider.getIfAvailable()).thenReturn(kafkaTemplate);
+		CompletableFuture<SendResult<String, String>> success = CompletableFuture.completedFuture(null);
+		when(kafkaTemplate.send("topic", "agg-1", "payload")).thenReturn(success);
+		when(kafkaTemplate.send("topic", "agg-2", "payload"))
+			.thenReturn(CompletableFuture.failedFuture(new IllegalStateException("broker down")));
+		when(kafkaTemplate.send("topic", "agg-3", "payload")).thenReturn(success);
+
+		// when
+		int fetched = outboxPublisher.publishEventsAsyncBatch(10);
+
+		// then
+		assertThat(fetched).isEqualTo(3);
+		verify(outboxRepository).updateStatusByIds(eq(List.of(1L, 3L)), eq(OutboxStatus.PROCESSED), any(LocalDateTime.class));
+		verify(outboxRepository).saveAll(List.of(second));
+		assertThat(second.getStatus()).isEqualTo(OutboxStatus.FAILED);
+		assertThat(second.getRetryCount()).isEqualTo(1);
+		assertThat(second.getNextAttemptAt()).isAfter(LocalDateTime.now());
+		assertThat(meterRegistry.get("outbox.published").tag("result", "success").counter().count()).isEqualTo(2.0);
+	}
+
+	@Test
+	@DisplayName("대기 이벤트가 없으면 Kafka를 조회하지 않는다")
+	void publishEventsAsyncBatch_shouldSkipWhenEmpty() {
+		// given
+		when(outboxRepository.findPendingEventsForPublishing(10)).thenReturn(List.of());
+
+		// when
+		int fetched = outboxPublisher.publishEventsAsyncBatch(10);
+
+		// then
+		assertThat(fetched).isZero();
+		verify(outboxRepository, never()).updateStatusByIds(anyCollection(), any(), any());
+	}
+
+	@Test
+	@DisplayName("재시도 한도를 넘긴 이벤트는 DEAD 상태로 전환된다")
+	void retryFailedEvents_shouldMoveExhaustedEventToDead() {
+		// given
+		OutboxEvent event = event(1L);
+		event.setStatus(OutboxStatus.FAILED);
+		event.setRetryCount(outboxProperties.getRetry().getMaxAttempts() - 1);
+		when(outboxRepository.findDueFailedEventsForRetry(any(LocalDateTime.class), eq(10))).thenReturn(List.of(event));
+		when(kafkaTemplateProvider.getIfAvailable()).thenReturn(kafkaTemplate);
+		when(kafkaTemplate.send("topic", "agg-1", "payload"))
+			.thenReturn(CompletableFuture.failedFuture(new IllegalStateException("broker down")));
+
+		// when
+		outboxPublisher.retryFailedEvents(10);
+
+		// then
+		assertThat(event.getStatus()).isEqualTo(OutboxStatus.DEAD);
+		assertThat(event.getNextAttemptAt()).isNull();
+		assertThat(meterRegistry.get("outbox.dead").counter().count()).isEqualTo(1.0);
+	}
+
+	@Test
+	@DisplayName("재시도 간격은 지수적으로 늘어나되 최대 간격을 넘지 않는다")
+	void backoff_shouldGrowExponentiallyWithinCap() {
+		// given
+		OutboxRetryPolicy retryPolicy = new OutboxRetryPolicy(outboxProperties);
+
+		// when & then
+		assertThat(retryPolicy.backoff(1).toMillis()).isBetween(1_000L, 2_000L);
+		assertThat(retryPolicy.backoff(3).toMillis()).isBetween(4_000L, 8_000L);
+		assertThat(retryPolicy.backoff(30)).isLessThanOrEqualTo(outboxProperties.getRetry().getMaxBackoff());
+	}
+
+	private OutboxEvent event(Long id) {
+		return OutboxEvent.builder()
+			.id(id)
+			.eventType("TEST")
+			.aggregateType("SagaInstance")
+			.aggregateId("agg-" + id)
+			.topic("topic")
+			.payload("payload")
+			.build();
+	}
+}
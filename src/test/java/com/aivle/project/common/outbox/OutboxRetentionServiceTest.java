@@ -0,0 +1,74 @@
+package com.aivle.project.common.outbox;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxRetentionServiceTest {
+
+	@Mock
+	private OutboxArchiveJdbcRepository outboxArchiveJdbcRepository;
+
+	private OutboxProperties outboxProperties;
+
+	private SimpleMeterRegistry meterRegistry;
+
+	private OutboxRetentionService outboxRetentionService;
+
+	@BeforeEach
+	void setUp() {
+		outboxProperties = new OutboxProperties();
+		outboxProperties.getRetention().setChunkSize(2);
+		outboxProperties.getRetention().setChunkPause(Duration.ZERO);
+		meterRegistry = new SimpleMeterRegistry();
+		outboxRetentionService = new OutboxRetentionService(outboxArchiveJdbcRepository, outboxProperties, meterRegistry);
+	}
+
+	@Test
+	@DisplayName("청크가 가득 차 있는 동안 반복하고 덜 찬 청크에서 멈춘다")
+	void purgeProcessedEvents_shouldLoopUntilPartialChunk() {
+		// given
+		when(outboxArchiveJdbcRepository.purgeProcessedChunk(any(LocalDateTime.class), eq(2), eq(true)))
+			.thenReturn(2, 2, 1);
+
+		// when
+		int purged = outboxRetentionService.purgeProcessedEvents();
+
+		// then
+		assertThat(purged).isEqualTo(5);
+		verify(outboxArchiveJdbcRepository, times(3)).purgeProcessedChunk(any(LocalDateTime.class), eq(2), eq(true));
+		verify(outboxArchiveJdbcRepository).deleteArchivedChunk(any(LocalDateTime.class), eq(2));
+		assertThat(meterRegistry.get("outbox.retention.purged").tag("mode", "archive").counter().count()).isEqualTo(5.0);
+	}
+
+	@Test
+	@DisplayName("보관을 끄면 처리 완료 이벤트를 바로 삭제하고 보관 테이블은 건드리지 않는다")
+	void purgeProcessedEvents_shouldDeleteWithoutArchive() {
+		// given
+		outboxProperties.getRetention().setArchive(false);
+		when(outboxArchiveJdbcRepository.purgeProcessedChunk(any(LocalDateTime.class), eq(2), eq(false)))
+			.thenReturn(0);
+
+		// when
+		int purged = outboxRetentionService.purgeProcessedEvents();
+
+		// then
+		assertThat(purged).isZero();
+		verify(outboxArchiveJdbcRepository, never()).deleteArchivedChunk(any(LocalDateTime.class), eq(2));
+	}
+}
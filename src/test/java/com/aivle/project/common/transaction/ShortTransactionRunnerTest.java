@@ -0,0 +1,72 @@
+package com.aivle.project.common.transaction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+
+@ExtendWith(MockitoExtension.class)
+class ShortTransactionRunnerTest {
+
+	@Mock
+	private PlatformTransactionManager transactionManager;
+
+	@Mock
+	private ObjectProvider<MeterRegistry> meterRegistryProvider;
+
+	@Mock
+	private TransactionStatus transactionStatus;
+
+	private SimpleMeterRegistry meterRegistry;
+	private ShortTransactionRunner shortTransactionRunner;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		given(meterRegistryProvider.getIfAvailable(any())).willReturn(meterRegistry);
+		given(transactionManager.getTransaction(any())).willReturn(transactionStatus);
+		shortTransactionRunner = new ShortTransactionRunner(transactionManager, meterRegistryProvider);
+	}
+
+	@Test
+	@DisplayName("쓰기 작업을 트랜잭션으로 커밋하고 작업별 커넥션 점유 시간을 기록한다")
+	void write_commitsAndRecordsHoldTime() {
+		// when
+		String result = shortTransactionRunner.write("NewsService.fetchAndStoreNews", () -> "saved");
+
+		// then
+		assertThat(result).isEqualTo("saved");
+		verify(transactionManager).commit(transactionStatus);
+		assertThat(meterRegistry.get("db.connection.hold")
+			.tag("operation", "NewsService.fetchAndStoreNews")
+			.timer()
+			.count()).isEqualTo(1L);
+	}
+
+	@Test
+	@DisplayName("작업이 실패하면 롤백하고 점유 시간은 그대로 기록한다")
+	void run_rollsBackOnFailure() {
+		// when & then
+		assertThatThrownBy(() -> shortTransactionRunner.run("ReportAnalysisService.fetchAndStoreReport", () -> {
+			throw new IllegalStateException("저장 실패");
+		})).isInstanceOf(IllegalStateException.class);
+		verify(transactionManager).rollback(transactionStatus);
+		assertThat(meterRegistry.get("db.connection.hold")
+			.tag("operation", "ReportAnalysisService.fetchAndStoreReport")
+			.timer()
+			.count()).isEqualTo(1L);
+	}
+}
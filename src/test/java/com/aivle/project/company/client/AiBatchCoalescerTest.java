@@ -0,0 +1,189 @@
+package com.aivle.project.company.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.aivle.project.common.error.ExternalAiUnavailableException;
+import com.aivle.project.company.dto.AiHealthScoreResponse;
+import com.aivle.project.company.dto.AiSignalResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+@ExtendWith(MockitoExtension.class)
+class AiBatchCoalescerTest {
+
+	private static final long LONG_WINDOW_MS = 5_000L;
+
+	@Mock
+	private AiServerClient aiServerClient;
+
+	@Mock
+	private ObjectProvider<MeterRegistry> meterRegistryProvider;
+
+	@BeforeEach
+	void setUp() {
+		given(meterRegistryProvider.getIfAvailable(any())).willReturn(new SimpleMeterRegistry());
+	}
+
+	@Test
+	@DisplayName("같은 창의 건전성 점수 요청은 한 번의 배치 호출로 보내고 기업별 결과를 돌려준다")
+	void getHealthScore_coalescesIntoSingleBatch() {
+		// given
+		AiBatchCoalescer coalescer = coalescer(true, 2);
+		given(aiServerClient.getHealthScoresBatchAsync(anyList())).willReturn(Mono.just(Map.of(
+			"005930", healthScore("005930"),
+			"000660", healthScore("000660")
+		)));
+
+		// when
+		CompletableFuture<AiHealthScoreResponse> first = CompletableFuture.supplyAsync(() -> coalescer.getHealthScore("005930"));
+		CompletableFuture<AiHealthScoreResponse> second = CompletableFuture.supplyAsync(() -> coalescer.getHealthScore("000660"));
+
+		// then
+		assertThat(first.join().companyCode()).isEqualTo("005930");
+		assertThat(second.join().companyCode()).isEqualTo("000660");
+		@SuppressWarnings("unchecked")
+		ArgumentCaptor<List<String>> codes = ArgumentCaptor.forClass(List.class);
+		verify(aiServerClient, times(1)).getHealthScoresBatchAsync(codes.capture());
+		assertThat(codes.getValue()).containsExactlyInAnyOrder("005930", "000660");
+		verify(aiServerClient, never()).getHealthScoreAsync(anyString());
+	}
+
+	@Test
+	@DisplayName("배치가 꺼져 있으면 모은 요청을 단건 비동기 호출로 보낸다")
+	void getHealthScore_fallsBackToSingleCallsWhenBatchDisabled() {
+		// given
+		AiBatchCoalescer coalescer = coalescer(false, 2);
+		given(aiServerClient.getHealthScoreAsync("005930")).willReturn(Mono.just(healthScore("005930")));
+		given(aiServerClient.getHealthScoreAsync("000660")).willReturn(Mono.just(healthScore("000660")));
+
+		// when
+		CompletableFuture<AiHealthScoreResponse> first = CompletableFuture.supplyAsync(() -> coalescer.getHealthScore("005930"));
+		CompletableFuture<AiHealthScoreResponse> second = CompletableFuture.supplyAsync(() -> coalescer.getHealthScore("000660"));
+
+		// then
+		assertThat(first.join().companyCode()).isEqualTo("005930");
+		assertThat(second.join().companyCode()).isEqualTo("000660");
+		verify(aiServerClient, never()).getHealthScoresBatchAsync(anyList());
+	}
+
+	@Test
+	@DisplayName("서버에 배치 엔드포인트가 없으면 그 묶음을 단건 호출로 대체한다")
+	void getHealthScore_fallsBackWhenBatchEndpointMissing() {
+		// given
+		AiBatchCoalescer coalescer = coalescer(true, 2);
+		WebClientResponseException notFound = WebClientResponseException.create(404, "Not Found", HttpHeaders.EMPTY, new byte[0], null);
+		given(aiServerClient.getHealthScoresBatchAsync(anyList())).willReturn(Mono.error(
+			new ExternalAiUnavailableException("AI Server connection failed", "AI_UNAVAILABLE", notFound)
+		));
+		given(aiServerClient.getHealthScoreAsync("005930")).willReturn(Mono.just(healthScore("005930")));
+		given(aiServerClient.getHealthScoreAsync("000660")).willReturn(Mono.just(healthScore("000660")));
+
+		// when
+		CompletableFuture<AiHealthScoreResponse> first = CompletableFuture.supplyAsync(() -> coalescer.getHealthScore("005930"));
+		CompletableFuture<AiHealthScoreResponse> second = CompletableFuture.supplyAsync(() -> coalescer.getHealthScore("000660"));
+
+		// then
+		assertThat(first.join().companyCode()).isEqualTo("005930");
+		assertThat(second.join().companyCode()).isEqualTo("000660");
+	}
+
+	@Test
+	@DisplayName("배치 응답에 빠진 기업은 null로 끝내지 않고 단건 호출로 다시 조회한다")
+	void getHealthScore_fallsBackToSingleCallForMissingKeys() {
+		// given
+		AiBatchCoalescer coalescer = coalescer(true, 2);
+		given(aiServerClient.getHealthScoresBatchAsync(anyList())).willReturn(Mono.just(Map.of(
+			"005930", healthScore("005930")
+		)));
+		given(aiServerClient.getHealthScoreAsync("000660")).willReturn(Mono.just(healthScore("000660")));
+
+		// when
+		CompletableFuture<AiHealthScoreResponse> first = CompletableFuture.supplyAsync(() -> coalescer.getHealthScore("005930"));
+		CompletableFuture<AiHealthScoreResponse> second = CompletableFuture.supplyAsync(() -> coalescer.getHealthScore("000660"));
+
+		// then
+		assertThat(first.join().companyCode()).isEqualTo("005930");
+		assertThat(second.join().companyCode()).isEqualTo("000660");
+		verify(aiServerClient, never()).getHealthScoreAsync("005930");
+	}
+
+	@Test
+	@DisplayName("배치 호출이 실패하면 대기 중인 모든 호출자가 같은 AI 장애를 받는다")
+	void getHealthScore_propagatesBatchFailureToAllWaiters() {
+		// given
+		AiBatchCoalescer coalescer = coalescer(true, 2);
+		given(aiServerClient.getHealthScoresBatchAsync(anyList())).willReturn(Mono.error(
+			new ExternalAiUnavailableException("AI Server connection failed", "AI_TIMEOUT", null)
+		));
+
+		// when
+		CompletableFuture<AiHealthScoreResponse> first = CompletableFuture.supplyAsync(() -> coalescer.getHealthScore("005930"));
+		CompletableFuture<AiHealthScoreResponse> second = CompletableFuture.supplyAsync(() -> coalescer.getHealthScore("000660"));
+
+		// then
+		assertThat(first).failsWithin(Duration.ofSeconds(5))
+			.withThrowableOfType(ExecutionException.class)
+			.withCauseInstanceOf(ExternalAiUnavailableException.class);
+		assertThat(second).failsWithin(Duration.ofSeconds(5))
+			.withThrowableOfType(ExecutionException.class)
+			.withCauseInstanceOf(ExternalAiUnavailableException.class);
+		verify(aiServerClient, never()).getHealthScoreAsync(anyString());
+	}
+
+	@Test
+	@DisplayName("신호등 요청은 기간별 배치로 나눠 보낸다")
+	void getSignals_batchesPerPeriod() {
+		// given
+		AiBatchCoalescer coalescer = coalescer(true, 2);
+		given(aiServerClient.getSignalsBatchAsync(List.of("005930"), "20253"))
+			.willReturn(Mono.just(Map.of("005930", signal("005930", "20253"))));
+		given(aiServerClient.getSignalsBatchAsync(List.of("000660"), "20252"))
+			.willReturn(Mono.just(Map.of("000660", signal("000660", "20252"))));
+
+		// when
+		CompletableFuture<AiSignalResponse> first = CompletableFuture.supplyAsync(() -> coalescer.getSignals("005930", "20253"));
+		CompletableFuture<AiSignalResponse> second = CompletableFuture.supplyAsync(() -> coalescer.getSignals("000660", "20252"));
+
+		// then
+		assertThat(first.join().period()).isEqualTo("20253");
+		assertThat(second.join().period()).isEqualTo("20252");
+		verify(aiServerClient).getSignalsBatchAsync(List.of("005930"), "20253");
+		verify(aiServerClient).getSignalsBatchAsync(List.of("000660"), "20252");
+	}
+
+	// 최대 배치 크기에 도달하면 창을 기다리지 않고 바로 보내므로, 긴 창으로 묶음 경계를 고정한다.
+	private AiBatchCoalescer coalescer(boolean batchEnabled, int maxBatchSize) {
+		return new AiBatchCoalescer(aiServerClient, meterRegistryProvider, batchEnabled, LONG_WINDOW_MS, maxBatchSize, 4, 10_000L);
+	}
+
+	private AiHealthScoreResponse healthScore(String companyCode) {
+		return new AiHealthScoreResponse(companyCode, "테스트기업", List.of(), 70, 72);
+	}
+
+	private AiSignalResponse signal(String companyCode, String period) {
+		return new AiSignalResponse(companyCode, "테스트기업", "제조업", period, Map.of("ROA", "GREEN"));
+	}
+}
@@ -0,0 +1,201 @@
+package com.aivle.project.company.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+import reactor.util.context.Context;
+
+class AiConcurrencyLimiterTest {
+
+	private static final long BASELINE_RTT_NANOS = Duration.ofMillis(100).toNanos();
+
+	private SimpleMeterRegistry meterRegistry;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+	}
+
+	@Test
+	@DisplayName("BACKGROUND 호출은 한도의 일부만 쓰고 남은 자리는 INTERACTIVE 호출이 쓴다")
+	void tryAcquire_reservesCapacityForInteractiveCalls() {
+		// given
+		AiConcurrencyLimiter limiter = limiter(4, 20);
+
+		// when
+		AiConcurrencyLimiter.Permit background1 = limiter.tryAcquire(AiCallPriority.BACKGROUND);
+		AiConcurrencyLimiter.Permit background2 = limiter.tryAcquire(AiCallPriority.BACKGROUND);
+		AiConcurrencyLimiter.Permit background3 = limiter.tryAcquire(AiCallPriority.BACKGROUND);
+		AiConcurrencyLimiter.Permit interactive1 = limiter.tryAcquire(AiCallPriority.INTERACTIVE);
+		AiConcurrencyLimiter.Permit interactive2 = limiter.tryAcquire(AiCallPriority.INTERACTIVE);
+		AiConcurrencyLimiter.Permit interactive3 = limiter.tryAcquire(AiCallPriority.INTERACTIVE);
+
+		// then
+		assertThat(background1).isNotNull();
+		assertThat(background2).isNotNull();
+		assertThat(background3).isNull();
+		assertThat(interactive1).isNotNull();
+		assertThat(interactive2).isNotNull();
+		assertThat(interactive3).isNull();
+		assertThat(limiter.currentInFlight()).isEqualTo(4);
+		assertThat(meterRegistry.counter("ai.client.concurrency.rejected", "priority", "background").count()).isEqualTo(1.0);
+		assertThat(meterRegistry.counter("ai.client.concurrency.rejected", "priority", "interactive").count()).isEqualTo(1.0);
+	}
+
+	@Test
+	@DisplayName("타임아웃 같은 과부하 신호가 오면 한도를 배수로 줄인다")
+	void release_dropReducesLimitMultiplicatively() {
+		// given
+		AiConcurrencyLimiter limiter = limiter(10, 20);
+		limiter.tryAcquire(AiCallPriority.INTERACTIVE);
+
+		// when
+		limiter.release(BASELINE_RTT_NANOS, AiConcurrencyLimiter.Outcome.DROPPED);
+
+		// then
+		assertThat(limiter.currentLimit()).isEqualTo(9);
+		assertThat(limiter.currentInFlight()).isZero();
+	}
+
+	@Test
+	@DisplayName("한도를 채워 쓰는 동안 지연이 안정적이면 한도를 늘린다")
+	void release_growsLimitWhenSaturatedAndLatencyStable() {
+		// given
+		AiConcurrencyLimiter limiter = limiter(10, 50);
+
+		// when
+		for (int round = 0; round < 5; round++) {
+			saturateAndRelease(limiter, BASELINE_RTT_NANOS);
+		}
+
+		// then
+		assertThat(limiter.currentLimit()).isGreaterThan(10);
+	}
+
+	@Test
+	@DisplayName("지연이 장기 기준선보다 크게 늘면 한도를 줄인다")
+	void release_shrinksLimitWhenLatencyRises() {
+		// given
+		AiConcurrencyLimiter limiter = limiter(20, 50);
+		saturateAndRelease(limiter, BASELINE_RTT_NANOS);
+		int before = limiter.currentLimit();
+
+		// when
+		saturateAndRelease(limiter, BASELINE_RTT_NANOS * 5);
+
+		// then
+		assertThat(limiter.currentLimit()).isLessThan(before);
+	}
+
+	@Test
+	@DisplayName("한도가 가득 차면 구독 시점에 바로 거절하고, 완료된 호출은 자리를 반납한다")
+	void limit_rejectsWhenFullAndReleasesOnCompletion() {
+		// given
+		AiConcurrencyLimiter limiter = limiter(1, 1);
+		Sinks.One<String> pending = Sinks.one();
+		StepVerifier.FirstStep<String> first = StepVerifier.create(limiter.limit(pending.asMono()));
+
+		// when & then
+		first.then(() -> {
+				StepVerifier.create(limiter.limit(Mono.just("second")))
+					.expectError(AiConcurrencyLimitExceededException.class)
+					.verify();
+				pending.tryEmitValue("first");
+			})
+			.expectNext("first")
+			.verifyComplete();
+		assertThat(limiter.currentInFlight()).isZero();
+	}
+
+	@Test
+	@DisplayName("Reactor Context의 우선순위를 스레드 범위보다 먼저 적용한다")
+	void limit_usesPriorityFromContext() {
+		// given
+		AiConcurrencyLimiter limiter = limiter(2, 2);
+		limiter.tryAcquire(AiCallPriority.INTERACTIVE);
+
+		// when
+		Mono<String> background = limiter.limit(Mono.just("background"))
+			.contextWrite(Context.of(AiCallPriority.CONTEXT_KEY, AiCallPriority.BACKGROUND));
+		Mono<String> interactive = limiter.limit(Mono.just("interactive"));
+
+		// then
+		StepVerifier.create(background)
+			.expectError(AiConcurrencyLimitExceededException.class)
+			.verify();
+		StepVerifier.create(interactive)
+			.expectNext("interactive")
+			.verifyComplete();
+	}
+
+	@Test
+	@DisplayName("BACKGROUND 범위에서 만든 호출은 다른 스레드에서 재시도해도 BACKGROUND로 한도를 받는다")
+	void limit_keepsCallerPriorityWhenRetriedOnAnotherThread() {
+		// given
+		AiConcurrencyLimiter limiter = limiter(2, 2);
+		AtomicInteger attempts = new AtomicInteger();
+		Mono<String> call;
+		try (AiCallPriority.Scope ignored = AiCallPriority.BACKGROUND.enter()) {
+			call = limiter.limit(Mono.defer(() -> attempts.incrementAndGet() == 1
+				? Mono.error(new IllegalStateException("first attempt failed"))
+				: Mono.just("retried")));
+		}
+		// 첫 시도가 자리를 반납한 뒤 INTERACTIVE가 한 자리를 차지해 BACKGROUND 몫(1)을 채운다.
+		Mono<String> retried = call
+			.doOnError(error -> {
+				if (attempts.get() == 1) {
+					limiter.tryAcquire(AiCallPriority.INTERACTIVE);
+				}
+			})
+			.retry(1)
+			.subscribeOn(Schedulers.parallel());
+
+		// when & then
+		StepVerifier.create(retried)
+			.expectError(AiConcurrencyLimitExceededException.class)
+			.verify(Duration.ofSeconds(5));
+		assertThat(attempts.get()).isEqualTo(1);
+		assertThat(meterRegistry.counter("ai.client.concurrency.rejected", "priority", "background").count()).isEqualTo(1.0);
+	}
+
+	@Test
+	@DisplayName("스레드 범위의 우선순위는 범위를 닫으면 이전 값으로 돌아간다")
+	void enter_restoresPreviousPriority() {
+		// when
+		AiCallPriority inside;
+		try (AiCallPriority.Scope ignored = AiCallPriority.BACKGROUND.enter()) {
+			inside = AiCallPriority.current();
+		}
+
+		// then
+		assertThat(inside).isEqualTo(AiCallPriority.BACKGROUND);
+		assertThat(AiCallPriority.current()).isEqualTo(AiCallPriority.INTERACTIVE);
+	}
+
+	// 한도만큼 자리를 채운 뒤 같은 지연으로 모두 반납한다.
+	private void saturateAndRelease(AiConcurrencyLimiter limiter, long rttNanos) {
+		int acquired = 0;
+		while (limiter.tryAcquire(AiCallPriority.INTERACTIVE) != null) {
+			acquired++;
+		}
+		for (int i = 0; i < acquired; i++) {
+			limiter.release(rttNanos, AiConcurrencyLimiter.Outcome.SUCCESS);
+		}
+	}
+
+	private AiConcurrencyLimiter limiter(int initialLimit, int maxLimit) {
+		return new AiConcurrencyLimiter(
+			new AiConcurrencyLimiter.Settings(initialLimit, 1, maxLimit, 0.5, 0.2, 1.5, 0.9),
+			meterRegistry
+		);
+	}
+}
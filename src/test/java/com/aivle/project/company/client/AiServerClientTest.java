@@ -2,17 +2,25 @@ package com.aivle.project.company.client;
 
 import com.aivle.project.company.dto.AiAnalysisResponse;
 import com.aivle.project.company.dto.AiCommentResponse;
+import com.aivle.project.company.dto.AiHealthScoreResponse;
+import com.aivle.project.company.dto.AiSignalResponse;
 import com.aivle.project.common.error.ExternalAiUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import okhttp3.mockwebserver.MockResponse;
 import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
 
 import org.junit.jupiter.api.Disabled;
 
 import java.io.IOException;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -189,6 +197,140 @@ class AiServerClientTest {
         assertThat(response.predictions()).containsKeys("ROA", "ROE", "DEBT_RATIO");
     }
 
+    @Test
+    @DisplayName("비동기 예측 조회는 구독 시 AI 서버 응답을 내보낸다")
+    void getPredictionAsync_Success() {
+        // given
+        mockWebServer.enqueue(new MockResponse()
+                .setBody("""
+                    {
+                      "company_code": "[005930]",
+                      "company_name": "삼성전자",
+                      "base_period": "2025년 Q3",
+                      "predictions": {
+                        "ROA": 1.3982
+                      }
+                    }
+                    """)
+                .addHeader("Content-Type", "application/json"));
+
+        // when
+        Mono<AiAnalysisResponse> response = aiServerClient.getPredictionAsync("005930");
+
+        // then
+        StepVerifier.create(response)
+                .assertNext(prediction -> {
+                    assertThat(prediction.companyCode()).isEqualTo("[005930]");
+                    assertThat(prediction.predictions()).containsEntry("ROA", 1.3982);
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("비동기 예측 조회가 call-timeout을 넘기면 AI_TIMEOUT 장애로 끝난다")
+    void getPredictionAsync_Timeout() {
+        // given
+        AiServerClient timeoutClient = new AiServerClient(mockWebServer.url("/").toString(), false, 0, 100);
+        mockWebServer.enqueue(new MockResponse()
+                .setBody("{}")
+                .addHeader("Content-Type", "application/json")
+                .setBodyDelay(500, TimeUnit.MILLISECONDS));
+
+        // when
+        Mono<AiAnalysisResponse> response = timeoutClient.getPredictionAsync("005930");
+
+        // then
+        StepVerifier.create(response)
+                .expectErrorSatisfies(error -> assertThat(error)
+                        .isInstanceOfSatisfying(ExternalAiUnavailableException.class,
+                                ex -> assertThat(ex.getReasonCode()).isEqualTo("AI_TIMEOUT")))
+                .verify();
+    }
+
+    @Test
+    @DisplayName("mock 모드의 비동기 호출은 모의 지연 뒤 응답을 내보낸다")
+    void getHealthScoreAsync_MockMode() {
+        // given
+        AiServerClient mockClient = new AiServerClient("http://localhost:8080", true, 50);
+
+        // when
+        Mono<AiHealthScoreResponse> response = mockClient.getHealthScoreAsync("005930");
+
+        // then
+        StepVerifier.create(response)
+                .assertNext(healthScore -> assertThat(healthScore.companyCode()).isEqualTo("005930"))
+                .verifyComplete();
+        assertThat(mockWebServer.getRequestCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("배치 건전성 점수 조회는 기업 코드 목록을 POST하고 기업 코드별 응답을 받는다")
+    void getHealthScoresBatchAsync_Success() throws InterruptedException {
+        // given
+        mockWebServer.enqueue(new MockResponse()
+                .setBody("""
+                    {
+                      "005930": {"company_code": "005930", "company_name": "삼성전자", "quarters": [], "current_score": 80},
+                      "000660": {"company_code": "000660", "company_name": "SK하이닉스", "quarters": [], "current_score": 70}
+                    }
+                    """)
+                .addHeader("Content-Type", "application/json"));
+
+        // when
+        Mono<Map<String, AiHealthScoreResponse>> response =
+                aiServerClient.getHealthScoresBatchAsync(List.of("005930", "000660"));
+
+        // then
+        StepVerifier.create(response)
+                .assertNext(responses -> {
+                    assertThat(responses).containsOnlyKeys("005930", "000660");
+                    assertThat(responses.get("000660").companyName()).isEqualTo("SK하이닉스");
+                })
+                .verifyComplete();
+        RecordedRequest request = mockWebServer.takeRequest();
+        assertThat(request.getMethod()).isEqualTo("POST");
+        assertThat(request.getPath()).isEqualTo("/api/v1/analysis/batch/health-score");
+        assertThat(request.getBody().readUtf8()).contains("\"company_codes\":[\"005930\",\"000660\"]");
+    }
+
+    @Test
+    @DisplayName("mock 모드의 배치 조회는 한 번의 모의 지연 뒤 모든 기업의 응답을 내보낸다")
+    void getSignalsBatchAsync_MockMode() {
+        // given
+        AiServerClient mockClient = new AiServerClient("http://localhost:8080", true, 50);
+
+        // when
+        Mono<Map<String, AiSignalResponse>> response =
+                mockClient.getSignalsBatchAsync(List.of("005930", "000660"), "20253");
+
+        // then
+        StepVerifier.create(response)
+                .assertNext(responses -> {
+                    assertThat(responses).containsOnlyKeys("005930", "000660");
+                    assertThat(responses.get("005930").period()).isEqualTo("20253");
+                })
+                .verifyComplete();
+        assertThat(mockWebServer.getRequestCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("동시성 한도가 가득 차면 AI 서버를 부르지 않고 AI_OVERLOADED 장애로 거절한다")
+    void getHealthScore_RejectedWhenConcurrencyLimitFull() {
+        // given
+        AiConcurrencyLimiter limiter = new AiConcurrencyLimiter(
+                new AiConcurrencyLimiter.Settings(1, 1, 1, 0.5, 0.2, 1.5, 0.9),
+                new SimpleMeterRegistry()
+        );
+        AiServerClient limitedClient = new AiServerClient(mockWebServer.url("/").toString(), limiter, false, 0, 10000L);
+        limiter.tryAcquire(AiCallPriority.INTERACTIVE);
+
+        // when & then
+        assertThatThrownBy(() -> limitedClient.getHealthScore("005930"))
+                .isInstanceOfSatisfying(ExternalAiUnavailableException.class,
+                        ex -> assertThat(ex.getReasonCode()).isEqualTo("AI_OVERLOADED"));
+        assertThat(mockWebServer.getRequestCount()).isZero();
+    }
+
     @Test
     @Disabled("실제 외부 서버와 통신하는 테스트이므로 수동으로만 실행하세요.")
     @DisplayName("실제 AI 서버 연동 통합 테스트")
@@ -1,12 +1,15 @@
 package com.aivle.project.company.controller;
 
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -35,6 +38,7 @@ import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMock
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
@@ -100,7 +104,9 @@ class AdminCompanyQueryControllerTest {
 			List.of(),
 			"AI 코멘트"
 		);
-		given(companyOverviewService.getOverview(100L, "202401")).willReturn(response);
+		CompanyOverviewService.OverviewVersion version = new CompanyOverviewService.OverviewVersion(100L, 20241, 2L);
+		given(companyOverviewService.resolveVersion(100L, "202401")).willReturn(version);
+		given(companyOverviewService.getOverview(version)).willReturn(response);
 
 		// when & then
 		mockMvc.perform(get("/api/admin/companies/000020/overview")
@@ -108,6 +114,7 @@ class AdminCompanyQueryControllerTest {
 				.param("quarterKey", "202401")
 				.with(jwt().authorities(new SimpleGrantedAuthority("ROLE_ADMIN"))))
 			.andExpect(status().isOk())
+			.andExpect(header().string(HttpHeaders.ETAG, version.toETag()))
 			.andExpect(jsonPath("$.success").value(true))
 			.andExpect(jsonPath("$.data.company.id").value(100))
 			.andExpect(jsonPath("$.data.aiComment").value("AI 코멘트"));
@@ -115,6 +122,25 @@ class AdminCompanyQueryControllerTest {
 		then(adminUserQueryService).should().validateActiveUser(eq(1L));
 	}
 
+	@Test
+	@DisplayName("관리자 기업 개요 조회는 If-None-Match가 같으면 304를 반환한다")
+	void getOverview_shouldReturnNotModifiedWhenETagMatches() throws Exception {
+		// given
+		given(companiesRepository.existsById(100L)).willReturn(true);
+		CompanyOverviewService.OverviewVersion version = new CompanyOverviewService.OverviewVersion(100L, 20241, 2L);
+		given(companyOverviewService.resolveVersion(100L, null)).willReturn(version);
+
+		// when & then
+		mockMvc.perform(get("/api/admin/companies/100/overview")
+				.param("userId", "1")
+				.header(HttpHeaders.IF_NONE_MATCH, version.toETag())
+				.with(jwt().authorities(new SimpleGrantedAuthority("ROLE_ADMIN"))))
+			.andExpect(status().isNotModified())
+			.andExpect(header().string(HttpHeaders.ETAG, version.toETag()));
+
+		then(companyOverviewService).should(never()).getOverview(any(CompanyOverviewService.OverviewVersion.class));
+	}
+
 	@Test
 	@DisplayName("관리자 기업 인사이트 조회는 기존 응답 구조를 반환한다")
 	void getInsights_shouldReturnResponse() throws Exception {
@@ -1,14 +1,20 @@
 package com.aivle.project.company.controller;
 
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.aivle.project.company.dto.CompanyInfoDto;
 import com.aivle.project.company.dto.CompanyOverviewResponseDto;
 import com.aivle.project.company.dto.CompanySectorDto;
-import com.aivle.project.company.repository.CompaniesRepository;
+import com.aivle.project.company.identity.CompanyIdentity;
+import com.aivle.project.company.identity.CompanyIdentityCache;
 import com.aivle.project.company.service.CompanyOverviewService;
 import com.aivle.project.auth.security.CurrentUserArgumentResolver;
 import com.aivle.project.auth.user.repository.UserRepository;
@@ -20,6 +26,7 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.data.jpa.mapping.JpaMetamodelMappingContext;
+import org.springframework.http.HttpHeaders;
 
 @WebMvcTest(
 	controllers = CompanyOverviewTempController.class,
@@ -35,6 +42,9 @@ import org.springframework.data.jpa.mapping.JpaMetamodelMappingContext;
 @ActiveProfiles("test")
 class CompanyOverviewTempControllerTest {
 
+	private static final CompanyOverviewService.OverviewVersion VERSION =
+		new CompanyOverviewService.OverviewVersion(1L, 20241, 3L);
+
 	@Autowired
 	private MockMvc mockMvc;
 
@@ -45,7 +55,7 @@ class CompanyOverviewTempControllerTest {
 	private JpaMetamodelMappingContext jpaMetamodelMappingContext;
 
 	@org.springframework.boot.test.mock.mockito.MockBean
-	private CompaniesRepository companiesRepository;
+	private CompanyIdentityCache companyIdentityCache;
 
 	@org.springframework.boot.test.mock.mockito.MockBean
 	private UserRepository userRepository;
@@ -75,18 +85,13 @@ class CompanyOverviewTempControllerTest {
 			"AI 코멘트"
 		);
 
-		com.aivle.project.company.entity.CompaniesEntity company = org.mockito.Mockito.mock(
-			com.aivle.project.company.entity.CompaniesEntity.class
-		);
-		given(company.getId()).willReturn(1L);
-		given(companiesRepository.findByStockCode("000020"))
-			.willReturn(java.util.Optional.of(company));
-		given(companyOverviewService.getOverview(1L, "202401")).willReturn(response);
+		givenOverview(response);
 
 		// when & then
 		mockMvc.perform(get("/api/companies/000020/overview")
 				.param("quarterKey", "202401"))
 			.andExpect(status().isOk())
+			.andExpect(header().string(HttpHeaders.ETAG, VERSION.toETag()))
 			.andExpect(jsonPath("$.success").value(true))
 			.andExpect(jsonPath("$.data.company.name").value("샘플기업"))
 			.andExpect(jsonPath("$.data.aiComment").value("AI 코멘트"));
@@ -114,20 +119,40 @@ class CompanyOverviewTempControllerTest {
 			"AI 코멘트"
 		);
 
-		com.aivle.project.company.entity.CompaniesEntity company = org.mockito.Mockito.mock(
-			com.aivle.project.company.entity.CompaniesEntity.class
-		);
-		given(company.getId()).willReturn(1L);
-		given(companiesRepository.findByStockCode("000020"))
-			.willReturn(java.util.Optional.of(company));
-		given(companyOverviewService.getOverview(1L, "202401")).willReturn(response);
+		givenOverview(response);
 
 		// when & then
 		mockMvc.perform(get("/api/companies/000020")
 				.param("quarterKey", "202401"))
 			.andExpect(status().isOk())
+			.andExpect(header().string(HttpHeaders.ETAG, VERSION.toETag()))
 			.andExpect(jsonPath("$.success").value(true))
 			.andExpect(jsonPath("$.data.company.name").value("샘플기업"))
 			.andExpect(jsonPath("$.data.aiComment").value("AI 코멘트"));
 	}
+
+	@Test
+	@DisplayName("If-None-Match가 현재 개요 버전과 같으면 개요를 조립하지 않고 304를 반환한다")
+	void getOverview_shouldReturnNotModifiedWhenETagMatches() throws Exception {
+		// given
+		given(companyIdentityCache.findByStockCode("000020"))
+			.willReturn(java.util.Optional.of(new CompanyIdentity(1L, "000020", "00000001", "샘플기업", null, null)));
+		given(companyOverviewService.resolveVersion(1L, "202401")).willReturn(VERSION);
+
+		// when & then
+		mockMvc.perform(get("/api/companies/000020")
+				.param("quarterKey", "202401")
+				.header(HttpHeaders.IF_NONE_MATCH, VERSION.toETag()))
+			.andExpect(status().isNotModified())
+			.andExpect(header().string(HttpHeaders.ETAG, VERSION.toETag()))
+			.andExpect(content().string(""));
+		verify(companyOverviewService, never()).getOverview(any(CompanyOverviewService.OverviewVersion.class));
+	}
+
+	private void givenOverview(CompanyOverviewResponseDto response) {
+		given(companyIdentityCache.findByStockCode("000020"))
+			.willReturn(java.util.Optional.of(new CompanyIdentity(1L, "000020", "00000001", "샘플기업", null, null)));
+		given(companyOverviewService.resolveVersion(1L, "202401")).willReturn(VERSION);
+		given(companyOverviewService.getOverview(VERSION)).willReturn(response);
+	}
 }
@@ -0,0 +1,223 @@
+package com.aivle.project.company.identity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.aivle.project.company.repository.CompaniesRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@ExtendWith(MockitoExtension.class)
+class CompanyIdentityCacheTest {
+
+	private static final CompanyIdentity SAMSUNG =
+		new CompanyIdentity(1L, "005930", "00126380", "삼성전자", "C26", "전자부품 제조업");
+
+	@Mock
+	private CompaniesRepository companiesRepository;
+
+	@Mock
+	private ObjectProvider<StringRedisTemplate> redisTemplateProvider;
+
+	@Mock
+	private ObjectProvider<ObjectMapper> objectMapperProvider;
+
+	@Mock
+	private StringRedisTemplate redisTemplate;
+
+	@Mock
+	private ValueOperations<String, String> valueOperations;
+
+	private CompanyIdentityCache companyIdentityCache;
+
+	@BeforeEach
+	void setUp() {
+		CompanyIdentityCacheProperties properties = new CompanyIdentityCacheProperties();
+		properties.setRedisEnabled(false);
+		given(objectMapperProvider.getIfAvailable(any())).willReturn(new ObjectMapper());
+		companyIdentityCache = new CompanyIdentityCache(
+			companiesRepository,
+			properties,
+			redisTemplateProvider,
+			objectMapperProvider
+		);
+	}
+
+	@AfterEach
+	void tearDown() {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+	}
+
+	@Test
+	@DisplayName("한 번 조회한 기업은 ID와 종목 코드 모두 DB 조회 없이 찾는다")
+	void find_reusesLoadedIdentity() {
+		// given
+		given(companiesRepository.findIdentityById(1L)).willReturn(Optional.of(SAMSUNG));
+
+		// when
+		Optional<CompanyIdentity> first = companyIdentityCache.find(1L);
+		Optional<CompanyIdentity> second = companyIdentityCache.find(1L);
+		Optional<CompanyIdentity> byStockCode = companyIdentityCache.findByStockCode("005930");
+
+		// then
+		assertThat(first).contains(SAMSUNG);
+		assertThat(second).contains(SAMSUNG);
+		assertThat(byStockCode).contains(SAMSUNG);
+		verify(companiesRepository, times(1)).findIdentityById(1L);
+		verify(companiesRepository, never()).findIdentityByStockCode(anyString());
+	}
+
+	@Test
+	@DisplayName("법인 코드로 무효화하면 다음 조회는 DB에서 다시 읽는다")
+	void evictByCorpCodes_forcesReload() {
+		// given
+		CompanyIdentity renamed = new CompanyIdentity(1L, "005930", "00126380", "삼성전자(주)", "C26", "전자부품 제조업");
+		given(companiesRepository.findIdentityById(1L)).willReturn(Optional.of(SAMSUNG), Optional.of(renamed));
+		companyIdentityCache.find(1L);
+
+		// when
+		companyIdentityCache.evictByCorpCodes(Set.of("00126380"));
+		Optional<CompanyIdentity> reloaded = companyIdentityCache.find(1L);
+
+		// then
+		assertThat(reloaded).contains(renamed);
+		verify(companiesRepository, times(2)).findIdentityById(1L);
+	}
+
+	@Test
+	@DisplayName("트랜잭션 안에서 읽은 기업은 같은 트랜잭션에서만 재사용하고 롤백되면 캐시에 남기지 않는다")
+	void find_keepsTransactionalReadsPendingUntilCommit() {
+		// given
+		given(companiesRepository.findIdentityById(1L)).willReturn(Optional.of(SAMSUNG));
+		TransactionSynchronizationManager.initSynchronization();
+
+		// when
+		companyIdentityCache.find(1L);
+		companyIdentityCache.find(1L);
+		completeTransaction(TransactionSynchronization.STATUS_ROLLED_BACK);
+		companyIdentityCache.find(1L);
+
+		// then
+		verify(companiesRepository, times(2)).findIdentityById(1L);
+	}
+
+	@Test
+	@DisplayName("커밋된 트랜잭션에서 읽은 기업은 이후 요청에서 재사용한다")
+	void find_publishesAfterCommit() {
+		// given
+		given(companiesRepository.findIdentityById(1L)).willReturn(Optional.of(SAMSUNG));
+		TransactionSynchronizationManager.initSynchronization();
+		companyIdentityCache.find(1L);
+
+		// when
+		completeTransaction(TransactionSynchronization.STATUS_COMMITTED);
+		Optional<CompanyIdentity> cached = companyIdentityCache.find(1L);
+
+		// then
+		assertThat(cached).contains(SAMSUNG);
+		verify(companiesRepository, times(1)).findIdentityById(1L);
+	}
+
+	@Test
+	@DisplayName("공유 캐시에는 DB 조회 전에 본 무효화 세대와 함께 조건부로 쓴다")
+	void find_writesSharedEntryWithObservedGeneration() {
+		// given
+		CompanyIdentityCache redisCache = createWithRedis();
+		given(redisTemplate.opsForValue()).willReturn(valueOperations);
+		given(valueOperations.get("company:identity:id:1")).willReturn(null);
+		given(valueOperations.get("company:identity:generation")).willReturn("7");
+		given(companiesRepository.findIdentityById(1L)).willReturn(Optional.of(SAMSUNG));
+
+		// when
+		redisCache.find(1L);
+
+		// then
+		verify(redisTemplate).execute(
+			any(RedisScript.class),
+			eq(List.of(
+				"company:identity:generation",
+				"company:identity:id:1",
+				"company:identity:stock:005930",
+				"company:identity:corp:00126380"
+			)),
+			eq("7"),
+			eq(String.valueOf(Duration.ofHours(6).toMillis())),
+			anyString(),
+			eq("1")
+		);
+	}
+
+	@Test
+	@DisplayName("법인 코드로 무효화하면 다른 노드의 진행 중인 조회가 쓰지 못하도록 공유 세대를 올린다")
+	void evictByCorpCodes_bumpsSharedGeneration() {
+		// given
+		CompanyIdentityCache redisCache = createWithRedis();
+		given(redisTemplate.opsForValue()).willReturn(valueOperations);
+
+		// when
+		redisCache.evictByCorpCodes(Set.of("00126380"));
+
+		// then
+		verify(valueOperations).increment("company:identity:generation");
+		verify(redisTemplate).delete(anyCollection());
+	}
+
+	@Test
+	@DisplayName("공유 세대를 읽지 못하면 공유 캐시에 쓰지 않는다")
+	void find_skipsSharedWriteWhenGenerationUnknown() {
+		// given
+		CompanyIdentityCache redisCache = createWithRedis();
+		given(redisTemplate.opsForValue()).willReturn(valueOperations);
+		given(valueOperations.get("company:identity:id:1")).willReturn(null);
+		given(valueOperations.get("company:identity:generation")).willThrow(new IllegalStateException("redis down"));
+		given(companiesRepository.findIdentityById(1L)).willReturn(Optional.of(SAMSUNG));
+
+		// when
+		Optional<CompanyIdentity> found = redisCache.find(1L);
+
+		// then
+		assertThat(found).contains(SAMSUNG);
+		verify(redisTemplate, never()).execute(any(RedisScript.class), anyList(), any(Object[].class));
+	}
+
+	private CompanyIdentityCache createWithRedis() {
+		CompanyIdentityCacheProperties properties = new CompanyIdentityCacheProperties();
+		given(redisTemplateProvider.getIfAvailable()).willReturn(redisTemplate);
+		return new CompanyIdentityCache(companiesRepository, properties, redisTemplateProvider, objectMapperProvider);
+	}
+
+	private void completeTransaction(int status) {
+		var synchronizations = TransactionSynchronizationManager.getSynchronizations();
+		if (status == TransactionSynchronization.STATUS_COMMITTED) {
+			synchronizations.forEach(TransactionSynchronization::afterCommit);
+		}
+		synchronizations.forEach(synchronization -> synchronization.afterCompletion(status));
+		TransactionSynchronizationManager.clearSynchronization();
+	}
+}
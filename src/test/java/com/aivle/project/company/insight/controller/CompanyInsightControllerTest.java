@@ -14,14 +14,19 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -69,6 +74,7 @@ class ㅋCompanyInsightControllerTest {
 				.build()
 		);
 
+		ReflectionTestUtils.setField(companyInsightController, "staleWhileRevalidate", false);
 		when(companyInsightService.ensureInsightData(eq(companyId), eq(false))).thenReturn(null);
 		when(companyInsightService.loadInsights(eq(companyId), anyInt(), anyInt(), anyInt(), anyInt(), isNull()))
 			.thenReturn(new com.aivle.project.company.insight.service.CompanyInsightService.InsightResult(
@@ -92,6 +98,71 @@ class ㅋCompanyInsightControllerTest {
 		verify(companyInsightService, times(1)).loadInsights(eq(companyId), anyInt(), anyInt(), anyInt(), anyInt(), isNull());
 	}
 
+	@Test
+	@DisplayName("stale-while-revalidate 모드에서는 AI 수집을 기다리지 않고 저장된 인사이트를 반환한다")
+	void getCompanyInsights_StaleWhileRevalidate_ReturnsStoredItems() {
+		// given
+		Long companyId = 100L;
+		List<CompanyInsightDto> items = List.of(
+			CompanyInsightDto.builder()
+				.id(2L)
+				.type(CompanyInsightType.NEWS)
+				.title("뉴스")
+				.content("본문")
+				.source("NEU")
+				.publishedAt(LocalDateTime.of(2026, 2, 6, 0, 0))
+				.build()
+		);
+		when(companyInsightService.getInsightsStaleWhileRevalidate(eq(companyId), anyInt(), anyInt(), anyInt(), anyInt()))
+			.thenReturn(new CompanyInsightService.InsightResult(items, BigDecimal.ONE, false));
+
+		// when
+		ResponseEntity<ApiResponse<CompanyInsightResponseDto>> result = companyInsightController
+			.getCompanyInsights(companyId, null, null, null, null, false);
+
+		// then
+		assertEquals(200, result.getStatusCode().value());
+		assertEquals(1, result.getBody().data().getItems().size());
+		verify(companyInsightService, never()).ensureInsightData(any(), anyBoolean());
+	}
+
+	@Test
+	@DisplayName("저장된 인사이트가 없으면 202와 Retry-After 헤더를 반환한다")
+	void getCompanyInsights_StaleWhileRevalidate_ReturnsAcceptedWhenProcessing() {
+		// given
+		Long companyId = 100L;
+		when(companyInsightService.getInsightsStaleWhileRevalidate(eq(companyId), anyInt(), anyInt(), anyInt(), anyInt()))
+			.thenReturn(new CompanyInsightService.InsightResult(List.of(), null, true));
+
+		// when
+		ResponseEntity<ApiResponse<CompanyInsightResponseDto>> result = companyInsightController
+			.getCompanyInsights(companyId, null, null, null, null, false);
+
+		// then
+		assertEquals(202, result.getStatusCode().value());
+		assertEquals("3", result.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+		assertEquals("INSIGHT_PROCESSING", result.getBody().error().code());
+	}
+
+	@Test
+	@DisplayName("refresh=true 요청은 stale-while-revalidate 모드에서도 동기로 재수집한다")
+	void getCompanyInsights_RefreshBypassesStaleWhileRevalidate() {
+		// given
+		Long companyId = 100L;
+		when(companyInsightService.ensureInsightData(eq(companyId), eq(true))).thenReturn(null);
+		when(companyInsightService.loadInsights(eq(companyId), anyInt(), anyInt(), anyInt(), anyInt(), isNull()))
+			.thenReturn(new CompanyInsightService.InsightResult(List.of(), null, false));
+
+		// when
+		ResponseEntity<ApiResponse<CompanyInsightResponseDto>> result = companyInsightController
+			.getCompanyInsights(companyId, null, null, null, null, true);
+
+		// then
+		assertEquals(200, result.getStatusCode().value());
+		verify(companyInsightService, times(1)).ensureInsightData(eq(companyId), eq(true));
+		verify(companyInsightService, never()).getInsightsStaleWhileRevalidate(any(), anyInt(), anyInt(), anyInt(), anyInt());
+	}
+
 	@Override
 	protected void finalize() throws Throwable {
 		super.finalize();
@@ -3,6 +3,8 @@ package com.aivle.project.company.insight.service;
 import com.aivle.project.company.entity.CompaniesEntity;
 import com.aivle.project.company.insight.dto.CompanyInsightDto;
 import com.aivle.project.company.insight.dto.CompanyInsightType;
+import com.aivle.project.company.identity.CompanyIdentity;
+import com.aivle.project.company.identity.CompanyIdentityCache;
 import com.aivle.project.company.news.entity.NewsAnalysisEntity;
 import com.aivle.project.company.news.entity.NewsArticleEntity;
 import com.aivle.project.company.news.repository.NewsAnalysisRepository;
@@ -15,29 +17,44 @@ import com.aivle.project.company.reportanalysis.entity.ReportContentEntity;
 import com.aivle.project.company.reportanalysis.repository.ReportAnalysisRepository;
 import com.aivle.project.company.reportanalysis.repository.ReportContentRepository;
 import com.aivle.project.company.reportanalysis.service.ReportAnalysisService;
-import com.aivle.project.company.repository.CompaniesRepository;
 import com.aivle.project.company.service.CompanyReputationScoreService;
 import com.aivle.project.common.error.ExternalAiUnavailableException;
+import com.aivle.project.common.transaction.ShortTransactionRunner;
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Mono;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -45,7 +62,7 @@ import static org.mockito.Mockito.when;
 class CompanyInsightServiceTest {
 
 	@Mock
-	private CompaniesRepository companiesRepository;
+	private CompanyIdentityCache companyIdentityCache;
 	@Mock
 	private NewsAnalysisRepository newsAnalysisRepository;
 	@Mock
@@ -60,10 +77,26 @@ class CompanyInsightServiceTest {
 	private ReportAnalysisService reportAnalysisService;
 	@Mock
 	private CompanyReputationScoreService companyReputationScoreService;
+	@Mock
+	private ShortTransactionRunner shortTransactionRunner;
+	@Mock
+	private Executor insightExecutor;
+	@Mock
+	private InsightBackgroundRefresher insightBackgroundRefresher;
 
 	@InjectMocks
 	private CompanyInsightService companyInsightService;
 
+	@BeforeEach
+	void setUp() {
+		lenient().when(shortTransactionRunner.read(anyString(), any()))
+			.thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(1).get());
+		lenient().doAnswer(invocation -> {
+			invocation.<Runnable>getArgument(0).run();
+			return null;
+		}).when(insightExecutor).execute(any());
+	}
+
 	@Test
 	@DisplayName("DB에 인사이트가 있으면 DB 데이터를 반환한다")
 	void getInsights_ReturnsDatabaseItems() {
@@ -80,7 +113,7 @@ class CompanyInsightServiceTest {
 			newsAnalysis, "뉴스", "본문", BigDecimal.ONE, LocalDateTime.of(2026, 2, 6, 0, 0), "https://n.example", "NEU"
 		);
 
-		when(companiesRepository.findById(companyId)).thenReturn(Optional.of(company));
+		when(companyIdentityCache.find(companyId)).thenReturn(Optional.of(identityOf(companyId, company)));
 		when(reportAnalysisRepository.findTopByCompanyIdOrderByAnalyzedAtDesc(companyId)).thenReturn(Optional.of(reportAnalysis));
 		when(newsAnalysisRepository.findTopByCompanyIdOrderByAnalyzedAtDesc(companyId)).thenReturn(Optional.of(newsAnalysis));
 		when(reportContentRepository.existsByReportAnalysisId(any())).thenReturn(true);
@@ -99,8 +132,8 @@ class CompanyInsightServiceTest {
 		assertThat(result.averageScore()).isEqualByComparingTo(BigDecimal.ONE);
 		assertThat(result.items().get(0).getType()).isEqualTo(CompanyInsightType.REPORT);
 		assertThat(result.items().get(1).getType()).isEqualTo(CompanyInsightType.NEWS);
-		verify(reportAnalysisService, org.mockito.Mockito.never()).fetchAndStoreReport(any());
-		verify(newsService, org.mockito.Mockito.never()).refreshLatestNews(any());
+		verify(reportAnalysisService, org.mockito.Mockito.never()).fetchAndStoreReportAsync(any());
+		verify(newsService, org.mockito.Mockito.never()).refreshLatestNewsAsync(any());
 		verify(companyReputationScoreService).syncExternalHealthScoreIfPresent(companyId, "123456");
 	}
 
@@ -110,20 +143,20 @@ class CompanyInsightServiceTest {
 		// given
 		Long companyId = 1L;
 		CompaniesEntity company = CompaniesEntity.create("001", "테스트기업", "TEST", "123456", LocalDate.now());
-		when(companiesRepository.findById(companyId)).thenReturn(Optional.of(company));
+		when(companyIdentityCache.find(companyId)).thenReturn(Optional.of(identityOf(companyId, company)));
 		when(reportAnalysisRepository.findTopByCompanyIdOrderByAnalyzedAtDesc(companyId)).thenReturn(Optional.empty());
 		when(newsAnalysisRepository.findTopByCompanyIdOrderByAnalyzedAtDesc(companyId)).thenReturn(Optional.empty());
 		when(reportContentRepository.findTopByReportAnalysisCompanyIdOrderByPublishedAtDesc(companyId))
 			.thenReturn(Optional.empty());
 		when(newsArticleRepository.findTopByNewsAnalysisCompanyIdOrderByPublishedAtDesc(companyId))
 			.thenReturn(Optional.empty());
-		when(reportAnalysisService.fetchAndStoreReport("123456")).thenReturn(null);
-		when(newsService.refreshLatestNews("123456")).thenReturn(new NewsRefreshResponse(
+		when(reportAnalysisService.fetchAndStoreReportAsync("123456")).thenReturn(Mono.empty());
+		when(newsService.refreshLatestNewsAsync("123456")).thenReturn(Mono.just(new NewsRefreshResponse(
 			new NewsAnalysisResponse(
 				1L, companyId, "테스트기업", 1, 0.1, java.time.OffsetDateTime.now(), List.of(), java.time.OffsetDateTime.now()
 			),
 			false
-		));
+		)));
 
 		ReportAnalysisEntity reportAnalysis = ReportAnalysisEntity.create(company, "테스트기업", 1, BigDecimal.ONE, LocalDateTime.now());
 		NewsAnalysisEntity newsAnalysis = NewsAnalysisEntity.create(company, "테스트기업", 1, BigDecimal.ONE, LocalDateTime.now());
@@ -152,8 +185,8 @@ class CompanyInsightServiceTest {
 			.containsExactly(CompanyInsightType.REPORT, CompanyInsightType.NEWS);
 		assertThat(result.items().get(0).getPublishedAt()).isNotNull();
 		assertThat(result.items().get(1).getPublishedAt()).isNotNull();
-		verify(reportAnalysisService).fetchAndStoreReport("123456");
-		verify(newsService).refreshLatestNews("123456");
+		verify(reportAnalysisService).fetchAndStoreReportAsync("123456");
+		verify(newsService).refreshLatestNewsAsync("123456");
 		verify(companyReputationScoreService).syncExternalHealthScoreIfPresent(companyId, "123456");
 	}
 
@@ -172,18 +205,16 @@ class CompanyInsightServiceTest {
 			newsAnalysis, "뉴스", "본문", BigDecimal.ONE, LocalDateTime.now(), "https://n.example", "NEU"
 		);
 
-		when(companiesRepository.findById(companyId)).thenReturn(Optional.of(company));
-		when(newsService.refreshLatestNews("123456")).thenReturn(new NewsRefreshResponse(
+		when(companyIdentityCache.find(companyId)).thenReturn(Optional.of(identityOf(companyId, company)));
+		when(newsService.refreshLatestNewsAsync("123456")).thenReturn(Mono.just(new NewsRefreshResponse(
 			new NewsAnalysisResponse(
 				1L, companyId, "테스트기업", 1, 0.1, java.time.OffsetDateTime.now(), List.of(), java.time.OffsetDateTime.now()
 			),
 			false
-		));
-		when(reportAnalysisService.fetchAndStoreReport("123456")).thenReturn(null);
+		)));
+		when(reportAnalysisService.fetchAndStoreReportAsync("123456")).thenReturn(Mono.empty());
 		when(reportAnalysisRepository.findTopByCompanyIdOrderByAnalyzedAtDesc(companyId)).thenReturn(Optional.of(reportAnalysis));
 		when(newsAnalysisRepository.findTopByCompanyIdOrderByAnalyzedAtDesc(companyId)).thenReturn(Optional.of(newsAnalysis));
-		when(reportContentRepository.existsByReportAnalysisId(any())).thenReturn(true);
-		when(newsArticleRepository.existsByNewsAnalysisId(any())).thenReturn(true);
 		when(reportContentRepository.findByReportAnalysisIdOrderByPublishedAtDesc(eq(reportAnalysis.getId()), any(PageRequest.class)))
 			.thenReturn(new PageImpl<>(List.of(reportContent)));
 		when(newsArticleRepository.findByNewsAnalysisIdOrderByPublishedAtDesc(eq(newsAnalysis.getId()), any(PageRequest.class)))
@@ -195,8 +226,8 @@ class CompanyInsightServiceTest {
 		// then
 		assertThat(result.processing()).isFalse();
 		assertThat(result.items()).hasSize(2);
-		verify(newsService).refreshLatestNews("123456");
-		verify(reportAnalysisService).fetchAndStoreReport("123456");
+		verify(newsService).refreshLatestNewsAsync("123456");
+		verify(reportAnalysisService).fetchAndStoreReportAsync("123456");
 		verify(companyReputationScoreService).syncExternalHealthScoreIfPresent(companyId, "123456");
 	}
 
@@ -211,7 +242,7 @@ class CompanyInsightServiceTest {
 			reportAnalysis, "보고서", "요약", BigDecimal.ONE, LocalDateTime.of(2026, 2, 6, 0, 0), "https://r.example", null
 		);
 
-		when(companiesRepository.findById(companyId)).thenReturn(Optional.of(company));
+		when(companyIdentityCache.find(companyId)).thenReturn(Optional.of(identityOf(companyId, company)));
 		when(reportAnalysisRepository.findTopByCompanyIdOrderByAnalyzedAtDesc(companyId)).thenReturn(Optional.of(reportAnalysis));
 		when(newsAnalysisRepository.findTopByCompanyIdOrderByAnalyzedAtDesc(companyId)).thenReturn(Optional.empty());
 		when(reportContentRepository.existsByReportAnalysisId(any())).thenReturn(true);
@@ -219,8 +250,8 @@ class CompanyInsightServiceTest {
 		when(reportContentRepository.findByReportAnalysisIdOrderByPublishedAtDesc(eq(reportAnalysis.getId()), any(PageRequest.class)))
 			.thenReturn(new PageImpl<>(List.of(reportContent)));
 		when(newsAnalysisRepository.findTopByCompanyIdOrderByAnalyzedAtDesc(companyId)).thenReturn(Optional.empty());
-		when(newsService.refreshLatestNews("123456"))
-			.thenThrow(new ExternalAiUnavailableException("AI Server connection failed", "AI_TIMEOUT", new RuntimeException("timeout")));
+		when(newsService.refreshLatestNewsAsync("123456"))
+			.thenReturn(Mono.error(new ExternalAiUnavailableException("AI Server connection failed", "AI_TIMEOUT", new RuntimeException("timeout"))));
 		doThrow(new ExternalAiUnavailableException("AI Server connection failed", "AI_UNAVAILABLE", new RuntimeException("unavailable")))
 			.when(companyReputationScoreService).syncExternalHealthScoreIfPresent(companyId, "123456");
 
@@ -238,15 +269,15 @@ class CompanyInsightServiceTest {
 		// given
 		Long companyId = 1L;
 		CompaniesEntity company = CompaniesEntity.create("001", "테스트기업", "TEST", "123456", LocalDate.now());
-		when(companiesRepository.findById(companyId)).thenReturn(Optional.of(company));
+		when(companyIdentityCache.find(companyId)).thenReturn(Optional.of(identityOf(companyId, company)));
 		when(reportAnalysisRepository.findTopByCompanyIdOrderByAnalyzedAtDesc(companyId)).thenReturn(Optional.empty());
 		when(newsAnalysisRepository.findTopByCompanyIdOrderByAnalyzedAtDesc(companyId)).thenReturn(Optional.empty());
 		when(reportContentRepository.findTopByReportAnalysisCompanyIdOrderByPublishedAtDesc(companyId)).thenReturn(Optional.empty());
 		when(newsArticleRepository.findTopByNewsAnalysisCompanyIdOrderByPublishedAtDesc(companyId)).thenReturn(Optional.empty());
-		when(reportAnalysisService.fetchAndStoreReport("123456"))
-			.thenThrow(new ExternalAiUnavailableException("AI Server connection failed", "AI_UNAVAILABLE", new RuntimeException("unavailable")));
-		when(newsService.refreshLatestNews("123456"))
-			.thenThrow(new ExternalAiUnavailableException("AI Server connection failed", "AI_TIMEOUT", new RuntimeException("timeout")));
+		when(reportAnalysisService.fetchAndStoreReportAsync("123456"))
+			.thenReturn(Mono.error(new ExternalAiUnavailableException("AI Server connection failed", "AI_UNAVAILABLE", new RuntimeException("unavailable"))));
+		when(newsService.refreshLatestNewsAsync("123456"))
+			.thenReturn(Mono.error(new ExternalAiUnavailableException("AI Server connection failed", "AI_TIMEOUT", new RuntimeException("timeout"))));
 		doThrow(new ExternalAiUnavailableException("AI Server connection failed", "AI_TIMEOUT", new RuntimeException("timeout")))
 			.when(companyReputationScoreService).syncExternalHealthScoreIfPresent(companyId, "123456");
 
@@ -254,4 +285,325 @@ class CompanyInsightServiceTest {
 		assertThatThrownBy(() -> companyInsightService.getInsights(companyId, 0, 1, 0, 1, false))
 			.isInstanceOf(ExternalAiUnavailableException.class);
 	}
+
+	@Test
+	@DisplayName("수집이 마감 시간을 넘기면 기다리지 않고 AI_TIMEOUT 장애와 수집별 소요 시간을 반환한다")
+	void fetchInsightData_ReturnsTimeoutWhenDeadlineExceeded() {
+		// given
+		Long companyId = 1L;
+		CompaniesEntity company = CompaniesEntity.create("001", "테스트기업", "TEST", "123456", LocalDate.now());
+		ReflectionTestUtils.setField(companyInsightService, "fanoutDeadlineMs", 100L);
+		when(companyIdentityCache.find(companyId)).thenReturn(Optional.of(identityOf(companyId, company)));
+		when(newsService.refreshLatestNewsAsync("123456")).thenReturn(Mono.never());
+		when(reportAnalysisService.fetchAndStoreReportAsync("123456")).thenReturn(Mono.empty());
+
+		// when
+		CompanyInsightService.InsightFetchResult result = companyInsightService.fetchInsightData(companyId, true);
+
+		// then
+		assertThat(result.externalFailure()).isNotNull();
+		assertThat(result.externalFailure().getReasonCode()).isEqualTo("AI_TIMEOUT");
+		assertThat(result.branchElapsedMs()).containsKey("report").doesNotContainKey("news");
+		verify(companyReputationScoreService, org.mockito.Mockito.never()).syncExternalHealthScoreIfPresent(any(), any());
+	}
+
+	@Test
+	@DisplayName("먼저 확인하는 수집의 AI 장애가 최종 장애로 남는다")
+	void fetchInsightData_KeepsFirstExternalFailure() {
+		// given
+		Long companyId = 1L;
+		CompaniesEntity company = CompaniesEntity.create("001", "테스트기업", "TEST", "123456", LocalDate.now());
+		when(companyIdentityCache.find(companyId)).thenReturn(Optional.of(identityOf(companyId, company)));
+		when(newsService.refreshLatestNewsAsync("123456"))
+			.thenReturn(Mono.error(new ExternalAiUnavailableException("AI Server connection failed", "AI_TIMEOUT", null)));
+		when(reportAnalysisService.fetchAndStoreReportAsync("123456"))
+			.thenReturn(Mono.error(new ExternalAiUnavailableException("AI Server connection failed", "AI_UNAVAILABLE", null)));
+
+		// when
+		CompanyInsightService.InsightFetchResult result = companyInsightService.fetchInsightData(companyId, true);
+
+		// then
+		assertThat(result.externalFailure().getReasonCode()).isEqualTo("AI_TIMEOUT");
+		assertThat(result.branchElapsedMs()).containsKeys("news", "report", "reputation");
+		verify(companyReputationScoreService).syncExternalHealthScoreIfPresent(companyId, "123456");
+	}
+
+	@Test
+	@DisplayName("insightExecutor 스레드가 모두 갱신 중이어도 평판 동기화를 같은 풀에서 기다리지 않아 마감 전에 끝난다")
+	void fetchInsightData_DoesNotWaitOnSaturatedInsightExecutor() throws Exception {
+		// given
+		Long companyId = 1L;
+		CompaniesEntity company = CompaniesEntity.create("001", "테스트기업", "TEST", "123456", LocalDate.now());
+		ThreadPoolTaskExecutor boundedExecutor = new ThreadPoolTaskExecutor();
+		boundedExecutor.setCorePoolSize(2);
+		boundedExecutor.setMaxPoolSize(2);
+		boundedExecutor.setQueueCapacity(10);
+		boundedExecutor.initialize();
+		CompanyInsightService service = new CompanyInsightService(
+			companyIdentityCache,
+			newsAnalysisRepository,
+			newsArticleRepository,
+			reportAnalysisRepository,
+			reportContentRepository,
+			newsService,
+			reportAnalysisService,
+			companyReputationScoreService,
+			shortTransactionRunner,
+			boundedExecutor,
+			insightBackgroundRefresher
+		);
+		ReflectionTestUtils.setField(service, "fanoutDeadlineMs", 5_000L);
+		when(companyIdentityCache.find(companyId)).thenReturn(Optional.of(identityOf(companyId, company)));
+		when(newsService.refreshLatestNewsAsync("123456")).thenReturn(Mono.just(new NewsRefreshResponse(
+			new NewsAnalysisResponse(
+				1L, companyId, "테스트기업", 1, 0.1, java.time.OffsetDateTime.now(), List.of(), java.time.OffsetDateTime.now()
+			),
+			false
+		)).delayElement(Duration.ofMillis(100)));
+		when(reportAnalysisService.fetchAndStoreReportAsync("123456")).thenReturn(Mono.empty());
+
+		try {
+			// when
+			CompletableFuture<CompanyInsightService.InsightFetchResult> first =
+				boundedExecutor.submitCompletable(() -> service.fetchInsightData(companyId, true));
+			CompletableFuture<CompanyInsightService.InsightFetchResult> second =
+				boundedExecutor.submitCompletable(() -> service.fetchInsightData(companyId, true));
+
+			// then
+			assertThat(first.get(2, TimeUnit.SECONDS).externalFailure()).isNull();
+			assertThat(second.get(2, TimeUnit.SECONDS).externalFailure()).isNull();
+			verify(companyReputationScoreService, times(2)).syncExternalHealthScoreIfPresent(companyId, "123456");
+		} finally {
+			boundedExecutor.shutdown();
+		}
+	}
+
+	@Test
+	@DisplayName("stale-while-revalidate: 신선한 인사이트는 갱신 요청 없이 바로 반환한다")
+	void getInsightsStaleWhileRevalidate_ReturnsFreshItemsWithoutRefresh() {
+		// given
+		Long companyId = 1L;
+		LocalDateTime now = LocalDateTime.now(ZoneOffset.UTC);
+		stubStoredInsights(companyId, now.minusMinutes(1), now.minusMinutes(1));
+
+		// when
+		CompanyInsightService.InsightResult result = companyInsightService
+			.getInsightsStaleWhileRevalidate(companyId, 0, 1, 0, 1);
+
+		// then
+		assertThat(result.processing()).isFalse();
+		assertThat(result.items()).hasSize(2);
+		verify(insightBackgroundRefresher, org.mockito.Mockito.never()).trigger(any(), any());
+		verify(newsService, org.mockito.Mockito.never()).refreshLatestNewsAsync(any());
+	}
+
+	@Test
+	@DisplayName("stale-while-revalidate: 신선도 기간이 지난 인사이트는 반환하면서 백그라운드 갱신을 요청한다")
+	void getInsightsStaleWhileRevalidate_TriggersRefreshWhenStale() {
+		// given
+		Long companyId = 1L;
+		LocalDateTime now = LocalDateTime.now(ZoneOffset.UTC);
+		stubStoredInsights(companyId, now.minusDays(1), now.minusMinutes(1));
+
+		// when
+		CompanyInsightService.InsightResult result = companyInsightService
+			.getInsightsStaleWhileRevalidate(companyId, 0, 1, 0, 1);
+
+		// then
+		assertThat(result.processing()).isFalse();
+		assertThat(result.items()).hasSize(2);
+		verify(insightBackgroundRefresher).trigger(eq(companyId), any());
+		verify(newsService, org.mockito.Mockito.never()).refreshLatestNewsAsync(any());
+	}
+
+	@Test
+	@DisplayName("stale-while-revalidate: 백그라운드 갱신은 신선도 기간이 지난 수집만 다시 실행한다")
+	void getInsightsStaleWhileRevalidate_RefetchesOnlyStaleBranch() {
+		// given
+		Long companyId = 1L;
+		LocalDateTime now = LocalDateTime.now(ZoneOffset.UTC);
+		stubStoredInsights(companyId, now.minusDays(1), now.minusMinutes(1));
+		when(newsService.refreshLatestNewsAsync("123456")).thenReturn(Mono.empty());
+		ArgumentCaptor<Runnable> refresh = ArgumentCaptor.forClass(Runnable.class);
+
+		// when
+		companyInsightService.getInsightsStaleWhileRevalidate(companyId, 0, 1, 0, 1);
+		verify(insightBackgroundRefresher).trigger(eq(companyId), refresh.capture());
+		refresh.getValue().run();
+
+		// then
+		verify(newsService).refreshLatestNewsAsync("123456");
+		verify(reportAnalysisService, org.mockito.Mockito.never()).fetchAndStoreReportAsync(any());
+	}
+
+	@Test
+	@DisplayName("stale-while-revalidate: 보고서가 없어도 뉴스가 신선하면 갱신을 요청하지 않는다")
+	void getInsightsStaleWhileRevalidate_DoesNotTreatMissingReportAsStale() {
+		// given
+		Long companyId = 1L;
+		LocalDateTime now = LocalDateTime.now(ZoneOffset.UTC);
+		CompaniesEntity company = CompaniesEntity.create("001", "테스트기업", "TEST", "123456", LocalDate.now());
+		NewsAnalysisEntity newsAnalysis = NewsAnalysisEntity.create(company, "테스트기업", 1, BigDecimal.ONE, now.minusMinutes(1));
+		NewsArticleEntity newsArticle = NewsArticleEntity.create(
+			newsAnalysis, "뉴스", "본문", BigDecimal.ONE, now.minusMinutes(1), "https://n.example", "NEU"
+		);
+		when(companyIdentityCache.find(companyId)).thenReturn(Optional.of(identityOf(companyId, company)));
+		when(reportAnalysisRepository.findTopByCompanyIdOrderByAnalyzedAtDesc(companyId)).thenReturn(Optional.empty());
+		when(reportContentRepository.findTopByReportAnalysisCompanyIdOrderByPublishedAtDesc(companyId)).thenReturn(Optional.empty());
+		when(newsAnalysisRepository.findTopByCompanyIdOrderByAnalyzedAtDesc(companyId)).thenReturn(Optional.of(newsAnalysis));
+		when(newsArticleRepository.findByNewsAnalysisIdOrderByPublishedAtDesc(eq(newsAnalysis.getId()), any(PageRequest.class)))
+			.thenReturn(new PageImpl<>(List.of(newsArticle)));
+
+		// when
+		CompanyInsightService.InsightResult result = companyInsightService
+			.getInsightsStaleWhileRevalidate(companyId, 0, 1, 0, 1);
+
+		// then
+		assertThat(result.items()).hasSize(1);
+		verify(insightBackgroundRefresher, org.mockito.Mockito.never()).trigger(any(), any());
+	}
+
+	@Test
+	@DisplayName("stale-while-revalidate: 저장된 인사이트가 없으면 수집을 요청하고 processing을 반환한다")
+	void getInsightsStaleWhileRevalidate_ReturnsProcessingWhenEmpty() {
+		// given
+		Long companyId = 1L;
+		CompaniesEntity company = CompaniesEntity.create("001", "테스트기업", "TEST", "123456", LocalDate.now());
+		when(companyIdentityCache.find(companyId)).thenReturn(Optional.of(identityOf(companyId, company)));
+		when(reportAnalysisRepository.findTopByCompanyIdOrderByAnalyzedAtDesc(companyId)).thenReturn(Optional.empty());
+		when(newsAnalysisRepository.findTopByCompanyIdOrderByAnalyzedAtDesc(companyId)).thenReturn(Optional.empty());
+		when(reportContentRepository.findTopByReportAnalysisCompanyIdOrderByPublishedAtDesc(companyId)).thenReturn(Optional.empty());
+		when(newsArticleRepository.findTopByNewsAnalysisCompanyIdOrderByPublishedAtDesc(companyId)).thenReturn(Optional.empty());
+		when(insightBackgroundRefresher.trigger(eq(companyId), any())).thenReturn(true);
+
+		// when
+		CompanyInsightService.InsightResult result = companyInsightService
+			.getInsightsStaleWhileRevalidate(companyId, 0, 1, 0, 1);
+
+		// then
+		assertThat(result.processing()).isTrue();
+		assertThat(result.items()).isEmpty();
+		verify(insightBackgroundRefresher).trigger(eq(companyId), any());
+	}
+
+	@Test
+	@DisplayName("stale-while-revalidate: 저장된 인사이트가 없고 직전 백그라운드 수집이 실패했으면 AI 장애를 던진다")
+	void getInsightsStaleWhileRevalidate_ThrowsLastFailureWhenEmpty() {
+		// given
+		Long companyId = 1L;
+		CompaniesEntity company = CompaniesEntity.create("001", "테스트기업", "TEST", "123456", LocalDate.now());
+		when(companyIdentityCache.find(companyId)).thenReturn(Optional.of(identityOf(companyId, company)));
+		when(reportAnalysisRepository.findTopByCompanyIdOrderByAnalyzedAtDesc(companyId)).thenReturn(Optional.empty());
+		when(newsAnalysisRepository.findTopByCompanyIdOrderByAnalyzedAtDesc(companyId)).thenReturn(Optional.empty());
+		when(reportContentRepository.findTopByReportAnalysisCompanyIdOrderByPublishedAtDesc(companyId)).thenReturn(Optional.empty());
+		when(newsArticleRepository.findTopByNewsAnalysisCompanyIdOrderByPublishedAtDesc(companyId)).thenReturn(Optional.empty());
+		when(insightBackgroundRefresher.lastFailure(companyId)).thenReturn(Optional.of(
+			new ExternalAiUnavailableException("AI Server connection failed", "AI_UNAVAILABLE", null)
+		));
+
+		// when & then
+		assertThatThrownBy(() -> companyInsightService.getInsightsStaleWhileRevalidate(companyId, 0, 1, 0, 1))
+			.isInstanceOf(ExternalAiUnavailableException.class);
+		verify(insightBackgroundRefresher).trigger(eq(companyId), any());
+	}
+
+	@Test
+	@DisplayName("stale-while-revalidate: 분석은 있지만 기사가 한 건도 없으면 수집을 다시 요청하지 않고 빈 결과를 반환한다")
+	void getInsightsStaleWhileRevalidate_ReturnsEmptyWhenAnalysisHasNoArticles() {
+		// given
+		Long companyId = 1L;
+		LocalDateTime now = LocalDateTime.now(ZoneOffset.UTC);
+		stubAnalysesWithArticles(companyId, now.minusMinutes(1), List.of(), List.of());
+
+		// when
+		CompanyInsightService.InsightResult result = companyInsightService
+			.getInsightsStaleWhileRevalidate(companyId, 0, 10, 0, 10);
+
+		// then
+		assertThat(result.processing()).isFalse();
+		assertThat(result.items()).isEmpty();
+		verify(insightBackgroundRefresher, org.mockito.Mockito.never()).trigger(any(), any());
+	}
+
+	@Test
+	@DisplayName("stale-while-revalidate: 요청한 페이지가 범위를 벗어나면 processing 없이 빈 결과를 반환한다")
+	void getInsightsStaleWhileRevalidate_ReturnsEmptyWhenPageBeyondRange() {
+		// given
+		Long companyId = 1L;
+		LocalDateTime now = LocalDateTime.now(ZoneOffset.UTC);
+		stubAnalysesWithArticles(companyId, now.minusMinutes(1), List.of(), List.of());
+
+		// when
+		CompanyInsightService.InsightResult result = companyInsightService
+			.getInsightsStaleWhileRevalidate(companyId, 99, 10, 99, 10);
+
+		// then
+		assertThat(result.processing()).isFalse();
+		assertThat(result.items()).isEmpty();
+		verify(insightBackgroundRefresher, org.mockito.Mockito.never()).trigger(any(), any());
+	}
+
+	@Test
+	@DisplayName("stale-while-revalidate: 분석이 없어도 진행 중인 수집이 없으면 processing을 반환하지 않는다")
+	void getInsightsStaleWhileRevalidate_ReturnsEmptyWhenNoRefreshInFlight() {
+		// given
+		Long companyId = 1L;
+		CompaniesEntity company = CompaniesEntity.create("001", "테스트기업", "TEST", "123456", LocalDate.now());
+		when(companyIdentityCache.find(companyId)).thenReturn(Optional.of(identityOf(companyId, company)));
+		when(reportAnalysisRepository.findTopByCompanyIdOrderByAnalyzedAtDesc(companyId)).thenReturn(Optional.empty());
+		when(newsAnalysisRepository.findTopByCompanyIdOrderByAnalyzedAtDesc(companyId)).thenReturn(Optional.empty());
+		when(reportContentRepository.findTopByReportAnalysisCompanyIdOrderByPublishedAtDesc(companyId)).thenReturn(Optional.empty());
+		when(newsArticleRepository.findTopByNewsAnalysisCompanyIdOrderByPublishedAtDesc(companyId)).thenReturn(Optional.empty());
+		when(insightBackgroundRefresher.trigger(eq(companyId), any())).thenReturn(false);
+		when(insightBackgroundRefresher.isInFlight(companyId)).thenReturn(false);
+
+		// when
+		CompanyInsightService.InsightResult result = companyInsightService
+			.getInsightsStaleWhileRevalidate(companyId, 0, 1, 0, 1);
+
+		// then
+		assertThat(result.processing()).isFalse();
+		assertThat(result.items()).isEmpty();
+	}
+
+	private void stubAnalysesWithArticles(
+		Long companyId,
+		LocalDateTime analyzedAt,
+		List<ReportContentEntity> reportContents,
+		List<NewsArticleEntity> newsArticles
+	) {
+		CompaniesEntity company = CompaniesEntity.create("001", "테스트기업", "TEST", "123456", LocalDate.now());
+		ReportAnalysisEntity reportAnalysis = ReportAnalysisEntity.create(company, "테스트기업", 0, BigDecimal.ONE, analyzedAt);
+		NewsAnalysisEntity newsAnalysis = NewsAnalysisEntity.create(company, "테스트기업", 0, BigDecimal.ONE, analyzedAt);
+		when(companyIdentityCache.find(companyId)).thenReturn(Optional.of(identityOf(companyId, company)));
+		when(reportAnalysisRepository.findTopByCompanyIdOrderByAnalyzedAtDesc(companyId)).thenReturn(Optional.of(reportAnalysis));
+		when(newsAnalysisRepository.findTopByCompanyIdOrderByAnalyzedAtDesc(companyId)).thenReturn(Optional.of(newsAnalysis));
+		when(reportContentRepository.findByReportAnalysisIdOrderByPublishedAtDesc(eq(reportAnalysis.getId()), any(PageRequest.class)))
+			.thenReturn(new PageImpl<>(reportContents));
+		when(newsArticleRepository.findByNewsAnalysisIdOrderByPublishedAtDesc(eq(newsAnalysis.getId()), any(PageRequest.class)))
+			.thenReturn(new PageImpl<>(newsArticles));
+	}
+
+	private void stubStoredInsights(Long companyId, LocalDateTime newsAnalyzedAt, LocalDateTime reportAnalyzedAt) {
+		CompaniesEntity company = CompaniesEntity.create("001", "테스트기업", "TEST", "123456", LocalDate.now());
+		ReportAnalysisEntity reportAnalysis = ReportAnalysisEntity.create(company, "테스트기업", 1, BigDecimal.ONE, reportAnalyzedAt);
+		NewsAnalysisEntity newsAnalysis = NewsAnalysisEntity.create(company, "테스트기업", 1, BigDecimal.ONE, newsAnalyzedAt);
+		ReportContentEntity reportContent = ReportContentEntity.create(
+			reportAnalysis, "보고서", "요약", BigDecimal.ONE, reportAnalyzedAt, "https://r.example", null
+		);
+		NewsArticleEntity newsArticle = NewsArticleEntity.create(
+			newsAnalysis, "뉴스", "본문", BigDecimal.ONE, newsAnalyzedAt, "https://n.example", "NEU"
+		);
+		when(companyIdentityCache.find(companyId)).thenReturn(Optional.of(identityOf(companyId, company)));
+		when(reportAnalysisRepository.findTopByCompanyIdOrderByAnalyzedAtDesc(companyId)).thenReturn(Optional.of(reportAnalysis));
+		when(newsAnalysisRepository.findTopByCompanyIdOrderByAnalyzedAtDesc(companyId)).thenReturn(Optional.of(newsAnalysis));
+		when(reportContentRepository.findByReportAnalysisIdOrderByPublishedAtDesc(eq(reportAnalysis.getId()), any(PageRequest.class)))
+			.thenReturn(new PageImpl<>(List.of(reportContent)));
+		when(newsArticleRepository.findByNewsAnalysisIdOrderByPublishedAtDesc(eq(newsAnalysis.getId()), any(PageRequest.class)))
+			.thenReturn(new PageImpl<>(List.of(newsArticle)));
+	}
+
+	private CompanyIdentity identityOf(Long companyId, CompaniesEntity company) {
+		return new CompanyIdentity(companyId, company.getStockCode(), company.getCorpCode(), company.getCorpName(), null, null);
+	}
 }
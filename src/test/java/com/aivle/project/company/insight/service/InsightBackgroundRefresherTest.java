@@ -0,0 +1,131 @@
+package com.aivle.project.company.insight.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+
+import com.aivle.project.common.error.ExternalAiUnavailableException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+
+@ExtendWith(MockitoExtension.class)
+class InsightBackgroundRefresherTest {
+
+	@Mock
+	private ObjectProvider<MeterRegistry> meterRegistryProvider;
+
+	private SimpleMeterRegistry meterRegistry;
+	private List<Runnable> queued;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		given(meterRegistryProvider.getIfAvailable(any())).willReturn(meterRegistry);
+		queued = new ArrayList<>();
+	}
+
+	@Test
+	@DisplayName("같은 기업의 갱신이 진행 중이면 새 갱신을 시작하지 않는다")
+	void trigger_deduplicatesInFlightRefresh() {
+		// given
+		InsightBackgroundRefresher refresher = new InsightBackgroundRefresher(queued::add, meterRegistryProvider, 0L);
+		AtomicInteger refreshCount = new AtomicInteger();
+
+		// when
+		boolean first = refresher.trigger(1L, refreshCount::incrementAndGet);
+		boolean second = refresher.trigger(1L, refreshCount::incrementAndGet);
+		queued.forEach(Runnable::run);
+		boolean afterCompletion = refresher.trigger(1L, refreshCount::incrementAndGet);
+
+		// then
+		assertThat(first).isTrue();
+		assertThat(second).isFalse();
+		assertThat(afterCompletion).isTrue();
+		assertThat(refreshCount).hasValue(1);
+		assertThat(meterRegistry.counter("company.insight.background_refresh", "result", "deduplicated").count())
+			.isEqualTo(1.0);
+	}
+
+	@Test
+	@DisplayName("최소 간격 안에서는 완료된 기업의 갱신도 다시 시작하지 않는다")
+	void trigger_throttlesWithinMinInterval() {
+		// given
+		InsightBackgroundRefresher refresher = new InsightBackgroundRefresher(Runnable::run, meterRegistryProvider, 60_000L);
+		AtomicInteger refreshCount = new AtomicInteger();
+
+		// when
+		boolean first = refresher.trigger(1L, refreshCount::incrementAndGet);
+		boolean second = refresher.trigger(1L, refreshCount::incrementAndGet);
+		boolean otherCompany = refresher.trigger(2L, refreshCount::incrementAndGet);
+
+		// then
+		assertThat(first).isTrue();
+		assertThat(second).isFalse();
+		assertThat(otherCompany).isTrue();
+		assertThat(refreshCount).hasValue(2);
+		assertThat(meterRegistry.counter("company.insight.background_refresh", "result", "throttled").count())
+			.isEqualTo(1.0);
+	}
+
+	@Test
+	@DisplayName("실행기가 거절하면 다음 요청에서 다시 시작할 수 있다")
+	void trigger_allowsRetryAfterRejection() {
+		// given
+		AtomicInteger executeCount = new AtomicInteger();
+		Executor rejectingOnce = task -> {
+			if (executeCount.getAndIncrement() == 0) {
+				throw new RejectedExecutionException("full");
+			}
+			task.run();
+		};
+		InsightBackgroundRefresher refresher = new InsightBackgroundRefresher(rejectingOnce, meterRegistryProvider, 60_000L);
+		AtomicInteger refreshCount = new AtomicInteger();
+
+		// when
+		boolean rejected = refresher.trigger(1L, refreshCount::incrementAndGet);
+		boolean retried = refresher.trigger(1L, refreshCount::incrementAndGet);
+
+		// then
+		assertThat(rejected).isFalse();
+		assertThat(retried).isTrue();
+		assertThat(refreshCount).hasValue(1);
+		assertThat(meterRegistry.counter("company.insight.background_refresh", "result", "rejected").count())
+			.isEqualTo(1.0);
+	}
+
+	@Test
+	@DisplayName("AI 장애로 끝난 갱신은 기업별로 기억하고, 다음 갱신이 성공하면 지운다")
+	void trigger_remembersLastFailureUntilNextSuccess() {
+		// given
+		InsightBackgroundRefresher refresher = new InsightBackgroundRefresher(Runnable::run, meterRegistryProvider, 0L);
+		ExternalAiUnavailableException failure =
+			new ExternalAiUnavailableException("AI Server connection failed", "AI_UNAVAILABLE", null);
+
+		// when
+		refresher.trigger(1L, () -> {
+			throw failure;
+		});
+		Optional<ExternalAiUnavailableException> afterFailure = refresher.lastFailure(1L);
+		Optional<ExternalAiUnavailableException> otherCompany = refresher.lastFailure(2L);
+		refresher.trigger(1L, () -> {
+		});
+
+		// then
+		assertThat(afterFailure).containsSame(failure);
+		assertThat(otherCompany).isEmpty();
+		assertThat(refresher.lastFailure(1L)).isEmpty();
+	}
+}
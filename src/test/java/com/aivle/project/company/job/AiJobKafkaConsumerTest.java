@@ -1,24 +1,37 @@
 package com.aivle.project.company.job;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
-import static org.mockito.Mockito.doReturn;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
 
+import com.aivle.project.company.repository.CompaniesRepository;
+import com.aivle.project.company.saga.AiReportSagaOrchestrator;
 import com.aivle.project.company.service.CompanyAiCommentService;
 import com.aivle.project.company.service.CompanyAiService;
+import com.aivle.project.company.service.CompanyReputationScoreService;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.time.OffsetDateTime;
+import java.util.List;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.listener.BatchListenerFailedException;
 
 @ExtendWith(MockitoExtension.class)
 class AiJobKafkaConsumerTest {
 
-	@InjectMocks
 	private AiJobKafkaConsumer consumer;
 
 	@Mock
@@ -28,25 +41,50 @@ class AiJobKafkaConsumerTest {
 	private CompanyAiCommentService companyAiCommentService;
 
 	@Mock
+	private AiReportSagaOrchestrator aiReportSagaOrchestrator;
+
+	@Mock
+	private CompanyReputationScoreService companyReputationScoreService;
+
+	@Mock
+	private CompaniesRepository companiesRepository;
+
+	@Mock
+	private AiJobResponseProcessor aiJobResponseProcessor;
+
+	@Mock
+	private ProcessedMessageStore processedMessageStore;
+
 	private ObjectMapper objectMapper;
 
+	private SimpleMeterRegistry meterRegistry;
+
+	@BeforeEach
+	void setUp() {
+		objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+		meterRegistry = new SimpleMeterRegistry();
+		consumer = new AiJobKafkaConsumer(
+			objectMapper,
+			companyAiService,
+			companyAiCommentService,
+			aiReportSagaOrchestrator,
+			companyReputationScoreService,
+			companiesRepository,
+			aiJobResponseProcessor,
+			processedMessageStore,
+			meterRegistry
+		);
+	}
+
 	@Test
 	@DisplayName("AI_REPORT 메시지는 Java 웹서버 동기 실행을 스킵하고 성공적으로 종료된다")
 	void consume_aiReport_shouldSkipJavaSynchronousPath() throws Exception {
-		AiJobMessage message = new AiJobMessage(
-			"req-1",
-			AiJobType.AI_REPORT,
-			1L,
-			2026,
-			1,
-			null,
-			OffsetDateTime.now()
-		);
+		String payload = payload("req-1", AiJobType.AI_REPORT, 1L, null);
 
-		doReturn(message).when(objectMapper).readValue("payload", AiJobMessage.class);
-		consumer.consume("payload");
+		consumer.consume(payload);
 
-		org.mockito.Mockito.verifyNoInteractions(companyAiService);
+		verifyNoInteractions(companyAiService);
+		assertThat(meterRegistry.get("ai.job.consume.duration").tag("type", "AI_REPORT").timer().count()).isEqualTo(1);
 	}
 
 	@Test
@@ -56,4 +94,103 @@ class AiJobKafkaConsumerTest {
 			.isInstanceOf(RuntimeException.class)
 			.hasMessageContaining("Failed to process AI job");
 	}
+
+	@Test
+	@DisplayName("배치 모드는 같은 기업/분기의 코멘트 웜업과 중복 재전달 메시지를 한 번만 처리한다")
+	void consumeBatch_shouldCoalesceDuplicates() throws Exception {
+		// given
+		List<ConsumerRecord<String, String>> records = List.of(
+			record(0, payload("warm-1", AiJobType.AI_COMMENT_WARMUP, 1L, "2025Q3")),
+			record(1, payload("warm-2", AiJobType.AI_COMMENT_WARMUP, 1L, "2025Q3")),
+			record(2, payload("warm-3", AiJobType.AI_COMMENT_WARMUP, 2L, "2025Q3")),
+			record(3, payload("comp-1", AiJobType.AI_NEWS_COMPENSATE, 3L, null)),
+			record(4, payload("comp-1", AiJobType.AI_NEWS_COMPENSATE, 3L, null))
+		);
+
+		// when
+		consumer.consumeBatch(records, null);
+
+		// then
+		verify(companyAiCommentService).ensureAiCommentCached(1L, "2025Q3");
+		verify(companyAiCommentService).ensureAiCommentCached(2L, "2025Q3");
+		verify(companyAiService, times(1)).rollbackNewsAnalysis(3L);
+		verify(aiReportSagaOrchestrator, times(1)).onNewsCompensated("comp-1");
+	}
+
+	@Test
+	@DisplayName("배치 중 역직렬화 실패 시 앞선 레코드는 처리하고 실패 위치를 알린다")
+	void consumeBatch_invalidPayload_shouldReportFailedIndex() throws Exception {
+		// given
+		List<ConsumerRecord<String, String>> records = List.of(
+			record(0, payload("warm-1", AiJobType.AI_COMMENT_WARMUP, 1L, "2025Q3")),
+			record(1, "not-json"),
+			record(2, payload("warm-2", AiJobType.AI_COMMENT_WARMUP, 2L, "2025Q3"))
+		);
+
+		// when & then
+		assertThatThrownBy(() -> consumer.consumeBatch(records, null))
+			.isInstanceOf(BatchListenerFailedException.class)
+			.satisfies(e -> assertThat(((BatchListenerFailedException) e).getIndex()).isEqualTo(1));
+		verify(companyAiCommentService).ensureAiCommentCached(1L, "2025Q3");
+		verify(companyAiCommentService, times(0)).ensureAiCommentCached(2L, "2025Q3");
+	}
+
+	@Test
+	@DisplayName("로컬 캐시에 처리 이력이 있는 응답은 트랜잭션 처리 없이 건너뛴다")
+	void consumeResponse_locallyProcessed_shouldSkip() throws Exception {
+		// given
+		String payload = responsePayload("req-1", AiJobType.AI_FINANCIAL_ANALYSIS);
+		when(processedMessageStore.isProcessedLocally("req-1", AiJobType.AI_FINANCIAL_ANALYSIS)).thenReturn(true);
+
+		// when
+		consumer.consumeResponse(payload);
+
+		// then
+		verify(aiJobResponseProcessor, never()).process(any(AiJobResponseMessage.class), anyString());
+	}
+
+	@Test
+	@DisplayName("DB에 처리 이력이 있어 중복으로 판정된 응답은 Saga 실패 처리로 이어지지 않는다")
+	void consumeResponse_duplicate_shouldNotFailSaga() throws Exception {
+		// given
+		String payload = responsePayload("req-1", AiJobType.AI_FINANCIAL_ANALYSIS);
+		when(aiJobResponseProcessor.process(any(AiJobResponseMessage.class), anyString())).thenReturn(false);
+
+		// when
+		consumer.consumeResponse(payload);
+
+		// then
+		verify(aiReportSagaOrchestrator, never()).onFinancialAnalysisFailure(anyString(), anyString());
+	}
+
+	@Test
+	@DisplayName("응답 처리 중 예외가 나면 Saga를 실패 처리한다")
+	void consumeResponse_processingFailure_shouldFailSaga() throws Exception {
+		// given
+		String payload = responsePayload("req-1", AiJobType.AI_FINANCIAL_ANALYSIS);
+		when(aiJobResponseProcessor.process(any(AiJobResponseMessage.class), anyString()))
+			.thenThrow(new IllegalStateException("boom"));
+
+		// when
+		consumer.consumeResponse(payload);
+
+		// then
+		verify(aiReportSagaOrchestrator).onFinancialAnalysisFailure("req-1", "boom");
+	}
+
+	private String responsePayload(String requestId, AiJobType type) throws Exception {
+		return objectMapper.writeValueAsString(
+			new AiJobResponseMessage(requestId, type, "SUCCESS", null, 1L, 2025, 3, null, null, null)
+		);
+	}
+
+	private String payload(String requestId, AiJobType type, Long companyId, String period) throws Exception {
+		return objectMapper.writeValueAsString(
+			new AiJobMessage(requestId, type, companyId, 2025, 3, period, OffsetDateTime.now())
+		);
+	}
+
+	private ConsumerRecord<String, String> record(long offset, String payload) {
+		return new ConsumerRecord<>("ai-job-request", 0, offset, "key", payload);
+	}
 }
@@ -0,0 +1,72 @@
+package com.aivle.project.company.job;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ProcessedMessageStoreTest {
+
+	@Mock
+	private ProcessedMessageJdbcRepository processedMessageJdbcRepository;
+
+	private SimpleMeterRegistry meterRegistry;
+
+	private ProcessedMessageStore processedMessageStore;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		processedMessageStore = new ProcessedMessageStore(
+			processedMessageJdbcRepository,
+			new ProcessedMessageProperties(),
+			meterRegistry
+		);
+	}
+
+	@Test
+	@DisplayName("처음 처리하는 메시지는 이력을 남기고 이후 중복 판정은 로컬 캐시에서 끝난다")
+	void markProcessed_firstTime_shouldInsertAndCacheLocally() {
+		// given
+		when(processedMessageJdbcRepository.insertIfAbsent(eq("req-1"), eq("AI_FINANCIAL_ANALYSIS"),
+			any(LocalDateTime.class), any(LocalDateTime.class))).thenReturn(true);
+
+		// when
+		boolean first = processedMessageStore.markProcessed("req-1", AiJobType.AI_FINANCIAL_ANALYSIS);
+		boolean second = processedMessageStore.markProcessed("req-1", AiJobType.AI_FINANCIAL_ANALYSIS);
+
+		// then
+		assertThat(first).isTrue();
+		assertThat(second).isFalse();
+		verify(processedMessageJdbcRepository, times(1)).insertIfAbsent(eq("req-1"), eq("AI_FINANCIAL_ANALYSIS"),
+			any(LocalDateTime.class), any(LocalDateTime.class));
+		assertThat(meterRegistry.get("ai.job.dedup.lookup").tag("result", "local_hit").counter().count()).isEqualTo(1.0);
+	}
+
+	@Test
+	@DisplayName("DB에 이미 이력이 있으면 중복으로 판정하고 로컬 캐시에 기억한다")
+	void markProcessed_existingRow_shouldReturnFalse() {
+		// given
+		when(processedMessageJdbcRepository.insertIfAbsent(eq("req-2"), eq("AI_COMMENT_COMPILATION"),
+			any(LocalDateTime.class), any(LocalDateTime.class))).thenReturn(false);
+
+		// when
+		boolean processed = processedMessageStore.markProcessed("req-2", AiJobType.AI_COMMENT_COMPILATION);
+
+		// then
+		assertThat(processed).isFalse();
+		assertThat(processedMessageStore.isProcessedLocally("req-2", AiJobType.AI_COMMENT_COMPILATION)).isTrue();
+	}
+}
@@ -18,6 +18,7 @@ import com.aivle.project.company.report.entity.CompanyReportsEntity;
 import com.aivle.project.company.report.repository.CompanyReportMetricValuesRepository;
 import com.aivle.project.company.report.repository.CompanyReportVersionsRepository;
 import com.aivle.project.company.report.repository.CompanyReportsRepository;
+import com.aivle.project.company.report.service.CompanyReportLatestVersionService;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -31,7 +32,12 @@ import org.springframework.test.context.ActiveProfiles;
 
 @DataJpaTest
 @ActiveProfiles("test")
-@Import({QuerydslConfig.class, MetricAverageCalculationService.class, MetricAverageBatchService.class})
+@Import({
+	QuerydslConfig.class,
+	MetricAverageCalculationService.class,
+	MetricAverageBatchService.class,
+	CompanyReportLatestVersionService.class
+})
 class MetricAverageBatchServiceTest {
 
 	@Autowired
@@ -50,6 +56,8 @@ class MetricAverageBatchServiceTest {
 	private MetricsRepository metricsRepository;
 	@Autowired
 	private MetricAverageRepository metricAverageRepository;
+	@Autowired
+	private CompanyReportLatestVersionService companyReportLatestVersionService;
 
 	@Test
 	@DisplayName("저장된 모든 분기를 순회해 metric_averages를 저장한다")
@@ -134,5 +142,6 @@ class MetricAverageBatchServiceTest {
 		companyReportMetricValuesRepository.save(
 			CompanyReportMetricValuesEntity.create(version, metric, quarter, value, MetricValueType.ACTUAL)
 		);
+		companyReportLatestVersionService.refresh(report.getId());
 	}
 }
@@ -19,6 +19,7 @@ import com.aivle.project.company.report.entity.CompanyReportsEntity;
 import com.aivle.project.company.report.repository.CompanyReportMetricValuesRepository;
 import com.aivle.project.company.report.repository.CompanyReportVersionsRepository;
 import com.aivle.project.company.report.repository.CompanyReportsRepository;
+import com.aivle.project.company.report.service.CompanyReportLatestVersionService;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -33,7 +34,7 @@ import org.springframework.test.context.ActiveProfiles;
 
 @DataJpaTest
 @ActiveProfiles("test")
-@Import({QuerydslConfig.class, MetricAverageCalculationService.class})
+@Import({QuerydslConfig.class, MetricAverageCalculationService.class, CompanyReportLatestVersionService.class})
 class MetricAverageCalculationServiceTest {
 
 	@Autowired
@@ -55,6 +56,9 @@ class MetricAverageCalculationServiceTest {
 	@Autowired
 	private JdbcTemplate jdbcTemplate;
 
+	@Autowired
+	private CompanyReportLatestVersionService companyReportLatestVersionService;
+
 	@Test
 	@DisplayName("비위험 ACTUAL 최신 버전 값만 분기 집계한다")
 	void calculateLatestNonRiskActualOnly() {
@@ -85,6 +89,8 @@ class MetricAverageCalculationServiceTest {
 		companyReportMetricValuesRepository.save(CompanyReportMetricValuesEntity.create(
 			c2v1, roa, quarter, new BigDecimal("70"), MetricValueType.ACTUAL));
 
+		companyReportLatestVersionService.refresh(List.of(c1Report.getId(), c2Report.getId()));
+
 		// when
 		List<MetricAverageResult> results = service.calculateAndUpsertByQuarter(quarter.getId());
 
@@ -133,6 +139,8 @@ class MetricAverageCalculationServiceTest {
 			new BigDecimal("99.0000"), BigDecimal.ZERO.setScale(4), 1, LocalDateTime.now(), 1
 		));
 
+		companyReportLatestVersionService.refresh(report.getId());
+
 		// when
 		QuarterMetricAverageSaveResult result = service.calculateAndInsertMissingByQuarter(quarter.getId());
 
@@ -166,6 +174,8 @@ class MetricAverageCalculationServiceTest {
 			version, roe, targetQuarter, new BigDecimal("42"), MetricValueType.ACTUAL
 		));
 
+		companyReportLatestVersionService.refresh(report.getId());
+
 		// when
 		List<MetricAverageResult> results = service.calculateAndUpsertByQuarter(targetQuarter.getId());
 
@@ -0,0 +1,142 @@
+package com.aivle.project.company.metric.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.aivle.project.company.keymetric.entity.KeyMetricDescriptionEntity;
+import com.aivle.project.company.keymetric.repository.KeyMetricDescriptionRepository;
+import com.aivle.project.company.metric.entity.MetricsEntity;
+import com.aivle.project.company.metric.repository.MetricsRepository;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class MetricCatalogTest {
+
+	private static final LocalDateTime UPDATED_AT = LocalDateTime.of(2026, 1, 1, 0, 0);
+
+	@Mock
+	private MetricsRepository metricsRepository;
+
+	@Mock
+	private KeyMetricDescriptionRepository keyMetricDescriptionRepository;
+
+	@InjectMocks
+	private MetricCatalog metricCatalog;
+
+	@Test
+	@DisplayName("적재된 지표는 코드와 영문명으로 DB 조회 없이 찾는다")
+	void find_servesPreloadedMetrics() {
+		// given
+		MetricsEntity roa = MetricsEntity.create("ROA", "총자산이익률", "ROA", false);
+		MetricsEntity curRatio = MetricsEntity.create("CurRatio", "유동비율", "CurrentRatio", true);
+		givenTables(List.of(roa, curRatio), List.of());
+		metricCatalog.preload();
+
+		// when
+		Map<String, MetricsEntity> byCode = metricCatalog.findAllByCodes(List.of("ROA", "CurRatio"));
+		Map<String, MetricsEntity> byNameEn = metricCatalog.findAllByNameEns(List.of("CurrentRatio"));
+		Optional<MetricsEntity> single = metricCatalog.findByCode("ROA");
+
+		// then
+		assertThat(byCode).containsEntry("ROA", roa).containsEntry("CurRatio", curRatio);
+		assertThat(byNameEn).containsOnlyKeys("CurrentRatio");
+		assertThat(single).containsSame(roa);
+		verify(metricsRepository, never()).findAllByMetricCodeIn(anyCollection());
+		verify(metricsRepository, never()).findAllByMetricNameEnIn(anyCollection());
+		verify(metricsRepository, never()).findByMetricCode(anyString());
+	}
+
+	@Test
+	@DisplayName("카탈로그에 없는 코드만 DB에서 조회한다")
+	void findAllByCodes_queriesOnlyMissingCodes() {
+		// given
+		MetricsEntity roa = MetricsEntity.create("ROA", "총자산이익률", "ROA", false);
+		MetricsEntity roe = MetricsEntity.create("ROE", "자기자본이익률", "ROE", false);
+		givenTables(List.of(roa), List.of());
+		given(metricsRepository.findAllByMetricCodeIn(List.of("ROE", "UNKNOWN"))).willReturn(List.of(roe));
+		metricCatalog.preload();
+
+		// when
+		Map<String, MetricsEntity> result = metricCatalog.findAllByCodes(List.of("ROA", "ROE", "UNKNOWN"));
+
+		// then
+		assertThat(result).containsOnlyKeys("ROA", "ROE");
+		verify(metricsRepository).findAllByMetricCodeIn(List.of("ROE", "UNKNOWN"));
+	}
+
+	@Test
+	@DisplayName("핵심 건강도 설명도 카탈로그에서 찾는다")
+	void findKeyMetricDescriptions_servesPreloadedDescriptions() {
+		// given
+		KeyMetricDescriptionEntity network = KeyMetricDescriptionEntity.create(
+			"NETWORK_HEALTH", "내부 건강도", "점", "설명", "해석", "조치", null, null, null, true
+		);
+		givenTables(List.of(), List.of(network));
+		metricCatalog.preload();
+
+		// when
+		Map<String, KeyMetricDescriptionEntity> result = metricCatalog.findKeyMetricDescriptions(List.of("NETWORK_HEALTH"));
+
+		// then
+		assertThat(result).containsEntry("NETWORK_HEALTH", network);
+		verify(keyMetricDescriptionRepository, never()).findAllByMetricCodeIn(anyCollection());
+	}
+
+	@Test
+	@DisplayName("테이블 버전이 같으면 다시 적재하지 않는다")
+	void reloadIfChanged_skipsWhenVersionUnchanged() {
+		// given
+		givenTables(List.of(MetricsEntity.create("ROA", "총자산이익률", "ROA", false)), List.of());
+		metricCatalog.preload();
+
+		// when
+		boolean reloaded = metricCatalog.reloadIfChanged();
+
+		// then
+		assertThat(reloaded).isFalse();
+		verify(metricsRepository, times(1)).findAll();
+	}
+
+	@Test
+	@DisplayName("지표가 추가되면 다시 적재한다")
+	void reloadIfChanged_reloadsWhenCountChanges() {
+		// given
+		MetricsEntity roa = MetricsEntity.create("ROA", "총자산이익률", "ROA", false);
+		MetricsEntity roe = MetricsEntity.create("ROE", "자기자본이익률", "ROE", false);
+		givenTables(List.of(roa), List.of());
+		metricCatalog.preload();
+		given(metricsRepository.count()).willReturn(2L);
+		given(metricsRepository.findAll()).willReturn(List.of(roa, roe));
+
+		// when
+		boolean reloaded = metricCatalog.reloadIfChanged();
+
+		// then
+		assertThat(reloaded).isTrue();
+		assertThat(metricCatalog.findByCode("ROE")).containsSame(roe);
+		verify(metricsRepository, never()).findByMetricCode(anyString());
+	}
+
+	private void givenTables(List<MetricsEntity> metrics, List<KeyMetricDescriptionEntity> descriptions) {
+		given(metricsRepository.count()).willReturn((long) metrics.size());
+		given(metricsRepository.findMaxUpdatedAt()).willReturn(Optional.of(UPDATED_AT));
+		given(metricsRepository.findAll()).willReturn(metrics);
+		given(keyMetricDescriptionRepository.count()).willReturn((long) descriptions.size());
+		given(keyMetricDescriptionRepository.findMaxUpdatedAt()).willReturn(Optional.of(UPDATED_AT));
+		given(keyMetricDescriptionRepository.findAll()).willReturn(descriptions);
+	}
+}
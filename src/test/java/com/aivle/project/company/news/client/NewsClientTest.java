@@ -11,6 +11,8 @@ import okhttp3.mockwebserver.MockResponse;
 import okhttp3.mockwebserver.MockWebServer;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
 
 class NewsClientTest {
 
@@ -70,4 +72,43 @@ class NewsClientTest {
 					.hasMessageContaining("AI Server connection failed");
 			}
 		}
+
+	@Test
+	@DisplayName("비동기 뉴스 수집이 call-timeout을 넘기면 AI 장애로 끝난다")
+	void fetchNewsAsync_shouldFailWhenTimeoutExceeded() throws Exception {
+		// given
+		try (MockWebServer server = new MockWebServer()) {
+			server.start();
+			NewsClient newsClient = new NewsClient(server.url("/").toString(), false, 0, 100);
+			server.enqueue(new MockResponse()
+				.setBody("{}")
+				.addHeader("Content-Type", "application/json")
+				.setBodyDelay(500, TimeUnit.MILLISECONDS));
+
+			// when
+			Mono<NewsApiResponse> response = newsClient.fetchNewsAsync("900001", "테스트");
+
+			// then
+			StepVerifier.create(response)
+				.expectErrorSatisfies(error -> assertThat(error)
+					.isInstanceOfSatisfying(ExternalAiUnavailableException.class,
+						ex -> assertThat(ex.getReasonCode()).isEqualTo("AI_TIMEOUT")))
+				.verify();
+		}
+	}
+
+	@Test
+	@DisplayName("mock 모드에서 비동기 사업보고서 수집 응답을 반환한다")
+	void fetchReportAsync_shouldReturnMockResponseWhenMockModeEnabled() {
+		// given
+		NewsClient newsClient = new NewsClient("http://localhost:8080", true, 0);
+
+		// when
+		Mono<ReportApiResponse> response = newsClient.fetchReportAsync("900001");
+
+		// then
+		StepVerifier.create(response)
+			.assertNext(report -> assertThat(report.news()).isNotEmpty())
+			.verifyComplete();
+	}
 }
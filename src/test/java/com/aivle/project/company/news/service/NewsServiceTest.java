@@ -1,5 +1,7 @@
 package com.aivle.project.company.news.service;
 
+import com.aivle.project.common.transaction.ShortTransactionRunner;
+import com.aivle.project.company.dataversion.CompanyDataChangedEvent;
 import com.aivle.project.company.entity.CompaniesEntity;
 import com.aivle.project.company.news.client.NewsClient;
 import com.aivle.project.company.news.dto.NewsApiResponse;
@@ -13,6 +15,7 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.math.BigDecimal;
@@ -20,6 +23,7 @@ import java.time.LocalDateTime;
 import java.time.ZoneOffset;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -39,6 +43,12 @@ class NewsServiceTest {
     @Mock
     private com.aivle.project.company.repository.CompaniesRepository companiesRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private ShortTransactionRunner shortTransactionRunner;
+
     @InjectMocks
     private NewsService newsService;
 
@@ -47,6 +57,8 @@ class NewsServiceTest {
     @BeforeEach
     void setUp() {
         closeable = MockitoAnnotations.openMocks(this);
+        when(shortTransactionRunner.write(anyString(), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(1).get());
     }
 
     @Test
@@ -110,6 +122,7 @@ class NewsServiceTest {
         verify(newsClient, times(1)).fetchNews(stockCode, companyName);
         verify(newsAnalysisRepository, times(1)).save(any());
         verify(newsArticleRepository, times(1)).saveAll(anyList());
+        verify(eventPublisher, times(1)).publishEvent(CompanyDataChangedEvent.of(1L));
     }
 
     @Test
@@ -22,6 +22,7 @@ import com.aivle.project.company.report.entity.CompanyReportsEntity;
 import com.aivle.project.company.report.repository.CompanyReportMetricValuesRepository;
 import com.aivle.project.company.report.repository.CompanyReportVersionsRepository;
 import com.aivle.project.company.report.repository.CompanyReportsRepository;
+import com.aivle.project.company.report.service.CompanyReportLatestVersionService;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -47,6 +48,9 @@ class ReportMetricQueryControllerTest {
 	@Autowired
 	private MockMvc mockMvc;
 
+	@Autowired
+	private CompanyReportLatestVersionService companyReportLatestVersionService;
+
 	@Autowired
 	private CompaniesRepository companiesRepository;
 
@@ -116,6 +120,8 @@ class ReportMetricQueryControllerTest {
 			MetricValueType.ACTUAL
 		));
 
+		companyReportLatestVersionService.refresh(report.getId());
+
 		// when & then
 		mockMvc.perform(get("/api/reports/metrics/grouped")
 					.param("stockCode", "000020")
@@ -195,6 +201,8 @@ class ReportMetricQueryControllerTest {
 			MetricValueType.PREDICTED
 		));
 
+		companyReportLatestVersionService.refresh(report.getId());
+
 		// when & then
 		mockMvc.perform(get("/api/reports/metrics/predict-latest")
 					.param("stockCode", "000020")
@@ -0,0 +1,118 @@
+package com.aivle.project.company.report.quarter.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.aivle.project.company.report.quarter.entity.QuartersEntity;
+import com.aivle.project.company.report.quarter.repository.QuartersRepository;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class QuarterRegistryTest {
+
+	@Mock
+	private QuartersRepository quartersRepository;
+
+	@InjectMocks
+	private QuarterRegistry quarterRegistry;
+
+	@Test
+	@DisplayName("기동 시 적재한 분기는 DB 조회 없이 분기 키와 연도/분기로 찾는다")
+	void find_servesPreloadedQuarters() {
+		// given
+		QuartersEntity q20253 = quarter(2025, 3);
+		QuartersEntity q20261 = quarter(2026, 1);
+		given(quartersRepository.findAll()).willReturn(List.of(q20253, q20261));
+		quarterRegistry.preload();
+
+		// when
+		Optional<QuartersEntity> byKey = quarterRegistry.find(20261);
+		Optional<QuartersEntity> byYearQuarter = quarterRegistry.find(2025, 3);
+		QuartersEntity created = quarterRegistry.getOrCreate(20253);
+
+		// then
+		assertThat(byKey).containsSame(q20261);
+		assertThat(byYearQuarter).containsSame(q20253);
+		assertThat(created).isSameAs(q20253);
+		verify(quartersRepository, never()).findByQuarterKey(anyInt());
+		verify(quartersRepository, never()).save(any());
+	}
+
+	@Test
+	@DisplayName("없는 분기는 한 번만 생성하고 이후에는 레지스트리에서 찾는다")
+	void getOrCreate_createsMissingQuarterOnce() {
+		// given
+		QuartersEntity saved = quarter(2025, 4);
+		given(quartersRepository.findAll()).willReturn(List.of());
+		given(quartersRepository.findByQuarterKey(20254)).willReturn(Optional.empty());
+		given(quartersRepository.save(any(QuartersEntity.class))).willReturn(saved);
+		quarterRegistry.preload();
+
+		// when
+		QuartersEntity first = quarterRegistry.getOrCreate(20254);
+		QuartersEntity second = quarterRegistry.getOrCreate(20254);
+
+		// then
+		assertThat(first).isSameAs(saved);
+		assertThat(second).isSameAs(saved);
+		verify(quartersRepository, times(1)).save(any(QuartersEntity.class));
+	}
+
+	@Test
+	@DisplayName("같은 분기를 동시에 생성하면 INSERT는 한 번만 실행된다")
+	void getOrCreate_coalescesConcurrentCreation() throws Exception {
+		// given
+		QuartersEntity saved = quarter(2026, 2);
+		CountDownLatch saving = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		AtomicBoolean savedOnce = new AtomicBoolean();
+		given(quartersRepository.findByQuarterKey(20262)).willAnswer(invocation ->
+			savedOnce.get() ? Optional.of(saved) : Optional.empty());
+		given(quartersRepository.save(any(QuartersEntity.class))).willAnswer(invocation -> {
+			saving.countDown();
+			release.await(5, TimeUnit.SECONDS);
+			savedOnce.set(true);
+			return saved;
+		});
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+
+		try {
+			// when
+			Future<QuartersEntity> owner = executor.submit(() -> quarterRegistry.getOrCreate(20262));
+			assertThat(saving.await(5, TimeUnit.SECONDS)).isTrue();
+			Future<QuartersEntity> waiter = executor.submit(() -> quarterRegistry.getOrCreate(20262));
+			release.countDown();
+
+			// then
+			assertThat(owner.get(5, TimeUnit.SECONDS)).isSameAs(saved);
+			assertThat(waiter.get(5, TimeUnit.SECONDS)).isSameAs(saved);
+			verify(quartersRepository, times(1)).save(any(QuartersEntity.class));
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private QuartersEntity quarter(int year, int quarter) {
+		LocalDate start = LocalDate.of(year, (quarter - 1) * 3 + 1, 1);
+		return QuartersEntity.create(year, quarter, year * 10 + quarter, start, start.plusMonths(3).minusDays(1));
+	}
+}
@@ -14,6 +14,7 @@ import com.aivle.project.company.report.dto.ReportMetricRowProjection;
 import com.aivle.project.company.report.entity.CompanyReportMetricValuesEntity;
 import com.aivle.project.company.report.entity.CompanyReportVersionsEntity;
 import com.aivle.project.company.report.entity.CompanyReportsEntity;
+import com.aivle.project.company.report.service.CompanyReportLatestVersionService;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -28,7 +29,7 @@ import org.springframework.test.context.ActiveProfiles;
 
 @DataJpaTest
 @ActiveProfiles("test")
-@Import(QuerydslConfig.class)
+@Import({QuerydslConfig.class, CompanyReportLatestVersionService.class})
 class CompanyReportMetricValuesRepositoryTest {
 
 	@Autowired
@@ -49,6 +50,9 @@ class CompanyReportMetricValuesRepositoryTest {
 	@Autowired
 	private MetricsRepository metricsRepository;
 
+	@Autowired
+	private CompanyReportLatestVersionService companyReportLatestVersionService;
+
 	@Autowired
 	private JdbcTemplate jdbcTemplate;
 
@@ -139,6 +143,7 @@ class CompanyReportMetricValuesRepositoryTest {
 			new BigDecimal("3.33"),
 			MetricValueType.ACTUAL
 		));
+		companyReportLatestVersionService.refresh(report.getId());
 
 		// when
 		List<ReportMetricRowProjection> rows = companyReportMetricValuesRepository
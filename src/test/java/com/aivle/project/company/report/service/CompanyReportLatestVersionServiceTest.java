@@ -0,0 +1,256 @@
+package com.aivle.project.company.report.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.aivle.project.common.config.QuerydslConfig;
+import com.aivle.project.company.entity.CompaniesEntity;
+import com.aivle.project.company.repository.CompaniesRepository;
+import com.aivle.project.company.metric.entity.MetricValueType;
+import com.aivle.project.company.metric.entity.MetricsEntity;
+import com.aivle.project.company.metric.repository.MetricsRepository;
+import com.aivle.project.company.report.quarter.entity.QuartersEntity;
+import com.aivle.project.company.report.quarter.repository.QuartersRepository;
+import com.aivle.project.company.report.entity.CompanyReportLatestVersionEntity;
+import com.aivle.project.company.report.entity.CompanyReportMetricValuesEntity;
+import com.aivle.project.company.report.entity.CompanyReportVersionsEntity;
+import com.aivle.project.company.report.entity.CompanyReportsEntity;
+import com.aivle.project.company.report.repository.CompanyLatestActualQuarterRepository;
+import com.aivle.project.company.report.repository.CompanyReportLatestVersionRepository;
+import com.aivle.project.company.report.repository.CompanyReportMetricValuesRepository;
+import com.aivle.project.company.report.repository.CompanyReportVersionsRepository;
+import com.aivle.project.company.report.repository.CompanyReportsRepository;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({QuerydslConfig.class, CompanyReportLatestVersionService.class})
+class CompanyReportLatestVersionServiceTest {
+
+	@Autowired
+	private CompanyReportLatestVersionService companyReportLatestVersionService;
+
+	@Autowired
+	private CompanyReportLatestVersionRepository companyReportLatestVersionRepository;
+
+	@Autowired
+	private CompanyLatestActualQuarterRepository companyLatestActualQuarterRepository;
+
+	@Autowired
+	private CompaniesRepository companiesRepository;
+
+	@Autowired
+	private QuartersRepository quartersRepository;
+
+	@Autowired
+	private CompanyReportsRepository companyReportsRepository;
+
+	@Autowired
+	private CompanyReportVersionsRepository companyReportVersionsRepository;
+
+	@Autowired
+	private CompanyReportMetricValuesRepository companyReportMetricValuesRepository;
+
+	@Autowired
+	private MetricsRepository metricsRepository;
+
+	@Test
+	@DisplayName("값 유형별 최신 버전과 위험/비위험 지표 버전을 분리해 포인터를 만든다")
+	void refreshCreatesPointerPerValueType() {
+		// given
+		QuartersEntity quarter = createQuarter();
+		CompanyReportsEntity report = createReport("000101", quarter);
+		CompanyReportVersionsEntity v1 = createVersion(report, 1);
+		CompanyReportVersionsEntity v2 = createVersion(report, 2);
+		CompanyReportVersionsEntity v3 = createVersion(report, 3);
+		MetricsEntity roe = metricsRepository.findByMetricCode("ROE").orElseThrow();
+		MetricsEntity riskMetric = metricsRepository.save(MetricsEntity.create("TEST_RISK_LV", "위험지표", "risk", true));
+
+		saveValue(v1, roe, quarter, "1.0", MetricValueType.ACTUAL);
+		saveValue(v2, riskMetric, quarter, "2.0", MetricValueType.ACTUAL);
+		saveValue(v3, roe, quarter, "3.0", MetricValueType.PREDICTED);
+		saveValue(v3, roe, quarter, null, MetricValueType.ACTUAL);
+
+		// when
+		int changes = companyReportLatestVersionService.refresh(report.getId());
+
+		// then
+		assertThat(changes).isEqualTo(3);
+		CompanyReportLatestVersionEntity actual = findPointer(report, MetricValueType.ACTUAL);
+		assertThat(actual.getLatestVersionNo()).isEqualTo(2);
+		assertThat(actual.getLatestRiskVersionNo()).isEqualTo(2);
+		assertThat(actual.getLatestNonRiskVersionNo()).isEqualTo(1);
+		CompanyReportLatestVersionEntity predicted = findPointer(report, MetricValueType.PREDICTED);
+		assertThat(predicted.getLatestVersionNo()).isEqualTo(3);
+		assertThat(predicted.getLatestRiskVersionNo()).isNull();
+		assertThat(predicted.getLatestNonRiskVersionNo()).isEqualTo(3);
+	}
+
+	@Test
+	@DisplayName("새 버전 저장 후 refresh 하면 포인터를 갱신하고, 변경이 없으면 0을 반환한다")
+	void refreshUpdatesPointerAndIsIdempotent() {
+		// given
+		QuartersEntity quarter = createQuarter();
+		CompanyReportsEntity report = createReport("000102", quarter);
+		MetricsEntity roe = metricsRepository.findByMetricCode("ROE").orElseThrow();
+		saveValue(createVersion(report, 1), roe, quarter, "1.0", MetricValueType.ACTUAL);
+		companyReportLatestVersionService.refresh(report.getId());
+		saveValue(createVersion(report, 2), roe, quarter, "2.0", MetricValueType.ACTUAL);
+
+		// when
+		int mismatches = companyReportLatestVersionService.countMismatches(List.of(report.getId()));
+		int changes = companyReportLatestVersionService.refresh(report.getId());
+		int secondChanges = companyReportLatestVersionService.refresh(report.getId());
+
+		// then
+		assertThat(mismatches).isEqualTo(1);
+		assertThat(changes).isEqualTo(1);
+		assertThat(secondChanges).isZero();
+		assertThat(findPointer(report, MetricValueType.ACTUAL).getLatestVersionNo()).isEqualTo(2);
+	}
+
+	@Test
+	@DisplayName("예측값이 삭제되면 분기 키 기준 refresh로 PREDICTED 포인터를 제거한다")
+	void refreshRemovesStalePointer() {
+		// given
+		QuartersEntity quarter = createQuarter();
+		CompanyReportsEntity report = createReport("000103", quarter);
+		MetricsEntity roe = metricsRepository.findByMetricCode("ROE").orElseThrow();
+		saveValue(createVersion(report, 1), roe, quarter, "1.0", MetricValueType.ACTUAL);
+		saveValue(createVersion(report, 2), roe, quarter, "9.0", MetricValueType.PREDICTED);
+		companyReportLatestVersionService.refresh(report.getId());
+		companyReportMetricValuesRepository.deleteByCompanyIdAndQuarterKeyAndValueType(
+			report.getCompany().getId(),
+			quarter.getQuarterKey(),
+			MetricValueType.PREDICTED
+		);
+
+		// when
+		int changes = companyReportLatestVersionService.refreshByCompanyAndQuarterKey(
+			report.getCompany().getId(),
+			quarter.getQuarterKey()
+		);
+
+		// then
+		assertThat(changes).isEqualTo(1);
+		assertThat(companyReportLatestVersionRepository.findAllByCompanyReportIdIn(List.of(report.getId())))
+			.extracting(CompanyReportLatestVersionEntity::getValueType)
+			.containsExactly(MetricValueType.ACTUAL);
+	}
+
+	@Test
+	@DisplayName("기업별 최신 ACTUAL 분기 포인터를 보고서 refresh와 함께 갱신하고 제거한다")
+	void refreshMaintainsLatestActualQuarterPerCompany() {
+		// given
+		QuartersEntity quarter = createQuarter();
+		QuartersEntity nextQuarter = quartersRepository.save(QuartersEntity.create(
+			2025,
+			3,
+			20253,
+			LocalDate.of(2025, 7, 1),
+			LocalDate.of(2025, 9, 30)
+		));
+		CompanyReportsEntity report = createReport("000104", quarter);
+		Long companyId = report.getCompany().getId();
+		CompanyReportsEntity nextReport = companyReportsRepository.save(
+			CompanyReportsEntity.create(report.getCompany(), nextQuarter, null)
+		);
+		MetricsEntity roe = metricsRepository.findByMetricCode("ROE").orElseThrow();
+		saveValue(createVersion(report, 1), roe, quarter, "1.0", MetricValueType.ACTUAL);
+		saveValue(createVersion(nextReport, 1), roe, nextQuarter, "2.0", MetricValueType.PREDICTED);
+		companyReportLatestVersionService.refresh(List.of(report.getId(), nextReport.getId()));
+		int initialQuarterKey = companyLatestActualQuarterRepository.findById(companyId).orElseThrow().getQuarterKey();
+
+		// when
+		saveValue(createVersion(nextReport, 2), roe, nextQuarter, "3.0", MetricValueType.ACTUAL);
+		companyReportLatestVersionService.refresh(nextReport.getId());
+		int advancedQuarterKey = companyLatestActualQuarterRepository.findById(companyId).orElseThrow().getQuarterKey();
+		companyReportMetricValuesRepository.deleteByCompanyIdAndQuarterKeyAndValueType(companyId, 20252, MetricValueType.ACTUAL);
+		companyReportMetricValuesRepository.deleteByCompanyIdAndQuarterKeyAndValueType(companyId, 20253, MetricValueType.ACTUAL);
+		companyReportLatestVersionService.refresh(List.of(report.getId(), nextReport.getId()));
+
+		// then
+		assertThat(initialQuarterKey).isEqualTo(20252);
+		assertThat(advancedQuarterKey).isEqualTo(20253);
+		assertThat(companyLatestActualQuarterRepository.findById(companyId)).isEmpty();
+	}
+
+	@Test
+	@DisplayName("최신 ACTUAL 분기 포인터만 어긋나도 불일치로 세고 repair로 복구한다")
+	void countMismatchesIncludesStaleLatestActualQuarter() {
+		// given
+		QuartersEntity quarter = createQuarter();
+		CompanyReportsEntity report = createReport("000105", quarter);
+		Long companyId = report.getCompany().getId();
+		MetricsEntity roe = metricsRepository.findByMetricCode("ROE").orElseThrow();
+		saveValue(createVersion(report, 1), roe, quarter, "1.0", MetricValueType.ACTUAL);
+		companyReportLatestVersionService.refresh(report.getId());
+		companyLatestActualQuarterRepository.findById(companyId).orElseThrow().update(20251, LocalDateTime.now());
+
+		// when
+		int mismatches = companyReportLatestVersionService.countMismatches(List.of(report.getId()));
+		int repaired = companyReportLatestVersionService.repair(List.of(report.getId()));
+
+		// then
+		assertThat(mismatches).isEqualTo(1);
+		assertThat(repaired).isEqualTo(1);
+		assertThat(companyLatestActualQuarterRepository.findById(companyId).orElseThrow().getQuarterKey()).isEqualTo(20252);
+	}
+
+	private QuartersEntity createQuarter() {
+		return quartersRepository.save(QuartersEntity.create(
+			2025,
+			2,
+			20252,
+			LocalDate.of(2025, 4, 1),
+			LocalDate.of(2025, 6, 30)
+		));
+	}
+
+	private CompanyReportsEntity createReport(String stockCode, QuartersEntity quarter) {
+		CompaniesEntity company = companiesRepository.save(CompaniesEntity.create(
+			"00" + stockCode,
+			"포인터기업" + stockCode,
+			"POINTER_" + stockCode,
+			stockCode,
+			LocalDate.of(2025, 1, 1)
+		));
+		return companyReportsRepository.save(CompanyReportsEntity.create(company, quarter, null));
+	}
+
+	private CompanyReportVersionsEntity createVersion(CompanyReportsEntity report, int versionNo) {
+		return companyReportVersionsRepository.save(
+			CompanyReportVersionsEntity.create(report, versionNo, LocalDateTime.now(), true, null)
+		);
+	}
+
+	private void saveValue(
+		CompanyReportVersionsEntity version,
+		MetricsEntity metric,
+		QuartersEntity quarter,
+		String value,
+		MetricValueType valueType
+	) {
+		companyReportMetricValuesRepository.save(CompanyReportMetricValuesEntity.create(
+			version,
+			metric,
+			quarter,
+			value == null ? null : new BigDecimal(value),
+			valueType
+		));
+	}
+
+	private CompanyReportLatestVersionEntity findPointer(CompanyReportsEntity report, MetricValueType valueType) {
+		return companyReportLatestVersionRepository.findById(
+			new CompanyReportLatestVersionEntity.Key(report.getId(), valueType)
+		).orElseThrow();
+	}
+}
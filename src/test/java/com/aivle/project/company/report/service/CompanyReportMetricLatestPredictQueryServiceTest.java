@@ -42,6 +42,9 @@ class CompanyReportMetricLatestPredictQueryServiceTest {
 	@Autowired
 	private CompanyReportMetricQueryService companyReportMetricQueryService;
 
+	@Autowired
+	private CompanyReportLatestVersionService companyReportLatestVersionService;
+
 	@Autowired
 	private CompaniesRepository companiesRepository;
 
@@ -119,6 +122,8 @@ class CompanyReportMetricLatestPredictQueryServiceTest {
 			MetricValueType.PREDICTED
 		));
 
+		companyReportLatestVersionService.refresh(report.getId());
+
 		// when
 		ReportLatestPredictResponse response = companyReportMetricQueryService
 			.fetchLatestPredictMetrics("20", 20253);
@@ -174,6 +179,8 @@ class CompanyReportMetricLatestPredictQueryServiceTest {
 			MetricValueType.PREDICTED
 		));
 
+		companyReportLatestVersionService.refresh(report.getId());
+
 		// when
 		ReportLatestPredictResponse response = companyReportMetricQueryService
 			.fetchLatestPredictMetrics("30", 20253);
@@ -31,12 +31,15 @@ import org.springframework.test.context.ActiveProfiles;
 
 @DataJpaTest
 @ActiveProfiles("test")
-@Import({QuerydslConfig.class, CompanyReportMetricQueryService.class})
+@Import({QuerydslConfig.class, CompanyReportMetricQueryService.class, CompanyReportLatestVersionService.class})
 class CompanyReportMetricQueryServiceTest {
 
 	@Autowired
 	private CompanyReportMetricQueryService companyReportMetricQueryService;
 
+	@Autowired
+	private CompanyReportLatestVersionService companyReportLatestVersionService;
+
 	@Autowired
 	private CompanyReportMetricValuesRepository companyReportMetricValuesRepository;
 
@@ -118,6 +121,8 @@ class CompanyReportMetricQueryServiceTest {
 			);
 		});
 
+		companyReportLatestVersionService.refresh(report.getId());
+
 		// when
 		List<ReportMetricRowDto> rows = companyReportMetricQueryService.fetchLatestMetrics("20", 20244, 20253);
 
@@ -175,6 +180,8 @@ class CompanyReportMetricQueryServiceTest {
 			);
 		});
 
+		companyReportLatestVersionService.refresh(report.getId());
+
 		// when
 		List<ReportMetricRowDto> rows = companyReportMetricQueryService.fetchLatestMetrics("40", 20253, 20253);
 
@@ -270,6 +277,8 @@ class CompanyReportMetricQueryServiceTest {
 			invocation.getArgument(4)
 		));
 
+		companyReportLatestVersionService.refresh(report.getId());
+
 		// when
 		ReportMetricGroupedResponse response = companyReportMetricQueryService
 			.fetchLatestMetricsGrouped("30", 20244, 20253);
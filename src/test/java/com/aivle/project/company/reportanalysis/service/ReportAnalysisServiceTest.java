@@ -1,5 +1,6 @@
 package com.aivle.project.company.reportanalysis.service;
 
+import com.aivle.project.common.transaction.ShortTransactionRunner;
 import com.aivle.project.company.entity.CompaniesEntity;
 import com.aivle.project.company.news.client.NewsClient;
 import com.aivle.project.company.news.dto.NewsItemResponse;
@@ -13,6 +14,7 @@ import java.time.LocalDateTime;
 import java.time.ZoneOffset;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -25,6 +27,7 @@ import org.springframework.test.util.ReflectionTestUtils;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -43,6 +46,9 @@ class ReportAnalysisServiceTest {
 	@Mock
 	private CompaniesRepository companiesRepository;
 
+	@Mock
+	private ShortTransactionRunner shortTransactionRunner;
+
 	@InjectMocks
 	private ReportAnalysisService reportAnalysisService;
 
@@ -51,6 +57,8 @@ class ReportAnalysisServiceTest {
 	@BeforeEach
 	void setUp() {
 		closeable = MockitoAnnotations.openMocks(this);
+		when(shortTransactionRunner.write(anyString(), any()))
+			.thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(1).get());
 	}
 
 	@Test
@@ -0,0 +1,212 @@
+package com.aivle.project.company.saga;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.aivle.project.common.outbox.OutboxEvent;
+import com.aivle.project.common.outbox.OutboxRepository;
+import com.aivle.project.company.job.AiJobMessage;
+import com.aivle.project.company.service.AiReportRequestStatusService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class AiReportSagaOrchestratorTimeoutTest {
+
+	@Mock
+	private SagaInstanceRepository sagaInstanceRepository;
+
+	@Mock
+	private OutboxRepository outboxRepository;
+
+	@Mock
+	private AiReportRequestStatusService aiReportRequestStatusService;
+
+	private ObjectMapper objectMapper;
+
+	private SagaTimeoutProperties sagaTimeoutProperties;
+
+	private SimpleMeterRegistry meterRegistry;
+
+	private AiReportSagaOrchestrator orchestrator;
+
+	@BeforeEach
+	void setUp() {
+		objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+		sagaTimeoutProperties = new SagaTimeoutProperties();
+		meterRegistry = new SimpleMeterRegistry();
+		orchestrator = new AiReportSagaOrchestrator(
+			sagaInstanceRepository,
+			outboxRepository,
+			aiReportRequestStatusService,
+			objectMapper,
+			sagaTimeoutProperties,
+			meterRegistry
+		);
+		ReflectionTestUtils.setField(orchestrator, "requestTopic", "ai-job-request");
+		ReflectionTestUtils.setField(orchestrator, "rollbackTopic", "ai-job-rollback");
+	}
+
+	@Test
+	@DisplayName("재요청 한도 안이면 현재 단계 명령을 Outbox에 다시 적재하고 기한을 연장한다")
+	void handleStepTimeout_shouldRedispatchCurrentStep() throws Exception {
+		// given
+		SagaInstance saga = saga(SagaStatus.FINANCIAL_ANALYZED, "NEWS_ANALYSIS", 0);
+		when(sagaInstanceRepository.findByIdForUpdate("req-1")).thenReturn(Optional.of(saga));
+
+		// when
+		orchestrator.handleStepTimeout(SagaTimeoutCandidate.of(saga));
+
+		// then
+		ArgumentCaptor<OutboxEvent> eventCaptor = ArgumentCaptor.forClass(OutboxEvent.class);
+		verify(outboxRepository).save(eventCaptor.capture());
+		OutboxEvent event = eventCaptor.getValue();
+		assertThat(event.getEventType()).isEqualTo("AI_REPORT_NEWS_REQUEST");
+		assertThat(event.getTopic()).isEqualTo("ai-job-request");
+		AiJobMessage message = objectMapper.readValue(event.getPayload(), AiJobMessage.class);
+		assertThat(message.companyId()).isEqualTo(10L);
+		assertThat(saga.getStepAttempts()).isEqualTo(1);
+		assertThat(saga.getDeadlineAt()).isAfter(LocalDateTime.now());
+		assertThat(meterRegistry.get("saga.step.timeout").tag("action", "retry").counter().count()).isEqualTo(1.0);
+	}
+
+	@Test
+	@DisplayName("재요청 한도를 넘으면 뉴스 분석 단계는 재무 분석 보상으로 넘어간다")
+	void handleStepTimeout_shouldCompensateWhenAttemptsExhausted() {
+		// given
+		SagaInstance saga = saga(SagaStatus.FINANCIAL_ANALYZED, "NEWS_ANALYSIS", 2);
+		when(sagaInstanceRepository.findByIdForUpdate("req-1")).thenReturn(Optional.of(saga));
+
+		// when
+		orchestrator.handleStepTimeout(SagaTimeoutCandidate.of(saga));
+
+		// then
+		ArgumentCaptor<OutboxEvent> eventCaptor = ArgumentCaptor.forClass(OutboxEvent.class);
+		verify(outboxRepository).save(eventCaptor.capture());
+		assertThat(eventCaptor.getValue().getEventType()).isEqualTo("AI_REPORT_FINANCIAL_COMPENSATE");
+		assertThat(eventCaptor.getValue().getTopic()).isEqualTo("ai-job-rollback");
+		assertThat(saga.getStatus()).isEqualTo(SagaStatus.COMPENSATING);
+		assertThat(saga.getCurrentStep()).isEqualTo("COMPENSATE_FINANCIAL");
+		assertThat(saga.getStepAttempts()).isZero();
+		assertThat(meterRegistry.get("saga.step.duration").tag("step", "NEWS_ANALYSIS").timer().count()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("보상 단계마저 한도를 넘으면 최종 실패로 닫고 기한을 해제한다")
+	void handleStepTimeout_shouldFailWhenCompensationTimesOut() {
+		// given
+		SagaInstance saga = saga(SagaStatus.COMPENSATING, "COMPENSATE_FINANCIAL", 2);
+		when(sagaInstanceRepository.findByIdForUpdate("req-1")).thenReturn(Optional.of(saga));
+
+		// when
+		orchestrator.handleStepTimeout(SagaTimeoutCandidate.of(saga));
+
+		// then
+		assertThat(saga.getStatus()).isEqualTo(SagaStatus.FAILED);
+		assertThat(saga.getDeadlineAt()).isNull();
+		verify(outboxRepository, never()).save(any(OutboxEvent.class));
+		verify(aiReportRequestStatusService).updateFailed(eq("req-1"), anyString());
+	}
+
+	@Test
+	@DisplayName("선점 이후 단계가 진행되었으면 타임아웃 처리를 건너뛴다")
+	void handleStepTimeout_shouldSkipWhenStepProgressed() {
+		// given
+		SagaInstance saga = saga(SagaStatus.FINANCIAL_ANALYZED, "NEWS_ANALYSIS", 0);
+		SagaTimeoutCandidate candidate = new SagaTimeoutCandidate("req-1", "FINANCIAL_ANALYSIS", 0);
+		when(sagaInstanceRepository.findByIdForUpdate("req-1")).thenReturn(Optional.of(saga));
+
+		// when
+		orchestrator.handleStepTimeout(candidate);
+
+		// then
+		verify(outboxRepository, never()).save(any(OutboxEvent.class));
+		assertThat(saga.getStepAttempts()).isZero();
+	}
+
+	@Test
+	@DisplayName("타임아웃으로 보상이 시작된 뒤 늦게 도착한 성공 응답은 Saga를 전진시키지 않는다")
+	void onNewsAnalysisSuccess_shouldDropReplyAfterWatchdogCompensation() {
+		// given
+		SagaInstance saga = saga(SagaStatus.FINANCIAL_ANALYZED, "NEWS_ANALYSIS", 2);
+		when(sagaInstanceRepository.findByIdForUpdate("req-1")).thenReturn(Optional.of(saga));
+		orchestrator.handleStepTimeout(SagaTimeoutCandidate.of(saga));
+
+		// when
+		orchestrator.onNewsAnalysisSuccess("req-1", "{}");
+
+		// then
+		ArgumentCaptor<OutboxEvent> eventCaptor = ArgumentCaptor.forClass(OutboxEvent.class);
+		verify(outboxRepository).save(eventCaptor.capture());
+		assertThat(eventCaptor.getValue().getEventType()).isEqualTo("AI_REPORT_FINANCIAL_COMPENSATE");
+		assertThat(saga.getStatus()).isEqualTo(SagaStatus.COMPENSATING);
+		assertThat(saga.getCurrentStep()).isEqualTo("COMPENSATE_FINANCIAL");
+		assertThat(meterRegistry.get("saga.reply.stale").tag("step", "NEWS_ANALYSIS").counter().count()).isEqualTo(1.0);
+	}
+
+	@Test
+	@DisplayName("단계 재요청 뒤 중복으로 도착한 성공 응답은 다음 단계 명령을 한 번만 적재한다")
+	void onFinancialAnalysisSuccess_shouldDropDuplicateReplyAfterRetry() {
+		// given
+		SagaInstance saga = saga(SagaStatus.STARTED, "FINANCIAL_ANALYSIS", 0);
+		when(sagaInstanceRepository.findByIdForUpdate("req-1")).thenReturn(Optional.of(saga));
+		orchestrator.handleStepTimeout(SagaTimeoutCandidate.of(saga));
+
+		// when
+		orchestrator.onFinancialAnalysisSuccess("req-1", "{}");
+		orchestrator.onFinancialAnalysisSuccess("req-1", "{}");
+
+		// then
+		ArgumentCaptor<OutboxEvent> eventCaptor = ArgumentCaptor.forClass(OutboxEvent.class);
+		verify(outboxRepository, times(2)).save(eventCaptor.capture());
+		assertThat(eventCaptor.getAllValues())
+			.extracting(OutboxEvent::getEventType)
+			.containsExactly("AI_REPORT_FINANCIAL_REQUEST", "AI_REPORT_NEWS_REQUEST");
+		assertThat(saga.getStatus()).isEqualTo(SagaStatus.FINANCIAL_ANALYZED);
+		assertThat(saga.getCurrentStep()).isEqualTo("NEWS_ANALYSIS");
+		verify(aiReportRequestStatusService, times(1)).updateProcessing("req-1");
+	}
+
+	@Test
+	@DisplayName("종료된 Saga는 다른 상태로 전이할 수 없다")
+	void transitionTo_shouldRejectLeavingTerminalStatus() {
+		// given
+		SagaInstance saga = saga(SagaStatus.COMPENSATED, "FAILED", 0);
+
+		// when & then
+		assertThatThrownBy(() -> saga.transitionTo(SagaStatus.NEWS_ANALYZED, "COMMENT_COMPILATION"))
+			.isInstanceOf(IllegalStateException.class);
+		assertThat(saga.getStatus()).isEqualTo(SagaStatus.COMPENSATED);
+	}
+
+	private SagaInstance saga(SagaStatus status, String step, int attempts) {
+		return SagaInstance.builder()
+			.id("req-1")
+			.sagaType("AI_REPORT_GENERATION")
+			.status(status)
+			.currentStep(step)
+			.payload("{\"requestId\":\"req-1\",\"type\":\"AI_FINANCIAL_ANALYSIS\",\"companyId\":10,\"year\":2025,\"quarter\":3}")
+			.stepStartedAt(LocalDateTime.now().minusMinutes(15))
+			.deadlineAt(LocalDateTime.now().minusMinutes(5))
+			.stepAttempts(attempts)
+			.build();
+	}
+}
@@ -0,0 +1,192 @@
+package com.aivle.project.company.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.aivle.project.company.repository.CompaniesRepository;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class CompanySearchIndexTest {
+
+	private static final CompanySearchEntry SAMSUNG_ELECTRONICS =
+		new CompanySearchEntry(1L, "00126380", "삼성전자", "SAMSUNG ELECTRONICS CO,.LTD", "005930");
+	private static final CompanySearchEntry SAMSUNG_SDI =
+		new CompanySearchEntry(2L, "00126362", "삼성SDI", "SAMSUNG SDI CO.,LTD.", "006400");
+	private static final CompanySearchEntry LG_ELECTRONICS =
+		new CompanySearchEntry(3L, "00401731", "LG전자", "LG Electronics Inc.", "066570");
+	private static final CompanySearchEntry KT =
+		new CompanySearchEntry(4L, "00190321", "케이티", "KT Corporation", "030200");
+
+	@Mock
+	private CompaniesRepository companiesRepository;
+
+	@InjectMocks
+	private CompanySearchIndex companySearchIndex;
+
+	@Test
+	@DisplayName("적재 전에는 준비되지 않은 상태이며 빈 결과를 반환한다")
+	void search_returnsEmptyBeforeBuild() {
+		// when
+		List<CompanySearchEntry> result = companySearchIndex.search("삼성", 10);
+
+		// then
+		assertThat(companySearchIndex.isReady()).isFalse();
+		assertThat(result).isEmpty();
+	}
+
+	@Test
+	@DisplayName("앞부분 일치가 부분 일치보다 먼저 나오고 같은 점수면 짧은 기업명이 먼저 나온다")
+	void search_ranksPrefixBeforeContains() {
+		// given
+		CompanySearchEntry koreaSamsung = new CompanySearchEntry(5L, "00000005", "한국삼성", null, "000005");
+		givenCompanies(List.of(koreaSamsung, SAMSUNG_SDI, SAMSUNG_ELECTRONICS, LG_ELECTRONICS, KT));
+
+		// when
+		List<CompanySearchEntry> result = companySearchIndex.search("삼성", 10);
+
+		// then
+		assertThat(result).containsExactly(SAMSUNG_ELECTRONICS, SAMSUNG_SDI, koreaSamsung);
+		assertThat(companySearchIndex.search("삼성전", 10)).containsExactly(SAMSUNG_ELECTRONICS);
+	}
+
+	@Test
+	@DisplayName("초성만 입력하면 기업명 초성으로 찾는다")
+	void search_matchesChoseong() {
+		// given
+		givenCompanies(List.of(SAMSUNG_ELECTRONICS, SAMSUNG_SDI, LG_ELECTRONICS, KT));
+
+		// when
+		List<CompanySearchEntry> twoLetters = companySearchIndex.search("ㅅㅅ", 10);
+		List<CompanySearchEntry> mixed = companySearchIndex.search("삼ㅅㅈ", 10);
+		List<CompanySearchEntry> single = companySearchIndex.search("ㅋ", 10);
+
+		// then
+		assertThat(twoLetters).containsExactly(SAMSUNG_ELECTRONICS, SAMSUNG_SDI);
+		assertThat(mixed).containsExactly(SAMSUNG_ELECTRONICS);
+		assertThat(single).containsExactly(KT);
+	}
+
+	@Test
+	@DisplayName("영문명은 대소문자와 공백을 무시하고 종목코드도 앞부분으로 찾는다")
+	void search_foldsEnglishAndMatchesStockCode() {
+		// given
+		givenCompanies(List.of(SAMSUNG_ELECTRONICS, SAMSUNG_SDI, LG_ELECTRONICS, KT));
+
+		// when
+		List<CompanySearchEntry> english = companySearchIndex.search("lg elec", 10);
+		List<CompanySearchEntry> stockCode = companySearchIndex.search("0059", 10);
+
+		// then
+		assertThat(english).containsExactly(LG_ELECTRONICS);
+		assertThat(stockCode).containsExactly(SAMSUNG_ELECTRONICS);
+	}
+
+	@Test
+	@DisplayName("limit만큼 점수 상위 결과만 반환한다")
+	void search_limitsTopResults() {
+		// given
+		givenCompanies(List.of(SAMSUNG_ELECTRONICS, SAMSUNG_SDI, LG_ELECTRONICS, KT));
+
+		// when
+		List<CompanySearchEntry> result = companySearchIndex.search("삼성", 1);
+
+		// then
+		assertThat(result).containsExactly(SAMSUNG_ELECTRONICS);
+	}
+
+	@Test
+	@DisplayName("변경된 법인 코드만 다시 읽어 색인을 교체한다")
+	void applyPendingChanges_refreshesOnlyChangedCompanies() {
+		// given
+		givenCompanies(List.of(SAMSUNG_ELECTRONICS, KT));
+		CompanySearchEntry renamed = new CompanySearchEntry(4L, "00190321", "케이티홀딩스", "KT Holdings", "030200");
+		given(companiesRepository.findSearchEntriesByCorpCodes(List.of("00190321"))).willReturn(List.of(renamed));
+		companySearchIndex.markChanged(Set.of("00190321"));
+
+		// when
+		int changed = companySearchIndex.applyPendingChanges();
+
+		// then
+		assertThat(changed).isEqualTo(1);
+		assertThat(companySearchIndex.search("홀딩스", 10)).containsExactly(renamed);
+		assertThat(companySearchIndex.search("삼성", 10)).containsExactly(SAMSUNG_ELECTRONICS);
+		assertThat(companySearchIndex.applyPendingChanges()).isZero();
+	}
+
+	@Test
+	@DisplayName("종목 코드가 사라진 기업은 색인에서 제거된다")
+	void applyPendingChanges_removesDelistedCompanies() {
+		// given
+		givenCompanies(List.of(SAMSUNG_ELECTRONICS, KT));
+		given(companiesRepository.findSearchEntriesByCorpCodes(List.of("00190321"))).willReturn(List.of());
+		companySearchIndex.markChanged(Set.of("00190321"));
+
+		// when
+		companySearchIndex.applyPendingChanges();
+
+		// then
+		assertThat(companySearchIndex.search("케이티", 10)).isEmpty();
+	}
+
+	@Test
+	@DisplayName("적재 전 변경 기록은 무시한다")
+	void markChanged_ignoredBeforeBuild() {
+		// given
+		companySearchIndex.markChanged(Set.of("00190321"));
+
+		// when
+		int changed = companySearchIndex.applyPendingChanges();
+
+		// then
+		assertThat(changed).isZero();
+		verify(companiesRepository, never()).findSearchEntriesByCorpCodes(anyCollection());
+	}
+
+	@Test
+	@DisplayName("다른 노드가 바꾼 기업도 companies 테이블 버전이 바뀌면 다시 적재해 반영한다")
+	void rebuildIfChanged_picksUpChangesFromOtherNode() {
+		// given
+		List<CompanySearchEntry> table = new ArrayList<>(List.of(SAMSUNG_ELECTRONICS, KT));
+		AtomicReference<LocalDateTime> lastUpdatedAt = new AtomicReference<>(LocalDateTime.of(2026, 1, 1, 0, 0));
+		given(companiesRepository.findAllSearchEntries()).willAnswer(invocation -> List.copyOf(table));
+		given(companiesRepository.count()).willAnswer(invocation -> (long) table.size());
+		given(companiesRepository.findMaxUpdatedAt()).willAnswer(invocation -> Optional.of(lastUpdatedAt.get()));
+		CompanySearchIndex otherNodeIndex = new CompanySearchIndex(companiesRepository);
+		ReflectionTestUtils.setField(otherNodeIndex, "enabled", true);
+		otherNodeIndex.rebuild();
+		boolean beforeChange = otherNodeIndex.rebuildIfChanged();
+
+		// when
+		CompanySearchEntry renamed = new CompanySearchEntry(4L, "00190321", "케이티홀딩스", "KT Holdings", "030200");
+		table.set(1, renamed);
+		lastUpdatedAt.set(LocalDateTime.of(2026, 1, 2, 0, 0));
+		boolean afterChange = otherNodeIndex.rebuildIfChanged();
+
+		// then
+		assertThat(beforeChange).isFalse();
+		assertThat(afterChange).isTrue();
+		assertThat(otherNodeIndex.search("홀딩스", 10)).containsExactly(renamed);
+		assertThat(otherNodeIndex.rebuildIfChanged()).isFalse();
+	}
+
+	private void givenCompanies(List<CompanySearchEntry> entries) {
+		given(companiesRepository.findAllSearchEntries()).willReturn(entries);
+		companySearchIndex.rebuild();
+	}
+}
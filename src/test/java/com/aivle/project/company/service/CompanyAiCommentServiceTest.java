@@ -6,13 +6,19 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 
 import com.aivle.project.common.config.QuerydslConfig;
+import com.aivle.project.common.transaction.ShortTransactionRunner;
+import com.aivle.project.company.client.AiBatchCoalescer;
 import com.aivle.project.company.client.AiServerClient;
 import com.aivle.project.company.dto.AiCommentResponse;
 import com.aivle.project.company.dto.AiHealthScoreResponse;
 import com.aivle.project.company.entity.CompaniesEntity;
+import com.aivle.project.company.identity.CompanyIdentityCache;
+import com.aivle.project.company.identity.CompanyIdentityCacheProperties;
 import com.aivle.project.company.keymetric.entity.CompanyKeyMetricEntity;
 import com.aivle.project.company.keymetric.entity.CompanyKeyMetricRiskLevel;
 import com.aivle.project.company.keymetric.repository.CompanyKeyMetricRepository;
+import com.aivle.project.company.report.quarter.service.QuarterRegistry;
+import com.aivle.project.company.report.service.CompanyLatestActualQuarterCache;
 import com.aivle.project.company.repository.CompaniesRepository;
 import com.aivle.project.company.industry.entity.IndustryEntity;
 import com.aivle.project.company.industry.entity.IndustryRepository;
@@ -29,6 +35,7 @@ import com.aivle.project.company.report.entity.CompanyReportsEntity;
 import com.aivle.project.company.report.repository.CompanyReportMetricValuesRepository;
 import com.aivle.project.company.report.repository.CompanyReportVersionsRepository;
 import com.aivle.project.company.report.repository.CompanyReportsRepository;
+import com.aivle.project.company.singleflight.AiFillSingleFlight;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -46,7 +53,13 @@ import org.springframework.test.context.ActiveProfiles;
 @Import({
 	QuerydslConfig.class,
 	CompanyAiCommentService.class,
-	CompanyHealthScoreCacheService.class
+	CompanyHealthScoreCacheService.class,
+	QuarterRegistry.class,
+	CompanyIdentityCache.class,
+	CompanyIdentityCacheProperties.class,
+	CompanyLatestActualQuarterCache.class,
+	AiFillSingleFlight.class,
+	ShortTransactionRunner.class
 })
 class CompanyAiCommentServiceTest {
 
@@ -80,6 +93,9 @@ class CompanyAiCommentServiceTest {
 	@MockBean
 	private AiServerClient aiServerClient;
 
+	@MockBean
+	private AiBatchCoalescer aiBatchCoalescer;
+
 	@Test
 	@DisplayName("동일 기업/동일 분기에 ai_comment가 있으면 DB 값을 반환하고 AI 호출을 생략한다")
 	void returnCachedCommentWhenExists() {
@@ -13,7 +13,8 @@ import com.aivle.project.file.repository.FilesRepository;
 import com.aivle.project.file.storage.FileStorageService;
 import com.aivle.project.file.storage.StoredFile;
 import com.aivle.project.company.report.quarter.entity.QuartersEntity;
-import com.aivle.project.company.report.quarter.repository.QuartersRepository;
+import com.aivle.project.company.report.quarter.service.QuarterRegistry;
+import com.aivle.project.company.report.quarter.support.YearQuarter;
 import com.aivle.project.company.report.entity.CompanyReportVersionsEntity;
 import com.aivle.project.company.report.entity.CompanyReportsEntity;
 import com.aivle.project.company.report.repository.CompanyReportsRepository;
@@ -42,7 +43,7 @@ class CompanyAiReportStoreServiceTest {
 	@Mock
 	private FilesRepository filesRepository;
 	@Mock
-	private QuartersRepository quartersRepository;
+	private QuarterRegistry quarterRegistry;
 	@Mock
 	private CompanyReportsRepository companyReportsRepository;
 	@Mock
@@ -80,7 +81,7 @@ class CompanyAiReportStoreServiceTest {
 		given(companiesRepository.findById(companyId)).willReturn(Optional.of(company));
 		given(fileStorageService.store(any(), eq("reports/005930/2026/1"))).willReturn(stored);
 		given(filesRepository.save(any(FilesEntity.class))).willReturn(savedFile);
-		given(quartersRepository.findByYearAndQuarter((short) year, (byte) quarter)).willReturn(Optional.of(quarterEntity));
+		given(quarterRegistry.getOrCreate(new YearQuarter(year, quarter))).willReturn(quarterEntity);
 		given(companyReportsRepository.findByCompanyIdAndQuarterId(companyId, quarterEntity.getId())).willReturn(Optional.of(report));
 		given(companyReportVersionIssueService.issueNextVersion(eq(report), eq(true), eq(savedFile)))
 			.willReturn(CompanyReportVersionsEntity.create(report, 1, LocalDateTime.now(), true, savedFile));
@@ -5,12 +5,16 @@ import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.verifyNoInteractions;
 
 import com.aivle.project.common.config.QuerydslConfig;
-import com.aivle.project.company.client.AiServerClient;
+import com.aivle.project.common.transaction.ShortTransactionRunner;
+import com.aivle.project.company.client.AiBatchCoalescer;
 import com.aivle.project.company.dto.AiHealthScoreResponse;
 import com.aivle.project.company.entity.CompaniesEntity;
+import com.aivle.project.company.identity.CompanyIdentityCache;
+import com.aivle.project.company.identity.CompanyIdentityCacheProperties;
 import com.aivle.project.company.keymetric.entity.CompanyKeyMetricEntity;
 import com.aivle.project.company.keymetric.entity.CompanyKeyMetricRiskLevel;
 import com.aivle.project.company.keymetric.repository.CompanyKeyMetricRepository;
+import com.aivle.project.company.report.quarter.service.QuarterRegistry;
 import com.aivle.project.company.repository.CompaniesRepository;
 import com.aivle.project.company.industry.entity.IndustryEntity;
 import com.aivle.project.company.industry.entity.IndustryRepository;
@@ -18,6 +22,7 @@ import com.aivle.project.company.report.quarter.entity.QuartersEntity;
 import com.aivle.project.company.report.quarter.repository.QuartersRepository;
 import com.aivle.project.company.report.quarter.support.QuarterCalculator;
 import com.aivle.project.company.report.quarter.support.YearQuarter;
+import com.aivle.project.company.singleflight.AiFillSingleFlight;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -32,7 +37,15 @@ import org.springframework.test.context.ActiveProfiles;
 
 @DataJpaTest
 @ActiveProfiles("test")
-@Import({QuerydslConfig.class, CompanyHealthScoreCacheService.class})
+@Import({
+	QuerydslConfig.class,
+	CompanyHealthScoreCacheService.class,
+	QuarterRegistry.class,
+	CompanyIdentityCache.class,
+	CompanyIdentityCacheProperties.class,
+	AiFillSingleFlight.class,
+	ShortTransactionRunner.class
+})
 class CompanyHealthScoreCacheServiceTest {
 
 	@Autowired
@@ -51,7 +64,7 @@ class CompanyHealthScoreCacheServiceTest {
 	private CompanyKeyMetricRepository companyKeyMetricRepository;
 
 	@MockBean
-	private AiServerClient aiServerClient;
+	private AiBatchCoalescer aiBatchCoalescer;
 
 	@Test
 	@DisplayName("재무건전성 점수가 없으면 AI 응답을 캐시하고 저장한다")
@@ -67,7 +80,7 @@ class CompanyHealthScoreCacheServiceTest {
 			industry
 		));
 
-		given(aiServerClient.getHealthScore(company.getStockCode()))
+		given(aiBatchCoalescer.getHealthScore(company.getStockCode()))
 			.willReturn(new AiHealthScoreResponse(
 				company.getStockCode(),
 				company.getCorpName(),
@@ -136,7 +149,7 @@ class CompanyHealthScoreCacheServiceTest {
 		companyHealthScoreCacheService.ensureHealthScoreCached(company.getId(), quarterKey);
 
 		// then
-		verifyNoInteractions(aiServerClient);
+		verifyNoInteractions(aiBatchCoalescer);
 	}
 
 	@Test
@@ -154,7 +167,7 @@ class CompanyHealthScoreCacheServiceTest {
 		));
 		int quarterKey = 20252;
 
-		given(aiServerClient.getHealthScore(company.getStockCode()))
+		given(aiBatchCoalescer.getHealthScore(company.getStockCode()))
 			.willReturn(new AiHealthScoreResponse(
 				company.getStockCode(),
 				company.getCorpName(),
@@ -3,14 +3,18 @@ package com.aivle.project.company.service;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import com.aivle.project.common.config.QuerydslConfig;
+import com.aivle.project.common.transaction.ShortTransactionRunner;
 import com.aivle.project.company.dto.CompanyInfoDto;
 import com.aivle.project.company.entity.CompaniesEntity;
+import com.aivle.project.company.identity.CompanyIdentityCache;
+import com.aivle.project.company.identity.CompanyIdentityCacheProperties;
 import com.aivle.project.company.keymetric.entity.CompanyKeyMetricEntity;
 import com.aivle.project.company.keymetric.entity.CompanyKeyMetricRiskLevel;
 import com.aivle.project.company.keymetric.repository.CompanyKeyMetricRepository;
 import com.aivle.project.company.news.entity.NewsAnalysisEntity;
 import com.aivle.project.company.news.repository.NewsAnalysisRepository;
 import com.aivle.project.company.news.service.NewsService;
+import com.aivle.project.company.report.service.CompanyLatestActualQuarterCache;
 import com.aivle.project.company.repository.CompaniesRepository;
 import com.aivle.project.company.industry.entity.IndustryEntity;
 import com.aivle.project.company.industry.entity.IndustryRepository;
@@ -35,7 +39,11 @@ import org.springframework.test.context.ActiveProfiles;
 	QuerydslConfig.class,
 	CompanyInfoService.class,
 	CompanySectorService.class,
-	CompanyReputationScoreService.class
+	CompanyReputationScoreService.class,
+	CompanyIdentityCache.class,
+	CompanyIdentityCacheProperties.class,
+	CompanyLatestActualQuarterCache.class,
+	ShortTransactionRunner.class
 })
 class CompanyInfoServiceTest {
 
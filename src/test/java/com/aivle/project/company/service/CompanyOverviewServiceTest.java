@@ -3,14 +3,22 @@ package com.aivle.project.company.service;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import com.aivle.project.common.config.QuerydslConfig;
+import com.aivle.project.common.transaction.ShortTransactionRunner;
+import com.aivle.project.company.client.AiBatchCoalescer;
 import com.aivle.project.company.client.AiServerClient;
+import com.aivle.project.company.dataversion.CompanyDataVersionJdbcRepository;
+import com.aivle.project.company.dataversion.CompanyDataVersionService;
 import com.aivle.project.company.dto.CompanyOverviewResponseDto;
 import com.aivle.project.company.entity.CompaniesEntity;
+import com.aivle.project.company.identity.CompanyIdentityCache;
+import com.aivle.project.company.identity.CompanyIdentityCacheProperties;
 import com.aivle.project.company.keymetric.entity.CompanyKeyMetricEntity;
 import com.aivle.project.company.keymetric.entity.CompanyKeyMetricRiskLevel;
 import com.aivle.project.company.keymetric.entity.KeyMetricDescriptionEntity;
 import com.aivle.project.company.keymetric.repository.CompanyKeyMetricRepository;
 import com.aivle.project.company.keymetric.repository.KeyMetricDescriptionRepository;
+import com.aivle.project.company.report.quarter.service.QuarterRegistry;
+import com.aivle.project.company.report.service.CompanyLatestActualQuarterCache;
 import com.aivle.project.company.repository.CompaniesRepository;
 import com.aivle.project.company.industry.entity.IndustryEntity;
 import com.aivle.project.company.industry.entity.IndustryRepository;
@@ -18,6 +26,7 @@ import com.aivle.project.company.metric.entity.MetricValueType;
 import com.aivle.project.company.metric.entity.MetricsEntity;
 import com.aivle.project.company.metric.repository.MetricDescriptionRepository;
 import com.aivle.project.company.metric.repository.MetricsRepository;
+import com.aivle.project.company.metric.service.MetricCatalog;
 import com.aivle.project.company.metric.entity.MetricDescriptionEntity;
 import com.aivle.project.company.report.quarter.entity.QuartersEntity;
 import com.aivle.project.company.report.quarter.repository.QuartersRepository;
@@ -31,9 +40,12 @@ import com.aivle.project.company.report.repository.CompanyReportMetricValuesRepo
 import com.aivle.project.company.report.repository.CompanyReportVersionsRepository;
 import com.aivle.project.company.report.repository.CompanyReportsRepository;
 import com.aivle.project.company.report.service.CompanyReportVersionIssueService;
+import com.aivle.project.company.report.service.CompanyReportLatestVersionService;
+import com.aivle.project.company.singleflight.AiFillSingleFlight;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.List;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -50,13 +62,27 @@ import org.springframework.test.context.ActiveProfiles;
 	CompanyInfoService.class,
 	CompanySectorService.class,
 	CompanyHealthScoreCacheService.class,
-	CompanyPredictionCacheService.class
+	CompanyPredictionCacheService.class,
+	CompanyReportLatestVersionService.class,
+	QuarterRegistry.class,
+	MetricCatalog.class,
+	CompanyIdentityCache.class,
+	CompanyIdentityCacheProperties.class,
+	CompanyLatestActualQuarterCache.class,
+	CompanyDataVersionService.class,
+	CompanyDataVersionJdbcRepository.class,
+	CompanyOverviewResponseCache.class,
+	AiFillSingleFlight.class,
+	ShortTransactionRunner.class
 })
 class CompanyOverviewServiceTest {
 
 	@Autowired
 	private CompanyOverviewService companyOverviewService;
 
+	@Autowired
+	private CompanyReportLatestVersionService companyReportLatestVersionService;
+
 	@Autowired
 	private CompaniesRepository companiesRepository;
 
@@ -90,6 +116,9 @@ class CompanyOverviewServiceTest {
 	@MockBean
 	private AiServerClient aiServerClient;
 
+	@MockBean
+	private AiBatchCoalescer aiBatchCoalescer;
+
 	@MockBean
 	private CompanySignalCacheService companySignalCacheService;
 
@@ -223,6 +252,8 @@ class CompanyOverviewServiceTest {
 			LocalDateTime.now()
 		));
 
+		companyReportLatestVersionService.refresh(List.of(report.getId(), nextReport.getId()));
+
 		// when
 		CompanyOverviewResponseDto result = companyOverviewService.getOverview(company.getId(), String.valueOf(quarterKey));
 
@@ -239,6 +270,56 @@ class CompanyOverviewServiceTest {
 		assertThat(result.getSignals().get(0).getLevel().name()).isEqualTo("GREEN");
 	}
 
+	@Test
+	@DisplayName("지표 값이 갱신되면 개요 버전과 ETag가 바뀐다")
+	void resolveVersion_changesAfterMetricRefresh() {
+		// given
+		CompaniesEntity company = companiesRepository.save(CompaniesEntity.create(
+			"00000004",
+			"버전기업",
+			"VERSION_CO",
+			"000050",
+			LocalDate.of(2025, 1, 1)
+		));
+		YearQuarter yearQuarter = QuarterCalculator.parseQuarterKey(20251);
+		QuartersEntity quarter = quartersRepository.save(QuartersEntity.create(
+			yearQuarter.year(),
+			yearQuarter.quarter(),
+			20251,
+			QuarterCalculator.startDate(yearQuarter),
+			QuarterCalculator.endDate(yearQuarter)
+		));
+		CompanyOverviewService.OverviewVersion before = companyOverviewService.resolveVersion(company.getId(), null);
+
+		CompanyReportsEntity report = companyReportsRepository.save(CompanyReportsEntity.create(company, quarter, null));
+		CompanyReportVersionsEntity version = companyReportVersionsRepository.save(CompanyReportVersionsEntity.create(
+			report,
+			1,
+			LocalDateTime.now(),
+			true,
+			null
+		));
+		MetricsEntity metric = metricsRepository.save(MetricsEntity.create("VERSION_METRIC", "버전지표", "VERSION_METRIC", false));
+		companyReportMetricValuesRepository.save(CompanyReportMetricValuesEntity.create(
+			version,
+			metric,
+			quarter,
+			BigDecimal.ONE,
+			MetricValueType.ACTUAL
+		));
+
+		// when
+		companyReportLatestVersionService.refresh(report.getId());
+		CompanyOverviewService.OverviewVersion after = companyOverviewService.resolveVersion(company.getId(), null);
+
+		// then
+		assertThat(before.quarterKey()).isNull();
+		assertThat(after.quarterKey()).isEqualTo(20251);
+		assertThat(after.dataVersion()).isEqualTo(before.dataVersion() + 1);
+		assertThat(after.toETag()).isNotEqualTo(before.toETag());
+		assertThat(companyOverviewService.resolveVersion(company.getId(), "202501")).isEqualTo(after);
+	}
+
 	@Test
 	@DisplayName("기업 개요 지표는 위험/비위험 지표의 최신 버전을 함께 조회한다")
 	void getOverviewWithRiskAndNonRiskLatestVersions() {
@@ -322,6 +403,8 @@ class CompanyOverviewServiceTest {
 		nonRiskValue.applySignal(SignalColor.GREEN, "양호", BigDecimal.valueOf(25));
 		companyReportMetricValuesRepository.save(nonRiskValue);
 
+		companyReportLatestVersionService.refresh(report.getId());
+
 		// when
 		CompanyOverviewResponseDto result = companyOverviewService.getOverview(company.getId(), String.valueOf(quarterKey));
 
@@ -398,6 +481,8 @@ class CompanyOverviewServiceTest {
 		actualValue.applySignal(SignalColor.GREEN, "양호", BigDecimal.valueOf(100));
 		companyReportMetricValuesRepository.save(actualValue);
 
+		companyReportLatestVersionService.refresh(report.getId());
+
 		// when
 		CompanyOverviewResponseDto result = companyOverviewService.getOverview(company.getId(), null);
 
@@ -5,14 +5,19 @@ import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.verifyNoInteractions;
 
 import com.aivle.project.common.config.QuerydslConfig;
-import com.aivle.project.company.client.AiServerClient;
+import com.aivle.project.company.client.AiBatchCoalescer;
 import com.aivle.project.company.dto.AiAnalysisResponse;
 import com.aivle.project.company.entity.CompaniesEntity;
+import com.aivle.project.company.identity.CompanyIdentityCache;
+import com.aivle.project.company.identity.CompanyIdentityCacheProperties;
+import com.aivle.project.company.report.quarter.service.QuarterRegistry;
+import com.aivle.project.company.report.service.CompanyLatestActualQuarterCache;
 import com.aivle.project.company.repository.CompaniesRepository;
 import com.aivle.project.company.industry.entity.IndustryEntity;
 import com.aivle.project.company.industry.entity.IndustryRepository;
 import com.aivle.project.company.metric.entity.MetricsEntity;
 import com.aivle.project.company.metric.repository.MetricsRepository;
+import com.aivle.project.company.metric.service.MetricCatalog;
 import com.aivle.project.company.report.quarter.entity.QuartersEntity;
 import com.aivle.project.company.report.quarter.repository.QuartersRepository;
 import com.aivle.project.company.report.quarter.support.QuarterCalculator;
@@ -23,7 +28,9 @@ import com.aivle.project.company.report.entity.CompanyReportsEntity;
 import com.aivle.project.company.report.repository.CompanyReportMetricValuesRepository;
 import com.aivle.project.company.report.repository.CompanyReportVersionsRepository;
 import com.aivle.project.company.report.repository.CompanyReportsRepository;
+import com.aivle.project.company.report.service.CompanyReportLatestVersionService;
 import com.aivle.project.company.report.service.CompanyReportVersionIssueService;
+import com.aivle.project.company.singleflight.AiFillSingleFlight;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -38,7 +45,18 @@ import org.springframework.test.context.ActiveProfiles;
 
 @DataJpaTest
 @ActiveProfiles("test")
-@Import({QuerydslConfig.class, CompanyPredictionCacheService.class, CompanyReportVersionIssueService.class})
+@Import({
+	QuerydslConfig.class,
+	CompanyPredictionCacheService.class,
+	CompanyReportVersionIssueService.class,
+	CompanyReportLatestVersionService.class,
+	QuarterRegistry.class,
+	MetricCatalog.class,
+	CompanyIdentityCache.class,
+	CompanyIdentityCacheProperties.class,
+	CompanyLatestActualQuarterCache.class,
+	AiFillSingleFlight.class
+})
 class CompanyPredictionCacheServiceTest {
 
 	@Autowired
@@ -66,7 +84,7 @@ class CompanyPredictionCacheServiceTest {
 	private MetricsRepository metricsRepository;
 
 	@MockBean
-	private AiServerClient aiServerClient;
+	private AiBatchCoalescer aiBatchCoalescer;
 
 	@Test
 	@DisplayName("최신 ACTUAL 분기 요청 시 예측값이 없으면 AI 호출 후 최신 버전에 저장한다")
@@ -126,7 +144,7 @@ class CompanyPredictionCacheServiceTest {
 			com.aivle.project.company.metric.entity.MetricValueType.ACTUAL
 		));
 
-		given(aiServerClient.getPrediction(company.getStockCode()))
+		given(aiBatchCoalescer.getPrediction(company.getStockCode()))
 			.willReturn(new AiAnalysisResponse(
 				company.getStockCode(),
 				company.getCorpName(),
@@ -201,6 +219,6 @@ class CompanyPredictionCacheServiceTest {
 		companyPredictionCacheService.ensurePredictionCached(company.getId(), 20251);
 
 		// then
-		verifyNoInteractions(aiServerClient);
+		verifyNoInteractions(aiBatchCoalescer);
 	}
 }
@@ -1,6 +1,9 @@
 package com.aivle.project.company.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
@@ -9,6 +12,8 @@ import com.aivle.project.company.dto.CompanySearchResponse;
 import com.aivle.project.company.entity.CompaniesEntity;
 import com.aivle.project.company.mapper.CompanyMapper;
 import com.aivle.project.company.repository.CompaniesRepository;
+import com.aivle.project.company.search.CompanySearchEntry;
+import com.aivle.project.company.search.CompanySearchIndex;
 import java.sql.SQLException;
 import java.time.LocalDate;
 import java.util.List;
@@ -34,6 +39,9 @@ class CompanySearchServiceHybridFallbackTest {
 	@Mock
 	private CompanyMapper companyMapper;
 
+	@Mock
+	private CompanySearchIndex companySearchIndex;
+
 	@Test
 	@DisplayName("MySQL에서 FULLTEXT 결과가 있으면 그대로 반환한다")
 	void search_UsesFullTextWhenResultExists() {
@@ -134,6 +142,51 @@ class CompanySearchServiceHybridFallbackTest {
 		);
 	}
 
+	@Test
+	@DisplayName("검색 색인이 적재되면 DB를 조회하지 않고 색인 결과를 반환한다")
+	void search_UsesIndexWhenReady() {
+		// given
+		given(companySearchIndex.isReady()).willReturn(true);
+		given(companySearchIndex.search("케이티", 20))
+			.willReturn(List.of(new CompanySearchEntry(1L, "00000001", "케이티", "KT", "030200")));
+
+		// when
+		List<CompanySearchResponse> result = companySearchService.search("케이티");
+
+		// then
+		assertThat(result).containsExactly(new CompanySearchResponse(1L, "케이티", "KT", "030200"));
+		verify(companiesRepository, never()).searchByKeywordFullTextExcludingNullStockCode(anyString(), anyInt());
+		verify(companiesRepository, never()).searchByKeywordExcludingNullStockCode(anyString(), any(Pageable.class));
+	}
+
+	@Test
+	@DisplayName("자동완성은 한 글자 초성부터 색인에서 찾고 limit을 최대 20으로 제한한다")
+	void autocomplete_UsesIndexFromSingleCharacter() {
+		// given
+		given(companySearchIndex.isReady()).willReturn(true);
+		given(companySearchIndex.search("ㅋ", 20))
+			.willReturn(List.of(new CompanySearchEntry(1L, "00000001", "케이티", "KT", "030200")));
+
+		// when
+		List<CompanySearchResponse> result = companySearchService.autocomplete("ㅋ", 100);
+
+		// then
+		assertThat(result).hasSize(1);
+		assertThat(result.get(0).companyId()).isEqualTo(1L);
+		verify(companiesRepository, never()).searchByKeywordExcludingNullStockCode(anyString(), any(Pageable.class));
+	}
+
+	@Test
+	@DisplayName("색인 적재 전 자동완성은 한 글자 입력에 DB를 조회하지 않는다")
+	void autocomplete_SkipsDbForSingleCharacterBeforeIndexReady() {
+		// when
+		List<CompanySearchResponse> result = companySearchService.autocomplete("케", null);
+
+		// then
+		assertThat(result).isEmpty();
+		verify(companiesRepository, never()).searchByKeywordExcludingNullStockCode(anyString(), any(Pageable.class));
+	}
+
 	private void verifyNoInteractionsOnLikeQuery() {
 		verify(companiesRepository).searchByKeywordFullTextExcludingNullStockCode("케이티", 20);
 		verify(companiesRepository, never()).searchByKeywordExcludingNullStockCode(
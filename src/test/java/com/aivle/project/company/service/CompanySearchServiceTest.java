@@ -6,6 +6,7 @@ import com.aivle.project.common.config.QuerydslConfig;
 import com.aivle.project.company.dto.CompanySearchResponse;
 import com.aivle.project.company.entity.CompaniesEntity;
 import com.aivle.project.company.repository.CompaniesRepository;
+import com.aivle.project.company.search.CompanySearchIndex;
 import java.time.LocalDate;
 import java.util.List;
 import org.junit.jupiter.api.DisplayName;
@@ -17,7 +18,7 @@ import org.springframework.test.context.ActiveProfiles;
 
 @DataJpaTest
 @ActiveProfiles("test")
-@Import({QuerydslConfig.class, CompanySearchService.class})
+@Import({QuerydslConfig.class, CompanySearchService.class, CompanySearchIndex.class})
 class CompanySearchServiceTest {
 
 	@Autowired
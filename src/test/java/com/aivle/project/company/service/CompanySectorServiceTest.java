@@ -6,6 +6,8 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import com.aivle.project.common.config.QuerydslConfig;
 import com.aivle.project.company.dto.CompanySectorDto;
 import com.aivle.project.company.entity.CompaniesEntity;
+import com.aivle.project.company.identity.CompanyIdentityCache;
+import com.aivle.project.company.identity.CompanyIdentityCacheProperties;
 import com.aivle.project.company.repository.CompaniesRepository;
 import com.aivle.project.company.industry.entity.IndustryEntity;
 import com.aivle.project.company.industry.entity.IndustryRepository;
@@ -19,7 +21,7 @@ import org.springframework.test.context.ActiveProfiles;
 
 @DataJpaTest
 @ActiveProfiles("test")
-@Import({QuerydslConfig.class, CompanySectorService.class})
+@Import({QuerydslConfig.class, CompanySectorService.class, CompanyIdentityCache.class, CompanyIdentityCacheProperties.class})
 class CompanySectorServiceTest {
 
 	@Autowired
@@ -5,15 +5,20 @@ import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.verifyNoInteractions;
 
 import com.aivle.project.common.config.QuerydslConfig;
-import com.aivle.project.company.client.AiServerClient;
+import com.aivle.project.company.client.AiBatchCoalescer;
+import com.aivle.project.company.dataversion.CompanyDataChangedEvent;
 import com.aivle.project.company.dto.AiSignalResponse;
 import com.aivle.project.company.entity.CompaniesEntity;
+import com.aivle.project.company.identity.CompanyIdentityCache;
+import com.aivle.project.company.identity.CompanyIdentityCacheProperties;
+import com.aivle.project.company.report.service.CompanyLatestActualQuarterCache;
 import com.aivle.project.company.repository.CompaniesRepository;
 import com.aivle.project.company.industry.entity.IndustryEntity;
 import com.aivle.project.company.industry.entity.IndustryRepository;
 import com.aivle.project.company.metric.entity.MetricValueType;
 import com.aivle.project.company.metric.entity.MetricsEntity;
 import com.aivle.project.company.metric.repository.MetricsRepository;
+import com.aivle.project.company.metric.service.MetricCatalog;
 import com.aivle.project.company.report.quarter.entity.QuartersEntity;
 import com.aivle.project.company.report.quarter.repository.QuartersRepository;
 import com.aivle.project.company.report.quarter.support.QuarterCalculator;
@@ -25,6 +30,8 @@ import com.aivle.project.company.report.entity.SignalColor;
 import com.aivle.project.company.report.repository.CompanyReportMetricValuesRepository;
 import com.aivle.project.company.report.repository.CompanyReportVersionsRepository;
 import com.aivle.project.company.report.repository.CompanyReportsRepository;
+import com.aivle.project.company.report.service.CompanyReportLatestVersionService;
+import com.aivle.project.company.singleflight.AiFillSingleFlight;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -36,15 +43,30 @@ import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
 
 @DataJpaTest
 @ActiveProfiles("test")
-@Import({QuerydslConfig.class, CompanySignalCacheService.class})
+@Import({
+	QuerydslConfig.class,
+	CompanySignalCacheService.class,
+	CompanyReportLatestVersionService.class,
+	MetricCatalog.class,
+	CompanyIdentityCache.class,
+	CompanyIdentityCacheProperties.class,
+	CompanyLatestActualQuarterCache.class,
+	AiFillSingleFlight.class
+})
+@RecordApplicationEvents
 class CompanySignalCacheServiceTest {
 
 	@Autowired
 	private CompanySignalCacheService companySignalCacheService;
 
+	@Autowired
+	private CompanyReportLatestVersionService companyReportLatestVersionService;
+
 	@Autowired
 	private CompaniesRepository companiesRepository;
 
@@ -66,8 +88,11 @@ class CompanySignalCacheServiceTest {
 	@Autowired
 	private MetricsRepository metricsRepository;
 
+	@Autowired
+	private ApplicationEvents applicationEvents;
+
 	@MockBean
-	private AiServerClient aiServerClient;
+	private AiBatchCoalescer aiBatchCoalescer;
 
 	@Test
 	@DisplayName("최신 ACTUAL 분기 요청 시 신호등이 없으면 AI 호출 후 저장한다")
@@ -122,7 +147,7 @@ class CompanySignalCacheServiceTest {
 			MetricValueType.ACTUAL
 		));
 
-		given(aiServerClient.getSignals(company.getStockCode(), String.valueOf(latestActualKey)))
+		given(aiBatchCoalescer.getSignals(company.getStockCode(), String.valueOf(latestActualKey)))
 			.willReturn(new AiSignalResponse(
 				company.getStockCode(),
 				company.getCorpName(),
@@ -134,6 +159,8 @@ class CompanySignalCacheServiceTest {
 				)
 			));
 
+		companyReportLatestVersionService.refresh(report.getId());
+
 		// when
 		companySignalCacheService.ensureSignalsCached(company.getId(), latestActualKey);
 
@@ -146,7 +173,8 @@ class CompanySignalCacheServiceTest {
 				&& value.getSignalColor() == SignalColor.GREEN);
 		assertThat(values)
 			.anyMatch(value -> value.getMetric().getMetricCode().equals("CurRatio")
-				&& value.getSignalColor() == SignalColor.YELLOW);
+				&& value.getSignalColor() == SignalColor.YELLOW);		assertThat(applicationEvents.stream(CompanyDataChangedEvent.class))
+			.containsExactly(CompanyDataChangedEvent.of(company.getId()));
 	}
 
 	@Test
@@ -193,10 +221,13 @@ class CompanySignalCacheServiceTest {
 			MetricValueType.ACTUAL
 		));
 
+		companyReportLatestVersionService.refresh(report.getId());
+
 		// when
 		companySignalCacheService.ensureSignalsCached(company.getId(), 20251);
 
 		// then
-		verifyNoInteractions(aiServerClient);
+		verifyNoInteractions(aiBatchCoalescer);
+		assertThat(applicationEvents.stream(CompanyDataChangedEvent.class)).isEmpty();
 	}
 }
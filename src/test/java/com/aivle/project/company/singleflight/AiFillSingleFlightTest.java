@@ -0,0 +1,158 @@
+package com.aivle.project.company.singleflight;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+
+import com.aivle.project.common.error.ExternalAiUnavailableException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+@ExtendWith(MockitoExtension.class)
+class AiFillSingleFlightTest {
+
+	private static final AiFillKey KEY = AiFillKey.of(AiFillOperation.AI_COMMENT, 1L, 20244);
+
+	@Mock
+	private ObjectProvider<StringRedisTemplate> redisTemplateProvider;
+
+	@Mock
+	private ObjectProvider<MeterRegistry> meterRegistryProvider;
+
+	@Mock
+	private StringRedisTemplate redisTemplate;
+
+	@Mock
+	private ValueOperations<String, String> valueOperations;
+
+	private SimpleMeterRegistry meterRegistry;
+	private ExecutorService executor;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		given(meterRegistryProvider.getIfAvailable(any())).willReturn(meterRegistry);
+		executor = Executors.newFixedThreadPool(2);
+	}
+
+	@AfterEach
+	void tearDown() {
+		executor.shutdownNow();
+	}
+
+	@Test
+	@DisplayName("같은 키의 동시 호출은 한 번만 적재하고 나머지는 그 결과를 받는다")
+	void execute_coalescesConcurrentCallers() throws Exception {
+		// given
+		AiFillSingleFlight singleFlight = create(null, 5_000L);
+		AtomicInteger fills = new AtomicInteger();
+		CountDownLatch release = new CountDownLatch(1);
+		Future<String> leader = executor.submit(() -> singleFlight.execute(KEY, () -> {
+			fills.incrementAndGet();
+			await(release);
+			return "코멘트";
+		}));
+		awaitUntil(() -> fills.get() == 1);
+
+		// when
+		Future<String> waiter = executor.submit(() -> singleFlight.execute(KEY, () -> {
+			fills.incrementAndGet();
+			return "중복 코멘트";
+		}));
+		awaitUntil(() -> counter("company.ai_fill.coalesced") == 1.0);
+		release.countDown();
+
+		// then
+		assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("코멘트");
+		assertThat(waiter.get(5, TimeUnit.SECONDS)).isEqualTo("코멘트");
+		assertThat(fills.get()).isEqualTo(1);
+		assertThat(counter("company.ai_fill.saved_calls")).isEqualTo(1.0);
+	}
+
+	@Test
+	@DisplayName("선행 적재가 대기 시간을 넘기면 대기자는 AI 장애로 실패한다")
+	void execute_failsWaiterAfterTimeout() throws Exception {
+		// given
+		AiFillSingleFlight singleFlight = create(null, 50L);
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		Future<String> leader = executor.submit(() -> singleFlight.execute(KEY, () -> {
+			started.countDown();
+			await(release);
+			return "코멘트";
+		}));
+		await(started);
+
+		// when & then
+		assertThatThrownBy(() -> singleFlight.execute(KEY, () -> "중복 코멘트"))
+			.isInstanceOf(ExternalAiUnavailableException.class)
+			.hasFieldOrPropertyWithValue("reasonCode", "AI_FILL_WAIT_TIMEOUT");
+		release.countDown();
+		assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("코멘트");
+		assertThat(counter("company.ai_fill.wait_timeout")).isEqualTo(1.0);
+	}
+
+	@Test
+	@DisplayName("다른 노드가 리스를 잡고 있으면 해제될 때까지 기다린 뒤 적재를 확인한다")
+	void execute_waitsForRemoteLease() {
+		// given
+		AiFillSingleFlight singleFlight = create(redisTemplate, 5_000L);
+		given(redisTemplate.opsForValue()).willReturn(valueOperations);
+		given(valueOperations.setIfAbsent(eq("company:ai-fill:lease:ai_comment:1:20244"), anyString(), any(Duration.class)))
+			.willReturn(false);
+		given(redisTemplate.hasKey("company:ai-fill:lease:ai_comment:1:20244")).willReturn(true, false);
+
+		// when
+		String result = singleFlight.execute(KEY, () -> "저장된 코멘트");
+
+		// then
+		assertThat(result).isEqualTo("저장된 코멘트");
+		assertThat(meterRegistry.get("company.ai_fill.coalesced").tag("scope", "remote").counter().count())
+			.isEqualTo(1.0);
+	}
+
+	private AiFillSingleFlight create(StringRedisTemplate redis, long waitTimeoutMs) {
+		given(redisTemplateProvider.getIfAvailable()).willReturn(redis);
+		return new AiFillSingleFlight(redisTemplateProvider, meterRegistryProvider, waitTimeoutMs, 60_000L, 10L);
+	}
+
+	private double counter(String name) {
+		return meterRegistry.find(name).counters().stream().mapToDouble(c -> c.count()).sum();
+	}
+
+	private void await(CountDownLatch latch) {
+		try {
+			latch.await(5, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private void awaitUntil(BooleanSupplier condition) throws InterruptedException {
+		long deadline = System.currentTimeMillis() + 5_000L;
+		while (!condition.getAsBoolean() && System.currentTimeMillis() < deadline) {
+			Thread.sleep(10L);
+		}
+	}
+}
@@ -0,0 +1,129 @@
+package com.aivle.project.company.watchlist.dashboard.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.aivle.project.company.keymetric.entity.CompanyKeyMetricRiskLevel;
+import com.aivle.project.company.keymetric.repository.CompanyKeyMetricRepository.DashboardMetricProjection;
+import java.math.BigDecimal;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class DashboardAggregationTest {
+
+	@Test
+	@DisplayName("체류 기간은 분기가 비어 있으면 연속이 끊긴 것으로 보고 기준 분기 이후 행은 건너뛴다")
+	void dwellTime_stopsAtQuarterGap() {
+		// given
+		DashboardAggregation aggregation = new DashboardAggregation(20253);
+		List<DashboardMetricProjection> rows = List.of(
+			row(1L, 20254, CompanyKeyMetricRiskLevel.RISK, null, "식품"),
+			row(1L, 20253, CompanyKeyMetricRiskLevel.WARN, "40", "식품"),
+			row(1L, 20251, CompanyKeyMetricRiskLevel.RISK, "20", "식품"),
+			row(2L, 20253, CompanyKeyMetricRiskLevel.RISK, "20", null),
+			row(2L, 20252, CompanyKeyMetricRiskLevel.RISK, "25", null),
+			row(2L, 20251, CompanyKeyMetricRiskLevel.SAFE, "70", null),
+			row(2L, 20244, CompanyKeyMetricRiskLevel.RISK, "10", null)
+		);
+
+		// when
+		rows.forEach(aggregation::accept);
+		aggregation.finish();
+
+		// then
+		assertThat(aggregation.averageLatestDwellTime()).isEqualTo(1.5);
+		assertThat(aggregation.averagePreviousDwellTime()).isEqualTo(1.0);
+		assertThat(aggregation.hasPreviousQuarter()).isTrue();
+		assertThat(aggregation.averageHealthScore()).isEqualTo(30.0);
+		assertThat(aggregation.cautionCount(DashboardAggregation.LATEST_INDEX)).isEqualTo(1);
+		assertThat(aggregation.riskCount(DashboardAggregation.LATEST_INDEX)).isEqualTo(1);
+		assertThat(aggregation.riskCount(4)).isEqualTo(1);
+		assertThat(aggregation.riskCount(0)).isEqualTo(1);
+		assertThat(aggregation.sectorAggregates()).containsOnlyKeys("식품", DashboardAggregation.UNCLASSIFIED_SECTOR);
+	}
+
+	@Test
+	@DisplayName("직전 분기 데이터가 없으면 비교 대상이 없다고 판단한다")
+	void hasPreviousQuarter_falseWithoutPreviousRows() {
+		// given
+		DashboardAggregation aggregation = new DashboardAggregation(20251);
+
+		// when
+		aggregation.accept(row(1L, 20251, CompanyKeyMetricRiskLevel.WARN, "50", "제조"));
+		aggregation.accept(row(1L, 20243, CompanyKeyMetricRiskLevel.WARN, "50", "제조"));
+		aggregation.finish();
+
+		// then
+		assertThat(aggregation.hasPreviousQuarter()).isFalse();
+		assertThat(aggregation.averageLatestDwellTime()).isEqualTo(1.0);
+		assertThat(aggregation.averagePreviousDwellTime()).isEqualTo(0.0);
+	}
+
+	@Test
+	@DisplayName("위험 등급이 없는 최신 분기 행은 등급 집계에서 빠지지만 건강 점수 평균에는 들어간다")
+	void nullRiskLevel_countsTowardHealthScoreOnly() {
+		// given
+		DashboardAggregation aggregation = new DashboardAggregation(20253);
+
+		// when
+		aggregation.accept(row(1L, 20253, CompanyKeyMetricRiskLevel.WARN, "40", "식품"));
+		aggregation.accept(row(1L, 20252, CompanyKeyMetricRiskLevel.WARN, "45", "식품"));
+		aggregation.accept(row(2L, 20253, null, "80", "제조"));
+		aggregation.accept(row(2L, 20252, CompanyKeyMetricRiskLevel.RISK, "30", "제조"));
+		aggregation.accept(row(3L, 20252, null, "90", "제조"));
+		aggregation.finish();
+
+		// then
+		assertThat(aggregation.averageHealthScore()).isEqualTo(60.0);
+		assertThat(aggregation.normalCount(DashboardAggregation.LATEST_INDEX)).isZero();
+		assertThat(aggregation.cautionCount(DashboardAggregation.LATEST_INDEX)).isEqualTo(1);
+		assertThat(aggregation.riskCount(DashboardAggregation.LATEST_INDEX)).isZero();
+		assertThat(aggregation.sectorAggregates()).containsOnlyKeys("식품");
+		assertThat(aggregation.averageLatestDwellTime()).isEqualTo(2.0);
+		assertThat(aggregation.averagePreviousDwellTime()).isEqualTo(1.0);
+	}
+
+	private DashboardMetricProjection row(
+		Long companyId,
+		int quarterKey,
+		CompanyKeyMetricRiskLevel riskLevel,
+		String healthScore,
+		String sectorName
+	) {
+		return new MetricRow(companyId, quarterKey, riskLevel, healthScore == null ? null : new BigDecimal(healthScore), sectorName);
+	}
+
+	private record MetricRow(
+		Long companyId,
+		Integer quarterKey,
+		CompanyKeyMetricRiskLevel riskLevel,
+		BigDecimal internalHealthScore,
+		String sectorName
+	) implements DashboardMetricProjection {
+
+		@Override
+		public Long getCompanyId() {
+			return companyId;
+		}
+
+		@Override
+		public Integer getQuarterKey() {
+			return quarterKey;
+		}
+
+		@Override
+		public CompanyKeyMetricRiskLevel getRiskLevel() {
+			return riskLevel;
+		}
+
+		@Override
+		public BigDecimal getInternalHealthScore() {
+			return internalHealthScore;
+		}
+
+		@Override
+		public String getSectorName() {
+			return sectorName;
+		}
+	}
+}
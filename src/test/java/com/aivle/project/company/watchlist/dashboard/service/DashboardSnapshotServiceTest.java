@@ -0,0 +1,151 @@
+package com.aivle.project.company.watchlist.dashboard.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.aivle.project.company.watchlist.dashboard.config.DashboardSnapshotProperties;
+import com.aivle.project.company.watchlist.dashboard.dto.DashboardSummaryResponse;
+import com.aivle.project.company.watchlist.dashboard.dto.RiskStatusDistributionDto;
+import com.aivle.project.company.watchlist.dashboard.dto.RiskStatusDistributionPercentDto;
+import com.aivle.project.company.watchlist.repository.CompanyWatchlistRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+@ExtendWith(MockitoExtension.class)
+class DashboardSnapshotServiceTest {
+
+	@Mock
+	private StringRedisTemplate redisTemplate;
+
+	@Mock
+	private ValueOperations<String, String> valueOperations;
+
+	@Mock
+	private DashboardSummaryService dashboardSummaryService;
+
+	@Mock
+	private CompanyWatchlistRepository companyWatchlistRepository;
+
+	private ObjectMapper objectMapper;
+
+	private SimpleMeterRegistry meterRegistry;
+
+	private DashboardSnapshotService dashboardSnapshotService;
+
+	@BeforeEach
+	void setUp() {
+		objectMapper = new ObjectMapper();
+		meterRegistry = new SimpleMeterRegistry();
+		dashboardSnapshotService = new DashboardSnapshotService(
+			redisTemplate,
+			objectMapper,
+			dashboardSummaryService,
+			companyWatchlistRepository,
+			new DashboardSnapshotProperties(),
+			meterRegistry
+		);
+	}
+
+	@Test
+	@DisplayName("스냅샷이 있으면 요약을 다시 계산하지 않고 그대로 반환한다")
+	void getSummary_hit_shouldReturnSnapshot() throws Exception {
+		// given
+		DashboardSummaryResponse summary = summary();
+		when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+		when(valueOperations.get("dashboard:summary:1")).thenReturn(objectMapper.writeValueAsString(summary));
+
+		// when
+		DashboardSummaryResponse result = dashboardSnapshotService.getSummary(1L);
+
+		// then
+		assertThat(result).isEqualTo(summary);
+		verify(dashboardSummaryService, never()).getSummary(any());
+		assertThat(meterRegistry.get("dashboard.snapshot.lookup").tag("result", "hit").counter().count()).isEqualTo(1.0);
+	}
+
+	@Test
+	@DisplayName("스냅샷이 없으면 요약을 계산해 최대 보존 기간을 TTL로 저장한다")
+	void getSummary_miss_shouldRebuildAndStore() {
+		// given
+		DashboardSummaryResponse summary = summary();
+		when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+		when(valueOperations.get("dashboard:summary:1")).thenReturn(null);
+		when(dashboardSummaryService.getSummary(1L)).thenReturn(summary);
+
+		// when
+		DashboardSummaryResponse result = dashboardSnapshotService.getSummary(1L);
+
+		// then
+		assertThat(result).isEqualTo(summary);
+		verify(valueOperations).set(eq("dashboard:summary:1"), anyString(), eq(Duration.ofMinutes(10)));
+		assertThat(meterRegistry.get("dashboard.snapshot.rebuild").timer().count()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("여러 변경으로 표시된 같은 사용자는 한 번만 다시 계산한다")
+	void refreshDirty_shouldCoalesceUsers() {
+		// given
+		when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+		when(companyWatchlistRepository.findActiveUserIdsByCompanyIds(any())).thenReturn(List.of(1L, 2L));
+		when(dashboardSummaryService.getSummary(any())).thenReturn(summary());
+		dashboardSnapshotService.markUserDirty(1L);
+		dashboardSnapshotService.markCompanyDirty(10L);
+		dashboardSnapshotService.markCompanyDirty(11L);
+
+		// when
+		int refreshed = dashboardSnapshotService.refreshDirty();
+
+		// then
+		assertThat(refreshed).isEqualTo(2);
+		verify(companyWatchlistRepository, times(1)).findActiveUserIdsByCompanyIds(any());
+		verify(dashboardSummaryService, times(1)).getSummary(1L);
+		verify(dashboardSummaryService, times(1)).getSummary(2L);
+		assertThat(dashboardSnapshotService.refreshDirty()).isZero();
+	}
+
+	@Test
+	@DisplayName("다시 계산에 실패하면 스냅샷을 지운다")
+	void refreshDirty_failure_shouldEvict() {
+		// given
+		when(dashboardSummaryService.getSummary(3L)).thenThrow(new IllegalArgumentException("ACTUAL 분기 데이터를 찾을 수 없습니다."));
+		dashboardSnapshotService.markUserDirty(3L);
+
+		// when
+		int refreshed = dashboardSnapshotService.refreshDirty();
+
+		// then
+		assertThat(refreshed).isZero();
+		verify(redisTemplate).delete("dashboard:summary:3");
+	}
+
+	private DashboardSummaryResponse summary() {
+		return new DashboardSummaryResponse(
+			"최근 4분기",
+			List.of(),
+			"2025Q4",
+			"2026Q1",
+			List.of("2025Q1", "2025Q2", "2025Q3", "2025Q4", "2026Q1"),
+			new RiskStatusDistributionDto(1, 2, 3),
+			new RiskStatusDistributionPercentDto(16.7, 33.3, 50.0),
+			55.0,
+			null,
+			List.of()
+		);
+	}
+}
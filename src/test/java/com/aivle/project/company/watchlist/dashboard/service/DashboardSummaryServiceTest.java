@@ -4,9 +4,12 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import com.aivle.project.common.config.QuerydslConfig;
 import com.aivle.project.company.entity.CompaniesEntity;
+import com.aivle.project.company.identity.CompanyIdentityCache;
+import com.aivle.project.company.identity.CompanyIdentityCacheProperties;
 import com.aivle.project.company.keymetric.entity.CompanyKeyMetricEntity;
 import com.aivle.project.company.keymetric.entity.CompanyKeyMetricRiskLevel;
 import com.aivle.project.company.keymetric.repository.CompanyKeyMetricRepository;
+import com.aivle.project.company.report.service.CompanyLatestActualQuarterCache;
 import com.aivle.project.company.repository.CompaniesRepository;
 import com.aivle.project.company.watchlist.dashboard.dto.CompanyQuarterRiskDto;
 import com.aivle.project.company.watchlist.dashboard.dto.DashboardSummaryResponse;
@@ -45,7 +48,13 @@ import org.springframework.test.context.ActiveProfiles;
 
 @DataJpaTest
 @ActiveProfiles("test")
-@Import({QuerydslConfig.class, DashboardSummaryService.class})
+@Import({
+	QuerydslConfig.class,
+	DashboardSummaryService.class,
+	CompanyLatestActualQuarterCache.class,
+	CompanyIdentityCache.class,
+	CompanyIdentityCacheProperties.class
+})
 class DashboardSummaryServiceTest {
 
 	@Autowired
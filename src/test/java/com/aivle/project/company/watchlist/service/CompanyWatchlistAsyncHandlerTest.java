@@ -15,7 +15,7 @@ import com.aivle.project.company.service.CompanyPredictionCacheService;
 import com.aivle.project.company.service.CompanyReputationScoreService;
 import com.aivle.project.company.service.CompanySignalCacheService;
 import com.aivle.project.common.error.ExternalAiUnavailableException;
-import com.aivle.project.company.report.repository.CompanyReportMetricValuesRepository;
+import com.aivle.project.company.report.service.CompanyLatestActualQuarterCache;
 import com.aivle.project.company.watchlist.event.CompanyWatchlistCreatedEvent;
 import java.time.LocalDate;
 import java.util.Optional;
@@ -33,7 +33,7 @@ class CompanyWatchlistAsyncHandlerTest {
 	private CompaniesRepository companiesRepository;
 
 	@Mock
-	private CompanyReportMetricValuesRepository companyReportMetricValuesRepository;
+	private CompanyLatestActualQuarterCache companyLatestActualQuarterCache;
 
 	@Mock
 	private CompanyHealthScoreCacheService companyHealthScoreCacheService;
@@ -69,7 +69,7 @@ class CompanyWatchlistAsyncHandlerTest {
 			LocalDate.of(2025, 1, 1)
 		);
 		when(companiesRepository.findById(companyId)).thenReturn(Optional.of(company));
-		when(companyReportMetricValuesRepository.findMaxActualQuarterKeyByStockCode("000020"))
+		when(companyLatestActualQuarterCache.find(companyId))
 			.thenReturn(Optional.of(20253));
 
 		// when
@@ -96,7 +96,7 @@ class CompanyWatchlistAsyncHandlerTest {
 			LocalDate.of(2025, 1, 1)
 		);
 		when(companiesRepository.findById(companyId)).thenReturn(Optional.of(company));
-		when(companyReportMetricValuesRepository.findMaxActualQuarterKeyByStockCode("000030"))
+		when(companyLatestActualQuarterCache.find(companyId))
 			.thenReturn(Optional.empty());
 
 		// when
@@ -123,7 +123,7 @@ class CompanyWatchlistAsyncHandlerTest {
 			LocalDate.of(2025, 1, 1)
 		);
 		when(companiesRepository.findById(companyId)).thenReturn(Optional.of(company));
-		when(companyReportMetricValuesRepository.findMaxActualQuarterKeyByStockCode("000040"))
+		when(companyLatestActualQuarterCache.find(companyId))
 			.thenReturn(Optional.of(20254));
 		doThrow(new ExternalAiUnavailableException("AI Server connection failed", "AI_TIMEOUT", new RuntimeException("timeout")))
 			.when(companyHealthScoreCacheService).ensureHealthScoreCached(companyId, 20254);
@@ -5,6 +5,9 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import com.aivle.project.common.config.QuerydslConfig;
 import com.aivle.project.company.entity.CompaniesEntity;
+import com.aivle.project.company.identity.CompanyIdentityCache;
+import com.aivle.project.company.identity.CompanyIdentityCacheProperties;
+import com.aivle.project.company.report.service.CompanyLatestActualQuarterCache;
 import com.aivle.project.company.repository.CompaniesRepository;
 import com.aivle.project.company.service.CompanyInfoService;
 import com.aivle.project.company.metric.entity.MetricValueType;
@@ -20,6 +23,7 @@ import com.aivle.project.company.report.entity.CompanyReportsEntity;
 import com.aivle.project.company.report.repository.CompanyReportMetricValuesRepository;
 import com.aivle.project.company.report.repository.CompanyReportVersionsRepository;
 import com.aivle.project.company.report.repository.CompanyReportsRepository;
+import com.aivle.project.company.report.service.CompanyReportLatestVersionService;
 import com.aivle.project.company.risk.entity.RiskLevel;
 import com.aivle.project.company.risk.entity.RiskScoreSummaryEntity;
 import com.aivle.project.company.risk.repository.RiskScoreSummaryRepository;
@@ -38,6 +42,7 @@ import com.aivle.project.company.watchlist.error.WatchlistErrorCode;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.List;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -48,7 +53,14 @@ import org.springframework.test.context.ActiveProfiles;
 
 @DataJpaTest
 @ActiveProfiles("test")
-@Import({QuerydslConfig.class, CompanyWatchlistService.class})
+@Import({
+	QuerydslConfig.class,
+	CompanyWatchlistService.class,
+	CompanyReportLatestVersionService.class,
+	CompanyLatestActualQuarterCache.class,
+	CompanyIdentityCache.class,
+	CompanyIdentityCacheProperties.class
+})
 class CompanyWatchlistServiceTest {
 	@Autowired CompanyWatchlistService service;
 	@Autowired UserRepository userRepository;
@@ -61,6 +73,7 @@ class CompanyWatchlistServiceTest {
 	@Autowired CompanyReportMetricValuesRepository metricValuesRepository;
 	@Autowired MetricsRepository metricsRepository;
 	@Autowired RiskScoreSummaryRepository riskScoreSummaryRepository;
+	@Autowired CompanyReportLatestVersionService companyReportLatestVersionService;
 	@MockBean CompanyInfoService companyInfoService;
 
 	@Test
@@ -147,6 +160,8 @@ class CompanyWatchlistServiceTest {
 		metricValuesRepository.save(CompanyReportMetricValuesEntity.create(v2, roe, q, new BigDecimal("50"), MetricValueType.PREDICTED));
 		riskScoreSummaryRepository.save(RiskScoreSummaryEntity.create(company, q, v2, new BigDecimal("70"), RiskLevel.DANGER, 2, new BigDecimal("70"), LocalDateTime.now()));
 
+		companyReportLatestVersionService.refresh(report.getId());
+
 		// when
 		WatchlistDashboardResponse response = service.getDashboard(user.getId(), 2024, 2, null, null);
 
@@ -185,6 +200,8 @@ class CompanyWatchlistServiceTest {
 		metricValuesRepository.save(CompanyReportMetricValuesEntity.create(bV1, roe, q, new BigDecimal("90"), MetricValueType.PREDICTED));
 		riskMetric.getClass();
 
+		companyReportLatestVersionService.refresh(List.of(reportA.getId(), reportB.getId()));
+
 		// when
 		WatchlistMetricAveragesResponse response = service.getWatchlistMetricAverages(user.getId(), 2025, 3, null);
 
@@ -216,6 +233,8 @@ class CompanyWatchlistServiceTest {
 		metricValuesRepository.save(CompanyReportMetricValuesEntity.create(v2, roe, q, new BigDecimal("20"), MetricValueType.ACTUAL));
 		metricValuesRepository.save(CompanyReportMetricValuesEntity.create(v2, roe, q, new BigDecimal("99"), MetricValueType.PREDICTED));
 
+		companyReportLatestVersionService.refresh(report.getId());
+
 		// when
 		WatchlistMetricValuesResponse response = service.getWatchlistMetricValuesByQuarter(user.getId(), 2024, 4);
 
@@ -246,6 +265,8 @@ class CompanyWatchlistServiceTest {
 		metricValuesRepository.save(CompanyReportMetricValuesEntity.create(v1, roe, q1, new BigDecimal("11"), MetricValueType.ACTUAL));
 		metricValuesRepository.save(CompanyReportMetricValuesEntity.create(v2, roe, q2, new BigDecimal("22"), MetricValueType.ACTUAL));
 
+		companyReportLatestVersionService.refresh(List.of(report1.getId(), report2.getId()));
+
 		// when
 		WatchlistMetricValuesResponse response = service.getWatchlistMetricValuesByQuarterRange(user.getId(), 2023, 4, 2024, 1);
 
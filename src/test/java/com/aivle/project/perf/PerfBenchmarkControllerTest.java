@@ -2,10 +2,13 @@ package com.aivle.project.perf;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.aivle.project.common.dto.ApiResponse;
+import com.aivle.project.common.error.ExternalAiUnavailableException;
+import com.aivle.project.company.client.AiServerClient;
 import com.aivle.project.company.entity.CompaniesEntity;
 import com.aivle.project.company.insight.service.CompanyInsightService;
 import com.aivle.project.company.news.service.NewsService;
@@ -23,6 +26,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.ResponseEntity;
 import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Mono;
 
 @ExtendWith(MockitoExtension.class)
 class PerfBenchmarkControllerTest {
@@ -42,6 +46,9 @@ class PerfBenchmarkControllerTest {
 	@Mock
 	private CompanyAiService companyAiService;
 
+	@Mock
+	private AiServerClient aiServerClient;
+
 	@InjectMocks
 	private PerfBenchmarkController controller;
 
@@ -74,7 +81,8 @@ class PerfBenchmarkControllerTest {
 	@DisplayName("insight-refresh 호출 시 인사이트 서비스가 refresh=true로 실행된다")
 	void insightRefresh_shouldDelegateToInsightService() {
 		// given
-		when(companyInsightService.ensureInsightData(1L, true)).thenReturn(null);
+		when(companyInsightService.fetchInsightData(1L, true))
+			.thenReturn(new CompanyInsightService.InsightFetchResult(null, java.util.Map.of("news", 120L, "report", 80L)));
 		when(companyInsightService.loadInsights(1L, 0, 10, 0, 1, null))
 			.thenReturn(new CompanyInsightService.InsightResult(List.of(), null, false));
 
@@ -84,7 +92,10 @@ class PerfBenchmarkControllerTest {
 		// then
 		assertThat(response.getBody()).isNotNull();
 		assertThat(response.getBody().success()).isTrue();
-		verify(companyInsightService).ensureInsightData(1L, true);
+		assertThat(response.getBody().data())
+			.containsEntry("benchmark", "insight-refresh")
+			.containsEntry("branchElapsedMs", java.util.Map.of("news", 120L, "report", 80L));
+		verify(companyInsightService).fetchInsightData(1L, true);
 		verify(companyInsightService).loadInsights(1L, 0, 10, 0, 1, null);
 	}
 
@@ -102,4 +113,46 @@ class PerfBenchmarkControllerTest {
 		assertThat(response.getBody().success()).isTrue();
 		verify(companyAiService).generateAndSaveReport(1L, 2026, 1);
 	}
+
+	@Test
+	@DisplayName("ai-fanout async 모드는 비동기 클라이언트로 호출하고 성공/실패 건수를 집계한다")
+	void aiFanout_asyncMode_shouldCountOutcomes() {
+		// given
+		when(aiServerClient.getHealthScoreAsync(PerfDataInitializer.PERF_STOCK_CODE))
+			.thenReturn(Mono.error(
+				new ExternalAiUnavailableException("AI Server connection failed", "AI_UNAVAILABLE", null)))
+			.thenReturn(Mono.just(mock(com.aivle.project.company.dto.AiHealthScoreResponse.class)));
+
+		// when
+		ResponseEntity<ApiResponse<java.util.Map<String, Object>>> response = controller.aiFanout(3, "async");
+
+		// then
+		assertThat(response.getBody()).isNotNull();
+		assertThat(response.getBody().data())
+			.containsEntry("benchmark", "ai-fanout-async")
+			.containsEntry("calls", 3)
+			.containsEntry("succeeded", 2L)
+			.containsEntry("failed", 1L)
+			.containsKeys("peakThreads", "extraThreads");
+		verify(aiServerClient, times(3)).getHealthScoreAsync(PerfDataInitializer.PERF_STOCK_CODE);
+	}
+
+	@Test
+	@DisplayName("ai-fanout blocking 모드는 동기 클라이언트를 호출 수만큼 스레드에서 실행한다")
+	void aiFanout_blockingMode_shouldUseSyncClient() {
+		// given
+		when(aiServerClient.getHealthScore(PerfDataInitializer.PERF_STOCK_CODE))
+			.thenReturn(mock(com.aivle.project.company.dto.AiHealthScoreResponse.class));
+
+		// when
+		ResponseEntity<ApiResponse<java.util.Map<String, Object>>> response = controller.aiFanout(4, "blocking");
+
+		// then
+		assertThat(response.getBody()).isNotNull();
+		assertThat(response.getBody().data())
+			.containsEntry("benchmark", "ai-fanout-blocking")
+			.containsEntry("succeeded", 4L)
+			.containsEntry("failed", 0L);
+		verify(aiServerClient, times(4)).getHealthScore(PerfDataInitializer.PERF_STOCK_CODE);
+	}
 }
@@ -78,6 +78,9 @@ class PostServiceTest {
 	@Mock
 	private FileMapper fileMapper;
 
+	@Mock
+	private PostViewCountService postViewCountService;
+
 	// User Operations Tests
 
 	@Test
@@ -331,7 +334,7 @@ class PostServiceTest {
 		);
 
 		// when
-		PostDetailResponse response = postService.get("qna", 100L, user);
+		PostDetailResponse response = postService.get("qna", 100L, user, "127.0.0.1");
 
 		// then
 		assertThat(response.files()).hasSize(1);
@@ -340,6 +343,29 @@ class PostServiceTest {
 		assertThat(response.files().get(0).downloadable()).isTrue();
 	}
 
+	@Test
+	@DisplayName("게시글 상세 조회 시 조회수를 버퍼에 기록하고 미반영 조회수를 더해 응답한다")
+	void getById_shouldRecordViewAndIncludeBufferedCount() {
+		// given
+		UserEntity user = newUser(1L);
+		CategoriesEntity category = newCategory(3L, "notices");
+		PostsEntity post = newPost(200L, user, category);
+
+		given(postsRepository.findByIdAndDeletedAtIsNull(200L)).willReturn(Optional.of(post));
+		given(postMapper.toResponse(post)).willReturn(
+			new PostResponse(200L, "user-1", 3L, "title", "content", 7, false, PostStatus.PUBLISHED, null, null, null)
+		);
+		given(postFilesRepository.findAllActiveByPostIdOrderByCreatedAtAsc(200L)).willReturn(List.of());
+		given(postViewCountService.getBufferedCount(200L)).willReturn(3L);
+
+		// when
+		PostDetailResponse response = postService.getById(200L, null, "10.0.0.1");
+
+		// then
+		verify(postViewCountService).recordView(200L, "ip:10.0.0.1");
+		assertThat(response.viewCount()).isEqualTo(10);
+	}
+
 	// Helpers
 
 	private UserEntity newUser(Long id) {
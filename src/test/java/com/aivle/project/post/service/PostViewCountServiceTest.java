@@ -0,0 +1,202 @@
+package com.aivle.project.post.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.aivle.project.post.config.PostViewCountProperties;
+import com.aivle.project.post.repository.PostViewCountsJdbcRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+
+@ExtendWith(MockitoExtension.class)
+class PostViewCountServiceTest {
+
+	@Mock
+	private StringRedisTemplate redisTemplate;
+
+	@Mock
+	private ValueOperations<String, String> valueOperations;
+
+	@Mock
+	private HashOperations<String, Object, Object> hashOperations;
+
+	@Mock
+	private PostViewCountsJdbcRepository postViewCountsJdbcRepository;
+
+	private SimpleMeterRegistry meterRegistry;
+
+	private PostViewCountService postViewCountService;
+
+	@BeforeEach
+	void setUp() {
+		PostViewCountProperties properties = new PostViewCountProperties();
+		properties.setDedupWindow(Duration.ofMinutes(10));
+		properties.setFlushBatchSize(500);
+		properties.setFlushLockTtl(Duration.ofSeconds(30));
+
+		meterRegistry = new SimpleMeterRegistry();
+		postViewCountService = new PostViewCountService(
+			redisTemplate,
+			postViewCountsJdbcRepository,
+			properties,
+			meterRegistry
+		);
+	}
+
+	@Test
+	@DisplayName("조회자 키가 있으면 중복 제거 구간과 함께 조회수를 버퍼에 기록한다")
+	void recordView_shouldIncrementWithDedupWindow() {
+		// given
+		when(redisTemplate.execute(
+			any(DefaultRedisScript.class),
+			eq(List.of("post:view:pending", "post:view:dedup:1:u:7")),
+			eq("1"),
+			eq("600000")
+		)).thenReturn(1L);
+
+		// when
+		boolean recorded = postViewCountService.recordView(1L, "u:7");
+
+		// then
+		assertThat(recorded).isTrue();
+	}
+
+	@Test
+	@DisplayName("Redis 장애 시 조회수 기록을 건너뛰고 예외를 전파하지 않는다")
+	void recordView_shouldSwallowRedisFailure() {
+		// given
+		when(redisTemplate.execute(
+			any(DefaultRedisScript.class),
+			eq(List.of("post:view:pending", "post:view:dedup:1:")),
+			eq("1"),
+			eq("0")
+		)).thenThrow(new RedisConnectionFailureException("down"));
+
+		// when
+		boolean recorded = postViewCountService.recordView(1L, null);
+
+		// then
+		assertThat(recorded).isFalse();
+	}
+
+	@Test
+	@DisplayName("누적분과 flush 중인 스냅샷을 합산해 미반영 조회수를 반환한다")
+	void getBufferedCounts_shouldSumPendingAndFlushing() {
+		// given
+		when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+		when(hashOperations.multiGet("post:view:pending", List.<Object>of("1", "2")))
+			.thenReturn(Arrays.asList("3", null));
+		when(hashOperations.multiGet("post:view:flushing", List.<Object>of("1", "2")))
+			.thenReturn(Arrays.asList("2", null));
+
+		// when
+		Map<Long, Long> buffered = postViewCountService.getBufferedCounts(List.of(1L, 2L));
+
+		// then
+		assertThat(buffered).containsExactly(Map.entry(1L, 5L));
+	}
+
+	@Test
+	@DisplayName("flush는 스냅샷의 증분을 일괄 반영하고 반영한 항목을 스냅샷에서 제거한다")
+	void flush_shouldApplyDeltasInBatch() {
+		// given
+		when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+		when(valueOperations.setIfAbsent(eq("post:view:flush-lock"), anyString(), eq(Duration.ofSeconds(30))))
+			.thenReturn(true);
+		when(redisTemplate.execute(
+			any(DefaultRedisScript.class),
+			eq(List.of("post:view:pending", "post:view:flushing"))
+		)).thenReturn(List.of("10", "3", "11", "2"));
+		when(redisTemplate.execute(
+			any(DefaultRedisScript.class),
+			eq(List.of("post:view:flush-lock")),
+			anyString(),
+			eq("30000")
+		)).thenReturn(1L);
+		when(redisTemplate.execute(
+			any(DefaultRedisScript.class),
+			eq(List.of("post:view:flush-lock")),
+			anyString()
+		)).thenReturn(1L);
+		when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+		when(postViewCountsJdbcRepository.addViewCounts(Map.of(10L, 3L, 11L, 2L))).thenReturn(2);
+
+		// when
+		int flushed = postViewCountService.flush();
+
+		// then
+		assertThat(flushed).isEqualTo(2);
+		verify(hashOperations).delete("post:view:flushing", "10", "11");
+		verify(valueOperations).set(eq("post:view:last-flush"), anyString());
+		assertThat(meterRegistry.get("post.view_count.flushed.posts").counter().count()).isEqualTo(2.0);
+	}
+
+	@Test
+	@DisplayName("flush 도중 잠금을 잃으면 다른 노드가 맡을 스냅샷을 반영하지 않고 중단한다")
+	void flush_shouldStopWhenLockLost() {
+		// given
+		when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+		when(valueOperations.setIfAbsent(eq("post:view:flush-lock"), anyString(), eq(Duration.ofSeconds(30))))
+			.thenReturn(true);
+		when(redisTemplate.execute(
+			any(DefaultRedisScript.class),
+			eq(List.of("post:view:pending", "post:view:flushing"))
+		)).thenReturn(List.of("10", "3"));
+		when(redisTemplate.execute(
+			any(DefaultRedisScript.class),
+			eq(List.of("post:view:flush-lock")),
+			anyString(),
+			eq("30000")
+		)).thenReturn(0L);
+		when(redisTemplate.execute(
+			any(DefaultRedisScript.class),
+			eq(List.of("post:view:flush-lock")),
+			anyString()
+		)).thenReturn(0L);
+
+		// when
+		int flushed = postViewCountService.flush();
+
+		// then
+		assertThat(flushed).isZero();
+		verify(postViewCountsJdbcRepository, never()).addViewCounts(anyMap());
+		verify(valueOperations, never()).set(eq("post:view:last-flush"), anyString());
+		assertThat(meterRegistry.get("post.view_count.flush.lock_lost").counter().count()).isEqualTo(1.0);
+	}
+
+	@Test
+	@DisplayName("다른 노드가 flush 중이면 DB 반영을 건너뛴다")
+	void flush_shouldSkipWhenLockHeld() {
+		// given
+		when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+		when(valueOperations.setIfAbsent(eq("post:view:flush-lock"), anyString(), eq(Duration.ofSeconds(30))))
+			.thenReturn(false);
+
+		// when
+		int flushed = postViewCountService.flush();
+
+		// then
+		assertThat(flushed).isZero();
+		verify(postViewCountsJdbcRepository, never()).addViewCounts(anyMap());
+	}
+}